@@ -17,6 +17,7 @@ package com.liferay.apio.architect.alias.representor;
 import com.liferay.apio.architect.representor.NestedRepresentor;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Represents a representor's nested list field.
@@ -33,4 +34,24 @@ public interface NestedListFieldFunction<T, S>
 	 */
 	public NestedRepresentor<S> getNestedRepresentor();
 
+	/**
+	 * Returns the models of the field as a stream. Fields whose models are
+	 * produced lazily return them without collecting them into a list first,
+	 * so the returned stream must be closed once consumed.
+	 *
+	 * @param  t the model
+	 * @return the stream of the field's models, or {@code null} if the model
+	 *         doesn't have them
+	 * @review
+	 */
+	public default Stream<S> stream(T t) {
+		List<S> list = apply(t);
+
+		if (list == null) {
+			return null;
+		}
+
+		return list.stream();
+	}
+
 }
\ No newline at end of file
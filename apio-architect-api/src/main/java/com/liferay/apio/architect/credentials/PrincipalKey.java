@@ -0,0 +1,39 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.credentials;
+
+import aQute.bnd.annotation.ConsumerType;
+
+import java.util.function.Supplier;
+
+/**
+ * Represents a stable key for the principal of the current request. Unlike
+ * {@link Credentials}, whose value has no equality contract, every request of
+ * the same principal must return an equal key, and requests with equal keys
+ * must be authorized to see the same representations.
+ *
+ * <p>
+ * Apio uses this key to share work between requests, such as cached responses
+ * or coalesced retrievals. If no provider of this class is registered, that
+ * work is never shared.
+ * </p>
+ *
+ * @author agent
+ * @review
+ */
+@ConsumerType
+@FunctionalInterface
+public interface PrincipalKey extends Supplier<String> {
+}
@@ -23,6 +23,7 @@ import com.liferay.apio.architect.uri.Path;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Represents a page in a collection. Writers can use instances of this
@@ -43,6 +44,20 @@ public interface Page<T> {
 	 */
 	public Collection<T> getItems();
 
+	/**
+	 * Returns a stream with the page's items. If the page's items are lazy
+	 * (see {@link #isLazy()}), the stream produces them one at a time and can
+	 * only be consumed once.
+	 *
+	 * @return the stream of the page's items
+	 * @review
+	 */
+	public default Stream<T> getItemsStream() {
+		Collection<T> items = getItems();
+
+		return items.stream();
+	}
+
 	/**
 	 * Returns the number of items the user selected on the page.
 	 *
@@ -122,4 +137,30 @@ public interface Page<T> {
 	 */
 	public boolean hasPrevious();
 
+	/**
+	 * Returns {@code true} if the page's items are produced lazily, while the
+	 * page is being written (see {@link PageItems#isLazy()}). Lazy items are
+	 * only streamed to the client in formats without a page envelope.
+	 *
+	 * @return {@code true} if the page's items are lazy; {@code false}
+	 *         otherwise
+	 * @review
+	 */
+	public default boolean isLazy() {
+		return false;
+	}
+
+	/**
+	 * Returns {@code true} if the page is one of the pages of its collection,
+	 * so its representation links to the other pages. Pages that hold an
+	 * arbitrary selection of the collection's items return {@code false}.
+	 *
+	 * @return {@code true} if the page is one of the pages of its collection;
+	 *         {@code false} otherwise
+	 * @review
+	 */
+	public default boolean isPaginated() {
+		return true;
+	}
+
 }
\ No newline at end of file
@@ -16,32 +16,128 @@ package com.liferay.apio.architect.pagination;
 
 import aQute.bnd.annotation.ConsumerType;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Provides the information needed by Apio Architect to construct a valid {@link
  * Page}.
  *
+ * <p>
+ * The page's items can be provided as a collection or, for large pages, as a
+ * lazily evaluated stream or iterator. Lazy items are pulled one at a time
+ * while the page is written, and closed as soon as it has been written, even
+ * if writing it fails.
+ * </p>
+ *
+ * <p>
+ * Lazy items are only streamed to the client one at a time in formats that
+ * write each item on its own, without a page envelope (for example, NDJSON).
+ * In the other formats, the page's representation is built in memory before
+ * being written, so lazy items only avoid collecting the models into a list.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @param  <T> the model's type
  */
 @ConsumerType
-public class PageItems<T> {
+public class PageItems<T> implements AutoCloseable {
 
 	public PageItems(Collection<T> items, int totalCount) {
 		_items = items;
+		_stream = null;
 		_totalCount = totalCount;
 	}
 
 	/**
-	 * Returns the page's items.
+	 * Creates page items whose models are produced lazily by an iterator. The
+	 * {@code closeable}, if not {@code null}, is closed once the page has been
+	 * written, so it can be used to release the database cursor backing the
+	 * iterator.
+	 *
+	 * @param iterator the iterator that produces the page's items
+	 * @param totalCount the total number of elements in the collection
+	 * @param closeable the resource to close once the page has been written;
+	 *        can be {@code null}
+	 * @review
+	 */
+	public PageItems(
+		Iterator<T> iterator, int totalCount, Closeable closeable) {
+
+		this(_toStream(iterator, closeable), totalCount);
+	}
+
+	/**
+	 * Creates page items whose models are produced lazily by a stream. The
+	 * stream is closed once the page has been written, so the database cursor
+	 * backing it can be released in one of its {@link
+	 * Stream#onClose(Runnable)} handlers.
+	 *
+	 * @param stream the stream that produces the page's items
+	 * @param totalCount the total number of elements in the collection
+	 * @review
+	 */
+	public PageItems(Stream<T> stream, int totalCount) {
+		_stream = stream;
+		_totalCount = totalCount;
+	}
+
+	/**
+	 * Closes the stream of lazy page items, releasing the resources backing
+	 * it. Does nothing if the items were provided as a collection.
+	 *
+	 * @review
+	 */
+	@Override
+	public void close() {
+		if (_stream != null) {
+			_stream.close();
+		}
+	}
+
+	/**
+	 * Returns the page's items. If the items are lazy and haven't been
+	 * consumed yet, this method collects them into a list and closes their
+	 * stream. Use {@link #getItemsStream()} to consume them one at a time.
 	 *
 	 * @return the page's items
 	 */
 	public Collection<T> getItems() {
+		if (_items == null) {
+			try {
+				_items = _stream.collect(Collectors.toList());
+			}
+			finally {
+				_stream.close();
+			}
+		}
+
 		return _items;
 	}
 
+	/**
+	 * Returns a stream with the page's items. If the items are lazy, the
+	 * stream is the one producing them, so it can only be consumed once.
+	 *
+	 * @return the stream of the page's items
+	 * @review
+	 */
+	public Stream<T> getItemsStream() {
+		if (_items != null) {
+			return _items.stream();
+		}
+
+		return _stream;
+	}
+
 	/**
 	 * Returns the total number of elements in the collection.
 	 *
@@ -51,7 +147,46 @@ public class PageItems<T> {
 		return _totalCount;
 	}
 
-	private final Collection<T> _items;
+	/**
+	 * Returns {@code true} if the page's items are produced lazily by a stream
+	 * or an iterator, and haven't been collected by {@link #getItems()}.
+	 *
+	 * @return {@code true} if the page's items are lazy; {@code false}
+	 *         otherwise
+	 * @review
+	 */
+	public boolean isLazy() {
+		if ((_stream != null) && (_items == null)) {
+			return true;
+		}
+
+		return false;
+	}
+
+	private static <T> Stream<T> _toStream(
+		Iterator<T> iterator, Closeable closeable) {
+
+		Stream<T> stream = StreamSupport.stream(
+			Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED),
+			false);
+
+		if (closeable == null) {
+			return stream;
+		}
+
+		return stream.onClose(
+			() -> {
+				try {
+					closeable.close();
+				}
+				catch (IOException ioe) {
+					throw new UncheckedIOException(ioe);
+				}
+			});
+	}
+
+	private Collection<T> _items;
+	private final Stream<T> _stream;
 	private final int _totalCount;
 
-}
\ No newline at end of file
+}
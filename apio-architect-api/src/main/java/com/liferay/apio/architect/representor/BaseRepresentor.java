@@ -78,6 +78,15 @@ public interface BaseRepresentor<T> {
 	 */
 	public List<FieldFunction<T, BinaryFile>> getBinaryFunctions();
 
+	/**
+	 * Returns the list containing the boolean array field names and the
+	 * functions to get those fields.
+	 *
+	 * @return the list containing the boolean array field names and functions
+	 * @review
+	 */
+	public List<FieldFunction<T, boolean[]>> getBooleanArrayFunctions();
+
 	/**
 	 * Returns the list containing the boolean field names and the functions to
 	 * get those fields.
@@ -94,6 +103,24 @@ public interface BaseRepresentor<T> {
 	 */
 	public List<FieldFunction<T, List<Boolean>>> getBooleanListFunctions();
 
+	/**
+	 * Returns the list containing the double array field names and the
+	 * functions to get those fields.
+	 *
+	 * @return the list containing the double array field names and functions
+	 * @review
+	 */
+	public List<FieldFunction<T, double[]>> getDoubleArrayFunctions();
+
+	/**
+	 * Returns the list containing the int array field names and the
+	 * functions to get those fields.
+	 *
+	 * @return the list containing the int array field names and functions
+	 * @review
+	 */
+	public List<FieldFunction<T, int[]>> getIntArrayFunctions();
+
 	/**
 	 * Returns the list containing the links field names and the functions to
 	 * get those links.
@@ -112,6 +139,15 @@ public interface BaseRepresentor<T> {
 	public List<FieldFunction<T, Function<AcceptLanguage, String>>>
 		getLocalizedStringFunctions();
 
+	/**
+	 * Returns the list containing the long array field names and the
+	 * functions to get those fields.
+	 *
+	 * @return the list containing the long array field names and functions
+	 * @review
+	 */
+	public List<FieldFunction<T, long[]>> getLongArrayFunctions();
+
 	/**
 	 * Returns the list of nested field functions.
 	 *
@@ -242,6 +278,17 @@ public interface BaseRepresentor<T> {
 		 */
 		public U addBoolean(String key, Function<T, Boolean> function);
 
+		/**
+		 * Adds information about a resource's boolean array field. The array
+		 * is written without boxing its elements.
+		 *
+		 * @param  key the field's name
+		 * @param  function the function used to get the boolean array
+		 * @return the builder's step
+		 * @review
+		 */
+		public U addBooleanArray(String key, Function<T, boolean[]> function);
+
 		/**
 		 * Adds information about a resource's boolean list field.
 		 *
@@ -261,6 +308,28 @@ public interface BaseRepresentor<T> {
 		 */
 		public U addDate(String key, Function<T, Date> function);
 
+		/**
+		 * Adds information about a resource's double array field. The array
+		 * is written without boxing its elements.
+		 *
+		 * @param  key the field's name
+		 * @param  function the function used to get the double array
+		 * @return the builder's step
+		 * @review
+		 */
+		public U addDoubleArray(String key, Function<T, double[]> function);
+
+		/**
+		 * Adds information about a resource's int array field. The array
+		 * is written without boxing its elements.
+		 *
+		 * @param  key the field's name
+		 * @param  function the function used to get the int array
+		 * @return the builder's step
+		 * @review
+		 */
+		public U addIntArray(String key, Function<T, int[]> function);
+
 		/**
 		 * Adds information about a resource link.
 		 *
@@ -303,6 +372,17 @@ public interface BaseRepresentor<T> {
 		public U addLocalizedStringByLocale(
 			String key, BiFunction<T, Locale, String> stringFunction);
 
+		/**
+		 * Adds information about a resource's long array field. The array
+		 * is written without boxing its elements.
+		 *
+		 * @param  key the field's name
+		 * @param  function the function used to get the long array
+		 * @return the builder's step
+		 * @review
+		 */
+		public U addLongArray(String key, Function<T, long[]> function);
+
 		/**
 		 * Provides information about a nested field.
 		 *
@@ -331,6 +411,28 @@ public interface BaseRepresentor<T> {
 			Function
 				<NestedRepresentor.Builder<V>, NestedRepresentor<V>> function);
 
+		/**
+		 * Adds a nested list field to the representor, whose models are
+		 * provided by a stream. Unlike {@link #addNestedList(String, Function,
+		 * Function)}, the models are mapped as the stream produces them,
+		 * without collecting them into a list first, and the stream is closed
+		 * once they have been mapped. The representation containing the field
+		 * is still built in memory before being written.
+		 *
+		 * @param  key the field's name
+		 * @param  transformFunction the function that transforms the model
+		 *         into the stream whose models are used inside the nested
+		 *         representor. It must return a new stream on each call.
+		 * @param  function the function that creates the nested representor
+		 *         for each model
+		 * @return the builder's step
+		 * @review
+		 */
+		public <V> U addNestedStream(
+			String key, Function<T, Stream<V>> transformFunction,
+			Function
+				<NestedRepresentor.Builder<V>, NestedRepresentor<V>> function);
+
 		/**
 		 * Adds information about a resource's number field.
 		 *
@@ -18,6 +18,7 @@ import aQute.bnd.annotation.ProviderType;
 
 import com.liferay.apio.architect.identifier.Identifier;
 
+import java.util.Optional;
 import java.util.function.Function;
 
 /**
@@ -43,6 +44,22 @@ public interface Representor<T> extends BaseRepresentor<T> {
 	 */
 	public Object getIdentifier(T model);
 
+	/**
+	 * Returns the function used to obtain a model's version, if the
+	 * representor declares one; returns {@code Optional#empty()} otherwise.
+	 *
+	 * <p>
+	 * A model's version must change every time its representation changes. It
+	 * is used to validate conditional requests without having to write the
+	 * representation.
+	 * </p>
+	 *
+	 * @return the function used to obtain a model's version, if present;
+	 *         {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<Function<T, Object>> getVersionFunctionOptional();
+
 	/**
 	 * Creates generic representations of your domain models that Apio
 	 * hypermedia writers can understand.
@@ -97,6 +114,18 @@ public interface Representor<T> extends BaseRepresentor<T> {
 		public <S extends Identifier> FirstStep<T> addRelatedCollection(
 			String key, Class<S> itemIdentifierClass);
 
+		/**
+		 * Provides a lambda function that can be used to obtain a model's
+		 * version (e.g., a revision number or a modified date). The version
+		 * must change every time the model's representation changes.
+		 *
+		 * @param  versionFunction lambda function used to obtain a model's
+		 *         version
+		 * @return the builder's step
+		 * @review
+		 */
+		public FirstStep<T> addVersion(Function<T, ?> versionFunction);
+
 	}
 
 	@ProviderType
@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.selection;
+
+import aQute.bnd.annotation.ProviderType;
+
+import java.util.Set;
+
+/**
+ * Defines the related resources the client asked to embed with the {@code
+ * embedded} parameter (for example, {@code embedded=creator,creator.address}).
+ * An instance of this interface can be handed to the methods of the different
+ * routes builders, so resources can retrieve their models together with the
+ * related models that are going to be embedded.
+ *
+ * <p>
+ * Related resources are identified by their embedded path: the keys of the
+ * related models from the root resource, separated by dots. Instances of this
+ * interface are immutable.
+ * </p>
+ *
+ * @author agent
+ * @review
+ */
+@ProviderType
+public interface EmbeddedSelection {
+
+	/**
+	 * Returns the embedded paths requested by the client, as they were
+	 * requested.
+	 *
+	 * @return the unmodifiable set of requested embedded paths
+	 * @review
+	 */
+	public Set<String> getPaths();
+
+	/**
+	 * Returns {@code true} if the related resource with the embedded path will
+	 * be embedded. A related resource is embedded if its path was requested,
+	 * or if it's an ancestor of a requested path.
+	 *
+	 * @param  path the related resource's embedded path
+	 * @return {@code true} if the related resource will be embedded; {@code
+	 *         false} otherwise
+	 * @review
+	 */
+	public boolean isEmbedded(String path);
+
+}
@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.selection;
+
+import aQute.bnd.annotation.ProviderType;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Defines the fields selected by the client with the {@code fields[Type]}
+ * parameters (for example, {@code fields[BlogPosting]=headline,creator}). An
+ * instance of this interface can be handed to the methods of the different
+ * routes builders, so resources can retrieve only the selected fields of
+ * their models.
+ *
+ * <p>
+ * Instances of this interface are immutable. Fields are still filtered when
+ * the representation is written, so resources can safely ignore the
+ * selection.
+ * </p>
+ *
+ * @author agent
+ * @review
+ */
+@ProviderType
+public interface FieldSelection {
+
+	/**
+	 * Returns the fields selected for a type, if the client restricted the
+	 * fields of that type; returns {@code Optional#empty()} otherwise, which
+	 * means every field of the type must be written.
+	 *
+	 * @param  type the type
+	 * @return the unmodifiable set of selected fields, if the fields of the
+	 *         type were restricted; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<Set<String>> getFieldsOptional(String type);
+
+	/**
+	 * Returns the types whose fields were restricted by the client.
+	 *
+	 * @return the unmodifiable set of types with selected fields
+	 * @review
+	 */
+	public Set<String> getTypes();
+
+	/**
+	 * Returns {@code true} if a field of a type will be written, either
+	 * because the client selected it or because the client didn't restrict
+	 * the fields of that type.
+	 *
+	 * @param  type the type
+	 * @param  field the field's name
+	 * @return {@code true} if the field will be written; {@code false}
+	 *         otherwise
+	 * @review
+	 */
+	public default boolean isSelected(String type, String field) {
+		Optional<Set<String>> optional = getFieldsOptional(type);
+
+		return optional.map(
+			fields -> fields.contains(field)
+		).orElse(
+			true
+		);
+	}
+
+}
@@ -0,0 +1,199 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark.dispatch;
+
+import static com.liferay.apio.architect.benchmark.dispatch.SyntheticRouterRegistry.getGenericName;
+import static com.liferay.apio.architect.benchmark.dispatch.SyntheticRouterRegistry.getGenericParentName;
+import static com.liferay.apio.architect.benchmark.dispatch.SyntheticRouterRegistry.getNestedName;
+import static com.liferay.apio.architect.benchmark.dispatch.SyntheticRouterRegistry.getResourceName;
+
+import static java.util.stream.Collectors.toList;
+
+import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.internal.action.ActionSemantics;
+import com.liferay.apio.architect.internal.annotation.Action;
+import com.liferay.apio.architect.internal.annotation.ActionManagerImpl;
+import com.liferay.apio.architect.resource.Resource.GenericParent;
+import com.liferay.apio.architect.resource.Resource.Id;
+import com.liferay.apio.architect.resource.Resource.Item;
+import com.liferay.apio.architect.resource.Resource.Paged;
+
+import io.vavr.control.Either;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures how {@link ActionManagerImpl} resolves the action of every supported
+ * URL shape, and how it computes the permitted actions of a resource, depending
+ * on the number of registered routers.
+ *
+ * <p>
+ * The resolved resource is always the one in the middle of the registry.
+ * </p>
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ActionManagerBenchmark {
+
+	@Benchmark
+	public Either<Action.Error, Action> getBinaryAction() {
+		return _actionManagerImpl.getAction("GET", _binaryParams);
+	}
+
+	@Benchmark
+	public Either<Action.Error, Action> getGenericParentAction() {
+		return _actionManagerImpl.getAction("GET", _genericParentParams);
+	}
+
+	@Benchmark
+	public List<ActionSemantics> getGenericParentActionSemantics() {
+		return _actionManagerImpl.getActionSemantics(
+			_genericParent, _credentials, null
+		).collect(
+			toList()
+		);
+	}
+
+	@Benchmark
+	public Either<Action.Error, Action> getGenericParentCustomAction() {
+		return _actionManagerImpl.getAction(
+			"POST", _genericParentCustomParams);
+	}
+
+	@Benchmark
+	public Either<Action.Error, Action> getItemAction() {
+		return _actionManagerImpl.getAction("GET", _itemParams);
+	}
+
+	@Benchmark
+	public List<ActionSemantics> getItemActionSemantics() {
+		return _actionManagerImpl.getActionSemantics(
+			_item, _credentials, null
+		).collect(
+			toList()
+		);
+	}
+
+	@Benchmark
+	public Either<Action.Error, Action> getItemCustomAction() {
+		return _actionManagerImpl.getAction("POST", _itemCustomParams);
+	}
+
+	@Benchmark
+	public Either<Action.Error, Action> getNestedAction() {
+		return _actionManagerImpl.getAction("GET", _nestedParams);
+	}
+
+	@Benchmark
+	public Either<Action.Error, Action> getNestedCustomAction() {
+		return _actionManagerImpl.getAction("POST", _nestedCustomParams);
+	}
+
+	@Benchmark
+	public Either<Action.Error, Action> getNotFoundAction() {
+		return _actionManagerImpl.getAction("GET", _notFoundParams);
+	}
+
+	@Benchmark
+	public Either<Action.Error, Action> getPagedAction() {
+		return _actionManagerImpl.getAction("GET", _pagedParams);
+	}
+
+	@Benchmark
+	public List<ActionSemantics> getPagedActionSemantics() {
+		return _actionManagerImpl.getActionSemantics(
+			_paged, _credentials, null
+		).collect(
+			toList()
+		);
+	}
+
+	@Benchmark
+	public Either<Action.Error, Action> getPagedCustomAction() {
+		return _actionManagerImpl.getAction("POST", _pagedCustomParams);
+	}
+
+	@Setup
+	public void setup() {
+		SyntheticRouterRegistry syntheticRouterRegistry =
+			new SyntheticRouterRegistry(routerCount);
+
+		_actionManagerImpl = syntheticRouterRegistry.createActionManager();
+
+		int index = routerCount / 2;
+
+		String name = getResourceName(index);
+		String genericName = getGenericName(index);
+		String genericParentName = getGenericParentName(index);
+		String nestedName = getNestedName(index);
+
+		_binaryParams = Arrays.asList(name, "42", "avatar");
+		_genericParentCustomParams = Arrays.asList(
+			genericName, genericParentName, "group:42", "export");
+		_genericParentParams = Arrays.asList(
+			genericName, genericParentName, "group:42");
+		_itemCustomParams = Arrays.asList(name, "42", "subscribe");
+		_itemParams = Arrays.asList(name, "42");
+		_nestedCustomParams = Arrays.asList(name, "42", nestedName, "export");
+		_nestedParams = Arrays.asList(name, "42", nestedName);
+		_notFoundParams = Arrays.asList("missing", "42");
+		_pagedCustomParams = Arrays.asList(name, "export");
+		_pagedParams = Arrays.asList(name);
+
+		Id id = Id.of(42L, "42");
+
+		_genericParent = GenericParent.of(
+			genericParentName, Id.of("group:42", "group:42"), genericName);
+		_item = Item.of(name, id);
+		_paged = Paged.of(name);
+	}
+
+	/**
+	 * The number of registered synthetic routers.
+	 */
+	@Param({"10", "100", "500", "2000"})
+	public int routerCount;
+
+	private ActionManagerImpl _actionManagerImpl;
+	private List<String> _binaryParams;
+	private final Credentials _credentials = () -> "benchmark";
+	private GenericParent _genericParent;
+	private List<String> _genericParentCustomParams;
+	private List<String> _genericParentParams;
+	private Item _item;
+	private List<String> _itemCustomParams;
+	private List<String> _itemParams;
+	private List<String> _nestedCustomParams;
+	private List<String> _nestedParams;
+	private List<String> _notFoundParams;
+	private Paged _paged;
+	private List<String> _pagedCustomParams;
+	private List<String> _pagedParams;
+
+}
@@ -0,0 +1,406 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark.dispatch;
+
+import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+
+import com.liferay.apio.architect.annotation.GenericParentId;
+import com.liferay.apio.architect.annotation.Id;
+import com.liferay.apio.architect.annotation.ParentId;
+import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.internal.action.ActionSemantics;
+import com.liferay.apio.architect.internal.annotation.ActionManagerImpl;
+import com.liferay.apio.architect.internal.annotation.ActionRouterManager;
+import com.liferay.apio.architect.internal.batch.BatchRetriever;
+import com.liferay.apio.architect.internal.cache.ItemResponseCache;
+import com.liferay.apio.architect.internal.coalescing.RequestCoalescer;
+import com.liferay.apio.architect.internal.export.PageExporter;
+import com.liferay.apio.architect.internal.limit.ActionConcurrencyLimiter;
+import com.liferay.apio.architect.internal.metrics.MetricsRegistry;
+import com.liferay.apio.architect.internal.representor.RepresentorImpl;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.provider.ProviderManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.router.CollectionRouterManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.router.ItemRouterManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.router.NestedCollectionRouterManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.router.ReusableNestedCollectionRouterManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.uri.mapper.PathIdentifierMapperManager;
+import com.liferay.apio.architect.operation.HTTPMethod;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.resource.Resource;
+import com.liferay.apio.architect.resource.Resource.GenericParent;
+import com.liferay.apio.architect.resource.Resource.Item;
+import com.liferay.apio.architect.resource.Resource.Nested;
+import com.liferay.apio.architect.resource.Resource.Paged;
+import com.liferay.apio.architect.single.model.SingleModel;
+import com.liferay.apio.architect.uri.Path;
+
+import java.lang.reflect.Field;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Creates an {@link ActionManagerImpl} whose managers return the {@link
+ * ActionSemantics} of a number of synthetic routers, the same way they would
+ * after computing the routes of the registered services.
+ *
+ * <p>
+ * Every synthetic router {@code i} adds the resources {@code resource-i}
+ * (collection, item, nested collection {@code children-i} and binary {@code
+ * avatar}) and {@code comment-i} (a collection scoped by the generic parent
+ * {@code by-parent-i}), with a custom action for each of them. Routers with
+ * an even index are added as annotated {@code ActionRouter} services, the rest
+ * are split between the managers of collection, item, nested and reusable
+ * nested collection routers.
+ * </p>
+ *
+ * <p>
+ * Permission checks of every action need the request's {@link Credentials}
+ * and, depending on the resource, its {@link Id}, {@link ParentId} or {@link
+ * GenericParentId}.
+ * </p>
+ *
+ * @author agent
+ */
+public class SyntheticRouterRegistry {
+
+	/**
+	 * Returns the name of the resource scoped by the generic parent of a
+	 * synthetic router.
+	 *
+	 * @param  index the router's index
+	 * @return the resource's name
+	 */
+	public static String getGenericName(int index) {
+		return "comment-" + index;
+	}
+
+	/**
+	 * Returns the name of the generic parent of a synthetic router.
+	 *
+	 * @param  index the router's index
+	 * @return the generic parent's name
+	 */
+	public static String getGenericParentName(int index) {
+		return "by-parent-" + index;
+	}
+
+	/**
+	 * Returns the name of the nested resource of a synthetic router.
+	 *
+	 * @param  index the router's index
+	 * @return the nested resource's name
+	 */
+	public static String getNestedName(int index) {
+		return "children-" + index;
+	}
+
+	/**
+	 * Returns the name of the resource of a synthetic router.
+	 *
+	 * @param  index the router's index
+	 * @return the resource's name
+	 */
+	public static String getResourceName(int index) {
+		return "resource-" + index;
+	}
+
+	public SyntheticRouterRegistry(int routerCount) {
+		for (int i = 0; i < routerCount; i++) {
+			String name = getResourceName(i);
+
+			Paged paged = Paged.of(name);
+			Item item = Item.of(name);
+			Nested nested = Nested.of(item, getNestedName(i));
+			GenericParent genericParent = GenericParent.of(
+				getGenericParentName(i), getGenericName(i));
+
+			if ((i % 2) == 0) {
+				_addCollectionActions(_actionRouterActionSemantics, paged);
+				_addItemActions(_actionRouterActionSemantics, item);
+				_addCollectionActions(_actionRouterActionSemantics, nested);
+				_addCollectionActions(
+					_actionRouterActionSemantics, genericParent);
+			}
+			else {
+				_addCollectionActions(_collectionActionSemantics, paged);
+				_addItemActions(_itemActionSemantics, item);
+				_addCollectionActions(_nestedActionSemantics, nested);
+				_addCollectionActions(
+					_reusableNestedActionSemantics, genericParent);
+			}
+		}
+	}
+
+	/**
+	 * Creates an {@code ActionManagerImpl} that uses the synthetic routers.
+	 *
+	 * @return the action manager
+	 */
+	public ActionManagerImpl createActionManager() {
+		ActionManagerImpl actionManagerImpl = new ActionManagerImpl();
+
+		_setField(
+			actionManagerImpl, "_actionConcurrencyLimiter",
+			new ActionConcurrencyLimiter());
+		_setField(
+			actionManagerImpl, "_actionRouterManager",
+			new ActionRouterManager() {
+
+				@Override
+				public Stream<ActionSemantics> getActionSemantics() {
+					return _actionRouterActionSemantics.stream();
+				}
+
+			});
+		_setField(actionManagerImpl, "_batchRetriever", new BatchRetriever());
+		_setField(
+			actionManagerImpl, "_collectionRouterManager",
+			new CollectionRouterManager() {
+
+				@Override
+				public Stream<ActionSemantics> getActionSemantics() {
+					return _collectionActionSemantics.stream();
+				}
+
+			});
+		_setField(
+			actionManagerImpl, "_itemResponseCache", new ItemResponseCache());
+		_setField(
+			actionManagerImpl, "_itemRouterManager",
+			new ItemRouterManager() {
+
+				@Override
+				public Stream<ActionSemantics> getActionSemantics() {
+					return _itemActionSemantics.stream();
+				}
+
+			});
+		_setField(
+			actionManagerImpl, "_metricsRegistry", new MetricsRegistry());
+		_setField(
+			actionManagerImpl, "_nestedCollectionRouterManager",
+			new NestedCollectionRouterManager() {
+
+				@Override
+				public Stream<ActionSemantics> getActionSemantics() {
+					return _nestedActionSemantics.stream();
+				}
+
+			});
+		_setField(actionManagerImpl, "_pageExporter", new PageExporter());
+		_setField(
+			actionManagerImpl, "_representableManager",
+			new SyntheticRepresentableManager());
+		_setField(
+			actionManagerImpl, "_requestCoalescer", new RequestCoalescer());
+		_setField(
+			actionManagerImpl, "_reusableNestedCollectionRouterManager",
+			new ReusableNestedCollectionRouterManager() {
+
+				@Override
+				public Stream<ActionSemantics> getActionSemantics() {
+					return _reusableNestedActionSemantics.stream();
+				}
+
+			});
+		_setField(
+			actionManagerImpl, "pathIdentifierMapperManager",
+			new SyntheticPathIdentifierMapperManager());
+		_setField(
+			actionManagerImpl, "providerManager",
+			new SyntheticProviderManager());
+
+		return actionManagerImpl;
+	}
+
+	private static void _addCollectionActions(
+		List<ActionSemantics> list, Resource resource) {
+
+		list.add(
+			_createActionSemantics(
+				resource, "retrieve", HTTPMethod.GET, Page.class));
+		list.add(
+			_createActionSemantics(
+				resource, "create", HTTPMethod.POST, SingleModel.class));
+		list.add(
+			_createActionSemantics(
+				resource, "export", HTTPMethod.POST, Void.class));
+	}
+
+	private static void _addItemActions(
+		List<ActionSemantics> list, Resource resource) {
+
+		list.add(
+			_createActionSemantics(
+				resource, "retrieve", HTTPMethod.GET, SingleModel.class));
+		list.add(
+			_createActionSemantics(
+				resource, "replace", HTTPMethod.PUT, SingleModel.class));
+		list.add(
+			_createActionSemantics(
+				resource, "remove", HTTPMethod.DELETE, Void.class));
+		list.add(
+			_createActionSemantics(
+				resource, "subscribe", HTTPMethod.POST, Void.class));
+	}
+
+	private static ActionSemantics _createActionSemantics(
+		Resource resource, String name, HTTPMethod httpMethod,
+		Class<?> returnClass) {
+
+		Class<?>[] permissionClasses = {Credentials.class};
+
+		if (resource instanceof GenericParent) {
+			permissionClasses = new Class<?>[] {
+				Credentials.class, GenericParentId.class
+			};
+		}
+		else if (resource instanceof Item) {
+			permissionClasses = new Class<?>[] {Credentials.class, Id.class};
+		}
+		else if (resource instanceof Nested) {
+			permissionClasses = new Class<?>[] {
+				Credentials.class, ParentId.class
+			};
+		}
+
+		return ActionSemantics.ofResource(
+			resource
+		).name(
+			name
+		).method(
+			httpMethod
+		).returns(
+			returnClass
+		).permissionFunction(
+			params -> params.get(0) instanceof Credentials
+		).permissionProvidedClasses(
+			permissionClasses
+		).executeFunction(
+			params -> null
+		).build();
+	}
+
+	private static void _setField(Object object, String name, Object value) {
+		Class<?> clazz = object.getClass();
+
+		while (clazz != null) {
+			try {
+				Field field = clazz.getDeclaredField(name);
+
+				field.setAccessible(true);
+
+				field.set(object, value);
+
+				return;
+			}
+			catch (NoSuchFieldException nsfe) {
+				clazz = clazz.getSuperclass();
+			}
+			catch (IllegalAccessException iae) {
+				throw new IllegalStateException(iae);
+			}
+		}
+
+		throw new IllegalArgumentException("Unable to find field " + name);
+	}
+
+	private final List<ActionSemantics> _actionRouterActionSemantics =
+		new ArrayList<>();
+	private final List<ActionSemantics> _collectionActionSemantics =
+		new ArrayList<>();
+	private final List<ActionSemantics> _itemActionSemantics =
+		new ArrayList<>();
+	private final List<ActionSemantics> _nestedActionSemantics =
+		new ArrayList<>();
+	private final List<ActionSemantics> _reusableNestedActionSemantics =
+		new ArrayList<>();
+
+	private static class SyntheticPathIdentifierMapperManager
+		extends PathIdentifierMapperManager {
+
+		@Override
+		public <T> T mapToIdentifierOrFail(Path path) {
+			String name = path.getName();
+
+			if (name.startsWith("comment-")) {
+				return unsafeCast(path.getId());
+			}
+
+			return unsafeCast(Long.valueOf(path.getId()));
+		}
+
+	}
+
+	private static class SyntheticProviderManager extends ProviderManager {
+
+		@Override
+		public <T> T provideMandatory(
+			HttpServletRequest httpServletRequest, Class<T> clazz) {
+
+			if (Credentials.class.equals(clazz)) {
+				return unsafeCast(_credentials);
+			}
+
+			throw new IllegalArgumentException(
+				"Unable to provide an instance of " + clazz);
+		}
+
+		private final Credentials _credentials = () -> "benchmark";
+
+	}
+
+	private static class SyntheticRepresentableManager
+		implements RepresentableManager {
+
+		@Override
+		public <T> Optional<Representor<T>> getRepresentorOptional(
+			String name) {
+
+			return Optional.of(unsafeCast(_representor));
+		}
+
+		@Override
+		public Map<String, Representor> getRepresentors() {
+			return Collections.emptyMap();
+		}
+
+		private final Representor<Long> _representor =
+			new RepresentorImpl.BuilderImpl<Long, Long>(
+				SyntheticIdentifier.class, __ -> "resource"
+			).types(
+				"Thing"
+			).identifier(
+				id -> id
+			).addBinary(
+				"avatar", __ -> null
+			).build();
+
+	}
+
+	private interface SyntheticIdentifier extends Identifier<Long> {
+	}
+
+}
@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark.form;
+
+import static com.liferay.apio.architect.benchmark.form.BodyBenchmarkUtil.DATE;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import com.liferay.apio.architect.form.Body;
+import com.liferay.apio.architect.form.Form;
+import com.liferay.apio.architect.internal.annotation.form.FormTransformer;
+import com.liferay.apio.architect.internal.annotation.representor.processor.ParsedType;
+import com.liferay.apio.architect.internal.annotation.representor.processor.TypeProcessor;
+import com.liferay.apio.architect.internal.body.JSONToBodyConverter.JSONBodyImpl;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures how a form created by the {@link FormTransformer} from an annotated
+ * type ({@link BenchmarkArticle}) binds an already parsed body, and a batch of
+ * them.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class AnnotatedFormBenchmark {
+
+	@Benchmark
+	public BenchmarkArticle get(ParsedMemberCounters parsedMemberCounters) {
+		BenchmarkArticle benchmarkArticle = _form.get(_body);
+
+		parsedMemberCounters.members++;
+
+		return benchmarkArticle;
+	}
+
+	@Benchmark
+	public List<BenchmarkArticle> getList(
+		ParsedMemberCounters parsedMemberCounters) {
+
+		List<BenchmarkArticle> list = _form.getList(_batchBody);
+
+		parsedMemberCounters.members += list.size();
+
+		return list;
+	}
+
+	@Setup
+	public void setup() {
+		ArrayNode arrayNode = _jsonNodeFactory.arrayNode();
+
+		for (int i = 0; i < batchSize; i++) {
+			arrayNode.add(_createArticle(i));
+		}
+
+		_batchBody = new JSONBodyImpl(arrayNode);
+		_body = new JSONBodyImpl(_createArticle(0));
+
+		ParsedType parsedType = TypeProcessor.processType(
+			BenchmarkArticle.class);
+
+		_form = FormTransformer.toForm(
+			parsedType, __ -> null, __ -> Optional.empty());
+	}
+
+	private ObjectNode _createArticle(int index) {
+		ObjectNode objectNode = _jsonNodeFactory.objectNode();
+
+		objectNode.put("date", DATE);
+		objectNode.put("published", (index % 2) == 0);
+		objectNode.put("rating", index + 0.5D);
+		objectNode.put("title", "Article " + index);
+		objectNode.put("views", (long)index);
+
+		ObjectNode authorObjectNode = objectNode.putObject("author");
+
+		authorObjectNode.put("name", "Author " + index);
+
+		ArrayNode tagsArrayNode = objectNode.putArray("tags");
+		ArrayNode authorTagsArrayNode = authorObjectNode.putArray("tags");
+
+		for (int i = 0; i < listSize; i++) {
+			tagsArrayNode.add("tag-" + i);
+			authorTagsArrayNode.add("tag-" + i);
+		}
+
+		return objectNode;
+	}
+
+	/**
+	 * The number of members of the batch.
+	 */
+	@Param({"1", "100", "10000"})
+	public int batchSize;
+
+	/**
+	 * The size of the list fields of every member.
+	 */
+	@Param({"0", "10", "100"})
+	public int listSize;
+
+	private static final JsonNodeFactory _jsonNodeFactory =
+		JsonNodeFactory.instance;
+
+	private Body _batchBody;
+	private Body _body;
+	private Form<BenchmarkArticle> _form;
+
+}
@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark.form;
+
+import com.liferay.apio.architect.annotation.Id;
+import com.liferay.apio.architect.annotation.Vocabulary.Field;
+import com.liferay.apio.architect.annotation.Vocabulary.Type;
+import com.liferay.apio.architect.identifier.Identifier;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Represents an annotated type whose form is created by the {@code
+ * FormTransformer}.
+ *
+ * @author agent
+ */
+@Type("BenchmarkArticle")
+public interface BenchmarkArticle extends Identifier<Long> {
+
+	@Field("author")
+	public BenchmarkAuthor getAuthor();
+
+	@Field("date")
+	public Date getDate();
+
+	@Id
+	public default Long getId() {
+		return 0L;
+	}
+
+	@Field("published")
+	public Boolean getPublished();
+
+	@Field("rating")
+	public Double getRating();
+
+	@Field("tags")
+	public List<String> getTags();
+
+	@Field("title")
+	public String getTitle();
+
+	@Field("views")
+	public Long getViews();
+
+	@Type("BenchmarkAuthor")
+	public interface BenchmarkAuthor {
+
+		@Field("name")
+		public String getName();
+
+		@Field("tags")
+		public List<String> getTags();
+
+	}
+
+}
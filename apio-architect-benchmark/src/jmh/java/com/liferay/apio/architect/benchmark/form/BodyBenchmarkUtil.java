@@ -0,0 +1,396 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark.form;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import com.liferay.apio.architect.form.Form;
+import com.liferay.apio.architect.internal.form.FormImpl;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import java.lang.reflect.Proxy;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Provides the bodies, requests and forms used by the request body
+ * benchmarks.
+ *
+ * <p>
+ * Every synthetic member has {@code fieldCount} fields named {@code field0},
+ * {@code field1}... whose type rotates between string, long, double, boolean
+ * and date. Members can also have a {@code tags} string list and a {@code
+ * nested} body with a {@code name} and its own {@code tags}.
+ * </p>
+ *
+ * @author agent
+ */
+public final class BodyBenchmarkUtil {
+
+	/**
+	 * The boundary used by the synthetic multipart bodies.
+	 */
+	public static final String BOUNDARY = "----ApioBenchmarkBoundary";
+
+	/**
+	 * The value of every date field.
+	 */
+	public static final String DATE = "2018-07-15T10:00Z";
+
+	/**
+	 * Returns the form of a synthetic member, created with the form builder.
+	 *
+	 * @param  fieldCount the number of fields of the member
+	 * @param  listSize the size of the member's {@code tags} list, or {@code
+	 *         0} if the member has no list
+	 * @param  nested {@code true} if the member has a nested body
+	 * @return the form
+	 */
+	public static Form<Map<String, Object>> createBuilderForm(
+		int fieldCount, int listSize, boolean nested) {
+
+		Form.Builder.FieldStep<Map<String, Object>> fieldStep =
+			new FormImpl.BuilderImpl<Map<String, Object>>(
+				__ -> null, __ -> Optional.empty()
+			).title(
+				__ -> "Synthetic"
+			).description(
+				__ -> "A synthetic member"
+			).constructor(
+				HashMap::new
+			);
+
+		for (int i = 0; i < fieldCount; i++) {
+			String key = "field" + i;
+
+			switch (i % 5) {
+				case 0:
+					fieldStep.addRequiredString(key, _put(key));
+
+					break;
+				case 1:
+					fieldStep.addRequiredLong(key, _put(key));
+
+					break;
+				case 2:
+					fieldStep.addRequiredDouble(key, _put(key));
+
+					break;
+				case 3:
+					fieldStep.addRequiredBoolean(key, _put(key));
+
+					break;
+				default:
+					fieldStep.addRequiredDate(key, _put(key));
+			}
+		}
+
+		if (listSize > 0) {
+			fieldStep.addRequiredStringList("tags", _put("tags"));
+		}
+
+		if (nested) {
+			fieldStep.addRequiredNestedModel(
+				"nested", BodyBenchmarkUtil::_createNestedForm,
+				_put("nested"));
+		}
+
+		return fieldStep.build();
+	}
+
+	/**
+	 * Returns an HTTP request whose body contains the provided bytes. Every
+	 * call to {@code getInputStream()} reads the body from the start, so the
+	 * request can be parsed more than once.
+	 *
+	 * @param  contentType the request's content type
+	 * @param  bytes the request's body
+	 * @return the request
+	 */
+	public static HttpServletRequest createHttpServletRequest(
+		String contentType, byte[] bytes) {
+
+		return (HttpServletRequest)Proxy.newProxyInstance(
+			BodyBenchmarkUtil.class.getClassLoader(),
+			new Class<?>[] {HttpServletRequest.class},
+			(proxy, method, args) -> {
+				String methodName = method.getName();
+
+				if (methodName.equals("getCharacterEncoding")) {
+					return UTF_8.name();
+				}
+
+				if (methodName.equals("getContentLength")) {
+					return bytes.length;
+				}
+
+				if (methodName.equals("getContentType")) {
+					return contentType;
+				}
+
+				if (methodName.equals("getHeader")) {
+					String name = (String)args[0];
+
+					if (name.equalsIgnoreCase("Content-Length")) {
+						return String.valueOf(bytes.length);
+					}
+
+					if (name.equalsIgnoreCase("Content-Type")) {
+						return contentType;
+					}
+
+					return null;
+				}
+
+				if (methodName.equals("getInputStream")) {
+					return _createServletInputStream(bytes);
+				}
+
+				if (methodName.equals("getMethod")) {
+					return "POST";
+				}
+
+				Class<?> returnType = method.getReturnType();
+
+				if (returnType == boolean.class) {
+					return false;
+				}
+
+				if (returnType == int.class) {
+					return -1;
+				}
+
+				if (returnType == long.class) {
+					return -1L;
+				}
+
+				return null;
+			});
+	}
+
+	/**
+	 * Returns a JSON array with a number of synthetic members.
+	 *
+	 * @param  batchSize the number of members
+	 * @param  fieldCount the number of fields of each member
+	 * @param  listSize the size of the {@code tags} list of each member, or
+	 *         {@code 0} if members have no list
+	 * @param  nested {@code true} if members have a nested body
+	 * @return the JSON array
+	 */
+	public static ArrayNode createJSONBatch(
+		int batchSize, int fieldCount, int listSize, boolean nested) {
+
+		ArrayNode arrayNode = _jsonNodeFactory.arrayNode();
+
+		for (int i = 0; i < batchSize; i++) {
+			arrayNode.add(createJSONMember(i, fieldCount, listSize, nested));
+		}
+
+		return arrayNode;
+	}
+
+	/**
+	 * Returns a synthetic member as a JSON object.
+	 *
+	 * @param  index the member's index
+	 * @param  fieldCount the number of fields of the member
+	 * @param  listSize the size of the member's {@code tags} list, or {@code
+	 *         0} if the member has no list
+	 * @param  nested {@code true} if the member has a nested body
+	 * @return the JSON object
+	 */
+	public static ObjectNode createJSONMember(
+		int index, int fieldCount, int listSize, boolean nested) {
+
+		ObjectNode objectNode = _jsonNodeFactory.objectNode();
+
+		for (int i = 0; i < fieldCount; i++) {
+			String key = "field" + i;
+
+			switch (i % 5) {
+				case 0:
+					objectNode.put(key, "Value " + index + "-" + i);
+
+					break;
+				case 1:
+					objectNode.put(key, (long)index * i);
+
+					break;
+				case 2:
+					objectNode.put(key, index + i + 0.5D);
+
+					break;
+				case 3:
+					objectNode.put(key, ((index + i) % 2) == 0);
+
+					break;
+				default:
+					objectNode.put(key, DATE);
+			}
+		}
+
+		if (listSize > 0) {
+			_addTags(objectNode, listSize);
+		}
+
+		if (nested) {
+			ObjectNode nestedObjectNode = objectNode.putObject("nested");
+
+			nestedObjectNode.put("name", "Nested " + index);
+
+			_addTags(nestedObjectNode, Math.max(listSize, 1));
+		}
+
+		return objectNode;
+	}
+
+	/**
+	 * Returns a {@code multipart/form-data} body with a synthetic member. The
+	 * {@code tags} list is sent using indexed parts ({@code tags[0]}, {@code
+	 * tags[1]}...).
+	 *
+	 * @param  fieldCount the number of fields of the member
+	 * @param  listSize the size of the member's {@code tags} list
+	 * @return the encoded body
+	 */
+	public static byte[] createMultipartBody(int fieldCount, int listSize) {
+		StringBuilder sb = new StringBuilder();
+
+		JsonNode jsonNode = createJSONMember(0, fieldCount, 0, false);
+
+		Iterator<Map.Entry<String, JsonNode>> iterator = jsonNode.fields();
+
+		while (iterator.hasNext()) {
+			Map.Entry<String, JsonNode> entry = iterator.next();
+
+			JsonNode valueJsonNode = entry.getValue();
+
+			_appendPart(sb, entry.getKey(), valueJsonNode.asText());
+		}
+
+		for (int i = 0; i < listSize; i++) {
+			_appendPart(sb, "tags[" + i + "]", "tag-" + i);
+		}
+
+		sb.append("--");
+		sb.append(BOUNDARY);
+		sb.append("--\r\n");
+
+		String body = sb.toString();
+
+		return body.getBytes(UTF_8);
+	}
+
+	/**
+	 * Returns the encoded form of a JSON node.
+	 *
+	 * @param  jsonNode the JSON node
+	 * @return the encoded JSON node
+	 */
+	public static byte[] toBytes(JsonNode jsonNode) {
+		try {
+			return _objectMapper.writeValueAsBytes(jsonNode);
+		}
+		catch (IOException ioe) {
+			throw new UncheckedIOException(ioe);
+		}
+	}
+
+	private BodyBenchmarkUtil() {
+		throw new UnsupportedOperationException();
+	}
+
+	private static void _addTags(ObjectNode objectNode, int listSize) {
+		ArrayNode arrayNode = objectNode.putArray("tags");
+
+		for (int i = 0; i < listSize; i++) {
+			arrayNode.add("tag-" + i);
+		}
+	}
+
+	private static void _appendPart(
+		StringBuilder sb, String name, String value) {
+
+		sb.append("--");
+		sb.append(BOUNDARY);
+		sb.append("\r\n");
+		sb.append("Content-Disposition: form-data; name=\"");
+		sb.append(name);
+		sb.append("\"\r\n\r\n");
+		sb.append(value);
+		sb.append("\r\n");
+	}
+
+	private static Form<Map<String, Object>> _createNestedForm(
+		Form.Builder<Map<String, Object>> builder) {
+
+		return builder.title(
+			__ -> "Nested"
+		).description(
+			__ -> "A nested body"
+		).constructor(
+			HashMap::new
+		).addRequiredString(
+			"name", _put("name")
+		).addOptionalStringList(
+			"tags", _put("tags")
+		).build();
+	}
+
+	private static ServletInputStream _createServletInputStream(byte[] bytes) {
+		ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(
+			bytes);
+
+		return new ServletInputStream() {
+
+			@Override
+			public int read() {
+				return byteArrayInputStream.read();
+			}
+
+			@Override
+			public int read(byte[] buffer, int offset, int length) {
+				return byteArrayInputStream.read(buffer, offset, length);
+			}
+
+		};
+	}
+
+	private static <T> BiConsumer<Map<String, Object>, T> _put(String key) {
+		return (map, value) -> map.put(key, value);
+	}
+
+	private static final JsonNodeFactory _jsonNodeFactory =
+		JsonNodeFactory.instance;
+	private static final ObjectMapper _objectMapper = new ObjectMapper();
+
+}
@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark.form;
+
+import static com.liferay.apio.architect.benchmark.form.BodyBenchmarkUtil.createBuilderForm;
+import static com.liferay.apio.architect.benchmark.form.BodyBenchmarkUtil.createJSONBatch;
+import static com.liferay.apio.architect.benchmark.form.BodyBenchmarkUtil.createJSONMember;
+
+import com.liferay.apio.architect.form.Body;
+import com.liferay.apio.architect.form.Form;
+import com.liferay.apio.architect.internal.body.JSONToBodyConverter.JSONBodyImpl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures how a form created with the form builder binds an already parsed
+ * body, and a batch of them, depending on the shape of the members.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class BuilderFormBenchmark {
+
+	@Benchmark
+	public Map<String, Object> get(ParsedMemberCounters parsedMemberCounters) {
+		Map<String, Object> map = _form.get(_body);
+
+		parsedMemberCounters.members++;
+
+		return map;
+	}
+
+	@Benchmark
+	public List<Map<String, Object>> getList(
+		ParsedMemberCounters parsedMemberCounters) {
+
+		List<Map<String, Object>> list = _form.getList(_batchBody);
+
+		parsedMemberCounters.members += list.size();
+
+		return list;
+	}
+
+	@Setup
+	public void setup() {
+		_batchBody = new JSONBodyImpl(
+			createJSONBatch(batchSize, fieldCount, listSize, nested));
+		_body = new JSONBodyImpl(
+			createJSONMember(0, fieldCount, listSize, nested));
+		_form = createBuilderForm(fieldCount, listSize, nested);
+	}
+
+	/**
+	 * The number of members of the batch.
+	 */
+	@Param({"1", "100", "10000"})
+	public int batchSize;
+
+	/**
+	 * The number of fields of every member.
+	 */
+	@Param({"5", "20"})
+	public int fieldCount;
+
+	/**
+	 * The size of the list field of every member.
+	 */
+	@Param({"0", "10"})
+	public int listSize;
+
+	/**
+	 * Whether every member has a nested body.
+	 */
+	@Param({"false", "true"})
+	public boolean nested;
+
+	private Body _batchBody;
+	private Body _body;
+	private Form<Map<String, Object>> _form;
+
+}
@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark.form;
+
+import static com.liferay.apio.architect.benchmark.form.BodyBenchmarkUtil.createHttpServletRequest;
+import static com.liferay.apio.architect.benchmark.form.BodyBenchmarkUtil.createJSONBatch;
+import static com.liferay.apio.architect.benchmark.form.BodyBenchmarkUtil.toBytes;
+
+import com.liferay.apio.architect.form.Body;
+import com.liferay.apio.architect.internal.body.JSONToBodyConverter;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures how {@link JSONToBodyConverter} reads a batch of JSON members from
+ * a request, depending on the number of members and their shape.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JSONToBodyConverterBenchmark {
+
+	@Benchmark
+	public List<Body> jsonToBody(ParsedMemberCounters parsedMemberCounters) {
+		Body body = JSONToBodyConverter.jsonToBody(_httpServletRequest);
+
+		Optional<List<Body>> optional = body.getBodyMembersOptional();
+
+		List<Body> members = optional.get();
+
+		parsedMemberCounters.members += members.size();
+
+		return members;
+	}
+
+	@Setup
+	public void setup() {
+		_httpServletRequest = createHttpServletRequest(
+			"application/json",
+			toBytes(createJSONBatch(batchSize, fieldCount, listSize, nested)));
+	}
+
+	/**
+	 * The number of members of the batch.
+	 */
+	@Param({"1", "100", "10000"})
+	public int batchSize;
+
+	/**
+	 * The number of fields of every member.
+	 */
+	@Param({"5", "20"})
+	public int fieldCount;
+
+	/**
+	 * The size of the list field of every member.
+	 */
+	@Param({"0", "10"})
+	public int listSize;
+
+	/**
+	 * Whether every member has a nested body.
+	 */
+	@Param({"false", "true"})
+	public boolean nested;
+
+	private HttpServletRequest _httpServletRequest;
+
+}
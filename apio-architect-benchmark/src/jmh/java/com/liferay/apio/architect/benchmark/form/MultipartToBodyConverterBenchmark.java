@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark.form;
+
+import static com.liferay.apio.architect.benchmark.form.BodyBenchmarkUtil.BOUNDARY;
+import static com.liferay.apio.architect.benchmark.form.BodyBenchmarkUtil.createHttpServletRequest;
+import static com.liferay.apio.architect.benchmark.form.BodyBenchmarkUtil.createMultipartBody;
+
+import com.liferay.apio.architect.form.Body;
+import com.liferay.apio.architect.internal.body.MultipartToBodyConverter;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures how {@link MultipartToBodyConverter} reads a member from a {@code
+ * multipart/form-data} request, depending on its number of fields and the
+ * size of its indexed list.
+ *
+ * <p>
+ * Multipart requests can't contain batches, so every operation parses exactly
+ * one member.
+ * </p>
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class MultipartToBodyConverterBenchmark {
+
+	@Benchmark
+	public Body multipartToBody(ParsedMemberCounters parsedMemberCounters) {
+		Body body = MultipartToBodyConverter.multipartToBody(
+			_httpServletRequest);
+
+		parsedMemberCounters.members++;
+
+		return body;
+	}
+
+	@Setup
+	public void setup() {
+		_httpServletRequest = createHttpServletRequest(
+			"multipart/form-data; boundary=" + BOUNDARY,
+			createMultipartBody(fieldCount, listSize));
+	}
+
+	/**
+	 * The number of fields of the member.
+	 */
+	@Param({"5", "20", "50"})
+	public int fieldCount;
+
+	/**
+	 * The number of indexed parts of the member's list.
+	 */
+	@Param({"0", "10", "100"})
+	public int listSize;
+
+	private HttpServletRequest _httpServletRequest;
+
+}
@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark.form;
+
+import com.sun.management.ThreadMXBean;
+
+import java.lang.management.ManagementFactory;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Counts the members parsed by a benchmark, and the bytes allocated per parsed
+ * member by the benchmark's thread, during each iteration.
+ *
+ * <p>
+ * Benchmarks must add the number of members parsed by each operation to
+ * {@link #members}. Every public field and method of this class is reported as
+ * a secondary result, so no other public members must be added.
+ * </p>
+ *
+ * @author agent
+ */
+@AuxCounters(AuxCounters.Type.EVENTS)
+@State(Scope.Thread)
+public class ParsedMemberCounters {
+
+	/**
+	 * Returns the average number of bytes allocated by the benchmark's thread
+	 * per parsed member during the current iteration.
+	 *
+	 * @return the bytes allocated per parsed member
+	 */
+	public double bytesPerMember() {
+		if (members == 0) {
+			return 0;
+		}
+
+		long allocatedBytes = _getAllocatedBytes() - _initialAllocatedBytes;
+
+		return (double)allocatedBytes / members;
+	}
+
+	@Setup(Level.Iteration)
+	public void setup() {
+		members = 0;
+
+		_initialAllocatedBytes = _getAllocatedBytes();
+	}
+
+	private static long _getAllocatedBytes() {
+		Thread thread = Thread.currentThread();
+
+		return _threadMXBean.getThreadAllocatedBytes(thread.getId());
+	}
+
+	/**
+	 * The number of members parsed during the current iteration.
+	 */
+	public long members;
+
+	private static final ThreadMXBean _threadMXBean =
+		(ThreadMXBean)ManagementFactory.getThreadMXBean();
+
+	private long _initialAllocatedBytes;
+
+}
@@ -0,0 +1,167 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark.metrics;
+
+import static java.util.Collections.singletonMap;
+
+import com.liferay.apio.architect.internal.action.ActionSemantics;
+import com.liferay.apio.architect.internal.annotation.Action;
+import com.liferay.apio.architect.internal.metrics.MetricsRegistry;
+import com.liferay.apio.architect.resource.Resource.Item;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the overhead that the {@link MetricsRegistry} adds to every
+ * request: decorating the action, marking the request when the action starts
+ * and recording the status code, the bytes written and the latency of the
+ * response. The {@code baseline} benchmark executes the same action without
+ * measuring it.
+ *
+ * <p>
+ * Run it with {@code ../gradlew jmh -Pjmh.include=MetricsRegistryBenchmark}
+ * from the {@code apio-architect-benchmark} directory. Add {@code -t 8} to the
+ * JMH arguments to measure the overhead under contention.
+ * </p>
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class MetricsRegistryBenchmark {
+
+	@Benchmark
+	public Object baseline() {
+		return _action.execute(_httpServletRequest);
+	}
+
+	@Benchmark
+	public Object disabled() {
+		Action action = _disabledMetricsRegistry.instrument(
+			_actionSemantics, _action);
+
+		return action.execute(_httpServletRequest);
+	}
+
+	@Benchmark
+	public Object enabled() {
+		Action action = _enabledMetricsRegistry.instrument(
+			_actionSemantics, _action);
+
+		Object result = action.execute(_httpServletRequest);
+
+		_enabledMetricsRegistry.recordEmbeddedFetch(_httpServletRequest);
+		_enabledMetricsRegistry.recordStatus(_httpServletRequest, 200);
+		_enabledMetricsRegistry.recordResponse(_httpServletRequest, 1024);
+
+		return result;
+	}
+
+	@Setup
+	public void setUp() throws Exception {
+		_disabledMetricsRegistry = _createMetricsRegistry(false);
+		_enabledMetricsRegistry = _createMetricsRegistry(true);
+
+		_httpServletRequest = new AttributesHttpServletRequest();
+	}
+
+	private static MetricsRegistry _createMetricsRegistry(boolean enabled)
+		throws Exception {
+
+		MetricsRegistry metricsRegistry = new MetricsRegistry();
+
+		Method method = MetricsRegistry.class.getDeclaredMethod(
+			"activate", Map.class);
+
+		method.setAccessible(true);
+
+		method.invoke(metricsRegistry, singletonMap("enabled", enabled));
+
+		return metricsRegistry;
+	}
+
+	private final Action _action = (Action.Ok)request -> "Apio";
+	private final ActionSemantics _actionSemantics = ActionSemantics.ofResource(
+		Item.of("blog-postings")
+	).name(
+		"retrieve"
+	).method(
+		"GET"
+	).returns(
+		SingleModel.class
+	).permissionFunction(
+	).executeFunction(
+		__ -> null
+	).build();
+	private MetricsRegistry _disabledMetricsRegistry;
+	private MetricsRegistry _enabledMetricsRegistry;
+	private HttpServletRequest _httpServletRequest;
+
+	/**
+	 * Request that keeps its attributes in a map, like the servlet
+	 * containers do, and fails on any other method.
+	 */
+	private static class AttributesHttpServletRequest
+		extends HttpServletRequestWrapper {
+
+		@Override
+		public Object getAttribute(String name) {
+			return _attributes.get(name);
+		}
+
+		@Override
+		public void removeAttribute(String name) {
+			_attributes.remove(name);
+		}
+
+		@Override
+		public void setAttribute(String name, Object object) {
+			_attributes.put(name, object);
+		}
+
+		private AttributesHttpServletRequest() {
+			super(
+				(HttpServletRequest)Proxy.newProxyInstance(
+					MetricsRegistryBenchmark.class.getClassLoader(),
+					new Class<?>[] {HttpServletRequest.class},
+					(proxy, method, args) -> {
+						throw new UnsupportedOperationException(
+							method.getName());
+					}));
+		}
+
+		private final Map<String, Object> _attributes = new HashMap<>();
+
+	}
+
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark.url;
+
+import static java.util.Collections.emptyList;
+
+import com.liferay.apio.architect.internal.pagination.PageImpl;
+import com.liferay.apio.architect.internal.pagination.PageType;
+import com.liferay.apio.architect.internal.pagination.PaginationImpl;
+import com.liferay.apio.architect.internal.url.ApplicationURL;
+import com.liferay.apio.architect.internal.url.URLCreator;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.pagination.PageItems;
+import com.liferay.apio.architect.resource.Resource.Id;
+import com.liferay.apio.architect.resource.Resource.Item;
+import com.liferay.apio.architect.resource.Resource.Nested;
+import com.liferay.apio.architect.resource.Resource.Paged;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the URL creation of {@link URLCreator} with the previous
+ * implementation based on {@code javax.ws.rs.core.UriBuilder}.
+ *
+ * <p>
+ * Run it with {@code ../gradlew jmh -Pjmh.include=URLCreatorBenchmark} from
+ * the {@code apio-architect-benchmark} directory.
+ * </p>
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class URLCreatorBenchmark {
+
+	@Benchmark
+	public String collectionPageURL() {
+		return URLCreator.createCollectionPageURL(
+			_collectionURL, _page, PageType.NEXT);
+	}
+
+	@Benchmark
+	public Optional<String> itemResourceURL() {
+		return URLCreator.createItemResourceURL(_applicationURL, _item);
+	}
+
+	@Benchmark
+	public String legacyCollectionPageURL() {
+		return UriBuilderURLCreator.createCollectionPageURL(
+			_collectionURL, _page, PageType.NEXT);
+	}
+
+	@Benchmark
+	public Optional<String> legacyItemResourceURL() {
+		return UriBuilderURLCreator.createItemResourceURL(
+			_applicationURL, _item);
+	}
+
+	@Benchmark
+	public Optional<String> legacyNestedResourceURL() {
+		return UriBuilderURLCreator.createNestedResourceURL(
+			_applicationURL, _nested);
+	}
+
+	@Benchmark
+	public Optional<String> nestedResourceURL() {
+		return URLCreator.createNestedResourceURL(_applicationURL, _nested);
+	}
+
+	@Setup
+	public void setUp() {
+		_item = Item.of("blog-postings", Id.of(id, id));
+
+		_nested = Nested.of(_item, "comments");
+
+		PageItems<String> pageItems = new PageItems<>(emptyList(), 1000);
+
+		_page = new PageImpl<>(
+			Paged.of("blog-postings"), pageItems, new PaginationImpl(30, 2));
+
+		_collectionURL = URLCreator.createPagedResourceURL(
+			_applicationURL, Paged.of("blog-postings"));
+	}
+
+	/**
+	 * The ID of the resources. The second value needs to be percent-encoded.
+	 */
+	@Param({"42", "my post #1"})
+	public String id;
+
+	private final ApplicationURL _applicationURL =
+		() -> "http://localhost:8080/o/api/";
+	private String _collectionURL;
+	private Item _item;
+	private Nested _nested;
+	private Page _page;
+
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark.url;
+
+import com.liferay.apio.architect.internal.pagination.PageType;
+import com.liferay.apio.architect.internal.url.ApplicationURL;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.resource.Resource.Id;
+import com.liferay.apio.architect.resource.Resource.Item;
+import com.liferay.apio.architect.resource.Resource.Nested;
+
+import java.util.Optional;
+
+import javax.ws.rs.core.UriBuilder;
+
+/**
+ * Creates URLs the way {@code URLCreator} did before it stopped using {@link
+ * UriBuilder}. Used as the baseline of {@link URLCreatorBenchmark}.
+ *
+ * @author agent
+ */
+public final class UriBuilderURLCreator {
+
+	public static String createCollectionPageURL(
+		String collectionURL, Page page, PageType pageType) {
+
+		return UriBuilder.fromUri(
+			collectionURL
+		).queryParam(
+			"page", pageType.getPageNumber(page)
+		).queryParam(
+			"per_page", page.getItemsPerPage()
+		).build(
+		).toString();
+	}
+
+	public static Optional<String> createItemResourceURL(
+		ApplicationURL applicationURL, Item item) {
+
+		Optional<Id> optional = item.getIdOptional();
+
+		return optional.map(
+			id -> UriBuilder.fromPath(
+				"{name}"
+			).path(
+				"{id}"
+			).build(
+				item.getName(), id.asString()
+			)
+		).map(
+			uri -> _buildURL(applicationURL.get(), uri.toString())
+		);
+	}
+
+	public static Optional<String> createNestedResourceURL(
+		ApplicationURL applicationURL, Nested nested) {
+
+		Item parent = nested.getParentItem();
+
+		Optional<Id> optional = parent.getIdOptional();
+
+		return optional.map(
+			id -> UriBuilder.fromPath(
+				"{parentName}"
+			).path(
+				"{id}"
+			).path(
+				"{name}"
+			).build(
+				parent.getName(), id.asString(), nested.getName()
+			)
+		).map(
+			uri -> _buildURL(applicationURL.get(), uri.toString())
+		);
+	}
+
+	private static String _buildURL(String baseUrl, String relativeURL) {
+		if ((relativeURL == null) || relativeURL.isEmpty()) {
+			return null;
+		}
+
+		if (baseUrl.endsWith("/")) {
+			baseUrl = baseUrl.substring(0, baseUrl.length() - 1);
+		}
+
+		if (relativeURL.startsWith("/")) {
+			relativeURL = relativeURL.substring(1);
+		}
+
+		return String.join("/", baseUrl, relativeURL);
+	}
+
+	private UriBuilderURLCreator() {
+		throw new UnsupportedOperationException();
+	}
+
+}
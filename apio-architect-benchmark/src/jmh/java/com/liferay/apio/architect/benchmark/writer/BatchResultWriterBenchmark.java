@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark.writer;
+
+import static com.liferay.apio.architect.benchmark.writer.WriterBenchmarkUtil.SYNTHETIC;
+import static com.liferay.apio.architect.benchmark.writer.WriterBenchmarkUtil.createSyntheticModelRepresentor;
+import static com.liferay.apio.architect.benchmark.writer.WriterBenchmarkUtil.getRequestInfo;
+import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+
+import com.liferay.apio.architect.batch.BatchResult;
+import com.liferay.apio.architect.internal.message.json.BatchResultMessageMapper;
+import com.liferay.apio.architect.internal.message.json.ld.JSONLDBatchResultMessageMapper;
+import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.writer.BatchResultWriter;
+import com.liferay.apio.architect.internal.writer.BatchResultWriter.Builder;
+import com.liferay.apio.architect.representor.Representor;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the writing of the result of a batch operation with {@link
+ * BatchResultWriter}. JSON-LD is the only media type with a {@code
+ * BatchResultMessageMapper}.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class BatchResultWriterBenchmark {
+
+	@Setup
+	public void setUp() {
+		List<Long> identifiers = LongStream.range(
+			0, batchSize
+		).boxed(
+		).collect(
+			Collectors.toList()
+		);
+
+		_batchResult = new BatchResult<>(identifiers, SYNTHETIC);
+
+		_batchResultMessageMapper = new JSONLDBatchResultMessageMapper<>();
+
+		Representor<SyntheticModel> representor =
+			createSyntheticModelRepresentor(5);
+
+		_representorOptional = Optional.of(unsafeCast(representor));
+
+		_requestInfo = getRequestInfo(0);
+	}
+
+	@Benchmark
+	public Optional<String> write() {
+		BatchResultWriter<Long> batchResultWriter = Builder.batchResult(
+			_batchResult
+		).batchResultMessageMapper(
+			_batchResultMessageMapper
+		).pathFunction(
+			WriterBenchmarkUtil::getPath
+		).representorFunction(
+			__ -> _representorOptional
+		).requestInfo(
+			_requestInfo
+		).build();
+
+		return batchResultWriter.write();
+	}
+
+	/**
+	 * The number of identifiers in the batch result.
+	 */
+	@Param({"1", "100", "1000"})
+	public int batchSize;
+
+	private BatchResult<Long> _batchResult;
+	private BatchResultMessageMapper<Long> _batchResultMessageMapper;
+	private Optional<Representor<Object>> _representorOptional;
+	private RequestInfo _requestInfo;
+
+}
@@ -0,0 +1,295 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark.writer;
+
+import static com.liferay.apio.architect.benchmark.writer.WriterBenchmarkUtil.getPageMessageMapper;
+import static com.liferay.apio.architect.benchmark.writer.WriterBenchmarkUtil.getRepresentableManager;
+import static com.liferay.apio.architect.benchmark.writer.WriterBenchmarkUtil.getRequestInfo;
+import static com.liferay.apio.architect.benchmark.writer.WriterBenchmarkUtil.getSingleModelMessageMapper;
+
+import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.internal.message.json.PageMessageMapper;
+import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
+import com.liferay.apio.architect.internal.pagination.PageImpl;
+import com.liferay.apio.architect.internal.pagination.PaginationImpl;
+import com.liferay.apio.architect.internal.representor.RepresentorImpl;
+import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
+import com.liferay.apio.architect.internal.writer.PageWriter;
+import com.liferay.apio.architect.internal.writer.SingleModelWriter;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.pagination.PageItems;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.resource.Resource.Paged;
+import com.liferay.apio.architect.sample.internal.resource.BlogPostingCollectionResource;
+import com.liferay.apio.architect.sample.internal.resource.BlogPostingCollectionResource.BlogPostingIdentifier;
+import com.liferay.apio.architect.sample.internal.resource.BlogPostingCommentNestedCollectionResource.BlogPostingCommentIdentifier;
+import com.liferay.apio.architect.sample.internal.resource.PersonCollectionResource.PersonIdentifier;
+import com.liferay.apio.architect.sample.internal.type.BlogPosting;
+import com.liferay.apio.architect.sample.internal.type.Rating;
+import com.liferay.apio.architect.sample.internal.type.Review;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.io.IOException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the writing of blog postings, using the representor of the sample
+ * application, with {@link SingleModelWriter} and {@link PageWriter}.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class BlogPostingWriterBenchmark {
+
+	@Setup
+	public void setUp() {
+		BlogPostingCollectionResource blogPostingCollectionResource =
+			new BlogPostingCollectionResource();
+
+		_representor = blogPostingCollectionResource.representor(
+			new RepresentorImpl.BuilderImpl<>(
+				BlogPostingIdentifier.class,
+				BlogPostingWriterBenchmark::_getResourceName));
+
+		List<BlogPosting> blogPostings = LongStream.range(
+			0, pageSize
+		).mapToObj(
+			BenchmarkBlogPosting::new
+		).collect(
+			Collectors.toList()
+		);
+
+		_page = new PageImpl<>(
+			Paged.of(_BLOG_POSTINGS), new PageItems<>(blogPostings, 1000),
+			new PaginationImpl(pageSize, 1));
+
+		_pageMessageMapper = getPageMessageMapper(
+			mediaType,
+			getRepresentableManager(
+				Collections.singletonMap(_BLOG_POSTINGS, _representor)));
+		_requestInfo = getRequestInfo(0);
+		_singleModel = new SingleModelImpl<>(
+			new BenchmarkBlogPosting(1), _BLOG_POSTINGS);
+		_singleModelMessageMapper = getSingleModelMessageMapper(mediaType);
+	}
+
+	@Benchmark
+	public byte[] writePage(PayloadCounters payloadCounters)
+		throws IOException {
+
+		PageWriter<BlogPosting> pageWriter = PageWriter.create(
+			builder -> builder.page(
+				_page
+			).pageMessageMapper(
+				_pageMessageMapper
+			).pathFunction(
+				WriterBenchmarkUtil::getPath
+			).resourceNameFunction(
+				Optional::of
+			).representorFunction(
+				__ -> Optional.of(_representor)
+			).requestInfo(
+				_requestInfo
+			).singleModelFunction(
+				(identifier, identifierClass) -> Optional.empty()
+			).actionSemanticsFunction(
+				WriterBenchmarkUtil::getActionSemantics
+			).build());
+
+		return WriterBenchmarkUtil.writePage(
+			pageWriter, _pageMessageMapper, payloadCounters);
+	}
+
+	@Benchmark
+	public Optional<byte[]> writeSingleModel(
+		PayloadCounters payloadCounters) {
+
+		SingleModelWriter<BlogPosting> singleModelWriter =
+			SingleModelWriter.create(
+				builder -> builder.singleModel(
+					_singleModel
+				).modelMessageMapper(
+					_singleModelMessageMapper
+				).pathFunction(
+					WriterBenchmarkUtil::getPath
+				).resourceNameFunction(
+					Optional::of
+				).representorFunction(
+					__ -> Optional.of(_representor)
+				).requestInfo(
+					_requestInfo
+				).singleModelFunction(
+					(identifier, identifierClass) -> Optional.empty()
+				).actionSemanticsFunction(
+					WriterBenchmarkUtil::getActionSemantics
+				).build());
+
+		return WriterBenchmarkUtil.writeSingleModel(
+			singleModelWriter, _singleModelMessageMapper, payloadCounters);
+	}
+
+	/**
+	 * The media type of the message mappers.
+	 */
+	@Param(
+		{
+			"application/ld+json", "application/hal+json", "application/json",
+			"application/cbor", "application/x-jackson-smile"
+		}
+	)
+	public String mediaType;
+
+	/**
+	 * The number of blog postings of the page.
+	 */
+	@Param({"1", "30"})
+	public int pageSize;
+
+	private static String _getResourceName(
+		Class<? extends Identifier<?>> identifierClass) {
+
+		if (identifierClass.equals(PersonIdentifier.class)) {
+			return "people";
+		}
+
+		if (identifierClass.equals(BlogPostingCommentIdentifier.class)) {
+			return "comments";
+		}
+
+		return _BLOG_POSTINGS;
+	}
+
+	private static final String _BLOG_POSTINGS = "blog-postings";
+
+	private Page<BlogPosting> _page;
+	private PageMessageMapper<BlogPosting> _pageMessageMapper;
+	private Representor<BlogPosting> _representor;
+	private RequestInfo _requestInfo;
+	private SingleModel<BlogPosting> _singleModel;
+	private SingleModelMessageMapper<BlogPosting> _singleModelMessageMapper;
+
+	private static class BenchmarkBlogPosting implements BlogPosting {
+
+		@Override
+		public String getAlternativeHeadline() {
+			return "The alternative headline of the blog posting " + _id;
+		}
+
+		@Override
+		public String getArticleBody() {
+			return "<p>The body of the blog posting " + _id + "</p>";
+		}
+
+		@Override
+		public Long getCreatorId() {
+			return _id % 10;
+		}
+
+		@Override
+		public Date getDateCreated() {
+			return new Date(_BASE_TIME + _id);
+		}
+
+		@Override
+		public Date getDateModified() {
+			return new Date(_BASE_TIME + (_id * 2));
+		}
+
+		@Override
+		public String getFileFormat() {
+			return "text/html";
+		}
+
+		@Override
+		public String getHeadline() {
+			return "The headline of the blog posting " + _id;
+		}
+
+		@Override
+		public Long getId() {
+			return _id;
+		}
+
+		@Override
+		public List<Review> getReviews() {
+			return Arrays.asList(
+				new BenchmarkReview(_id, 4L), new BenchmarkReview(_id + 1, 2L));
+		}
+
+		private BenchmarkBlogPosting(long id) {
+			_id = id;
+		}
+
+		private static final long _BASE_TIME = 1514764800000L;
+
+		private final long _id;
+
+	}
+
+	private static class BenchmarkReview implements Review {
+
+		@Override
+		public Rating getRating() {
+			return new Rating() {
+
+				@Override
+				public Long getCreatorId() {
+					return _creatorId;
+				}
+
+				@Override
+				public Long getRatingValue() {
+					return _ratingValue;
+				}
+
+			};
+		}
+
+		@Override
+		public String getReviewBody() {
+			return "A review of " + _creatorId;
+		}
+
+		private BenchmarkReview(long creatorId, long ratingValue) {
+			_creatorId = creatorId;
+			_ratingValue = ratingValue;
+		}
+
+		private final long _creatorId;
+		private final long _ratingValue;
+
+	}
+
+}
@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark.writer;
+
+import static com.liferay.apio.architect.benchmark.writer.WriterBenchmarkUtil.createSyntheticModelRepresentor;
+import static com.liferay.apio.architect.benchmark.writer.WriterBenchmarkUtil.getRequestInfo;
+
+import com.liferay.apio.architect.documentation.contributor.CustomDocumentation;
+import com.liferay.apio.architect.internal.action.ActionSemantics;
+import com.liferay.apio.architect.internal.documentation.Documentation;
+import com.liferay.apio.architect.internal.documentation.contributor.CustomDocumentationImpl;
+import com.liferay.apio.architect.internal.message.json.DocumentationMessageMapper;
+import com.liferay.apio.architect.internal.message.json.ld.JSONLDDocumentationMessageMapper;
+import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.writer.DocumentationWriter;
+import com.liferay.apio.architect.operation.HTTPMethod;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.resource.Resource;
+import com.liferay.apio.architect.resource.Resource.Item;
+import com.liferay.apio.architect.resource.Resource.Paged;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the writing of the API documentation with {@link
+ * DocumentationWriter}. JSON-LD is the only media type with a {@code
+ * DocumentationMessageMapper}.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class DocumentationWriterBenchmark {
+
+	@Setup
+	public void setUp() {
+		_representors = new LinkedHashMap<>();
+
+		for (int i = 0; i < resourceCount; i++) {
+			_representors.put(
+				"resource" + i, createSyntheticModelRepresentor(fieldCount));
+		}
+
+		CustomDocumentation.Builder customDocumentationBuilder =
+			new CustomDocumentationImpl.BuilderImpl();
+
+		customDocumentationBuilder.addDescription(
+			"resource0", "The first resource");
+
+		_customDocumentation = customDocumentationBuilder.build();
+
+		_documentationMessageMapper = new JSONLDDocumentationMessageMapper();
+		_requestInfo = getRequestInfo(0);
+	}
+
+	@Benchmark
+	public String write() {
+		Stream<Resource> resourceStream = _representors.keySet(
+		).stream(
+		).flatMap(
+			name -> Stream.of(Paged.of(name), Item.of(name))
+		);
+
+		Documentation documentation = new Documentation(
+			() -> Optional.of(() -> "Benchmark API"),
+			() -> Optional.of(() -> "An API with synthetic resources"),
+			() -> Optional.of(() -> "http://localhost:8080/o/api"),
+			() -> _representors, resourceStream,
+			DocumentationWriterBenchmark::_getActionSemantics,
+			() -> _customDocumentation);
+
+		DocumentationWriter documentationWriter = DocumentationWriter.create(
+			builder -> builder.documentation(
+				documentation
+			).documentationMessageMapper(
+				_documentationMessageMapper
+			).requestInfo(
+				_requestInfo
+			).typeFunction(
+				__ -> Optional.of("Thing")
+			).build());
+
+		return documentationWriter.write();
+	}
+
+	/**
+	 * The number of fields of each representor.
+	 */
+	@Param({"5", "20"})
+	public int fieldCount;
+
+	/**
+	 * The number of documented resources.
+	 */
+	@Param({"1", "10", "50"})
+	public int resourceCount;
+
+	private static ActionSemantics _createActionSemantics(
+		Resource resource, String name, HTTPMethod httpMethod,
+		Class<?> returnClass) {
+
+		return ActionSemantics.ofResource(
+			resource
+		).name(
+			name
+		).method(
+			httpMethod
+		).returns(
+			returnClass
+		).permissionFunction(
+		).executeFunction(
+			__ -> null
+		).build();
+	}
+
+	private static Stream<ActionSemantics> _getActionSemantics(
+		Resource resource) {
+
+		if (resource instanceof Paged) {
+			return Stream.of(
+				_createActionSemantics(
+					resource, "retrieve", HTTPMethod.GET, Page.class),
+				_createActionSemantics(
+					resource, "create", HTTPMethod.POST, SingleModel.class));
+		}
+
+		return Stream.of(
+			_createActionSemantics(
+				resource, "retrieve", HTTPMethod.GET, SingleModel.class),
+			_createActionSemantics(
+				resource, "replace", HTTPMethod.PUT, SingleModel.class),
+			_createActionSemantics(
+				resource, "remove", HTTPMethod.DELETE, Void.class));
+	}
+
+	private CustomDocumentation _customDocumentation;
+	private DocumentationMessageMapper _documentationMessageMapper;
+	private Map<String, Representor> _representors;
+	private RequestInfo _requestInfo;
+
+}
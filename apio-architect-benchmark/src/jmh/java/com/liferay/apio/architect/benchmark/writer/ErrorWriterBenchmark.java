@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark.writer;
+
+import static com.liferay.apio.architect.benchmark.writer.WriterBenchmarkUtil.getErrorMessageMapper;
+
+import com.liferay.apio.architect.error.APIError;
+import com.liferay.apio.architect.internal.message.json.ErrorMessageMapper;
+import com.liferay.apio.architect.internal.writer.ErrorWriter;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the writing of an {@link APIError} with {@link ErrorWriter}, for
+ * every media type that has an {@code ErrorMessageMapper}. This is the only
+ * writer supported by Problem JSON.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ErrorWriterBenchmark {
+
+	@Setup
+	public void setUp() {
+		_errorMessageMapper = getErrorMessageMapper(mediaType);
+	}
+
+	@Benchmark
+	public String write() {
+		return ErrorWriter.writeError(_errorMessageMapper, _API_ERROR);
+	}
+
+	/**
+	 * The media type of the message mapper.
+	 */
+	@Param(
+		{
+			"application/ld+json", "application/hal+json",
+			"application/problem+json"
+		}
+	)
+	public String mediaType;
+
+	private static final APIError _API_ERROR = new APIError(
+		new IllegalArgumentException(), "Not Found",
+		"The resource synthetic/42 doesn't exist", "not-found", 404);
+
+	private ErrorMessageMapper _errorMessageMapper;
+
+}
@@ -0,0 +1,147 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark.writer;
+
+import static com.liferay.apio.architect.benchmark.writer.WriterBenchmarkUtil.SYNTHETIC;
+import static com.liferay.apio.architect.benchmark.writer.WriterBenchmarkUtil.createSyntheticModelRepresentor;
+import static com.liferay.apio.architect.benchmark.writer.WriterBenchmarkUtil.getPageMessageMapper;
+import static com.liferay.apio.architect.benchmark.writer.WriterBenchmarkUtil.getRepresentableManager;
+import static com.liferay.apio.architect.benchmark.writer.WriterBenchmarkUtil.getRequestInfo;
+import static com.liferay.apio.architect.benchmark.writer.WriterBenchmarkUtil.writePage;
+
+import com.liferay.apio.architect.internal.message.json.PageMessageMapper;
+import com.liferay.apio.architect.internal.pagination.PageImpl;
+import com.liferay.apio.architect.internal.pagination.PaginationImpl;
+import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.writer.PageWriter;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.pagination.PageItems;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.resource.Resource.Paged;
+
+import java.io.IOException;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the writing of a page of {@link SyntheticModel} with {@link
+ * PageWriter}, for every media type that has a {@code PageMessageMapper}.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class PageWriterBenchmark {
+
+	@Setup
+	public void setUp() {
+		_representor = createSyntheticModelRepresentor(fieldCount);
+
+		List<SyntheticModel> items = LongStream.range(
+			0, pageSize
+		).mapToObj(
+			id -> new SyntheticModel(id * 10)
+		).collect(
+			Collectors.toList()
+		);
+
+		PageItems<SyntheticModel> pageItems = new PageItems<>(
+			items, pageSize * 10);
+
+		_page = new PageImpl<>(
+			Paged.of(SYNTHETIC), pageItems, new PaginationImpl(pageSize, 2));
+
+		_pageMessageMapper = getPageMessageMapper(
+			mediaType,
+			getRepresentableManager(
+				Collections.singletonMap(SYNTHETIC, _representor)));
+		_requestInfo = getRequestInfo(embeddedDepth);
+	}
+
+	@Benchmark
+	public byte[] write(PayloadCounters payloadCounters) throws IOException {
+		PageWriter<SyntheticModel> pageWriter = PageWriter.create(
+			builder -> builder.page(
+				_page
+			).pageMessageMapper(
+				_pageMessageMapper
+			).pathFunction(
+				WriterBenchmarkUtil::getPath
+			).resourceNameFunction(
+				Optional::of
+			).representorFunction(
+				__ -> Optional.of(_representor)
+			).requestInfo(
+				_requestInfo
+			).singleModelFunction(
+				WriterBenchmarkUtil::getSingleModel
+			).actionSemanticsFunction(
+				WriterBenchmarkUtil::getActionSemantics
+			).build());
+
+		return writePage(pageWriter, _pageMessageMapper, payloadCounters);
+	}
+
+	/**
+	 * The number of nested levels of the {@code child} linked model that are
+	 * embedded in every item.
+	 */
+	@Param({"0", "1"})
+	public int embeddedDepth;
+
+	/**
+	 * The number of fields of the representor.
+	 */
+	@Param({"5", "20"})
+	public int fieldCount;
+
+	/**
+	 * The media type of the message mapper.
+	 */
+	@Param(
+		{
+			"application/ld+json", "application/hal+json", "application/json",
+			"application/cbor", "application/x-jackson-smile"
+		}
+	)
+	public String mediaType;
+
+	/**
+	 * The number of items of the page.
+	 */
+	@Param({"1", "30", "100"})
+	public int pageSize;
+
+	private Page<SyntheticModel> _page;
+	private PageMessageMapper<SyntheticModel> _pageMessageMapper;
+	private Representor<SyntheticModel> _representor;
+	private RequestInfo _requestInfo;
+
+}
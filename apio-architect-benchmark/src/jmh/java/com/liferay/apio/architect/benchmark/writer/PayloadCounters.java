@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark.writer;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Counts the bytes of the payloads written by a benchmark during each
+ * iteration, so the size of every media type's encoding is reported next to
+ * its throughput.
+ *
+ * <p>
+ * Benchmarks must record the payload written by each operation with {@link
+ * #record(byte[])}. Every public field and method of this class is reported as
+ * a secondary result, so no other public members must be added.
+ * </p>
+ *
+ * @author agent
+ */
+@AuxCounters(AuxCounters.Type.EVENTS)
+@State(Scope.Thread)
+public class PayloadCounters {
+
+	/**
+	 * Returns the average size, in bytes, of the payloads written during the
+	 * current iteration.
+	 *
+	 * @return the bytes written per operation
+	 */
+	public double bytesPerOp() {
+		if (_operations == 0) {
+			return 0;
+		}
+
+		return (double)_bytes / _operations;
+	}
+
+	@Setup(Level.Iteration)
+	public void setup() {
+		_bytes = 0;
+		_operations = 0;
+	}
+
+	byte[] record(byte[] payload) {
+		_bytes += payload.length;
+		_operations++;
+
+		return payload;
+	}
+
+	private long _bytes;
+	private long _operations;
+
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark.writer;
+
+import static com.liferay.apio.architect.benchmark.writer.WriterBenchmarkUtil.SYNTHETIC;
+import static com.liferay.apio.architect.benchmark.writer.WriterBenchmarkUtil.createSyntheticModelRepresentor;
+import static com.liferay.apio.architect.benchmark.writer.WriterBenchmarkUtil.getRequestInfo;
+import static com.liferay.apio.architect.benchmark.writer.WriterBenchmarkUtil.getSingleModelMessageMapper;
+import static com.liferay.apio.architect.benchmark.writer.WriterBenchmarkUtil.writeSingleModel;
+
+import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
+import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
+import com.liferay.apio.architect.internal.writer.SingleModelWriter;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the writing of a single {@link SyntheticModel} with {@link
+ * SingleModelWriter}, for every media type that has a {@code
+ * SingleModelMessageMapper}.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class SingleModelWriterBenchmark {
+
+	@Setup
+	public void setUp() {
+		_representor = createSyntheticModelRepresentor(fieldCount);
+		_requestInfo = getRequestInfo(embeddedDepth);
+		_singleModel = new SingleModelImpl<>(new SyntheticModel(1), SYNTHETIC);
+		_singleModelMessageMapper = getSingleModelMessageMapper(mediaType);
+	}
+
+	@Benchmark
+	public Optional<byte[]> write(PayloadCounters payloadCounters) {
+		SingleModelWriter<SyntheticModel> singleModelWriter =
+			SingleModelWriter.create(
+				builder -> builder.singleModel(
+					_singleModel
+				).modelMessageMapper(
+					_singleModelMessageMapper
+				).pathFunction(
+					WriterBenchmarkUtil::getPath
+				).resourceNameFunction(
+					Optional::of
+				).representorFunction(
+					__ -> Optional.of(_representor)
+				).requestInfo(
+					_requestInfo
+				).singleModelFunction(
+					WriterBenchmarkUtil::getSingleModel
+				).actionSemanticsFunction(
+					WriterBenchmarkUtil::getActionSemantics
+				).build());
+
+		return writeSingleModel(
+			singleModelWriter, _singleModelMessageMapper, payloadCounters);
+	}
+
+	/**
+	 * The number of nested levels of the {@code child} linked model that are
+	 * embedded.
+	 */
+	@Param({"0", "1", "3"})
+	public int embeddedDepth;
+
+	/**
+	 * The number of fields of the representor.
+	 */
+	@Param({"5", "20", "50"})
+	public int fieldCount;
+
+	/**
+	 * The media type of the message mapper.
+	 */
+	@Param(
+		{
+			"application/ld+json", "application/hal+json", "application/json",
+			"application/cbor", "application/x-jackson-smile"
+		}
+	)
+	public String mediaType;
+
+	private Representor<SyntheticModel> _representor;
+	private RequestInfo _requestInfo;
+	private SingleModel<SyntheticModel> _singleModel;
+	private SingleModelMessageMapper<SyntheticModel> _singleModelMessageMapper;
+
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark.writer;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Represents a model whose field values are derived from its ID, so models
+ * can be created on demand for any ID without storing them.
+ *
+ * @author agent
+ */
+public class SyntheticModel {
+
+	public SyntheticModel(long id) {
+		_id = id;
+	}
+
+	public boolean getBoolean(int index) {
+		if (((_id + index) % 2) == 0) {
+			return true;
+		}
+
+		return false;
+	}
+
+	public long getChildId() {
+		return _id + 1;
+	}
+
+	public Date getDate(int index) {
+		return new Date(_BASE_TIME + (_id * 1000) + index);
+	}
+
+	public long getId() {
+		return _id;
+	}
+
+	public Number getNumber(int index) {
+		return (_id * 100) + index;
+	}
+
+	public String getString(int index) {
+		return "Value " + index + " of the synthetic model " + _id;
+	}
+
+	public List<String> getTags() {
+		return Arrays.asList("tag" + (_id % 3), "tag" + (_id % 5));
+	}
+
+	private static final long _BASE_TIME = 1514764800000L;
+
+	private final long _id;
+
+}
@@ -0,0 +1,500 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark.writer;
+
+import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+import static com.liferay.apio.architect.operation.HTTPMethod.DELETE;
+import static com.liferay.apio.architect.operation.HTTPMethod.POST;
+import static com.liferay.apio.architect.operation.HTTPMethod.PUT;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.internal.action.ActionSemantics;
+import com.liferay.apio.architect.internal.message.json.BinaryJSONFormat;
+import com.liferay.apio.architect.internal.message.json.ErrorMessageMapper;
+import com.liferay.apio.architect.internal.message.json.PageMessageMapper;
+import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
+import com.liferay.apio.architect.internal.message.json.cbor.CBORPageMessageMapper;
+import com.liferay.apio.architect.internal.message.json.cbor.CBORSingleModelMessageMapper;
+import com.liferay.apio.architect.internal.message.json.hal.HALErrorMessageMapper;
+import com.liferay.apio.architect.internal.message.json.hal.HALPageMessageMapper;
+import com.liferay.apio.architect.internal.message.json.hal.HALSingleModelMessageMapper;
+import com.liferay.apio.architect.internal.message.json.ld.JSONLDContextManager;
+import com.liferay.apio.architect.internal.message.json.ld.JSONLDErrorMessageMapper;
+import com.liferay.apio.architect.internal.message.json.ld.JSONLDPageMessageMapper;
+import com.liferay.apio.architect.internal.message.json.ld.JSONLDSingleModelMessageMapper;
+import com.liferay.apio.architect.internal.message.json.plain.PlainJSONPageMessageMapper;
+import com.liferay.apio.architect.internal.message.json.plain.PlainJSONSingleModelMessageMapper;
+import com.liferay.apio.architect.internal.message.json.problem.ProblemJSONErrorMessageMapper;
+import com.liferay.apio.architect.internal.message.json.smile.SmilePageMessageMapper;
+import com.liferay.apio.architect.internal.message.json.smile.SmileSingleModelMessageMapper;
+import com.liferay.apio.architect.internal.representor.RepresentorImpl;
+import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
+import com.liferay.apio.architect.internal.writer.PageWriter;
+import com.liferay.apio.architect.internal.writer.SingleModelWriter;
+import com.liferay.apio.architect.operation.HTTPMethod;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.resource.Resource;
+import com.liferay.apio.architect.resource.Resource.Item;
+import com.liferay.apio.architect.resource.Resource.Paged;
+import com.liferay.apio.architect.single.model.SingleModel;
+import com.liferay.apio.architect.uri.Path;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Provides the collaborators needed by the writers in the benchmarks: the
+ * message mappers of each media type (including the binary CBOR and Smile
+ * ones), a {@link Representor} for {@link SyntheticModel} with a configurable
+ * number of fields, and the functions that resolve paths, embedded models and
+ * actions.
+ *
+ * <p>
+ * This class shouldn't be instantiated.
+ * </p>
+ *
+ * @author agent
+ */
+public final class WriterBenchmarkUtil {
+
+	/**
+	 * The name of the synthetic models' resource.
+	 */
+	public static final String SYNTHETIC = "synthetic";
+
+	/**
+	 * Creates the {@code Representor} of {@link SyntheticModel}. The
+	 * representor has {@code fieldCount} fields of different types, a linked
+	 * model ({@code child}), which can be embedded to any depth, a nested list
+	 * and a related collection.
+	 *
+	 * @param  fieldCount the number of fields of the representor
+	 * @return the representor
+	 */
+	public static Representor<SyntheticModel> createSyntheticModelRepresentor(
+		int fieldCount) {
+
+		Representor.Builder<SyntheticModel, Long> builder =
+			new RepresentorImpl.BuilderImpl<>(
+				SyntheticIdentifier.class, __ -> SYNTHETIC);
+
+		Representor.FirstStep<SyntheticModel> firstStep = builder.types(
+			"Thing"
+		).identifier(
+			SyntheticModel::getId
+		);
+
+		for (int i = 0; i < fieldCount; i++) {
+			int index = i;
+
+			switch (i % 4) {
+				case 0:
+					firstStep.addString(
+						"string" + i,
+						syntheticModel -> syntheticModel.getString(index));
+
+					break;
+				case 1:
+					firstStep.addNumber(
+						"number" + i,
+						syntheticModel -> syntheticModel.getNumber(index));
+
+					break;
+				case 2:
+					firstStep.addBoolean(
+						"boolean" + i,
+						syntheticModel -> syntheticModel.getBoolean(index));
+
+					break;
+				default:
+					firstStep.addDate(
+						"date" + i,
+						syntheticModel -> syntheticModel.getDate(index));
+			}
+		}
+
+		return firstStep.addLinkedModel(
+			"child", SyntheticIdentifier.class, SyntheticModel::getChildId
+		).addNestedList(
+			"tags", SyntheticModel::getTags,
+			nestedBuilder -> nestedBuilder.types(
+				"Tag"
+			).addString(
+				"name", tag -> tag
+			).build()
+		).addRelatedCollection(
+			"children", SyntheticIdentifier.class
+		).build();
+	}
+
+	/**
+	 * Returns the actions of a synthetic resource.
+	 *
+	 * @param  resource the resource
+	 * @return the actions of the resource
+	 */
+	public static Stream<ActionSemantics> getActionSemantics(
+		Resource resource) {
+
+		if (resource instanceof Item) {
+			return Stream.of(
+				_createActionSemantics(resource, "replace", PUT),
+				_createActionSemantics(resource, "remove", DELETE));
+		}
+
+		if (resource instanceof Paged) {
+			return Stream.of(_createActionSemantics(resource, "create", POST));
+		}
+
+		return Stream.empty();
+	}
+
+	/**
+	 * Returns the {@code ErrorMessageMapper} of a media type.
+	 *
+	 * @param  mediaType the media type
+	 * @return the message mapper
+	 */
+	public static ErrorMessageMapper getErrorMessageMapper(String mediaType) {
+		if (_JSON_LD.equals(mediaType)) {
+			return new JSONLDErrorMessageMapper();
+		}
+
+		if (_HAL.equals(mediaType)) {
+			return new HALErrorMessageMapper();
+		}
+
+		if (_PROBLEM_JSON.equals(mediaType)) {
+			return new ProblemJSONErrorMessageMapper();
+		}
+
+		throw new IllegalArgumentException(
+			"Unsupported media type " + mediaType);
+	}
+
+	/**
+	 * Returns the {@code PageMessageMapper} of a media type.
+	 *
+	 * @param  mediaType the media type
+	 * @param  representableManager the manager used by mappers that need to
+	 *         know the representors
+	 * @return the message mapper
+	 */
+	public static <T> PageMessageMapper<T> getPageMessageMapper(
+		String mediaType, RepresentableManager representableManager) {
+
+		if (_JSON_LD.equals(mediaType)) {
+			return new BenchmarkJSONLDPageMessageMapper<>();
+		}
+
+		if (_HAL.equals(mediaType)) {
+			return new BenchmarkHALPageMessageMapper<>(representableManager);
+		}
+
+		if (_PLAIN_JSON.equals(mediaType)) {
+			return new PlainJSONPageMessageMapper<>();
+		}
+
+		if (_CBOR.equals(mediaType)) {
+			return new CBORPageMessageMapper<>();
+		}
+
+		if (_SMILE.equals(mediaType)) {
+			return new SmilePageMessageMapper<>();
+		}
+
+		throw new IllegalArgumentException(
+			"Unsupported media type " + mediaType);
+	}
+
+	/**
+	 * Returns the {@link Path} of a model.
+	 *
+	 * @param  resourceName the model's resource name
+	 * @param  identifier the model's identifier
+	 * @return the path
+	 */
+	public static Optional<Path> getPath(
+		String resourceName, Object identifier) {
+
+		return Optional.of(new Path(resourceName, String.valueOf(identifier)));
+	}
+
+	/**
+	 * Returns a {@code RepresentableManager} that only knows the provided
+	 * representors.
+	 *
+	 * @param  representors the representors, by resource name
+	 * @return the manager
+	 */
+	public static RepresentableManager getRepresentableManager(
+		Map<String, Representor> representors) {
+
+		return new RepresentableManager() {
+
+			@Override
+			public <T> Optional<Representor<T>> getRepresentorOptional(
+				String name) {
+
+				return Optional.ofNullable(
+					representors.get(name)
+				).map(
+					representor -> unsafeCast(representor)
+				);
+			}
+
+			@Override
+			public Map<String, Representor> getRepresentors() {
+				return Collections.unmodifiableMap(representors);
+			}
+
+		};
+	}
+
+	/**
+	 * Returns a {@link RequestInfo} that embeds the {@code child} linked model
+	 * up to the provided depth.
+	 *
+	 * @param  embeddedDepth the number of nested levels to embed
+	 * @return the request info
+	 */
+	public static RequestInfo getRequestInfo(int embeddedDepth) {
+		return RequestInfo.create(
+			builder -> builder.httpServletRequest(
+				null
+			).serverURL(
+				() -> "http://localhost:8080"
+			).applicationURL(
+				() -> "http://localhost:8080/o/api"
+			).embedded(
+				embedded -> _getDepth(embedded) <= embeddedDepth
+			).fields(
+				__ -> string -> true
+			).language(
+				Locale::getDefault
+			).build());
+	}
+
+	/**
+	 * Returns the {@code SingleModel} of a synthetic model, used to write
+	 * embedded models.
+	 *
+	 * @param  identifier the model's identifier
+	 * @param  identifierClass the identifier's class
+	 * @return the single model, if the identifier is a synthetic one; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public static Optional<SingleModel> getSingleModel(
+		Object identifier, Class<? extends Identifier> identifierClass) {
+
+		if (!(identifier instanceof Long) ||
+			!SyntheticIdentifier.class.equals(identifierClass)) {
+
+			return Optional.empty();
+		}
+
+		return Optional.of(
+			new SingleModelImpl<>(
+				new SyntheticModel((Long)identifier), SYNTHETIC));
+	}
+
+	/**
+	 * Returns the {@code SingleModelMessageMapper} of a media type.
+	 *
+	 * @param  mediaType the media type
+	 * @return the message mapper
+	 */
+	public static <T> SingleModelMessageMapper<T> getSingleModelMessageMapper(
+		String mediaType) {
+
+		if (_JSON_LD.equals(mediaType)) {
+			return new BenchmarkJSONLDSingleModelMessageMapper<>();
+		}
+
+		if (_HAL.equals(mediaType)) {
+			return new HALSingleModelMessageMapper<>();
+		}
+
+		if (_PLAIN_JSON.equals(mediaType)) {
+			return new PlainJSONSingleModelMessageMapper<>();
+		}
+
+		if (_CBOR.equals(mediaType)) {
+			return new CBORSingleModelMessageMapper<>();
+		}
+
+		if (_SMILE.equals(mediaType)) {
+			return new SmileSingleModelMessageMapper<>();
+		}
+
+		throw new IllegalArgumentException(
+			"Unsupported media type " + mediaType);
+	}
+
+	/**
+	 * Writes a page with the provided writer, and records the size of the
+	 * written payload. If the page's message mapper has a binary encoding, the
+	 * page is written to a byte array with that encoding, as the body writers
+	 * do. Otherwise, the written string is encoded with UTF-8, as the body
+	 * writers do too, so the size of every media type's payload is comparable.
+	 *
+	 * @param  pageWriter the page's writer
+	 * @param  pageMessageMapper the page's message mapper
+	 * @param  payloadCounters the counters that record the payload's size
+	 * @return the written page
+	 * @throws IOException if the page couldn't be written
+	 */
+	public static byte[] writePage(
+			PageWriter<?> pageWriter, PageMessageMapper<?> pageMessageMapper,
+			PayloadCounters payloadCounters)
+		throws IOException {
+
+		Optional<BinaryJSONFormat> optional =
+			pageMessageMapper.getBinaryJSONFormatOptional();
+
+		if (!optional.isPresent()) {
+			String result = pageWriter.write();
+
+			return payloadCounters.record(result.getBytes(UTF_8));
+		}
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		pageWriter.write(byteArrayOutputStream);
+
+		return payloadCounters.record(byteArrayOutputStream.toByteArray());
+	}
+
+	/**
+	 * Writes a single model with the provided writer, and records the size of
+	 * the written payload. If the single model's message mapper has a binary
+	 * encoding, the single model is written with that encoding, as the body
+	 * writers do. Otherwise, the written string is encoded with UTF-8.
+	 *
+	 * @param  singleModelWriter the single model's writer
+	 * @param  singleModelMessageMapper the single model's message mapper
+	 * @param  payloadCounters the counters that record the payload's size
+	 * @return the written single model, if the writer found its representor
+	 *         and path; {@code Optional#empty()} otherwise
+	 */
+	public static Optional<byte[]> writeSingleModel(
+		SingleModelWriter<?> singleModelWriter,
+		SingleModelMessageMapper<?> singleModelMessageMapper,
+		PayloadCounters payloadCounters) {
+
+		Optional<BinaryJSONFormat> optional =
+			singleModelMessageMapper.getBinaryJSONFormatOptional();
+
+		Optional<byte[]> bytesOptional;
+
+		if (optional.isPresent()) {
+			bytesOptional = singleModelWriter.write(optional.get());
+		}
+		else {
+			bytesOptional = singleModelWriter.write(
+			).map(
+				result -> result.getBytes(UTF_8)
+			);
+		}
+
+		return bytesOptional.map(payloadCounters::record);
+	}
+
+	private static ActionSemantics _createActionSemantics(
+		Resource resource, String name, HTTPMethod httpMethod) {
+
+		return ActionSemantics.ofResource(
+			resource
+		).name(
+			name
+		).method(
+			httpMethod
+		).returns(
+			Void.class
+		).permissionFunction(
+		).executeFunction(
+			__ -> null
+		).build();
+	}
+
+	private static int _getDepth(String embedded) {
+		int depth = 1;
+
+		for (int i = 0; i < embedded.length(); i++) {
+			if (embedded.charAt(i) == '.') {
+				depth++;
+			}
+		}
+
+		return depth;
+	}
+
+	private WriterBenchmarkUtil() {
+		throw new UnsupportedOperationException();
+	}
+
+	private static final String _CBOR = "application/cbor";
+
+	private static final String _HAL = "application/hal+json";
+
+	private static final String _JSON_LD = "application/ld+json";
+
+	private static final String _PLAIN_JSON = "application/json";
+
+	private static final String _PROBLEM_JSON = "application/problem+json";
+
+	private static final String _SMILE = "application/x-jackson-smile";
+
+	private static class BenchmarkHALPageMessageMapper<T>
+		extends HALPageMessageMapper<T> {
+
+		private BenchmarkHALPageMessageMapper(
+			RepresentableManager representableManager) {
+
+			this.representableManager = representableManager;
+		}
+
+	}
+
+	private static class BenchmarkJSONLDPageMessageMapper<T>
+		extends JSONLDPageMessageMapper<T> {
+
+		private BenchmarkJSONLDPageMessageMapper() {
+			jsonLDContextManager = new JSONLDContextManager();
+		}
+
+	}
+
+	private static class BenchmarkJSONLDSingleModelMessageMapper<T>
+		extends JSONLDSingleModelMessageMapper<T> {
+
+		private BenchmarkJSONLDSingleModelMessageMapper() {
+			jsonLDContextManager = new JSONLDContextManager();
+		}
+
+	}
+
+}
@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event emitted for every execution of an action.
+ *
+ * @author agent
+ * @review
+ */
+@Category({"Apio Architect", "Actions"})
+@Description("Execution of an action, excluding the writing of its response")
+@Label("Action Execution")
+@Name("com.liferay.apio.architect.ActionExecution")
+final class ActionEvent extends Event {
+
+	@Label("Action")
+	String action;
+
+	@Label("HTTP Method")
+	String method;
+
+	@Description(
+		"\"success\", or the class name of the thrown exception or of the " +
+			"cause of the returned failure"
+	)
+	@Label("Outcome")
+	String outcome;
+
+	@Label("Resource")
+	String resource;
+
+}
@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event emitted for every embedded or linked resource fetched
+ * while writing a response.
+ *
+ * @author agent
+ * @review
+ */
+@Category({"Apio Architect", "Serialization"})
+@Description("Retrieval of a resource embedded in a response")
+@Label("Embedded Fetch")
+@Name("com.liferay.apio.architect.EmbeddedFetch")
+final class EmbeddedFetchEvent extends Event {
+
+	@Label("Found")
+	boolean found;
+
+	@Label("Identifier")
+	String identifier;
+
+	@Label("Identifier Class")
+	String identifierClass;
+
+}
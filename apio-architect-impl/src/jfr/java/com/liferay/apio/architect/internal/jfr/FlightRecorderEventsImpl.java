@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jfr;
+
+import com.liferay.apio.architect.internal.action.ActionSemantics;
+import com.liferay.apio.architect.internal.annotation.Action;
+import com.liferay.apio.architect.internal.wiring.osgi.alias.EmptyFunction;
+import com.liferay.apio.architect.resource.Resource;
+
+import io.vavr.control.Try;
+
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Emits the Flight Recorder events. This is the only class, besides the events
+ * themselves, that links against {@code jdk.jfr}, so {@link
+ * FlightRecorderUtil} only loads it, reflectively, once it has checked that
+ * Flight Recorder is available.
+ *
+ * <p>
+ * Events are always created and timed, but their fields are only filled in,
+ * and the events committed, if a recording has enabled them. While no
+ * recording is running, the JIT removes the events altogether.
+ * </p>
+ *
+ * @author agent
+ * @review
+ */
+final class FlightRecorderEventsImpl implements FlightRecorderEvents {
+
+	@Override
+	public Action instrument(ActionSemantics actionSemantics, Action action) {
+		Resource resource = actionSemantics.getResource();
+
+		String resourceName = resource.getName();
+		String actionName = actionSemantics.getActionName();
+		String httpMethod = actionSemantics.getHTTPMethod();
+
+		if (action instanceof Action.NoContent) {
+			return (Action.NoContent)request -> _execute(
+				resourceName, actionName, httpMethod, action, request);
+		}
+
+		return (Action.Ok)request -> _execute(
+			resourceName, actionName, httpMethod, action, request);
+	}
+
+	@Override
+	public <T> Optional<T> recordEmbeddedFetch(
+		String identifierClassName, Object identifier,
+		Supplier<Optional<T>> supplier) {
+
+		EmbeddedFetchEvent embeddedFetchEvent = new EmbeddedFetchEvent();
+
+		embeddedFetchEvent.begin();
+
+		Optional<T> optional = supplier.get();
+
+		embeddedFetchEvent.end();
+
+		if (embeddedFetchEvent.shouldCommit()) {
+			embeddedFetchEvent.found = optional.isPresent();
+			embeddedFetchEvent.identifier = String.valueOf(identifier);
+			embeddedFetchEvent.identifierClass = identifierClassName;
+
+			embeddedFetchEvent.commit();
+		}
+
+		return optional;
+	}
+
+	@Override
+	public void recordManagerCacheRecomputation(
+		String cacheName, EmptyFunction computeEmptyFunction) {
+
+		ManagerCacheRecomputationEvent managerCacheRecomputationEvent =
+			new ManagerCacheRecomputationEvent();
+
+		managerCacheRecomputationEvent.begin();
+
+		computeEmptyFunction.invoke();
+
+		managerCacheRecomputationEvent.end();
+
+		if (managerCacheRecomputationEvent.shouldCommit()) {
+			managerCacheRecomputationEvent.cache = cacheName;
+
+			managerCacheRecomputationEvent.commit();
+		}
+	}
+
+	@Override
+	public long recordWrite(
+		String writerName, String mediaType, int items,
+		LongSupplier supplier) {
+
+		WriterEvent writerEvent = new WriterEvent();
+
+		writerEvent.begin();
+
+		long bytes = supplier.getAsLong();
+
+		writerEvent.end();
+
+		if (writerEvent.shouldCommit()) {
+			writerEvent.bytes = bytes;
+			writerEvent.items = items;
+			writerEvent.mediaType = mediaType;
+			writerEvent.writer = writerName;
+
+			writerEvent.commit();
+		}
+
+		return bytes;
+	}
+
+	private static Object _execute(
+		String resourceName, String actionName, String httpMethod,
+		Action action, HttpServletRequest request) {
+
+		ActionEvent actionEvent = new ActionEvent();
+
+		actionEvent.begin();
+
+		String outcome = "success";
+
+		try {
+			Object result = action.execute(request);
+
+			if ((result instanceof Try) && ((Try)result).isFailure()) {
+				Throwable throwable = ((Try)result).getCause();
+
+				Class<? extends Throwable> clazz = throwable.getClass();
+
+				outcome = clazz.getName();
+			}
+
+			return result;
+		}
+		catch (RuntimeException re) {
+			outcome = re.getClass().getName();
+
+			throw re;
+		}
+		finally {
+			actionEvent.end();
+
+			if (actionEvent.shouldCommit()) {
+				actionEvent.action = actionName;
+				actionEvent.method = httpMethod;
+				actionEvent.outcome = outcome;
+				actionEvent.resource = resourceName;
+
+				actionEvent.commit();
+			}
+		}
+	}
+
+}
@@ -0,0 +1,40 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event emitted every time one of the maps of the {@code
+ * ManagerCache} has to be computed again, usually after a bundle registers or
+ * unregisters a component.
+ *
+ * @author agent
+ * @review
+ */
+@Category({"Apio Architect", "Cache"})
+@Description("Recomputation of the data held by the manager cache")
+@Label("Manager Cache Recomputation")
+@Name("com.liferay.apio.architect.ManagerCacheRecomputation")
+final class ManagerCacheRecomputationEvent extends Event {
+
+	@Label("Cache")
+	String cache;
+
+}
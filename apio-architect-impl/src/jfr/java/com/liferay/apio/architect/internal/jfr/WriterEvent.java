@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event emitted every time a message body writer converts an
+ * element into the bytes of a response.
+ *
+ * @author agent
+ * @review
+ */
+@Category({"Apio Architect", "Serialization"})
+@Description("Conversion of an element into the body of a response")
+@Label("Writer Run")
+@Name("com.liferay.apio.architect.WriterRun")
+final class WriterEvent extends Event {
+
+	@DataAmount
+	@Label("Bytes")
+	long bytes;
+
+	@Description("Number of items written (one, unless writing a page)")
+	@Label("Items")
+	int items;
+
+	@Label("Media Type")
+	String mediaType;
+
+	@Label("Writer")
+	String writer;
+
+}
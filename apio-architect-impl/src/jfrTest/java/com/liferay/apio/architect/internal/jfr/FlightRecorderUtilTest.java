@@ -0,0 +1,182 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jfr;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.internal.action.ActionSemantics;
+import com.liferay.apio.architect.internal.annotation.Action;
+import com.liferay.apio.architect.resource.Resource.Item;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import io.vavr.control.Try;
+
+import java.io.IOException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.List;
+import java.util.Optional;
+
+import javax.ws.rs.NotFoundException;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class FlightRecorderUtilTest {
+
+	@Test
+	public void testDisabledEventsAreNotRecorded() throws IOException {
+		List<RecordedEvent> recordedEvents = _record(
+			"com.liferay.apio.architect.ManagerCacheRecomputation", false,
+			() -> FlightRecorderUtil.recordManagerCacheRecomputation(
+				"representors", () -> {
+				}));
+
+		assertThat(recordedEvents, hasSize(0));
+	}
+
+	@Test
+	public void testInstrumentRecordsTheCauseOfAFailedTry() throws IOException {
+		ActionSemantics actionSemantics = ActionSemantics.ofResource(
+			Item.of("name")
+		).name(
+			"retrieve"
+		).method(
+			"GET"
+		).returns(
+			SingleModel.class
+		).permissionFunction(
+		).executeFunction(
+			__ -> null
+		).build();
+
+		Action action = FlightRecorderUtil.instrument(
+			actionSemantics,
+			(Action.Ok)request -> Try.failure(new NotFoundException()));
+
+		List<RecordedEvent> recordedEvents = _record(
+			"com.liferay.apio.architect.ActionExecution", true,
+			() -> action.execute(null));
+
+		assertThat(recordedEvents, hasSize(1));
+
+		RecordedEvent recordedEvent = recordedEvents.get(0);
+
+		assertThat(recordedEvent.getString("action"), is("retrieve"));
+		assertThat(
+			recordedEvent.getString("outcome"),
+			is(NotFoundException.class.getName()));
+		assertThat(recordedEvent.getString("resource"), is("name"));
+	}
+
+	@Test
+	public void testRecordEmbeddedFetchRecordsEvent() throws IOException {
+		List<RecordedEvent> recordedEvents = _record(
+			"com.liferay.apio.architect.EmbeddedFetch", true,
+			() -> FlightRecorderUtil.recordEmbeddedFetch(
+				"Identifier", 42L, Optional::empty));
+
+		assertThat(recordedEvents, hasSize(1));
+
+		RecordedEvent recordedEvent = recordedEvents.get(0);
+
+		assertThat(recordedEvent.getBoolean("found"), is(false));
+		assertThat(recordedEvent.getString("identifier"), is("42"));
+		assertThat(
+			recordedEvent.getString("identifierClass"), is("Identifier"));
+	}
+
+	@Test
+	public void testRecordManagerCacheRecomputationRecordsEvent()
+		throws IOException {
+
+		List<RecordedEvent> recordedEvents = _record(
+			"com.liferay.apio.architect.ManagerCacheRecomputation", true,
+			() -> FlightRecorderUtil.recordManagerCacheRecomputation(
+				"representors", () -> {
+				}));
+
+		assertThat(recordedEvents, hasSize(1));
+
+		RecordedEvent recordedEvent = recordedEvents.get(0);
+
+		assertThat(recordedEvent.getString("cache"), is("representors"));
+	}
+
+	@Test
+	public void testRecordWriteRecordsEventAndReturnsBytesWritten()
+		throws IOException {
+
+		List<RecordedEvent> recordedEvents = _record(
+			"com.liferay.apio.architect.WriterRun", true,
+			() -> assertThat(
+				FlightRecorderUtil.recordWrite(
+					"PageMessageBodyWriter", "application/json", 3, () -> 5L),
+				is(5L)));
+
+		assertThat(recordedEvents, hasSize(1));
+
+		RecordedEvent recordedEvent = recordedEvents.get(0);
+
+		assertThat(recordedEvent.getLong("bytes"), is(5L));
+		assertThat(recordedEvent.getInt("items"), is(3));
+		assertThat(
+			recordedEvent.getString("mediaType"), is("application/json"));
+		assertThat(
+			recordedEvent.getString("writer"), is("PageMessageBodyWriter"));
+	}
+
+	private List<RecordedEvent> _record(
+			String eventName, boolean enabled, Runnable runnable)
+		throws IOException {
+
+		Path path = Files.createTempFile("apio", ".jfr");
+
+		try (Recording recording = new Recording()) {
+			if (enabled) {
+				recording.enable(
+					eventName
+				).withoutThreshold();
+			}
+			else {
+				recording.disable(eventName);
+			}
+
+			recording.start();
+
+			runnable.run();
+
+			recording.stop();
+
+			recording.dump(path);
+
+			return RecordingFile.readAllEvents(path);
+		}
+		finally {
+			Files.delete(path);
+		}
+	}
+
+}
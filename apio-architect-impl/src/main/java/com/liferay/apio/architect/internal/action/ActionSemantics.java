@@ -14,6 +14,10 @@
 
 package com.liferay.apio.architect.internal.action;
 
+import static com.liferay.apio.architect.internal.timing.Phase.EXECUTION;
+import static com.liferay.apio.architect.internal.timing.Phase.PERMISSION;
+import static com.liferay.apio.architect.internal.timing.Phase.PROVIDERS;
+
 import static io.vavr.API.$;
 import static io.vavr.API.Case;
 
@@ -24,6 +28,8 @@ import com.liferay.apio.architect.form.Body;
 import com.liferay.apio.architect.form.Form;
 import com.liferay.apio.architect.internal.alias.ProvideFunction;
 import com.liferay.apio.architect.internal.annotation.Action;
+import com.liferay.apio.architect.internal.timing.RequestAllocations;
+import com.liferay.apio.architect.internal.timing.RequestTimings;
 import com.liferay.apio.architect.operation.HTTPMethod;
 import com.liferay.apio.architect.resource.Resource;
 
@@ -41,6 +47,8 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.servlet.http.HttpServletRequest;
+
 import javax.ws.rs.ForbiddenException;
 
 /**
@@ -208,23 +216,20 @@ public final class ActionSemantics {
 	 *         params
 	 * @review
 	 */
-	@SuppressWarnings({"Convert2MethodRef", "unchecked"})
 	public Action toAction(ProvideFunction provideFunction) {
-		Action action = request -> Try.of(
-			() -> getPermissionParams(provideFunction.apply(this, request))
-		).mapTry(
-			this::checkPermissions
-		).filter(
-			aBoolean -> aBoolean
-		).mapFailure(
-			Case($(), () -> new ForbiddenException())
-		).mapTry(
-			__ -> provideFunction.apply(this, request)
-		).mapTry(
-			this::getParams
-		).mapTry(
-			this::execute
-		);
+		Action action = request -> {
+			RequestAllocations requestAllocations = RequestAllocations.of(
+				request);
+
+			long allocatedBytes = requestAllocations.begin();
+
+			try {
+				return _execute(provideFunction, request);
+			}
+			finally {
+				requestAllocations.endExecution(allocatedBytes);
+			}
+		};
 
 		if (Void.class.isAssignableFrom(_returnClass)) {
 			return (Action.NoContent)action::execute;
@@ -394,6 +399,34 @@ public final class ActionSemantics {
 		return actionSemantics;
 	}
 
+	@SuppressWarnings({"Convert2MethodRef", "unchecked"})
+	private Try<Object> _execute(
+		ProvideFunction provideFunction, HttpServletRequest request) {
+
+		RequestTimings requestTimings = RequestTimings.of(request);
+
+		return Try.of(
+			() -> requestTimings.time(
+				PROVIDERS,
+				() -> getPermissionParams(
+					provideFunction.apply(this, request)))
+		).mapTry(
+			params -> requestTimings.time(
+				PERMISSION, () -> checkPermissions(params))
+		).filter(
+			aBoolean -> aBoolean
+		).mapFailure(
+			Case($(), () -> new ForbiddenException())
+		).mapTry(
+			__ -> provideFunction.apply(this, request)
+		).mapTry(
+			function -> requestTimings.time(
+				PROVIDERS, () -> getParams(function))
+		).mapTry(
+			params -> requestTimings.time(EXECUTION, () -> execute(params))
+		);
+	}
+
 	public static class Builder
 		implements NameStep, MethodStep, ReturnStep, PermissionStep,
 				   ExecuteStep, FinalStep {
@@ -23,6 +23,7 @@ import static com.liferay.apio.architect.internal.action.Predicates.isRetrieveAc
 import static com.liferay.apio.architect.internal.action.Predicates.isRootCollectionAction;
 import static com.liferay.apio.architect.internal.action.Predicates.isUpdateAction;
 import static com.liferay.apio.architect.internal.action.converter.EntryPointConverter.getEntryPointFrom;
+import static com.liferay.apio.architect.internal.body.BinaryJSONToBodyConverter.binaryJSONToBody;
 import static com.liferay.apio.architect.internal.body.JSONToBodyConverter.jsonToBody;
 import static com.liferay.apio.architect.internal.body.MultipartToBodyConverter.multipartToBody;
 
@@ -45,8 +46,16 @@ import com.liferay.apio.architect.form.Body;
 import com.liferay.apio.architect.internal.action.ActionSemantics;
 import com.liferay.apio.architect.internal.annotation.Action.Error;
 import com.liferay.apio.architect.internal.annotation.Action.Error.NotFound;
+import com.liferay.apio.architect.internal.batch.BatchRetriever;
+import com.liferay.apio.architect.internal.cache.ItemResponseCache;
+import com.liferay.apio.architect.internal.coalescing.RequestCoalescer;
 import com.liferay.apio.architect.internal.documentation.Documentation;
 import com.liferay.apio.architect.internal.entrypoint.EntryPoint;
+import com.liferay.apio.architect.internal.export.PageExporter;
+import com.liferay.apio.architect.internal.jfr.FlightRecorderUtil;
+import com.liferay.apio.architect.internal.limit.ActionConcurrencyLimiter;
+import com.liferay.apio.architect.internal.message.json.BinaryJSONFormat;
+import com.liferay.apio.architect.internal.metrics.MetricsRegistry;
 import com.liferay.apio.architect.internal.url.ApplicationURL;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.documentation.contributor.CustomDocumentationManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.provider.ProviderManager;
@@ -104,7 +113,14 @@ public class ActionManagerImpl implements ActionManager {
 			Paged paged = Paged.of(params.get(0));
 
 			if ("GET".equals(method)) {
-				return _getAction(paged, isRootCollectionAction);
+				return _batchRetriever.batch(
+					paged, _getAction(paged, isRootCollectionAction),
+					id -> Optional.ofNullable(
+						_getItem(paged.getName(), id)
+					).flatMap(
+						item -> _getActionSemantics(item, isRetrieveAction)
+					),
+					this::_provide);
 			}
 			else if ("POST".equals(method)) {
 				return _getAction(paged, isCreateAction);
@@ -277,13 +293,15 @@ public class ActionManagerImpl implements ActionManager {
 	public Optional<SingleModel> getItemSingleModel(
 		Item item, HttpServletRequest request) {
 
-		return Either.narrow(
-			_getAction(item, isRetrieveAction)
+		return _getActionSemantics(
+			item, isRetrieveAction
+		).map(
+			actionSemantics -> _requestCoalescer.coalesce(
+				actionSemantics, actionSemantics.toAction(this::_provide))
 		).map(
 			action -> action.execute(request)
 		).map(
 			object -> object instanceof Try ? ((Try)object).get() : object
-		).toJavaOptional(
 		).filter(
 			instanceOf(SingleModel.class)
 		).map(
@@ -297,16 +315,29 @@ public class ActionManagerImpl implements ActionManager {
 	@Reference
 	protected ProviderManager providerManager;
 
+	private Action _decorate(ActionSemantics actionSemantics, Action action) {
+		Action exportedAction = _pageExporter.export(actionSemantics, action);
+
+		Action limitedAction = _actionConcurrencyLimiter.limit(
+			actionSemantics, exportedAction);
+
+		Action coalescedAction = _requestCoalescer.coalesce(
+			actionSemantics, limitedAction);
+
+		Action cachedAction = _itemResponseCache.cache(
+			actionSemantics, coalescedAction);
+
+		Action recordedAction = FlightRecorderUtil.instrument(
+			actionSemantics, cachedAction);
+
+		return _metricsRegistry.instrument(actionSemantics, recordedAction);
+	}
+
 	private Either<Action.Error, Action> _getAction(
 		Resource resource, Predicate<ActionSemantics> predicate) {
 
-		Stream<ActionSemantics> actionSemanticsStream =
-			getActionSemanticsStream();
-
 		Optional<ActionSemantics> optionalActionSemantics =
-			actionSemanticsStream.filter(
-				predicate.and(isActionFor(resource))
-			).findFirst();
+			_getActionSemantics(resource, predicate);
 
 		if (!optionalActionSemantics.isPresent()) {
 			return left(_notFound);
@@ -314,10 +345,23 @@ public class ActionManagerImpl implements ActionManager {
 
 		ActionSemantics actionSemantics = optionalActionSemantics.get();
 
-		ActionSemantics updatedActionSemantics = actionSemantics.withResource(
-			resource);
+		Action action = actionSemantics.toAction(this::_provide);
 
-		return right(updatedActionSemantics.toAction(this::_provide));
+		return right(_decorate(actionSemantics, action));
+	}
+
+	private Optional<ActionSemantics> _getActionSemantics(
+		Resource resource, Predicate<ActionSemantics> predicate) {
+
+		Stream<ActionSemantics> actionSemanticsStream =
+			getActionSemanticsStream();
+
+		return actionSemanticsStream.filter(
+			predicate.and(isActionFor(resource))
+		).findFirst(
+		).map(
+			actionSemantics -> actionSemantics.withResource(resource)
+		);
 	}
 
 	private Either<Action.Error, Action> _getBinaryFileAction(
@@ -358,6 +402,15 @@ public class ActionManagerImpl implements ActionManager {
 			return multipartToBody(request);
 		}
 
+		for (BinaryJSONFormat binaryJSONFormat : BinaryJSONFormat.values()) {
+			MediaType binaryMediaType = MediaType.valueOf(
+				binaryJSONFormat.getMediaType());
+
+			if (binaryMediaType.isCompatible(mediaType)) {
+				return binaryJSONToBody(request, binaryJSONFormat);
+			}
+		}
+
 		throw new NotSupportedException();
 	}
 
@@ -455,24 +508,42 @@ public class ActionManagerImpl implements ActionManager {
 	private static final NotFound _notFound = new NotFound() {
 	};
 
+	@Reference
+	private ActionConcurrencyLimiter _actionConcurrencyLimiter;
+
 	@Reference
 	private ActionRouterManager _actionRouterManager;
 
+	@Reference
+	private BatchRetriever _batchRetriever;
+
 	@Reference
 	private CollectionRouterManager _collectionRouterManager;
 
 	@Reference
 	private CustomDocumentationManager _customDocumentationManager;
 
+	@Reference
+	private ItemResponseCache _itemResponseCache;
+
 	@Reference
 	private ItemRouterManager _itemRouterManager;
 
+	@Reference
+	private MetricsRegistry _metricsRegistry;
+
 	@Reference
 	private NestedCollectionRouterManager _nestedCollectionRouterManager;
 
+	@Reference
+	private PageExporter _pageExporter;
+
 	@Reference
 	private RepresentableManager _representableManager;
 
+	@Reference
+	private RequestCoalescer _requestCoalescer;
+
 	@Reference
 	private ReusableNestedCollectionRouterManager
 		_reusableNestedCollectionRouterManager;
@@ -78,6 +78,12 @@ public class RepresentorTransformerUtil {
 				getMethodFunction(fieldData.getMethod()));
 		}
 
+		List<FieldData<Class<?>>> arrayFieldDataList = filterWritableFields(
+			parsedType::getArrayFieldDataList);
+
+		arrayFieldDataList.forEach(
+			arrayFieldData -> _addArrayFields(firstStep, arrayFieldData));
+
 		List<FieldData<Class<?>>> fieldDataList = filterWritableFields(
 			parsedType::getFieldDataList);
 
@@ -179,6 +185,28 @@ public class RepresentorTransformerUtil {
 		);
 	}
 
+	private static void _addArrayFields(
+		BaseRepresentor.BaseFirstStep<?, ?, ?> firstStep,
+		FieldData<Class<?>> arrayFieldData) {
+
+		Class<?> arrayClass = arrayFieldData.getData();
+		String key = arrayFieldData.getFieldName();
+		Method method = arrayFieldData.getMethod();
+
+		if (arrayClass == boolean[].class) {
+			firstStep.addBooleanArray(key, getMethodFunction(method));
+		}
+		else if (arrayClass == double[].class) {
+			firstStep.addDoubleArray(key, getMethodFunction(method));
+		}
+		else if (arrayClass == int[].class) {
+			firstStep.addIntArray(key, getMethodFunction(method));
+		}
+		else if (arrayClass == long[].class) {
+			firstStep.addLongArray(key, getMethodFunction(method));
+		}
+	}
+
 	private static void _addBasicFields(
 		BaseRepresentor.BaseFirstStep<?, ?, ?> firstStep,
 		FieldData<Class<?>> fieldData) {
@@ -32,6 +32,16 @@ import java.util.List;
  */
 public class ParsedType {
 
+	/**
+	 * Returns the list of primitive array field data.
+	 *
+	 * @return the list of primitive array field data
+	 * @review
+	 */
+	public List<FieldData<Class<?>>> getArrayFieldDataList() {
+		return _arrayFieldDataList;
+	}
+
 	/**
 	 * Returns the list of bidirectionalfield data.
 	 *
@@ -140,6 +150,10 @@ public class ParsedType {
 			_parsedType._typeClass = typeClass;
 		}
 
+		public void addArrayFieldData(FieldData<Class<?>> fieldData) {
+			_parsedType._arrayFieldDataList.add(fieldData);
+		}
+
 		public void addBidirectionalFieldData(
 			FieldData<BidirectionalModel> fieldData) {
 
@@ -185,6 +199,7 @@ public class ParsedType {
 	private ParsedType() {
 	}
 
+	private List<FieldData<Class<?>>> _arrayFieldDataList = new ArrayList<>();
 	private List<FieldData<BidirectionalModel>> _bidirectionalFieldData =
 		new ArrayList<>();
 	private List<FieldData<Class<?>>> _fieldDataList = new ArrayList<>();
@@ -62,6 +62,12 @@ public class TypeProcessor {
 
 			builder.addParsedType(new FieldData<>(method, parsedType));
 		}
+		else if (_isPrimitiveArray(returnType)) {
+			FieldData<Class<?>> arrayFieldData = new FieldData<>(
+				method, returnType);
+
+			builder.addArrayFieldData(arrayFieldData);
+		}
 		else {
 			FieldData fieldData = new FieldData<>(method, returnType);
 
@@ -112,6 +118,16 @@ public class TypeProcessor {
 		return parameterizedType.getActualTypeArguments()[0];
 	}
 
+	private static boolean _isPrimitiveArray(Class<?> typeClass) {
+		if (typeClass.isArray()) {
+			Class<?> componentTypeClass = typeClass.getComponentType();
+
+			return componentTypeClass.isPrimitive();
+		}
+
+		return false;
+	}
+
 	private static void _processMethod(Builder builder, Method method) {
 		LinkTo linkTo = method.getAnnotation(LinkTo.class);
 
@@ -0,0 +1,265 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.batch;
+
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getBoolean;
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getInteger;
+
+import static io.vavr.control.Either.right;
+
+import com.liferay.apio.architect.annotation.GenericParentId;
+import com.liferay.apio.architect.annotation.Id;
+import com.liferay.apio.architect.annotation.ParentId;
+import com.liferay.apio.architect.form.Body;
+import com.liferay.apio.architect.internal.action.ActionSemantics;
+import com.liferay.apio.architect.internal.alias.ProvideFunction;
+import com.liferay.apio.architect.internal.annotation.Action;
+import com.liferay.apio.architect.internal.pagination.PageImpl;
+import com.liferay.apio.architect.internal.pagination.PaginationImpl;
+import com.liferay.apio.architect.pagination.PageItems;
+import com.liferay.apio.architect.pagination.Pagination;
+import com.liferay.apio.architect.resource.Resource;
+import com.liferay.apio.architect.resource.Resource.Paged;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.ForbiddenException;
+import javax.ws.rs.NotFoundException;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
+
+/**
+ * Lets clients retrieve several items of a collection in a single request, by
+ * adding the {@code ids} parameter to the request of the collection (for
+ * example, {@code GET /p/blog-postings?ids=1,2,3}). The items are written as
+ * a page, in the order of the requested IDs, without links to other pages of
+ * the collection.
+ *
+ * <p>
+ * Each item is retrieved by executing its retrieve action, so its permissions
+ * are checked as usual. Items that don't exist, or that the client can't
+ * access, are left out of the page. The values provided by the request's
+ * providers (such as the credentials or the accepted languages) are only
+ * provided once and shared by every item of the batch.
+ * </p>
+ *
+ * <p>
+ * Items are retrieved one after the other on the request's thread, since the
+ * request-scoped state used while executing an action (timings, allocations
+ * and memoized related resources) must not be shared between threads.
+ * </p>
+ *
+ * <p>
+ * Batch retrievals are disabled by default. They can be enabled, and the
+ * maximum number of items retrieved at once tuned, through this component's
+ * configuration.
+ * </p>
+ *
+ * @author agent
+ * @review
+ */
+@Component(
+	property = {"enabled=false", "max.items=100"},
+	service = BatchRetriever.class
+)
+public class BatchRetriever {
+
+	/**
+	 * Returns an action that retrieves the items whose IDs are in the {@code
+	 * ids} parameter of the request, if present, or executes the collection's
+	 * action otherwise. If batch retrievals are disabled, the collection's
+	 * action is returned unchanged.
+	 *
+	 * @param  paged the collection
+	 * @param  either the collection's action, or the error found while
+	 *         looking for it
+	 * @param  actionSemanticsFunction the function that returns the semantics
+	 *         of the retrieve action of an item, from its ID
+	 * @param  provideFunction the function that provides the actions' params
+	 * @return the batch retrieving action
+	 * @review
+	 */
+	public Either<Action.Error, Action> batch(
+		Paged paged, Either<Action.Error, Action> either,
+		Function<String, Optional<ActionSemantics>> actionSemanticsFunction,
+		ProvideFunction provideFunction) {
+
+		if (!_enabled) {
+			return either;
+		}
+
+		int maxItems = _maxItems;
+
+		return right(
+			(Action.Ok)request -> {
+				String ids = request.getParameter("ids");
+
+				if (ids != null) {
+					return _retrieve(
+						paged, _getIds(ids, maxItems), actionSemanticsFunction,
+						provideFunction, request);
+				}
+
+				return either.map(
+					action -> action.execute(request)
+				).getOrElseThrow(
+					error -> new NotFoundException()
+				);
+			});
+	}
+
+	@Activate
+	@Modified
+	protected void activate(Map<String, Object> properties) {
+		_enabled = getBoolean(properties, "enabled", false);
+		_maxItems = getInteger(properties, "max.items", 100);
+	}
+
+	private static List<String> _getIds(String ids, int maxItems) {
+		Set<String> set = new LinkedHashSet<>();
+
+		for (String id : _pattern.split(ids.trim())) {
+			if (!id.isEmpty()) {
+				set.add(id);
+			}
+		}
+
+		if (set.size() > maxItems) {
+			throw new BadRequestException(
+				"At most " + maxItems + " items can be retrieved at once");
+		}
+
+		return new ArrayList<>(set);
+	}
+
+	private static ProvideFunction _getSharedProvideFunction(
+		ProvideFunction provideFunction) {
+
+		Map<Class<?>, Object> provided = new HashMap<>();
+
+		return (actionSemantics, request, clazz) -> {
+			if (_RESOURCE_CLASSES.contains(clazz)) {
+				return provideFunction.apply(actionSemantics, request, clazz);
+			}
+
+			return provided.computeIfAbsent(
+				clazz,
+				__ -> provideFunction.apply(actionSemantics, request, clazz));
+		};
+	}
+
+	private static Object _retrieve(
+		Paged paged, List<String> ids,
+		Function<String, Optional<ActionSemantics>> actionSemanticsFunction,
+		ProvideFunction provideFunction, HttpServletRequest request) {
+
+		ProvideFunction sharedProvideFunction = _getSharedProvideFunction(
+			provideFunction);
+
+		List<Object> models = new ArrayList<>();
+
+		for (String id : ids) {
+			Optional<ActionSemantics> optional = actionSemanticsFunction.apply(
+				id);
+
+			if (!optional.isPresent()) {
+				continue;
+			}
+
+			ActionSemantics actionSemantics = optional.get();
+
+			Action action = actionSemantics.toAction(sharedProvideFunction);
+
+			Object result = action.execute(request);
+
+			if (result instanceof Try) {
+				Try<?> resultTry = (Try<?>)result;
+
+				if (resultTry.isFailure()) {
+					Throwable throwable = resultTry.getCause();
+
+					if ((throwable instanceof ForbiddenException) ||
+						(throwable instanceof NotFoundException)) {
+
+						continue;
+					}
+
+					return result;
+				}
+
+				result = resultTry.get();
+			}
+
+			if (result instanceof SingleModel) {
+				SingleModel<?> singleModel = (SingleModel<?>)result;
+
+				models.add(singleModel.getModel());
+			}
+		}
+
+		return new BatchPage<>(
+			paged, new PageItems<>(models, models.size()),
+			new PaginationImpl(Math.max(ids.size(), 1), 1));
+	}
+
+	private static final Set<Class<?>> _RESOURCE_CLASSES = new HashSet<>(
+		Arrays.asList(
+			Body.class, GenericParentId.class, Id.class, ParentId.class,
+			Void.class));
+
+	private static final Pattern _pattern = Pattern.compile("\\s*,\\s*");
+
+	private volatile boolean _enabled;
+	private volatile int _maxItems;
+
+	/**
+	 * A page with the items of a batch retrieval. It isn't one of the pages
+	 * of the collection, so it has no links to other pages.
+	 */
+	private static class BatchPage<T> extends PageImpl<T> {
+
+		@Override
+		public boolean isPaginated() {
+			return false;
+		}
+
+		private BatchPage(
+			Resource resource, PageItems<T> pageItems, Pagination pagination) {
+
+			super(resource, pageItems, pagination);
+		}
+
+	}
+
+}
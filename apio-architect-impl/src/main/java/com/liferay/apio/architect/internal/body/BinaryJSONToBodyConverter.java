@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.body;
+
+import com.liferay.apio.architect.form.Body;
+import com.liferay.apio.architect.internal.body.JSONToBodyConverter.JSONBodyImpl;
+import com.liferay.apio.architect.internal.message.json.BinaryJSONFormat;
+
+import io.vavr.control.Try;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.BadRequestException;
+
+/**
+ * Reads JSON objects encoded with a {@link BinaryJSONFormat}, such as CBOR, as
+ * a {@link Body}.
+ *
+ * @author agent
+ * @review
+ */
+public class BinaryJSONToBodyConverter {
+
+	/**
+	 * Reads an HTTP request body encoded with the binary encoding into a
+	 * {@link Body} instance or fails with a {@link BadRequestException} if the
+	 * input is not a valid encoded JSON.
+	 *
+	 * @param  request the current request
+	 * @param  binaryJSONFormat the binary encoding of the request body
+	 * @review
+	 */
+	public static Body binaryJSONToBody(
+		HttpServletRequest request, BinaryJSONFormat binaryJSONFormat) {
+
+		return Try.withResources(
+			request::getInputStream
+		).of(
+			binaryJSONFormat::readTree
+		).filter(
+			node -> node.isObject() || node.isArray()
+		).map(
+			JSONBodyImpl::new
+		).getOrElseThrow(
+			() -> new BadRequestException(
+				"Body is not a valid " + binaryJSONFormat.getMediaType())
+		);
+	}
+
+}
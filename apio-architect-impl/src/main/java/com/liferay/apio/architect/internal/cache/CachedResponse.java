@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.cache;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Represents an already rendered response body, together with its media type.
+ *
+ * @author agent
+ * @review
+ */
+public final class CachedResponse {
+
+	public CachedResponse(String mediaType, String body) {
+		this(mediaType, body.getBytes(UTF_8));
+	}
+
+	public CachedResponse(String mediaType, byte[] bytes) {
+		this(mediaType, bytes, null);
+	}
+
+	public CachedResponse(String mediaType, byte[] bytes, String eTag) {
+		_mediaType = mediaType;
+		_bytes = bytes;
+		_eTag = eTag;
+	}
+
+	/**
+	 * Returns the encoded body of the response. The returned array must not be
+	 * modified.
+	 *
+	 * @return the encoded body of the response
+	 * @review
+	 */
+	public byte[] getBytes() {
+		return _bytes;
+	}
+
+	/**
+	 * Returns the strong entity tag of the response. That's the entity tag sent
+	 * when the response was first rendered, if it was provided; otherwise it's
+	 * computed from the encoded body.
+	 *
+	 * @return the entity tag of the response, quoted
+	 * @review
+	 */
+	public String getETag() {
+		String eTag = _eTag;
+
+		if (eTag == null) {
+			eTag = ETagUtil.getETag(_bytes);
+
+			_eTag = eTag;
+		}
+
+		return eTag;
+	}
+
+	/**
+	 * Returns the media type of the response.
+	 *
+	 * @return the media type of the response
+	 * @review
+	 */
+	public String getMediaType() {
+		return _mediaType;
+	}
+
+	/**
+	 * Returns the size of the encoded body of the response, in bytes.
+	 *
+	 * @return the size of the response, in bytes
+	 * @review
+	 */
+	public int getSize() {
+		return _bytes.length;
+	}
+
+	private final byte[] _bytes;
+	private volatile String _eTag;
+	private final String _mediaType;
+
+}
@@ -0,0 +1,414 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.cache;
+
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getBoolean;
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getInteger;
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getLong;
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getStringArray;
+
+import static java.util.stream.Collectors.joining;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.liferay.apio.architect.internal.annotation.ActionManager;
+import com.liferay.apio.architect.internal.url.ApplicationURL;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.provider.ProviderManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
+import com.liferay.apio.architect.language.AcceptLanguage;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.core.HttpHeaders;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.component.annotations.Reference;
+
+import org.slf4j.Logger;
+
+/**
+ * Caches the rendered documentation and entry point of the API.
+ *
+ * <p>
+ * Responses are keyed by endpoint, negotiated media type, accepted languages
+ * and application URL. The media type negotiated for each {@code Accept}
+ * header is learned when the first response is stored (see {@link
+ * NegotiatedMediaTypes}), so equivalent headers share the same entry. Since
+ * their content only depends on the registered routers, representors and
+ * documentation contributors, every entry is invalidated when the {@link
+ * com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache}
+ * is cleared.
+ * </p>
+ *
+ * <p>
+ * If pre-warming is enabled, the registry data needed to render both
+ * endpoints is computed asynchronously after activation, so the first request
+ * doesn't pay for it. If the cache is enabled too, both endpoints of every
+ * application URL in the {@code prewarm.application.urls} property are then
+ * requested once for every media type in the {@code prewarm.accept} property,
+ * so their responses are rendered and stored before the first client asks
+ * for them. The endpoints are requested through HTTP, since their responses
+ * are keyed by, and rendered with, the request's application URL and
+ * headers.
+ * </p>
+ *
+ * <p>
+ * Both the cache and the pre-warming are disabled by default.
+ * </p>
+ *
+ * @author agent
+ * @review
+ */
+@Component(
+	property = {
+		"enabled=false", "max.entries=100",
+		"prewarm.accept=application/ld+json", "prewarm.delay.ms=1000",
+		"prewarm.enabled=false"
+	},
+	service = DocumentationResponseCache.class
+)
+public class DocumentationResponseCache {
+
+	/**
+	 * The name of the documentation endpoint.
+	 */
+	public static final String DOCUMENTATION = "doc";
+
+	/**
+	 * The name of the entry point endpoint.
+	 */
+	public static final String ENTRY_POINT = "entry-point";
+
+	/**
+	 * Returns the cached response of the endpoint for the current request, if
+	 * present. Otherwise, marks the request so its response is stored once
+	 * written (see {@link #store(HttpServletRequest, String, String)}), and
+	 * returns {@code Optional#empty()}.
+	 *
+	 * @param  request the current request
+	 * @param  endpoint the endpoint's name ({@link #DOCUMENTATION} or {@link
+	 *         #ENTRY_POINT})
+	 * @return the cached response, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public Optional<CachedResponse> get(
+		HttpServletRequest request, String endpoint) {
+
+		ResponseCache<String> responseCache = _responseCache;
+
+		if (responseCache == null) {
+			return Optional.empty();
+		}
+
+		_checkGeneration(responseCache);
+
+		String key = _getKey(request, endpoint);
+
+		String accept = request.getHeader(HttpHeaders.ACCEPT);
+
+		NegotiatedMediaTypes negotiatedMediaTypes = _getNegotiatedMediaTypes(
+			endpoint);
+
+		Optional<CachedResponse> optional = negotiatedMediaTypes.get(
+			accept
+		).map(
+			mediaType -> key + "|" + mediaType
+		).flatMap(
+			responseCache::get
+		);
+
+		if (!optional.isPresent()) {
+			request.setAttribute(
+				_PENDING_ATTRIBUTE,
+				new Pending(
+					responseCache, key, endpoint, accept,
+					responseCache.getGeneration()));
+		}
+
+		return optional;
+	}
+
+	/**
+	 * Returns the cache used by this component, if enabled; returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @return the cache, if enabled; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<ResponseCache<String>> getResponseCacheOptional() {
+		return Optional.ofNullable(_responseCache);
+	}
+
+	/**
+	 * Stores the rendered response of an endpoint, if the current request was
+	 * marked as cacheable by {@link #get(HttpServletRequest, String)}.
+	 *
+	 * @param  request the current request
+	 * @param  mediaType the media type of the response
+	 * @param  body the rendered response
+	 * @review
+	 */
+	public void store(
+		HttpServletRequest request, String mediaType, String body) {
+
+		Object object = request.getAttribute(_PENDING_ATTRIBUTE);
+
+		if (!(object instanceof Pending)) {
+			return;
+		}
+
+		request.removeAttribute(_PENDING_ATTRIBUTE);
+
+		Pending pending = (Pending)object;
+
+		NegotiatedMediaTypes negotiatedMediaTypes = _getNegotiatedMediaTypes(
+			pending._endpoint);
+
+		negotiatedMediaTypes.put(pending._accept, mediaType);
+
+		CachedResponse cachedResponse = new CachedResponse(
+			mediaType, body + System.lineSeparator());
+
+		pending._responseCache.put(
+			pending._key + "|" + mediaType, null, cachedResponse,
+			pending._generation);
+	}
+
+	@Activate
+	@Modified
+	protected void activate(Map<String, Object> properties) {
+		deactivate();
+
+		if (getBoolean(properties, "enabled", false)) {
+			_responseCache = new ResponseCache<>(
+				getInteger(properties, "max.entries", 100), Long.MAX_VALUE,
+				Long.MAX_VALUE, System::nanoTime);
+
+			_registryGeneration = INSTANCE.getGeneration();
+		}
+		else {
+			_responseCache = null;
+		}
+
+		if (getBoolean(properties, "prewarm.enabled", false)) {
+			_scheduledExecutorService =
+				Executors.newSingleThreadScheduledExecutor(
+					runnable -> {
+						Thread thread = new Thread(
+							runnable, "Apio Architect documentation pre-warm");
+
+						thread.setDaemon(true);
+
+						return thread;
+					});
+
+			String[] accepts = getStringArray(properties, "prewarm.accept");
+			String[] applicationURLs = getStringArray(
+				properties, "prewarm.application.urls");
+
+			_scheduledExecutorService.schedule(
+				() -> _prewarm(accepts, applicationURLs),
+				getLong(properties, "prewarm.delay.ms", 1000),
+				TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@Deactivate
+	protected void deactivate() {
+		if (_scheduledExecutorService != null) {
+			_scheduledExecutorService.shutdownNow();
+
+			_scheduledExecutorService = null;
+		}
+	}
+
+	private void _checkGeneration(ResponseCache<String> responseCache) {
+		long generation = INSTANCE.getGeneration();
+
+		if (generation == _registryGeneration) {
+			return;
+		}
+
+		synchronized (this) {
+			if (generation != _registryGeneration) {
+				responseCache.clear();
+
+				_registryGeneration = generation;
+			}
+		}
+	}
+
+	private String _getKey(HttpServletRequest request, String endpoint) {
+		String locales = _providerManager.provideOptional(
+			request, AcceptLanguage.class
+		).map(
+			AcceptLanguage::getLocales
+		).map(
+			localeStream -> localeStream.map(
+				Locale::toLanguageTag
+			).collect(
+				joining(",")
+			)
+		).orElse(
+			""
+		);
+
+		String applicationURL = _providerManager.provideOptional(
+			request, ApplicationURL.class
+		).map(
+			ApplicationURL::get
+		).orElse(
+			""
+		);
+
+		return String.join("|", endpoint, locales, applicationURL);
+	}
+
+	private NegotiatedMediaTypes _getNegotiatedMediaTypes(String endpoint) {
+		if (DOCUMENTATION.equals(endpoint)) {
+			return _documentationMediaTypes;
+		}
+
+		return _entryPointMediaTypes;
+	}
+
+	private void _prewarm(String[] accepts, String[] applicationURLs) {
+		try {
+			_actionManager.getEntryPoint();
+
+			_representableManager.getRepresentors();
+		}
+		catch (Exception e) {
+			if (_logger.isDebugEnabled()) {
+				_logger.debug("Unable to pre-warm the documentation", e);
+			}
+
+			return;
+		}
+
+		if (_responseCache == null) {
+			return;
+		}
+
+		for (String applicationURL : applicationURLs) {
+			if (applicationURL.endsWith("/")) {
+				applicationURL = applicationURL.substring(
+					0, applicationURL.length() - 1);
+			}
+
+			for (String accept : accepts) {
+				_request(applicationURL + "/doc", accept);
+				_request(applicationURL + "/", accept);
+			}
+		}
+	}
+
+	private void _request(String url, String accept) {
+		HttpURLConnection httpURLConnection = null;
+
+		try {
+			URL prewarmURL = new URL(url);
+
+			httpURLConnection = (HttpURLConnection)prewarmURL.openConnection();
+
+			httpURLConnection.setRequestProperty(HttpHeaders.ACCEPT, accept);
+
+			try (InputStream inputStream =
+					httpURLConnection.getInputStream()) {
+
+				byte[] buffer = new byte[8192];
+
+				int read = inputStream.read(buffer);
+
+				while (read != -1) {
+					read = inputStream.read(buffer);
+				}
+			}
+		}
+		catch (IOException ioe) {
+			if (_logger.isDebugEnabled()) {
+				_logger.debug("Unable to pre-warm " + url, ioe);
+			}
+		}
+		finally {
+			if (httpURLConnection != null) {
+				httpURLConnection.disconnect();
+			}
+		}
+	}
+
+	private static final String _PENDING_ATTRIBUTE =
+		DocumentationResponseCache.class.getName() + "#PENDING";
+
+	@Reference
+	private ActionManager _actionManager;
+
+	private final NegotiatedMediaTypes _documentationMediaTypes =
+		new NegotiatedMediaTypes(100);
+	private final NegotiatedMediaTypes _entryPointMediaTypes =
+		new NegotiatedMediaTypes(100);
+	private Logger _logger = getLogger(getClass());
+
+	@Reference
+	private ProviderManager _providerManager;
+
+	private volatile long _registryGeneration;
+
+	@Reference
+	private RepresentableManager _representableManager;
+
+	private volatile ResponseCache<String> _responseCache;
+	private ScheduledExecutorService _scheduledExecutorService;
+
+	private static class Pending {
+
+		private Pending(
+			ResponseCache<String> responseCache, String key, String endpoint,
+			String accept, long generation) {
+
+			_responseCache = responseCache;
+			_key = key;
+			_endpoint = endpoint;
+			_accept = accept;
+			_generation = generation;
+		}
+
+		private final String _accept;
+		private final String _endpoint;
+		private final long _generation;
+		private final String _key;
+		private final ResponseCache<String> _responseCache;
+
+	}
+
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.cache;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.security.MessageDigest;
+
+/**
+ * Computes the strong entity tag of a representation while it's written to
+ * the wrapped output stream, so the written bytes don't need to be hashed
+ * again once written. The entity tag is the same one returned by {@link
+ * ETagUtil#getETag(byte[])} for those bytes.
+ *
+ * @author agent
+ * @review
+ */
+public class ETagOutputStream extends FilterOutputStream {
+
+	public ETagOutputStream(OutputStream outputStream) {
+		super(outputStream);
+
+		_messageDigest = ETagUtil.getMessageDigest();
+	}
+
+	/**
+	 * Returns the entity tag of the bytes written so far. This method must be
+	 * called only once, after the whole representation has been written.
+	 *
+	 * @return the entity tag, quoted
+	 * @review
+	 */
+	public String getETag() {
+		return ETagUtil.getETag(_messageDigest);
+	}
+
+	@Override
+	public void write(byte[] bytes, int offset, int length)
+		throws IOException {
+
+		out.write(bytes, offset, length);
+
+		_messageDigest.update(bytes, offset, length);
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		out.write(b);
+
+		_messageDigest.update((byte)b);
+	}
+
+	private final MessageDigest _messageDigest;
+
+}
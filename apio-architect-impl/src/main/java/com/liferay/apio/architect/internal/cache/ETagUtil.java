@@ -0,0 +1,155 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.cache;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import java.util.Base64;
+
+/**
+ * Provides methods for creating strong entity tags and fingerprints, and for
+ * evaluating {@code If-None-Match} headers.
+ *
+ * <p>
+ * This class should not be instantiated.
+ * </p>
+ *
+ * @author agent
+ * @review
+ */
+public final class ETagUtil {
+
+	/**
+	 * Returns a strong entity tag for the provided representation bytes.
+	 *
+	 * @param  bytes the representation bytes
+	 * @return the entity tag, quoted
+	 * @review
+	 */
+	public static String getETag(byte[] bytes) {
+		return "\"" + getFingerprint(bytes) + "\"";
+	}
+
+	/**
+	 * Returns a strong entity tag for the provided strings.
+	 *
+	 * @param  strings the strings that identify the representation
+	 * @return the entity tag, quoted
+	 * @review
+	 */
+	public static String getETag(String... strings) {
+		return "\"" + getFingerprint(strings) + "\"";
+	}
+
+	/**
+	 * Returns a short, URL-safe fingerprint of the provided bytes.
+	 *
+	 * @param  bytes the bytes
+	 * @return the fingerprint
+	 * @review
+	 */
+	public static String getFingerprint(byte[] bytes) {
+		MessageDigest messageDigest = getMessageDigest();
+
+		return _encode(messageDigest.digest(bytes));
+	}
+
+	/**
+	 * Returns a short, URL-safe fingerprint of the provided strings.
+	 *
+	 * @param  strings the strings
+	 * @return the fingerprint
+	 * @review
+	 */
+	public static String getFingerprint(String... strings) {
+		String string = String.join("\u0000", strings);
+
+		return getFingerprint(string.getBytes(UTF_8));
+	}
+
+	/**
+	 * Returns {@code true} if the value of an {@code If-None-Match} header
+	 * matches the provided entity tag, using the weak comparison function, as
+	 * defined by RFC 7232.
+	 *
+	 * @param  ifNoneMatch the {@code If-None-Match} header value, or {@code
+	 *         null} if not present
+	 * @param  eTag the quoted entity tag
+	 * @return {@code true} if the header matches the entity tag; {@code false}
+	 *         otherwise
+	 * @review
+	 */
+	public static boolean matches(String ifNoneMatch, String eTag) {
+		if ((ifNoneMatch == null) || (eTag == null)) {
+			return false;
+		}
+
+		String opaqueTag = _getOpaqueTag(eTag);
+
+		for (String candidate : ifNoneMatch.split(",")) {
+			candidate = candidate.trim();
+
+			if (candidate.equals("*") ||
+				opaqueTag.equals(_getOpaqueTag(candidate))) {
+
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	static String getETag(MessageDigest messageDigest) {
+		return "\"" + _encode(messageDigest.digest()) + "\"";
+	}
+
+	static MessageDigest getMessageDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException nsae) {
+			throw new IllegalStateException(nsae);
+		}
+	}
+
+	private static String _encode(byte[] digest) {
+		Base64.Encoder encoder = Base64.getUrlEncoder();
+
+		return encoder.withoutPadding(
+		).encodeToString(
+			digest
+		).substring(
+			0, _FINGERPRINT_LENGTH
+		);
+	}
+
+	private static String _getOpaqueTag(String eTag) {
+		if (eTag.startsWith("W/")) {
+			return eTag.substring(2);
+		}
+
+		return eTag;
+	}
+
+	private ETagUtil() {
+		throw new UnsupportedOperationException();
+	}
+
+	private static final int _FINGERPRINT_LENGTH = 27;
+
+}
@@ -0,0 +1,430 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.cache;
+
+import static com.liferay.apio.architect.internal.action.Predicates.isRemoveAction;
+import static com.liferay.apio.architect.internal.action.Predicates.isReplaceAction;
+import static com.liferay.apio.architect.internal.action.Predicates.isRetrieveAction;
+import static com.liferay.apio.architect.internal.action.Predicates.isUpdateAction;
+import static com.liferay.apio.architect.internal.cache.ETagUtil.getFingerprint;
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getBoolean;
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getInteger;
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getLong;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static java.util.stream.Collectors.joining;
+
+import com.liferay.apio.architect.credentials.PrincipalKey;
+import com.liferay.apio.architect.internal.action.ActionSemantics;
+import com.liferay.apio.architect.internal.annotation.Action;
+import com.liferay.apio.architect.internal.url.ApplicationURL;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.provider.ProviderManager;
+import com.liferay.apio.architect.language.AcceptLanguage;
+import com.liferay.apio.architect.resource.Resource;
+import com.liferay.apio.architect.resource.Resource.Id;
+import com.liferay.apio.architect.resource.Resource.Item;
+
+import io.vavr.control.Try;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.core.HttpHeaders;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Caches the rendered representation of items, so hot items don't need to be
+ * retrieved and written on every request.
+ *
+ * <p>
+ * Responses are keyed by the item, the media type negotiated for the request
+ * (see {@link NegotiatedMediaTypes}), the {@code fields} and {@code embedded}
+ * parameters, the accepted languages, the application URL and a fingerprint of
+ * the request's {@link PrincipalKey}. Every entry of an item is invalidated as
+ * soon as an update, replace or remove action is successfully executed for
+ * that item.
+ * </p>
+ *
+ * <p>
+ * Requests without a {@link PrincipalKey} are never cached, since their
+ * credentials can't be safely compared.
+ * </p>
+ *
+ * <p>
+ * The cache is disabled by default. It can be enabled, and sized, through this
+ * component's configuration.
+ * </p>
+ *
+ * @author agent
+ * @review
+ */
+@Component(
+	property = {
+		"enabled=false", "max.bytes=16777216", "max.entries=1000",
+		"ttl.seconds=60"
+	},
+	service = ItemResponseCache.class
+)
+public class ItemResponseCache {
+
+	/**
+	 * Returns an action that uses the cache in behalf of the provided one.
+	 *
+	 * <p>
+	 * If the action retrieves an item, the returned action returns the {@link
+	 * CachedResponse} for the current request, if present. Otherwise it
+	 * executes the original action, and marks the request so its response is
+	 * stored once written (see {@link #store(HttpServletRequest, String,
+	 * String)}).
+	 * </p>
+	 *
+	 * <p>
+	 * If the action updates, replaces or removes an item, the returned action
+	 * invalidates the entries of that item after the action executes
+	 * successfully.
+	 * </p>
+	 *
+	 * <p>
+	 * Any other action, or every action if the cache is disabled, is returned
+	 * unchanged.
+	 * </p>
+	 *
+	 * @param  actionSemantics the semantics of the action
+	 * @param  action the action
+	 * @return the action using the cache
+	 * @review
+	 */
+	public Action cache(ActionSemantics actionSemantics, Action action) {
+		ResponseCache<ItemResponseCacheKey> responseCache = _responseCache;
+
+		if (responseCache == null) {
+			return action;
+		}
+
+		Resource resource = actionSemantics.getResource();
+
+		if (!(resource instanceof Item)) {
+			return action;
+		}
+
+		Item item = (Item)resource;
+
+		Optional<Id> optional = item.getIdOptional();
+
+		if (!optional.isPresent()) {
+			return action;
+		}
+
+		String group = item.getName() + "/" + optional.get().asString();
+
+		if (isRetrieveAction.test(actionSemantics)) {
+			return (Action.Ok)request -> {
+				Optional<ItemResponseCacheKey> keyOptional = _getKeyOptional(
+					item.getName(), optional.get(), request);
+
+				if (!keyOptional.isPresent()) {
+					return action.execute(request);
+				}
+
+				ItemResponseCacheKey itemResponseCacheKey = keyOptional.get();
+
+				String accept = request.getHeader(HttpHeaders.ACCEPT);
+
+				Optional<CachedResponse> cachedResponseOptional =
+					_negotiatedMediaTypes.get(
+						accept
+					).map(
+						itemResponseCacheKey::withMediaType
+					).flatMap(
+						responseCache::get
+					);
+
+				if (cachedResponseOptional.isPresent()) {
+					return cachedResponseOptional.get();
+				}
+
+				request.setAttribute(
+					_PENDING_ATTRIBUTE,
+					new Pending(
+						responseCache, itemResponseCacheKey, accept, group,
+						responseCache.getGeneration()));
+
+				return action.execute(request);
+			};
+		}
+
+		if (_isWriteAction.test(actionSemantics)) {
+			if (action instanceof Action.NoContent) {
+				return (Action.NoContent)request -> _executeAndInvalidate(
+					responseCache, group, action, request);
+			}
+
+			return (Action.Ok)request -> _executeAndInvalidate(
+				responseCache, group, action, request);
+		}
+
+		return action;
+	}
+
+	/**
+	 * Returns the cache used by this component, if enabled; returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @return the cache, if enabled; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<ResponseCache<ItemResponseCacheKey>>
+		getResponseCacheOptional() {
+
+		return Optional.ofNullable(_responseCache);
+	}
+
+	/**
+	 * Records the entity tag sent with the response of the current request, if
+	 * the request was marked as cacheable by an action returned from {@link
+	 * #cache(ActionSemantics, Action)}. The entity tag is stored along with the
+	 * response, so later hits send the same one.
+	 *
+	 * @param  request the current request
+	 * @param  eTag the entity tag of the response, quoted
+	 * @review
+	 */
+	public void setETag(HttpServletRequest request, String eTag) {
+		Object object = request.getAttribute(_PENDING_ATTRIBUTE);
+
+		if (object instanceof Pending) {
+			Pending pending = (Pending)object;
+
+			pending._eTag = eTag;
+		}
+	}
+
+	/**
+	 * Stores the rendered response of an item, if the current request was
+	 * marked as cacheable by an action returned from {@link
+	 * #cache(ActionSemantics, Action)}.
+	 *
+	 * @param  request the current request
+	 * @param  mediaType the media type of the response
+	 * @param  bytes the rendered response, already encoded
+	 * @review
+	 */
+	public void store(
+		HttpServletRequest request, String mediaType, byte[] bytes) {
+
+		Pending pending = _removePending(request);
+
+		if (pending != null) {
+			_store(
+				pending, mediaType,
+				new CachedResponse(mediaType, bytes, pending._eTag));
+		}
+	}
+
+	/**
+	 * Stores the rendered response of an item, if the current request was
+	 * marked as cacheable by an action returned from {@link
+	 * #cache(ActionSemantics, Action)}.
+	 *
+	 * @param  request the current request
+	 * @param  mediaType the media type of the response
+	 * @param  body the rendered response
+	 * @review
+	 */
+	public void store(
+		HttpServletRequest request, String mediaType, String body) {
+
+		Pending pending = _removePending(request);
+
+		if (pending != null) {
+			String content = body + System.lineSeparator();
+
+			_store(
+				pending, mediaType,
+				new CachedResponse(
+					mediaType, content.getBytes(UTF_8), pending._eTag));
+		}
+	}
+
+	@Activate
+	@Modified
+	protected void activate(Map<String, Object> properties) {
+		if (!getBoolean(properties, "enabled", false)) {
+			_responseCache = null;
+
+			return;
+		}
+
+		_responseCache = new ResponseCache<>(
+			getInteger(properties, "max.entries", 1000),
+			getLong(properties, "max.bytes", 16777216),
+			TimeUnit.SECONDS.toNanos(getLong(properties, "ttl.seconds", 60)),
+			System::nanoTime);
+	}
+
+	private static Object _executeAndInvalidate(
+		ResponseCache<ItemResponseCacheKey> responseCache, String group,
+		Action action, HttpServletRequest request) {
+
+		Object result = action.execute(request);
+
+		if (!(result instanceof Try) || ((Try)result).isSuccess()) {
+			responseCache.invalidate(group);
+		}
+
+		return result;
+	}
+
+	private Optional<ItemResponseCacheKey> _getKeyOptional(
+		String name, Id id, HttpServletRequest request) {
+
+		Optional<String> principalKeyOptional =
+			_providerManager.provideOptional(
+				request, PrincipalKey.class
+			).map(
+				PrincipalKey::get
+			);
+
+		if (!principalKeyOptional.isPresent()) {
+			return Optional.empty();
+		}
+
+		Map<String, String[]> parameterMap = request.getParameterMap();
+
+		Set<Map.Entry<String, String[]>> set = parameterMap.entrySet();
+
+		Stream<Map.Entry<String, String[]>> stream = set.stream();
+
+		String fields = stream.filter(
+			entry -> {
+				String key = entry.getKey();
+
+				return key.startsWith("fields");
+			}
+		).map(
+			entry -> entry.getKey() + "=" + String.join(",", entry.getValue())
+		).sorted(
+		).collect(
+			joining("&")
+		);
+
+		String locales = _providerManager.provideOptional(
+			request, AcceptLanguage.class
+		).map(
+			AcceptLanguage::getLocales
+		).map(
+			localeStream -> localeStream.map(
+				Locale::toLanguageTag
+			).collect(
+				joining(",")
+			)
+		).orElse(
+			null
+		);
+
+		String applicationURL = _providerManager.provideOptional(
+			request, ApplicationURL.class
+		).map(
+			ApplicationURL::get
+		).orElse(
+			null
+		);
+
+		return Optional.of(
+			new ItemResponseCacheKey(
+				name, id.asString(), null, fields,
+				request.getParameter("embedded"), locales, applicationURL,
+				getFingerprint(principalKeyOptional.get())));
+	}
+
+	private Pending _removePending(HttpServletRequest request) {
+		Object object = request.getAttribute(_PENDING_ATTRIBUTE);
+
+		if (!(object instanceof Pending)) {
+			return null;
+		}
+
+		request.removeAttribute(_PENDING_ATTRIBUTE);
+
+		return (Pending)object;
+	}
+
+	private void _store(
+		Pending pending, String mediaType, CachedResponse cachedResponse) {
+
+		_negotiatedMediaTypes.put(pending._accept, mediaType);
+
+		ItemResponseCacheKey itemResponseCacheKey =
+			pending._itemResponseCacheKey;
+
+		pending._responseCache.put(
+			itemResponseCacheKey.withMediaType(mediaType), pending._group,
+			cachedResponse, pending._generation);
+	}
+
+	private static final String _PENDING_ATTRIBUTE =
+		ItemResponseCache.class.getName() + "#PENDING";
+
+	private static final Predicate<ActionSemantics> _isWriteAction =
+		isUpdateAction.or(
+			isReplaceAction
+		).or(
+			isRemoveAction
+		);
+
+	private final NegotiatedMediaTypes _negotiatedMediaTypes =
+		new NegotiatedMediaTypes(100);
+
+	@Reference
+	private ProviderManager _providerManager;
+
+	private volatile ResponseCache<ItemResponseCacheKey> _responseCache;
+
+	private static class Pending {
+
+		private Pending(
+			ResponseCache<ItemResponseCacheKey> responseCache,
+			ItemResponseCacheKey itemResponseCacheKey, String accept,
+			String group, long generation) {
+
+			_responseCache = responseCache;
+			_itemResponseCacheKey = itemResponseCacheKey;
+			_accept = accept;
+			_group = group;
+			_generation = generation;
+		}
+
+		private final String _accept;
+		private String _eTag;
+		private final long _generation;
+		private final String _group;
+		private final ItemResponseCacheKey _itemResponseCacheKey;
+		private final ResponseCache<ItemResponseCacheKey> _responseCache;
+
+	}
+
+}
@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.cache;
+
+import java.util.Objects;
+
+/**
+ * Identifies a rendered item response. Two requests with equal keys must
+ * produce the same response body.
+ *
+ * @author agent
+ * @review
+ */
+public final class ItemResponseCacheKey {
+
+	public ItemResponseCacheKey(
+		String name, String id, String mediaType, String fields,
+		String embedded, String locales, String applicationURL,
+		String principalKeyFingerprint) {
+
+		_name = name;
+		_id = id;
+		_mediaType = mediaType;
+		_fields = fields;
+		_embedded = embedded;
+		_locales = locales;
+		_applicationURL = applicationURL;
+		_principalKeyFingerprint = principalKeyFingerprint;
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (this == object) {
+			return true;
+		}
+
+		if (!(object instanceof ItemResponseCacheKey)) {
+			return false;
+		}
+
+		ItemResponseCacheKey itemResponseCacheKey =
+			(ItemResponseCacheKey)object;
+
+		if (Objects.equals(_name, itemResponseCacheKey._name) &&
+			Objects.equals(_id, itemResponseCacheKey._id) &&
+			Objects.equals(_mediaType, itemResponseCacheKey._mediaType) &&
+			Objects.equals(_fields, itemResponseCacheKey._fields) &&
+			Objects.equals(_embedded, itemResponseCacheKey._embedded) &&
+			Objects.equals(_locales, itemResponseCacheKey._locales) &&
+			Objects.equals(
+				_applicationURL, itemResponseCacheKey._applicationURL) &&
+			Objects.equals(
+				_principalKeyFingerprint,
+				itemResponseCacheKey._principalKeyFingerprint)) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns the identifier of the item, as it appears in the URL.
+	 *
+	 * @review
+	 */
+	public String getId() {
+		return _id;
+	}
+
+	/**
+	 * Returns the name of the item's resource.
+	 *
+	 * @review
+	 */
+	public String getName() {
+		return _name;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(
+			_name, _id, _mediaType, _fields, _embedded, _locales,
+			_applicationURL, _principalKeyFingerprint);
+	}
+
+	@Override
+	public String toString() {
+		return "{name=" + _name + ", id=" + _id + ", mediaType=" + _mediaType +
+			", fields=" + _fields + ", embedded=" + _embedded + ", locales=" +
+				_locales + ", applicationURL=" + _applicationURL + "}";
+	}
+
+	/**
+	 * Returns a copy of this key for responses of the provided media type.
+	 *
+	 * @param  mediaType the media type of the response
+	 * @return the key for the media type
+	 * @review
+	 */
+	public ItemResponseCacheKey withMediaType(String mediaType) {
+		return new ItemResponseCacheKey(
+			_name, _id, mediaType, _fields, _embedded, _locales,
+			_applicationURL, _principalKeyFingerprint);
+	}
+
+	private final String _applicationURL;
+	private final String _embedded;
+	private final String _fields;
+	private final String _id;
+	private final String _locales;
+	private final String _mediaType;
+	private final String _name;
+	private final String _principalKeyFingerprint;
+
+}
@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.cache;
+
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers the media type that the writers negotiated for each {@code Accept}
+ * header, so response caches can be keyed by the media type of the response
+ * before it's written.
+ *
+ * <p>
+ * The negotiation only depends on the {@code Accept} header and the registered
+ * message mappers, so every entry is discarded when the {@link
+ * com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache}
+ * is cleared. Once full, new headers are not remembered until then.
+ * </p>
+ *
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ *
+ * @author agent
+ * @review
+ */
+public final class NegotiatedMediaTypes {
+
+	public NegotiatedMediaTypes(int maxEntries) {
+		_maxEntries = maxEntries;
+	}
+
+	/**
+	 * Returns the media type negotiated for the {@code Accept} header, if
+	 * known; returns {@code Optional#empty()} otherwise.
+	 *
+	 * @param  accept the {@code Accept} header, or {@code null} if not present
+	 * @return the negotiated media type, if known; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public Optional<String> get(String accept) {
+		_checkGeneration();
+
+		return Optional.ofNullable(_mediaTypes.get(String.valueOf(accept)));
+	}
+
+	/**
+	 * Remembers the media type negotiated for the {@code Accept} header.
+	 *
+	 * @param  accept the {@code Accept} header, or {@code null} if not present
+	 * @param  mediaType the negotiated media type
+	 * @review
+	 */
+	public void put(String accept, String mediaType) {
+		_checkGeneration();
+
+		if (_mediaTypes.size() < _maxEntries) {
+			_mediaTypes.put(String.valueOf(accept), mediaType);
+		}
+	}
+
+	private void _checkGeneration() {
+		long generation = INSTANCE.getGeneration();
+
+		if (generation == _registryGeneration) {
+			return;
+		}
+
+		synchronized (this) {
+			if (generation != _registryGeneration) {
+				_mediaTypes.clear();
+
+				_registryGeneration = generation;
+			}
+		}
+	}
+
+	private final int _maxEntries;
+	private final Map<String, String> _mediaTypes = new ConcurrentHashMap<>();
+	private volatile long _registryGeneration = INSTANCE.getGeneration();
+
+}
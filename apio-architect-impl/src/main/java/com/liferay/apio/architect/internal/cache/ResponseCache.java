@@ -0,0 +1,377 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * A size-bounded, least-recently-used cache of {@link CachedResponse}
+ * instances with a time to live.
+ *
+ * <p>
+ * The cache is bounded both by number of entries and by the total size of the
+ * cached bodies. Entries can be stored under a group (for example, the item
+ * they represent), so all the entries of a group can be invalidated at once.
+ * </p>
+ *
+ * <p>
+ * Invalidating a group only discards the in-flight responses of that group:
+ * the cache remembers the generation at which each of the most recently
+ * invalidated groups was invalidated, and a response is only discarded if its
+ * own group was invalidated, or the cache cleared, after it started being
+ * rendered. Once a group is forgotten, responses rendered before its
+ * invalidation are discarded for every group, so a stale response is never
+ * stored.
+ * </p>
+ *
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ *
+ * @author agent
+ * @review
+ */
+public class ResponseCache<K> {
+
+	public ResponseCache(
+		int maxEntries, long maxBytes, long timeToLiveNanos,
+		LongSupplier nanoTimeSupplier) {
+
+		_maxEntries = maxEntries;
+		_maxBytes = maxBytes;
+		_timeToLiveNanos = timeToLiveNanos;
+		_nanoTimeSupplier = nanoTimeSupplier;
+	}
+
+	/**
+	 * Removes every entry from the cache.
+	 *
+	 * @review
+	 */
+	public synchronized void clear() {
+		_entries.clear();
+		_groups.clear();
+		_invalidatedGenerations.clear();
+
+		_bytes = 0;
+
+		_generation++;
+
+		_clearedGeneration = _generation;
+	}
+
+	/**
+	 * Returns the cached response for the key, if present and not expired;
+	 * returns {@code Optional#empty()} otherwise.
+	 *
+	 * @param  key the key
+	 * @return the cached response, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public Optional<CachedResponse> get(K key) {
+		Entry<K> entry;
+
+		synchronized (this) {
+			entry = _entries.get(key);
+
+			if ((entry != null) &&
+				((_nanoTimeSupplier.getAsLong() - entry._createdNanos) >
+					_timeToLiveNanos)) {
+
+				_remove(entry);
+
+				entry = null;
+			}
+		}
+
+		if (entry == null) {
+			_missCount.increment();
+
+			return Optional.empty();
+		}
+
+		_hitCount.increment();
+
+		return Optional.of(entry._cachedResponse);
+	}
+
+	/**
+	 * Returns the total size of the cached responses, in bytes.
+	 *
+	 * @review
+	 */
+	public synchronized long getBytes() {
+		return _bytes;
+	}
+
+	/**
+	 * Returns the number of entries removed to make room for new ones.
+	 *
+	 * @review
+	 */
+	public long getEvictionCount() {
+		return _evictionCount.sum();
+	}
+
+	/**
+	 * Returns the current generation of the cache. The generation changes
+	 * every time a group is invalidated or the cache is cleared, and must be
+	 * read before rendering a response that is going to be stored with {@link
+	 * #put(Object, Object, CachedResponse, long)}, which ignores the response
+	 * if its group has been invalidated since.
+	 *
+	 * @review
+	 */
+	public synchronized long getGeneration() {
+		return _generation;
+	}
+
+	/**
+	 * Returns the number of successful lookups.
+	 *
+	 * @review
+	 */
+	public long getHitCount() {
+		return _hitCount.sum();
+	}
+
+	/**
+	 * Returns the number of entries removed by {@link #invalidate(Object)}.
+	 *
+	 * @review
+	 */
+	public long getInvalidationCount() {
+		return _invalidationCount.sum();
+	}
+
+	/**
+	 * Returns the number of unsuccessful lookups.
+	 *
+	 * @review
+	 */
+	public long getMissCount() {
+		return _missCount.sum();
+	}
+
+	/**
+	 * Returns the number of entries in the cache.
+	 *
+	 * @review
+	 */
+	public synchronized int getSize() {
+		return _entries.size();
+	}
+
+	/**
+	 * Removes every entry stored under the provided group.
+	 *
+	 * @param  group the group
+	 * @review
+	 */
+	public synchronized void invalidate(Object group) {
+		_generation++;
+
+		_invalidatedGenerations.remove(group);
+
+		_invalidatedGenerations.put(group, _generation);
+
+		Collection<Long> invalidatedGenerations =
+			_invalidatedGenerations.values();
+
+		Iterator<Long> iterator = invalidatedGenerations.iterator();
+
+		while ((_invalidatedGenerations.size() > _maxEntries) &&
+			   iterator.hasNext()) {
+
+			_forgottenGeneration = Math.max(
+				_forgottenGeneration, iterator.next());
+
+			iterator.remove();
+		}
+
+		Set<K> keys = _groups.remove(group);
+
+		if (keys == null) {
+			return;
+		}
+
+		for (K key : keys) {
+			Entry<K> entry = _entries.remove(key);
+
+			if (entry != null) {
+				_bytes -= entry._cachedResponse.getSize();
+
+				_invalidationCount.increment();
+			}
+		}
+	}
+
+	/**
+	 * Stores a response in the cache, evicting the least recently used
+	 * entries if the cache is full. Responses bigger than the whole cache, or
+	 * rendered before the last invalidation of their group, are ignored, so a
+	 * stale response is never stored.
+	 *
+	 * @param  key the key
+	 * @param  group the group of the entry, or {@code null} if it doesn't
+	 *         belong to any group
+	 * @param  cachedResponse the response
+	 * @param  generation the generation of the cache when the response started
+	 *         being rendered
+	 * @review
+	 */
+	public synchronized void put(
+		K key, Object group, CachedResponse cachedResponse, long generation) {
+
+		if (_isStale(group, generation) ||
+			(cachedResponse.getSize() > _maxBytes)) {
+
+			return;
+		}
+
+		Entry<K> previous = _entries.get(key);
+
+		if (previous != null) {
+			_remove(previous);
+		}
+
+		_entries.put(
+			key,
+			new Entry<>(
+				key, group, cachedResponse, _nanoTimeSupplier.getAsLong()));
+
+		_bytes += cachedResponse.getSize();
+
+		if (group != null) {
+			Set<K> keys = _groups.computeIfAbsent(group, __ -> new HashSet<>());
+
+			keys.add(key);
+		}
+
+		Collection<Entry<K>> entries = _entries.values();
+
+		Iterator<Entry<K>> iterator = entries.iterator();
+
+		while (((_entries.size() > _maxEntries) || (_bytes > _maxBytes)) &&
+			   iterator.hasNext()) {
+
+			Entry<K> eldest = iterator.next();
+
+			iterator.remove();
+
+			_removeFromGroup(eldest);
+
+			_bytes -= eldest._cachedResponse.getSize();
+
+			_evictionCount.increment();
+		}
+	}
+
+	private boolean _isStale(Object group, long generation) {
+		if ((generation < _clearedGeneration) ||
+			(generation < _forgottenGeneration)) {
+
+			return true;
+		}
+
+		if (group == null) {
+			return false;
+		}
+
+		Long invalidatedGeneration = _invalidatedGenerations.get(group);
+
+		if ((invalidatedGeneration != null) &&
+			(generation < invalidatedGeneration)) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	private void _remove(Entry<K> entry) {
+		_entries.remove(entry._key);
+
+		_removeFromGroup(entry);
+
+		_bytes -= entry._cachedResponse.getSize();
+	}
+
+	private void _removeFromGroup(Entry<K> entry) {
+		if (entry._group == null) {
+			return;
+		}
+
+		Set<K> keys = _groups.get(entry._group);
+
+		if (keys == null) {
+			return;
+		}
+
+		keys.remove(entry._key);
+
+		if (keys.isEmpty()) {
+			_groups.remove(entry._group);
+		}
+	}
+
+	private long _bytes;
+	private long _clearedGeneration;
+	private final Map<K, Entry<K>> _entries = new LinkedHashMap<>(
+		16, 0.75F, true);
+	private final LongAdder _evictionCount = new LongAdder();
+	private long _forgottenGeneration;
+	private long _generation;
+	private final Map<Object, Set<K>> _groups = new HashMap<>();
+	private final LongAdder _hitCount = new LongAdder();
+	private final Map<Object, Long> _invalidatedGenerations =
+		new LinkedHashMap<>();
+	private final LongAdder _invalidationCount = new LongAdder();
+	private final long _maxBytes;
+	private final int _maxEntries;
+	private final LongAdder _missCount = new LongAdder();
+	private final LongSupplier _nanoTimeSupplier;
+	private final long _timeToLiveNanos;
+
+	private static class Entry<K> {
+
+		private Entry(
+			K key, Object group, CachedResponse cachedResponse,
+			long createdNanos) {
+
+			_key = key;
+			_group = group;
+			_cachedResponse = cachedResponse;
+			_createdNanos = createdNanos;
+		}
+
+		private final CachedResponse _cachedResponse;
+		private final long _createdNanos;
+		private final Object _group;
+		private final K _key;
+
+	}
+
+}
@@ -0,0 +1,291 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.coalescing;
+
+import static com.liferay.apio.architect.internal.action.Predicates.isRetrieveAction;
+import static com.liferay.apio.architect.internal.cache.ETagUtil.getFingerprint;
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getBoolean;
+
+import static java.util.stream.Collectors.joining;
+
+import com.liferay.apio.architect.credentials.PrincipalKey;
+import com.liferay.apio.architect.internal.action.ActionSemantics;
+import com.liferay.apio.architect.internal.annotation.Action;
+import com.liferay.apio.architect.internal.metrics.MetricsRegistry;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.provider.ProviderManager;
+import com.liferay.apio.architect.language.AcceptLanguage;
+import com.liferay.apio.architect.resource.Resource;
+import com.liferay.apio.architect.resource.Resource.Id;
+import com.liferay.apio.architect.resource.Resource.Item;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Coalesces identical concurrent retrievals of an item (single-flight): while
+ * a retrieval is in flight, every other retrieval of the same item by the
+ * same principal waits for it and shares its result, instead of executing the
+ * action again.
+ *
+ * <p>
+ * Retrievals are considered identical if they have the same resource name,
+ * item ID, {@link PrincipalKey} fingerprint, requested fields and embedded
+ * resources, and accepted languages, like the keys of {@link
+ * com.liferay.apio.architect.internal.cache.ItemResponseCache}, since routers
+ * may project or localize the retrieved model using them. Requests without a
+ * {@link PrincipalKey} are never coalesced. Other request data is not part of
+ * the key, so this must only be enabled if the retrieve functions don't
+ * depend on it. Results are never kept once the retrieval ends: this is not a
+ * cache.
+ * </p>
+ *
+ * <p>
+ * Coalescing is disabled by default. It can be enabled through this
+ * component's configuration. Coalesced calls are reported in the action
+ * metrics.
+ * </p>
+ *
+ * @author agent
+ * @review
+ */
+@Component(property = "enabled=false", service = RequestCoalescer.class)
+public class RequestCoalescer {
+
+	/**
+	 * Returns an action that shares the in-flight execution of an identical
+	 * retrieval, if any; or executes the provided action otherwise.
+	 *
+	 * <p>
+	 * Only actions that retrieve an item are coalesced. Any other action, or
+	 * every action if coalescing is disabled, is returned unchanged.
+	 * </p>
+	 *
+	 * @param  actionSemantics the semantics of the action
+	 * @param  action the action
+	 * @return the coalesced action
+	 * @review
+	 */
+	public Action coalesce(ActionSemantics actionSemantics, Action action) {
+		if (!_enabled || !isRetrieveAction.test(actionSemantics)) {
+			return action;
+		}
+
+		Resource resource = actionSemantics.getResource();
+
+		if (!(resource instanceof Item)) {
+			return action;
+		}
+
+		Item item = (Item)resource;
+
+		Optional<Id> optional = item.getIdOptional();
+
+		if (!optional.isPresent()) {
+			return action;
+		}
+
+		String name = item.getName();
+
+		Id id = optional.get();
+
+		return (Action.Ok)request -> {
+			Optional<Key> keyOptional = _getKeyOptional(name, id, request);
+
+			if (!keyOptional.isPresent()) {
+				return action.execute(request);
+			}
+
+			return _singleFlight.execute(
+				keyOptional.get(), () -> action.execute(request),
+				() -> _metricsRegistry.recordCoalescedCall(request));
+		};
+	}
+
+	/**
+	 * Returns the number of retrievals that have shared the execution of an
+	 * identical concurrent retrieval.
+	 *
+	 * @return the number of coalesced retrievals
+	 * @review
+	 */
+	public long getCoalescedCount() {
+		return _singleFlight.getCoalescedCount();
+	}
+
+	/**
+	 * Returns the number of coalesced retrievals executed.
+	 *
+	 * @return the number of executions
+	 * @review
+	 */
+	public long getExecutionCount() {
+		return _singleFlight.getExecutionCount();
+	}
+
+	/**
+	 * Returns the number of retrievals currently in flight.
+	 *
+	 * @return the number of retrievals in flight
+	 * @review
+	 */
+	public int getInFlightCount() {
+		return _singleFlight.getInFlightCount();
+	}
+
+	/**
+	 * Returns {@code true} if retrievals are being coalesced.
+	 *
+	 * @review
+	 */
+	public boolean isEnabled() {
+		return _enabled;
+	}
+
+	@Activate
+	@Modified
+	protected void activate(Map<String, Object> properties) {
+		_enabled = getBoolean(properties, "enabled", false);
+	}
+
+	private Optional<Key> _getKeyOptional(
+		String name, Id id, HttpServletRequest request) {
+
+		Optional<String> principalKeyOptional =
+			_providerManager.provideOptional(
+				request, PrincipalKey.class
+			).map(
+				PrincipalKey::get
+			);
+
+		if (!principalKeyOptional.isPresent()) {
+			return Optional.empty();
+		}
+
+		Map<String, String[]> parameterMap = request.getParameterMap();
+
+		Set<Map.Entry<String, String[]>> set = parameterMap.entrySet();
+
+		Stream<Map.Entry<String, String[]>> stream = set.stream();
+
+		String fields = stream.filter(
+			entry -> {
+				String key = entry.getKey();
+
+				return key.startsWith("fields");
+			}
+		).map(
+			entry -> entry.getKey() + "=" + String.join(",", entry.getValue())
+		).sorted(
+		).collect(
+			joining("&")
+		);
+
+		String locales = _providerManager.provideOptional(
+			request, AcceptLanguage.class
+		).map(
+			AcceptLanguage::getLocales
+		).map(
+			localeStream -> localeStream.map(
+				Locale::toLanguageTag
+			).collect(
+				joining(",")
+			)
+		).orElse(
+			null
+		);
+
+		return Optional.of(
+			new Key(
+				name, id.asString(), fields, request.getParameter("embedded"),
+				locales, getFingerprint(principalKeyOptional.get())));
+	}
+
+	private volatile boolean _enabled;
+
+	@Reference
+	private MetricsRegistry _metricsRegistry;
+
+	@Reference
+	private ProviderManager _providerManager;
+
+	private final SingleFlight<Key, Object> _singleFlight =
+		new SingleFlight<>();
+
+	private static class Key {
+
+		@Override
+		public boolean equals(Object object) {
+			if (this == object) {
+				return true;
+			}
+
+			if (!(object instanceof Key)) {
+				return false;
+			}
+
+			Key key = (Key)object;
+
+			if (_name.equals(key._name) && _id.equals(key._id) &&
+				_fields.equals(key._fields) &&
+				Objects.equals(_embedded, key._embedded) &&
+				Objects.equals(_locales, key._locales) &&
+				_principalKeyFingerprint.equals(key._principalKeyFingerprint)) {
+
+				return true;
+			}
+
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(
+				_name, _id, _fields, _embedded, _locales,
+				_principalKeyFingerprint);
+		}
+
+		private Key(
+			String name, String id, String fields, String embedded,
+			String locales, String principalKeyFingerprint) {
+
+			_name = name;
+			_id = id;
+			_fields = fields;
+			_embedded = embedded;
+			_locales = locales;
+			_principalKeyFingerprint = principalKeyFingerprint;
+		}
+
+		private final String _embedded;
+		private final String _fields;
+		private final String _id;
+		private final String _locales;
+		private final String _name;
+		private final String _principalKeyFingerprint;
+
+	}
+
+}
@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.coalescing;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Shares the execution of a computation between the concurrent callers that
+ * request it with the same key (single-flight).
+ *
+ * <p>
+ * The first caller of a key executes the computation in its own thread. Any
+ * caller requesting the same key before it finishes waits for it, and gets
+ * the same result, or the same exception. Results are forgotten as soon as
+ * the computation finishes, so later callers execute it again.
+ * </p>
+ *
+ * <p>
+ * The computation of a key must not request the same key, or it would wait
+ * for itself forever.
+ * </p>
+ *
+ * @author agent
+ * @review
+ */
+public final class SingleFlight<K, V> {
+
+	/**
+	 * Returns the result of the computation for the key, sharing the
+	 * execution in flight for that key, if any; or executing the supplier
+	 * otherwise.
+	 *
+	 * @param  key the key of the computation
+	 * @param  supplier the computation
+	 * @param  coalescedRunnable the code to run before waiting for an
+	 *         execution in flight
+	 * @return the result of the computation
+	 * @review
+	 */
+	public V execute(K key, Supplier<V> supplier, Runnable coalescedRunnable) {
+		CompletableFuture<V> completableFuture = new CompletableFuture<>();
+
+		CompletableFuture<V> inFlightCompletableFuture = _inFlight.putIfAbsent(
+			key, completableFuture);
+
+		if (inFlightCompletableFuture != null) {
+			_coalescedCount.increment();
+
+			coalescedRunnable.run();
+
+			return _join(inFlightCompletableFuture);
+		}
+
+		_executionCount.increment();
+
+		try {
+			V v = supplier.get();
+
+			completableFuture.complete(v);
+
+			return v;
+		}
+		catch (RuntimeException | Error e) {
+			completableFuture.completeExceptionally(e);
+
+			throw e;
+		}
+		finally {
+			_inFlight.remove(key, completableFuture);
+		}
+	}
+
+	/**
+	 * Returns the number of calls that have shared an execution in flight.
+	 *
+	 * @return the number of coalesced calls
+	 * @review
+	 */
+	public long getCoalescedCount() {
+		return _coalescedCount.sum();
+	}
+
+	/**
+	 * Returns the number of executions, whether or not other calls shared
+	 * them.
+	 *
+	 * @return the number of executions
+	 * @review
+	 */
+	public long getExecutionCount() {
+		return _executionCount.sum();
+	}
+
+	/**
+	 * Returns the number of executions currently in flight.
+	 *
+	 * @return the number of executions in flight
+	 * @review
+	 */
+	public int getInFlightCount() {
+		return _inFlight.size();
+	}
+
+	private V _join(CompletableFuture<V> completableFuture) {
+		try {
+			return completableFuture.join();
+		}
+		catch (CompletionException ce) {
+			Throwable throwable = ce.getCause();
+
+			if (throwable instanceof RuntimeException) {
+				throw (RuntimeException)throwable;
+			}
+
+			if (throwable instanceof Error) {
+				throw (Error)throwable;
+			}
+
+			throw ce;
+		}
+	}
+
+	private final LongAdder _coalescedCount = new LongAdder();
+	private final LongAdder _executionCount = new LongAdder();
+	private final Map<K, CompletableFuture<V>> _inFlight =
+		new ConcurrentHashMap<>();
+
+}
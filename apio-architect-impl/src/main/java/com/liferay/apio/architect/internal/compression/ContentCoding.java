@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.compression;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Defines the content codings in which responses can be compressed, and
+ * negotiates them with the request's {@code Accept-Encoding} header.
+ *
+ * @author agent
+ * @review
+ */
+public enum ContentCoding {
+
+	GZIP("gzip", true), DEFLATE("deflate", false);
+
+	/**
+	 * Returns the content coding preferred by the value of an {@code
+	 * Accept-Encoding} header, if any is acceptable; returns {@code
+	 * Optional#empty()} otherwise. Codings explicitly listed take precedence
+	 * over the {@code *} wildcard, and {@code gzip} is preferred when both
+	 * codings have the same quality value.
+	 *
+	 * @param  acceptEncoding the {@code Accept-Encoding} header value, or
+	 *         {@code null} if not present
+	 * @return the preferred content coding, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public static Optional<ContentCoding> negotiate(String acceptEncoding) {
+		if (acceptEncoding == null) {
+			return Optional.empty();
+		}
+
+		Map<ContentCoding, Double> qualities = new EnumMap<>(
+			ContentCoding.class);
+
+		double wildcardQuality = 0;
+
+		for (String element : acceptEncoding.split(",")) {
+			String[] parts = element.split(";");
+
+			String name = parts[0].trim();
+
+			double quality = _getQuality(parts);
+
+			if (name.equals("*")) {
+				wildcardQuality = quality;
+
+				continue;
+			}
+
+			ContentCoding contentCoding = _fromName(name);
+
+			if (contentCoding != null) {
+				qualities.put(contentCoding, quality);
+			}
+		}
+
+		ContentCoding preferredContentCoding = null;
+		double preferredQuality = 0;
+
+		for (ContentCoding contentCoding : values()) {
+			double quality = qualities.getOrDefault(
+				contentCoding, wildcardQuality);
+
+			if (quality > preferredQuality) {
+				preferredContentCoding = contentCoding;
+				preferredQuality = quality;
+			}
+		}
+
+		return Optional.ofNullable(preferredContentCoding);
+	}
+
+	/**
+	 * Returns the name of the content coding, used in the {@code
+	 * Content-Encoding} header.
+	 *
+	 * @return the content coding's name
+	 * @review
+	 */
+	public String getName() {
+		return _name;
+	}
+
+	/**
+	 * Returns {@code true} if the content coding wraps the raw deflate data in
+	 * its own format (the gzip file format), so the {@link
+	 * java.util.zip.Deflater} must not write the zlib header and checksum.
+	 *
+	 * @return {@code true} if the deflater must omit the zlib wrapper; {@code
+	 *         false} otherwise
+	 * @review
+	 */
+	public boolean isNowrap() {
+		return _nowrap;
+	}
+
+	private static ContentCoding _fromName(String name) {
+		name = name.toLowerCase(Locale.ENGLISH);
+
+		if (name.equals("gzip") || name.equals("x-gzip")) {
+			return GZIP;
+		}
+
+		if (name.equals("deflate")) {
+			return DEFLATE;
+		}
+
+		return null;
+	}
+
+	private static double _getQuality(String[] parts) {
+		for (int i = 1; i < parts.length; i++) {
+			String parameter = parts[i].trim();
+
+			if (!parameter.startsWith("q=")) {
+				continue;
+			}
+
+			try {
+				return Double.parseDouble(parameter.substring(2));
+			}
+			catch (NumberFormatException nfe) {
+				return 0;
+			}
+		}
+
+		return 1;
+	}
+
+	private ContentCoding(String name, boolean nowrap) {
+		_name = name;
+		_nowrap = nowrap;
+	}
+
+	private final String _name;
+	private final boolean _nowrap;
+
+}
@@ -0,0 +1,178 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.util.function.Function;
+
+/**
+ * Defers the decision of compressing the data written to an output stream
+ * until more bytes than a threshold have been written. Until then, the data is
+ * kept in memory, so it can still be written uncompressed if the stream is
+ * closed before reaching the threshold.
+ *
+ * <p>
+ * Once the threshold is exceeded, the compression function is called with the
+ * underlying output stream, and the data is written to the output stream it
+ * returns, which can be the same one if the data mustn't be compressed.
+ * Response headers can therefore be changed from the compression function,
+ * since nothing has been written to the underlying output stream yet.
+ * </p>
+ *
+ * @author agent
+ * @review
+ */
+public class DeferredCompressionOutputStream extends OutputStream {
+
+	public DeferredCompressionOutputStream(
+		OutputStream outputStream, int threshold,
+		Function<OutputStream, OutputStream> compressionFunction) {
+
+		_outputStream = outputStream;
+		_threshold = threshold;
+		_compressionFunction = compressionFunction;
+	}
+
+	/**
+	 * Closes the output stream without writing the data kept in memory or
+	 * finishing the compressed data, and returns the deflater, if any, to its
+	 * pool. This must be called when writing the data fails, so the deflater
+	 * isn't lost. Calls after the output stream has been closed are ignored.
+	 *
+	 * @review
+	 */
+	public void abort() {
+		if (_closed) {
+			return;
+		}
+
+		_closed = true;
+
+		_byteArrayOutputStream = null;
+
+		if (_delegateOutputStream instanceof PooledDeflaterOutputStream) {
+			PooledDeflaterOutputStream pooledDeflaterOutputStream =
+				(PooledDeflaterOutputStream)_delegateOutputStream;
+
+			pooledDeflaterOutputStream.abort();
+		}
+	}
+
+	/**
+	 * Writes the data kept in memory, if the threshold hasn't been exceeded,
+	 * and closes the output stream. Further calls are ignored.
+	 *
+	 * @throws IOException if the data couldn't be written
+	 * @review
+	 */
+	@Override
+	public void close() throws IOException {
+		if (_closed) {
+			return;
+		}
+
+		_closed = true;
+
+		if (_delegateOutputStream != null) {
+			_delegateOutputStream.close();
+
+			return;
+		}
+
+		try {
+			_byteArrayOutputStream.writeTo(_outputStream);
+		}
+		finally {
+			_outputStream.close();
+		}
+	}
+
+	/**
+	 * Flushes the output stream, if the threshold has already been exceeded.
+	 * Otherwise, the data is kept in memory until the threshold is exceeded or
+	 * the output stream is closed.
+	 *
+	 * @throws IOException if the data couldn't be flushed
+	 * @review
+	 */
+	@Override
+	public void flush() throws IOException {
+		if (_delegateOutputStream != null) {
+			_delegateOutputStream.flush();
+		}
+	}
+
+	/**
+	 * Returns {@code true} if the threshold has been exceeded, and the data is
+	 * being written to the output stream returned by the compression function.
+	 *
+	 * @return {@code true} if the threshold has been exceeded; {@code false}
+	 *         otherwise
+	 * @review
+	 */
+	public boolean isThresholdExceeded() {
+		if (_delegateOutputStream != null) {
+			return true;
+		}
+
+		return false;
+	}
+
+	@Override
+	public void write(byte[] bytes, int offset, int length)
+		throws IOException {
+
+		if (_closed) {
+			throw new IOException("Stream closed");
+		}
+
+		if (_delegateOutputStream != null) {
+			_delegateOutputStream.write(bytes, offset, length);
+
+			return;
+		}
+
+		if ((_byteArrayOutputStream.size() + length) <= _threshold) {
+			_byteArrayOutputStream.write(bytes, offset, length);
+
+			return;
+		}
+
+		_delegateOutputStream = _compressionFunction.apply(_outputStream);
+
+		_byteArrayOutputStream.writeTo(_delegateOutputStream);
+
+		_byteArrayOutputStream = null;
+
+		_delegateOutputStream.write(bytes, offset, length);
+	}
+
+	@Override
+	public void write(int value) throws IOException {
+		write(new byte[] {(byte)value}, 0, 1);
+	}
+
+	private ByteArrayOutputStream _byteArrayOutputStream =
+		new ByteArrayOutputStream();
+	private boolean _closed;
+	private final Function<OutputStream, OutputStream> _compressionFunction;
+	private OutputStream _delegateOutputStream;
+	private final OutputStream _outputStream;
+	private final int _threshold;
+
+}
@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.compression;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.Deflater;
+
+/**
+ * Keeps a bounded number of idle {@link Deflater} instances, so responses can
+ * be compressed without allocating (and freeing) the native zlib state of a
+ * new {@code Deflater} each time.
+ *
+ * <p>
+ * A {@code Deflater} is borrowed with the compression level of the response
+ * and must be released once the response has been compressed. Released
+ * deflaters are reset and kept if the pool isn't full; otherwise, they're
+ * ended immediately.
+ * </p>
+ *
+ * @author agent
+ * @review
+ */
+public class DeflaterPool {
+
+	public DeflaterPool(int maxSize, boolean nowrap) {
+		_deflaters = new ArrayBlockingQueue<>(Math.max(maxSize, 1));
+		_nowrap = nowrap;
+	}
+
+	/**
+	 * Returns an idle {@code Deflater} with the provided compression level, or
+	 * a new one if the pool is empty.
+	 *
+	 * @param  level the compression level, from {@code 1} to {@code 9}
+	 * @return the {@code Deflater}
+	 * @review
+	 */
+	public Deflater borrow(int level) {
+		Deflater deflater = _deflaters.poll();
+
+		if (deflater == null) {
+			return new Deflater(level, _nowrap);
+		}
+
+		deflater.setLevel(level);
+
+		return deflater;
+	}
+
+	/**
+	 * Ends every idle {@code Deflater}. Deflaters released afterwards are
+	 * ended instead of being kept.
+	 *
+	 * @review
+	 */
+	public void close() {
+		_closed = true;
+
+		Deflater deflater;
+
+		while ((deflater = _deflaters.poll()) != null) {
+			deflater.end();
+		}
+	}
+
+	/**
+	 * Returns the number of idle deflaters in the pool.
+	 *
+	 * @return the number of idle deflaters
+	 * @review
+	 */
+	public int getIdleCount() {
+		return _deflaters.size();
+	}
+
+	/**
+	 * Returns a borrowed {@code Deflater} to the pool.
+	 *
+	 * @param  deflater the {@code Deflater}
+	 * @review
+	 */
+	public void release(Deflater deflater) {
+		deflater.reset();
+
+		if (_closed || !_deflaters.offer(deflater)) {
+			deflater.end();
+
+			return;
+		}
+
+		if (_closed) {
+			close();
+		}
+	}
+
+	private volatile boolean _closed;
+	private final BlockingQueue<Deflater> _deflaters;
+	private final boolean _nowrap;
+
+}
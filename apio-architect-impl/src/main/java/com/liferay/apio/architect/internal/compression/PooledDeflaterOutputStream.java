@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.compression;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Compresses the data written to an output stream with a {@link Deflater}
+ * borrowed from a {@link DeflaterPool}, in the format of a {@link
+ * ContentCoding}. The deflater is returned to the pool as soon as the stream
+ * is finished.
+ *
+ * <p>
+ * Flushing the stream flushes the data compressed so far, so streamed
+ * responses keep being delivered progressively.
+ * </p>
+ *
+ * @author agent
+ * @review
+ */
+public class PooledDeflaterOutputStream extends DeflaterOutputStream {
+
+	public PooledDeflaterOutputStream(
+		OutputStream outputStream, ContentCoding contentCoding,
+		DeflaterPool deflaterPool, int level) {
+
+		super(outputStream, deflaterPool.borrow(level), _BUFFER_SIZE, true);
+
+		_contentCoding = contentCoding;
+		_deflaterPool = deflaterPool;
+	}
+
+	/**
+	 * Returns the deflater to the pool without writing the rest of the
+	 * compressed data, nor closing the underlying output stream. Calls after
+	 * the stream has been finished are ignored.
+	 *
+	 * @review
+	 */
+	public void abort() {
+		if (_finished) {
+			return;
+		}
+
+		_finished = true;
+
+		_deflaterPool.release(def);
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (_closed) {
+			return;
+		}
+
+		_closed = true;
+
+		try {
+			finish();
+		}
+		finally {
+			out.close();
+		}
+	}
+
+	/**
+	 * Finishes writing the compressed data, without closing the underlying
+	 * output stream, and returns the deflater to the pool. Further calls are
+	 * ignored.
+	 *
+	 * @throws IOException if the compressed data couldn't be written
+	 * @review
+	 */
+	@Override
+	public void finish() throws IOException {
+		if (_finished) {
+			return;
+		}
+
+		_finished = true;
+
+		try {
+			_writeHeader();
+
+			super.finish();
+
+			if (_contentCoding == ContentCoding.GZIP) {
+				_writeInt((int)_crc32.getValue());
+				_writeInt((int)def.getBytesRead());
+			}
+		}
+		finally {
+			_deflaterPool.release(def);
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		if (!_finished) {
+			_writeHeader();
+
+			super.flush();
+		}
+	}
+
+	@Override
+	public void write(byte[] bytes, int offset, int length)
+		throws IOException {
+
+		if (_finished) {
+			throw new IOException("Stream already finished");
+		}
+
+		_writeHeader();
+
+		super.write(bytes, offset, length);
+
+		if (_contentCoding == ContentCoding.GZIP) {
+			_crc32.update(bytes, offset, length);
+		}
+	}
+
+	private void _writeHeader() throws IOException {
+		if (_headerWritten) {
+			return;
+		}
+
+		_headerWritten = true;
+
+		if (_contentCoding == ContentCoding.GZIP) {
+			out.write(_GZIP_HEADER);
+		}
+	}
+
+	private void _writeInt(int value) throws IOException {
+		out.write(value & 0xff);
+		out.write((value >> 8) & 0xff);
+		out.write((value >> 16) & 0xff);
+		out.write((value >> 24) & 0xff);
+	}
+
+	private static final int _BUFFER_SIZE = 8192;
+
+	private static final byte[] _GZIP_HEADER = {
+		(byte)0x1f, (byte)0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0
+	};
+
+	private boolean _closed;
+	private final ContentCoding _contentCoding;
+	private final CRC32 _crc32 = new CRC32();
+	private final DeflaterPool _deflaterPool;
+	private boolean _finished;
+	private boolean _headerWritten;
+
+}
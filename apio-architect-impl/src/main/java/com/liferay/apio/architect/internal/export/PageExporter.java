@@ -0,0 +1,293 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.export;
+
+import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getBoolean;
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getInteger;
+
+import com.liferay.apio.architect.internal.action.ActionSemantics;
+import com.liferay.apio.architect.internal.annotation.Action;
+import com.liferay.apio.architect.internal.pagination.PageImpl;
+import com.liferay.apio.architect.internal.pagination.PaginationImpl;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.pagination.PageItems;
+import com.liferay.apio.architect.pagination.Pagination;
+
+import io.vavr.control.Try;
+
+import java.io.Closeable;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.HttpMethod;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
+
+/**
+ * Lets clients export a whole collection in a single streamed response, by
+ * adding the {@code export=true} parameter to the request of a page.
+ *
+ * <p>
+ * An exported collection is retrieved server-side one page at a time: the
+ * collection's action is executed again for every page, with a {@link
+ * Pagination} of {@code page.size} items and the next page number (see {@link
+ * #getPaginationOptional(HttpServletRequest)}), and the next page isn't
+ * retrieved until every item of the current one has been written. Exports
+ * can only be written with a media type whose items are delimited (see {@code
+ * PageMessageMapper#isItemDelimited()}), such as {@code application/x-ndjson},
+ * so memory use is bounded by the size of a page, regardless of the size of
+ * the collection.
+ * </p>
+ *
+ * <p>
+ * Since pages are requested by offset, and not with a keyset, an export is not
+ * a consistent snapshot of the collection: if items are added or removed while
+ * it's being written, later pages shift, so some items can be skipped or
+ * written twice. Clients that need an exact copy must export a collection that
+ * isn't being modified, or deduplicate the items by their identifier.
+ * </p>
+ *
+ * <p>
+ * Exports are disabled by default. They can be enabled, and the size of the
+ * pages retrieved tuned, through this component's configuration.
+ * </p>
+ *
+ * @author agent
+ * @review
+ */
+@Component(
+	property = {"enabled=false", "page.size=500"},
+	service = PageExporter.class
+)
+public class PageExporter {
+
+	/**
+	 * Returns the {@link Pagination} of the page being retrieved for the
+	 * export of the current request, if it's being exported; returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @param  request the current request
+	 * @return the pagination of the page being retrieved, if the request is
+	 *         being exported; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public static Optional<Pagination> getPaginationOptional(
+		HttpServletRequest request) {
+
+		Object object = request.getAttribute(_PAGINATION_ATTRIBUTE);
+
+		if (object instanceof Pagination) {
+			return Optional.of((Pagination)object);
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Returns {@code true} if the current request is being exported.
+	 *
+	 * @param  request the current request
+	 * @return {@code true} if the request is being exported; {@code false}
+	 *         otherwise
+	 * @review
+	 */
+	public static boolean isExport(HttpServletRequest request) {
+		Optional<Pagination> optional = getPaginationOptional(request);
+
+		return optional.isPresent();
+	}
+
+	/**
+	 * Returns an action that exports the whole collection, instead of a
+	 * single page, if the request has the {@code export=true} parameter. The
+	 * returned action retrieves the first page and returns a page whose items
+	 * are lazy: the following pages are retrieved as those items are
+	 * consumed.
+	 *
+	 * <p>
+	 * Only actions that retrieve a page are exported. Any other action, or
+	 * every action if exports are disabled, is returned unchanged.
+	 * </p>
+	 *
+	 * @param  actionSemantics the semantics of the action
+	 * @param  action the action to export
+	 * @return the exporting action
+	 * @review
+	 */
+	public Action export(ActionSemantics actionSemantics, Action action) {
+		if (!_enabled || !(action instanceof Action.Ok) ||
+			!HttpMethod.GET.equals(actionSemantics.getHTTPMethod()) ||
+			!Page.class.equals(actionSemantics.getReturnClass())) {
+
+			return action;
+		}
+
+		int pageSize = _pageSize;
+
+		return (Action.Ok)request -> {
+			if (!Boolean.parseBoolean(request.getParameter("export"))) {
+				return action.execute(request);
+			}
+
+			return _export(action, request, pageSize);
+		};
+	}
+
+	@Activate
+	@Modified
+	protected void activate(Map<String, Object> properties) {
+		_enabled = getBoolean(properties, "enabled", false);
+		_pageSize = getInteger(properties, "page.size", 500);
+	}
+
+	private static Object _execute(
+		Action action, HttpServletRequest request, Pagination pagination) {
+
+		request.setAttribute(_PAGINATION_ATTRIBUTE, pagination);
+
+		return action.execute(request);
+	}
+
+	private static Object _export(
+		Action action, HttpServletRequest request, int pageSize) {
+
+		Object result = _execute(
+			action, request, new PaginationImpl(pageSize, 1));
+
+		Object entity = result;
+
+		if (result instanceof Try) {
+			Try<?> resultTry = (Try<?>)result;
+
+			if (resultTry.isFailure()) {
+				request.removeAttribute(_PAGINATION_ATTRIBUTE);
+
+				return result;
+			}
+
+			entity = resultTry.get();
+		}
+
+		if (!(entity instanceof Page)) {
+			request.removeAttribute(_PAGINATION_ATTRIBUTE);
+
+			return result;
+		}
+
+		Page<Object> page = unsafeCast(entity);
+
+		PageCursor pageCursor = new PageCursor(action, request, page);
+
+		PageItems<Object> pageItems = new PageItems<>(
+			pageCursor, page.getTotalCount(), pageCursor);
+
+		return new PageImpl<>(
+			page.getResource(), pageItems,
+			new PaginationImpl(page.getTotalCount(), 1));
+	}
+
+	private static Page<Object> _getPage(
+		Action action, HttpServletRequest request, Pagination pagination) {
+
+		Object result = _execute(action, request, pagination);
+
+		if (result instanceof Try) {
+			Try<?> resultTry = (Try<?>)result;
+
+			result = resultTry.get();
+		}
+
+		return unsafeCast(result);
+	}
+
+	private static final String _PAGINATION_ATTRIBUTE =
+		PageExporter.class.getName() + "#PAGINATION";
+
+	private volatile boolean _enabled;
+	private volatile int _pageSize;
+
+	/**
+	 * Iterates through the items of every page of a collection, retrieving
+	 * each page once the items of the previous one have been consumed, and
+	 * closing the items of every page before retrieving the next one.
+	 */
+	private static class PageCursor implements Closeable, Iterator<Object> {
+
+		@Override
+		public void close() {
+			_stream.close();
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (!_iterator.hasNext()) {
+				if (!_page.hasNext()) {
+					return false;
+				}
+
+				_stream.close();
+
+				_page = _getPage(
+					_action, _request,
+					new PaginationImpl(
+						_page.getItemsPerPage(), _page.getPageNumber() + 1));
+
+				_stream = _page.getItemsStream();
+
+				_iterator = _stream.iterator();
+			}
+
+			return true;
+		}
+
+		@Override
+		public Object next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			return _iterator.next();
+		}
+
+		private PageCursor(
+			Action action, HttpServletRequest request, Page<Object> page) {
+
+			_action = action;
+			_request = request;
+			_page = page;
+
+			_stream = page.getItemsStream();
+
+			_iterator = _stream.iterator();
+		}
+
+		private final Action _action;
+		private Iterator<Object> _iterator;
+		private Page<Object> _page;
+		private final HttpServletRequest _request;
+		private Stream<Object> _stream;
+
+	}
+
+}
@@ -0,0 +1,399 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.filter;
+
+import static com.liferay.apio.architect.internal.cache.ETagUtil.getETag;
+import static com.liferay.apio.architect.internal.cache.ETagUtil.getFingerprint;
+import static com.liferay.apio.architect.internal.cache.ETagUtil.matches;
+import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+
+import static java.util.stream.Collectors.joining;
+
+import static javax.ws.rs.core.HttpHeaders.ACCEPT;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static javax.ws.rs.core.HttpHeaders.ETAG;
+import static javax.ws.rs.core.HttpHeaders.IF_NONE_MATCH;
+import static javax.ws.rs.core.MediaType.WILDCARD_TYPE;
+
+import com.liferay.apio.architect.credentials.PrincipalKey;
+import com.liferay.apio.architect.internal.cache.CachedResponse;
+import com.liferay.apio.architect.internal.cache.ItemResponseCache;
+import com.liferay.apio.architect.internal.documentation.Documentation;
+import com.liferay.apio.architect.internal.entrypoint.EntryPoint;
+import com.liferay.apio.architect.internal.metrics.MetricsRegistry;
+import com.liferay.apio.architect.internal.response.control.Embedded;
+import com.liferay.apio.architect.internal.url.ApplicationURL;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.provider.ProviderManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
+import com.liferay.apio.architect.language.AcceptLanguage;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.resource.Resource;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import io.vavr.control.Try;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import java.lang.annotation.Annotation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Providers;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Adds a strong {@code ETag} header to the responses of items, pages, the
+ * documentation and the entry point, and answers with {@code 304 Not Modified}
+ * when it matches the request's {@code If-None-Match} header.
+ *
+ * <p>
+ * If the representor of the resource declares a version function, the entity
+ * tag is computed from the models' identifiers and versions, the page's
+ * number and size, and the request, so the check doesn't need to write the
+ * representation. Otherwise, if the request is
+ * conditional, the representation is written eagerly and the entity tag is the
+ * digest of its bytes. The written bytes are reused as the response body if
+ * the entity tag doesn't match.
+ * </p>
+ *
+ * <p>
+ * Cached responses are sent with the entity tag stored along with them, which
+ * is the version-based one if the response was rendered with it (see {@link
+ * ItemResponseCache#setETag(HttpServletRequest, String)}), so a resource gets
+ * the same entity tag whether it's served from the cache or not.
+ * </p>
+ *
+ * <p>
+ * The version function only describes the root model, so version-based entity
+ * tags are not used when the request embeds other resources, nor for requests
+ * without a {@link PrincipalKey}, since their credentials can't be safely
+ * compared.
+ * </p>
+ *
+ * <p>
+ * Pages with lazy items get no entity tag, since computing it would consume
+ * the items (or write the whole page) before the response is streamed.
+ * </p>
+ *
+ * @author agent
+ * @review
+ */
+@Component(
+	property = {
+		"osgi.jaxrs.application.select=(liferay.apio.architect.application=true)",
+		"osgi.jaxrs.extension=true", "osgi.jaxrs.name=Filter.ConditionalRequest"
+	},
+	service = ContainerResponseFilter.class
+)
+public class ConditionalRequestFilter implements ContainerResponseFilter {
+
+	@Override
+	public void filter(
+		ContainerRequestContext containerRequestContext,
+		ContainerResponseContext containerResponseContext) {
+
+		String method = containerRequestContext.getMethod();
+
+		if ((!HttpMethod.GET.equals(method) &&
+			 !HttpMethod.HEAD.equals(method)) ||
+			(containerResponseContext.getStatus() != 200)) {
+
+			return;
+		}
+
+		Object entity = containerResponseContext.getEntity();
+
+		if (entity instanceof Try) {
+			Try<?> entityTry = (Try<?>)entity;
+
+			if (entityTry.isFailure()) {
+				return;
+			}
+
+			entity = entityTry.get();
+		}
+
+		String ifNoneMatch = containerRequestContext.getHeaderString(
+			IF_NONE_MATCH);
+
+		if (entity instanceof CachedResponse) {
+			CachedResponse cachedResponse = (CachedResponse)entity;
+
+			_setETag(
+				containerResponseContext, cachedResponse.getETag(),
+				ifNoneMatch);
+
+			return;
+		}
+
+		if (!(entity instanceof SingleModel) && !(entity instanceof Page) &&
+			!(entity instanceof Documentation) &&
+			!(entity instanceof EntryPoint)) {
+
+			return;
+		}
+
+		if ((entity instanceof Page) && ((Page<?>)entity).isLazy()) {
+			return;
+		}
+
+		if ((entity instanceof SingleModel) || (entity instanceof Page)) {
+			Optional<String> versionETagOptional = _getVersionETagOptional(
+				containerRequestContext, entity);
+
+			if (versionETagOptional.isPresent()) {
+				String versionETag = versionETagOptional.get();
+
+				itemResponseCache.setETag(httpServletRequest, versionETag);
+
+				_setETag(containerResponseContext, versionETag, ifNoneMatch);
+
+				return;
+			}
+		}
+
+		if (ifNoneMatch == null) {
+			return;
+		}
+
+		CachedResponse cachedResponse = _write(entity);
+
+		containerResponseContext.setEntity(cachedResponse);
+
+		_setETag(
+			containerResponseContext, cachedResponse.getETag(), ifNoneMatch);
+	}
+
+	@Context
+	protected HttpServletRequest httpServletRequest;
+
+	@Reference
+	protected ItemResponseCache itemResponseCache;
+
+	@Reference
+	protected ProviderManager providerManager;
+
+	@Reference
+	protected RepresentableManager representableManager;
+
+	private Optional<String> _getVariantOptional(
+		ContainerRequestContext containerRequestContext) {
+
+		Optional<String> principalKeyOptional =
+			providerManager.provideOptional(
+				httpServletRequest, PrincipalKey.class
+			).map(
+				PrincipalKey::get
+			);
+
+		if (!principalKeyOptional.isPresent()) {
+			return Optional.empty();
+		}
+
+		UriInfo uriInfo = containerRequestContext.getUriInfo();
+
+		String locales = providerManager.provideOptional(
+			httpServletRequest, AcceptLanguage.class
+		).map(
+			AcceptLanguage::getLocales
+		).map(
+			localeStream -> localeStream.map(
+				Locale::toLanguageTag
+			).collect(
+				joining(",")
+			)
+		).orElse(
+			""
+		);
+
+		String applicationURL = providerManager.provideOptional(
+			httpServletRequest, ApplicationURL.class
+		).map(
+			ApplicationURL::get
+		).orElse(
+			""
+		);
+
+		String shared = providerManager.provideOptional(
+			httpServletRequest, Embedded.class
+		).map(
+			Embedded::isShared
+		).map(
+			String::valueOf
+		).orElse(
+			"false"
+		);
+
+		return Optional.of(
+			getFingerprint(
+				String.valueOf(uriInfo.getRequestUri()),
+				String.valueOf(containerRequestContext.getHeaderString(ACCEPT)),
+				locales, applicationURL, shared, principalKeyOptional.get()));
+	}
+
+	private Optional<String> _getVersionETagOptional(
+		ContainerRequestContext containerRequestContext, Object entity) {
+
+		if (httpServletRequest.getParameter("embedded") != null) {
+			return Optional.empty();
+		}
+
+		List<String> versions = new ArrayList<>();
+
+		if (entity instanceof SingleModel) {
+			SingleModel<Object> singleModel = unsafeCast(entity);
+
+			Optional<Function<Object, Object>> optional =
+				_getVersionFunctionOptional(singleModel.getResourceName());
+
+			if (!optional.isPresent()) {
+				return Optional.empty();
+			}
+
+			Function<Object, Object> versionFunction = optional.get();
+
+			versions.add(
+				String.valueOf(versionFunction.apply(singleModel.getModel())));
+		}
+		else {
+			Page<Object> page = unsafeCast(entity);
+
+			Resource resource = page.getResource();
+
+			Optional<Representor<Object>> representorOptional =
+				representableManager.getRepresentorOptional(resource.getName());
+
+			Optional<Function<Object, Object>> optional =
+				representorOptional.flatMap(
+					Representor::getVersionFunctionOptional);
+
+			if (!optional.isPresent()) {
+				return Optional.empty();
+			}
+
+			Representor<Object> representor = representorOptional.get();
+			Function<Object, Object> versionFunction = optional.get();
+
+			versions.add(String.valueOf(page.getPageNumber()));
+			versions.add(String.valueOf(page.getItemsPerPage()));
+			versions.add(String.valueOf(page.getTotalCount()));
+
+			Collection<Object> items = page.getItems();
+
+			for (Object item : items) {
+				versions.add(String.valueOf(representor.getIdentifier(item)));
+				versions.add(String.valueOf(versionFunction.apply(item)));
+			}
+		}
+
+		Optional<String> variantOptional = _getVariantOptional(
+			containerRequestContext);
+
+		if (!variantOptional.isPresent()) {
+			return Optional.empty();
+		}
+
+		versions.add(variantOptional.get());
+
+		return Optional.of(getETag(versions.toArray(new String[0])));
+	}
+
+	private Optional<Function<Object, Object>> _getVersionFunctionOptional(
+		String resourceName) {
+
+		Optional<Representor<Object>> optional =
+			representableManager.getRepresentorOptional(resourceName);
+
+		return optional.flatMap(Representor::getVersionFunctionOptional);
+	}
+
+	private void _setETag(
+		ContainerResponseContext containerResponseContext, String eTag,
+		String ifNoneMatch) {
+
+		MultivaluedMap<String, Object> headers =
+			containerResponseContext.getHeaders();
+
+		headers.putSingle(ETAG, eTag);
+
+		if (matches(ifNoneMatch, eTag)) {
+			containerResponseContext.setStatus(
+				Response.Status.NOT_MODIFIED.getStatusCode());
+			containerResponseContext.setEntity(null);
+
+			headers.remove(CONTENT_TYPE);
+
+			_metricsRegistry.recordStatus(
+				httpServletRequest, containerResponseContext.getStatus());
+			_metricsRegistry.recordResponse(httpServletRequest, 0);
+		}
+	}
+
+	private CachedResponse _write(Object entity) {
+		Class<Object> clazz = unsafeCast(entity.getClass());
+
+		MessageBodyWriter<Object> messageBodyWriter =
+			_providers.getMessageBodyWriter(
+				clazz, clazz, new Annotation[0], WILDCARD_TYPE);
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		try {
+			messageBodyWriter.writeTo(
+				entity, clazz, clazz, new Annotation[0], WILDCARD_TYPE, headers,
+				byteArrayOutputStream);
+		}
+		catch (IOException ioe) {
+			throw new WebApplicationException(ioe);
+		}
+
+		return new CachedResponse(
+			String.valueOf(headers.getFirst(CONTENT_TYPE)),
+			byteArrayOutputStream.toByteArray(),
+			(String)headers.getFirst(ETAG));
+	}
+
+	@Reference
+	private MetricsRegistry _metricsRegistry;
+
+	@Context
+	private Providers _providers;
+
+}
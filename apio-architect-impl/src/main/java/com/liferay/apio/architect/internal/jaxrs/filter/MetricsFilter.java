@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.filter;
+
+import com.liferay.apio.architect.internal.metrics.MetricsRegistry;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Completes the measurements of the {@link MetricsRegistry}: records the
+ * status code of every response, and the number of bytes written in its body.
+ * Responses without a body are recorded as soon as they are filtered.
+ * Otherwise, they're recorded once their body has been written, unless a
+ * later filter removes it (as the {@link ConditionalRequestFilter} does when
+ * answering with {@code 304 Not Modified}), in which case that filter records
+ * the response.
+ *
+ * @author agent
+ * @review
+ */
+@Component(
+	property = {
+		"osgi.jaxrs.application.select=(liferay.apio.architect.application=true)",
+		"osgi.jaxrs.extension=true", "osgi.jaxrs.name=Filter.Metrics"
+	},
+	service = {ContainerResponseFilter.class, WriterInterceptor.class}
+)
+public class MetricsFilter
+	implements ContainerResponseFilter, WriterInterceptor {
+
+	@Override
+	public void aroundWriteTo(WriterInterceptorContext writerInterceptorContext)
+		throws IOException {
+
+		if (!_metricsRegistry.isEnabled()) {
+			writerInterceptorContext.proceed();
+
+			return;
+		}
+
+		CountingOutputStream countingOutputStream = new CountingOutputStream(
+			writerInterceptorContext.getOutputStream());
+
+		writerInterceptorContext.setOutputStream(countingOutputStream);
+
+		try {
+			writerInterceptorContext.proceed();
+		}
+		finally {
+			_metricsRegistry.recordResponse(
+				_httpServletRequest, countingOutputStream._count);
+		}
+	}
+
+	@Override
+	public void filter(
+		ContainerRequestContext containerRequestContext,
+		ContainerResponseContext containerResponseContext) {
+
+		if (!_metricsRegistry.isEnabled()) {
+			return;
+		}
+
+		_metricsRegistry.recordStatus(
+			_httpServletRequest, containerResponseContext.getStatus());
+
+		if (!containerResponseContext.hasEntity()) {
+			_metricsRegistry.recordResponse(_httpServletRequest, 0);
+		}
+	}
+
+	@Context
+	private HttpServletRequest _httpServletRequest;
+
+	@Reference
+	private MetricsRegistry _metricsRegistry;
+
+	private static class CountingOutputStream extends FilterOutputStream {
+
+		@Override
+		public void write(byte[] bytes, int offset, int length)
+			throws IOException {
+
+			out.write(bytes, offset, length);
+
+			_count += length;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			out.write(b);
+
+			_count++;
+		}
+
+		private CountingOutputStream(OutputStream outputStream) {
+			super(outputStream);
+		}
+
+		private long _count;
+
+	}
+
+}
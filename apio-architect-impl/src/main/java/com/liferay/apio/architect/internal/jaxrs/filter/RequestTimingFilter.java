@@ -0,0 +1,207 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.filter;
+
+import com.liferay.apio.architect.internal.timing.Phase;
+import com.liferay.apio.architect.internal.timing.RequestAllocations;
+import com.liferay.apio.architect.internal.timing.RequestTimingManager;
+import com.liferay.apio.architect.internal.timing.RequestTimings;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Starts the {@link RequestTimings} and the {@link RequestAllocations} of every
+ * request, if the {@link RequestTimingManager} decides so, and completes them
+ * once the response has been written.
+ *
+ * <p>
+ * The body of the response is written in two phases: {@link Phase#JSON} lasts
+ * until the first byte is written, and {@link Phase#OUTPUT} from then on. The
+ * {@code Server-Timing} header is added just before the first byte is written,
+ * so it doesn't include the output phase, which is only reported to the slow
+ * request log. The {@code Apio-Allocated-Bytes} header is added at the same
+ * time, once the response has been serialized.
+ * </p>
+ *
+ * @author agent
+ * @review
+ */
+@Component(
+	property = {
+		"osgi.jaxrs.application.select=(liferay.apio.architect.application=true)",
+		"osgi.jaxrs.extension=true", "osgi.jaxrs.name=Filter.RequestTiming"
+	},
+	service = {
+		ContainerRequestFilter.class, ContainerResponseFilter.class,
+		WriterInterceptor.class
+	}
+)
+public class RequestTimingFilter
+	implements ContainerRequestFilter, ContainerResponseFilter,
+			   WriterInterceptor {
+
+	@Override
+	public void aroundWriteTo(WriterInterceptorContext writerInterceptorContext)
+		throws IOException {
+
+		RequestTimings requestTimings = RequestTimings.of(_httpServletRequest);
+		RequestAllocations requestAllocations = RequestAllocations.of(
+			_httpServletRequest);
+
+		if (!requestTimings.isEnabled() && !requestAllocations.isEnabled()) {
+			writerInterceptorContext.proceed();
+
+			return;
+		}
+
+		Phase previous = requestTimings.enter(Phase.JSON);
+
+		TimingOutputStream timingOutputStream = new TimingOutputStream(
+			writerInterceptorContext.getOutputStream(), requestTimings,
+			requestAllocations, writerInterceptorContext.getHeaders());
+
+		writerInterceptorContext.setOutputStream(timingOutputStream);
+
+		try {
+			writerInterceptorContext.proceed();
+		}
+		finally {
+			timingOutputStream._onFirstWrite();
+
+			requestTimings.exit(previous);
+
+			_requestTimingManager.finish(_httpServletRequest);
+		}
+	}
+
+	@Override
+	public void filter(ContainerRequestContext containerRequestContext) {
+		_requestTimingManager.start(_httpServletRequest);
+	}
+
+	@Override
+	public void filter(
+		ContainerRequestContext containerRequestContext,
+		ContainerResponseContext containerResponseContext) {
+
+		if (containerResponseContext.hasEntity()) {
+			return;
+		}
+
+		RequestTimings requestTimings = RequestTimings.of(_httpServletRequest);
+		RequestAllocations requestAllocations = RequestAllocations.of(
+			_httpServletRequest);
+
+		if (!requestTimings.isEnabled() && !requestAllocations.isEnabled()) {
+			return;
+		}
+
+		_addDebugHeaders(
+			requestTimings, requestAllocations,
+			containerResponseContext.getHeaders());
+
+		_requestTimingManager.finish(_httpServletRequest);
+	}
+
+	private static void _addDebugHeaders(
+		RequestTimings requestTimings, RequestAllocations requestAllocations,
+		MultivaluedMap<String, Object> headers) {
+
+		if (requestTimings.isServerTiming()) {
+			headers.putSingle(_SERVER_TIMING, requestTimings.toServerTiming());
+		}
+
+		if (requestAllocations.isDebugHeader()) {
+			headers.putSingle(
+				_ALLOCATED_BYTES, requestAllocations.toHeaderValue());
+		}
+	}
+
+	private static final String _ALLOCATED_BYTES = "Apio-Allocated-Bytes";
+
+	private static final String _SERVER_TIMING = "Server-Timing";
+
+	@Context
+	private HttpServletRequest _httpServletRequest;
+
+	@Reference
+	private RequestTimingManager _requestTimingManager;
+
+	private static class TimingOutputStream extends FilterOutputStream {
+
+		@Override
+		public void write(byte[] bytes, int offset, int length)
+			throws IOException {
+
+			_onFirstWrite();
+
+			out.write(bytes, offset, length);
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			_onFirstWrite();
+
+			out.write(b);
+		}
+
+		private TimingOutputStream(
+			OutputStream outputStream, RequestTimings requestTimings,
+			RequestAllocations requestAllocations,
+			MultivaluedMap<String, Object> headers) {
+
+			super(outputStream);
+
+			_requestTimings = requestTimings;
+			_requestAllocations = requestAllocations;
+			_headers = headers;
+		}
+
+		private void _onFirstWrite() {
+			if (_written) {
+				return;
+			}
+
+			_written = true;
+
+			_requestTimings.enter(Phase.OUTPUT);
+
+			_addDebugHeaders(_requestTimings, _requestAllocations, _headers);
+		}
+
+		private final MultivaluedMap<String, Object> _headers;
+		private final RequestAllocations _requestAllocations;
+		private final RequestTimings _requestTimings;
+		private boolean _written;
+
+	}
+
+}
@@ -0,0 +1,355 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.interceptor;
+
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getBoolean;
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getInteger;
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getStringArray;
+
+import static javax.ws.rs.core.HttpHeaders.ACCEPT_ENCODING;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_ENCODING;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_LENGTH;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static javax.ws.rs.core.HttpHeaders.ETAG;
+import static javax.ws.rs.core.HttpHeaders.VARY;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.liferay.apio.architect.internal.compression.ContentCoding;
+import com.liferay.apio.architect.internal.compression.DeferredCompressionOutputStream;
+import com.liferay.apio.architect.internal.compression.DeflaterPool;
+import com.liferay.apio.architect.internal.compression.PooledDeflaterOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.Deflater;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
+
+import org.slf4j.Logger;
+
+/**
+ * Compresses response bodies with the content coding negotiated through the
+ * request's {@code Accept-Encoding} header ({@code gzip} or {@code deflate}).
+ *
+ * <p>
+ * Only bodies larger than {@code threshold.bytes} are compressed, since
+ * compressing small bodies costs more than the bytes it saves. The body is
+ * kept in memory until the threshold is exceeded, so the compression headers
+ * can still be added before anything is sent.
+ * </p>
+ *
+ * <p>
+ * Bodies are compressed with the level configured for their media type in
+ * {@code media.type.levels}, as a list of {@code mediaType=level} pairs (for
+ * example, {@code application/ld+json=9, application/cbor=1}), or with {@code
+ * level} otherwise. A level of {@code 0} disables the compression of a media
+ * type. Media types that are already compressed, listed in {@code
+ * excluded.media.types} ({@code type/*} matches every subtype), are never
+ * compressed.
+ * </p>
+ *
+ * <p>
+ * The {@link Deflater} instances are reused through a {@link DeflaterPool} per
+ * content coding, which keeps up to {@code pool.size} idle deflaters.
+ * </p>
+ *
+ * <p>
+ * The entity tag of a compressed response is turned into a weak one, since
+ * the compressed bytes differ from the ones it was computed from. Conditional
+ * requests keep working, because {@code If-None-Match} uses the weak
+ * comparison function.
+ * </p>
+ *
+ * <p>
+ * Compression is disabled by default, and can be enabled through this
+ * component's configuration.
+ * </p>
+ *
+ * @author agent
+ * @review
+ */
+@Component(
+	property = {
+		"enabled=false",
+		"excluded.media.types=application/gzip,application/x-gzip,application/zip,application/x-bzip2,application/x-xz,application/x-7z-compressed,application/x-rar-compressed,audio/*,font/woff,font/woff2,image/gif,image/jpeg,image/png,image/webp,video/*",
+		"level=6", "media.type.levels=",
+		"osgi.jaxrs.application.select=(liferay.apio.architect.application=true)",
+		"osgi.jaxrs.extension=true",
+		"osgi.jaxrs.name=Interceptor.Compression", "pool.size=32",
+		"threshold.bytes=1024"
+	},
+	service = WriterInterceptor.class
+)
+public class CompressionWriterInterceptor implements WriterInterceptor {
+
+	@Override
+	public void aroundWriteTo(WriterInterceptorContext writerInterceptorContext)
+		throws IOException {
+
+		Configuration configuration = _configuration;
+
+		MultivaluedMap<String, Object> headers =
+			writerInterceptorContext.getHeaders();
+
+		if ((configuration == null) || headers.containsKey(CONTENT_ENCODING)) {
+			writerInterceptorContext.proceed();
+
+			return;
+		}
+
+		List<Object> varyValues = headers.get(VARY);
+
+		if ((varyValues == null) || !varyValues.contains(ACCEPT_ENCODING)) {
+			headers.add(VARY, ACCEPT_ENCODING);
+		}
+
+		Optional<ContentCoding> optional = ContentCoding.negotiate(
+			_httpServletRequest.getHeader(ACCEPT_ENCODING));
+
+		if (!optional.isPresent()) {
+			writerInterceptorContext.proceed();
+
+			return;
+		}
+
+		ContentCoding contentCoding = optional.get();
+
+		DeferredCompressionOutputStream deferredCompressionOutputStream =
+			new DeferredCompressionOutputStream(
+				writerInterceptorContext.getOutputStream(),
+				configuration._threshold,
+				outputStream -> _compress(
+					writerInterceptorContext, configuration, contentCoding,
+					outputStream));
+
+		writerInterceptorContext.setOutputStream(
+			deferredCompressionOutputStream);
+
+		try {
+			writerInterceptorContext.proceed();
+
+			deferredCompressionOutputStream.close();
+		}
+		finally {
+			deferredCompressionOutputStream.abort();
+		}
+	}
+
+	@Activate
+	@Modified
+	protected void activate(Map<String, Object> properties) {
+		deactivate();
+
+		if (!getBoolean(properties, "enabled", false)) {
+			return;
+		}
+
+		Map<String, Integer> levels = new HashMap<>();
+
+		for (String entry : getStringArray(properties, "media.type.levels")) {
+			if (entry.isEmpty()) {
+				continue;
+			}
+
+			String[] parts = entry.split("=");
+
+			try {
+				levels.put(
+					_getMediaTypeName(MediaType.valueOf(parts[0].trim())),
+					_getLevel(Integer.parseInt(parts[1].trim())));
+			}
+			catch (RuntimeException re) {
+				_logger.error(
+					"Invalid media type compression level: {}", entry);
+			}
+		}
+
+		List<String> excludedMediaTypes = new ArrayList<>();
+
+		for (String excludedMediaType :
+				getStringArray(properties, "excluded.media.types")) {
+
+			if (!excludedMediaType.isEmpty()) {
+				excludedMediaTypes.add(
+					excludedMediaType.toLowerCase(Locale.ENGLISH));
+			}
+		}
+
+		int level = getInteger(properties, "level", 6);
+
+		_configuration = new Configuration(
+			excludedMediaTypes,
+			Math.min(Math.max(level, 0), Deflater.BEST_COMPRESSION), levels,
+			getInteger(properties, "pool.size", 32),
+			Math.max(getInteger(properties, "threshold.bytes", 1024), 0));
+	}
+
+	@Deactivate
+	protected void deactivate() {
+		Configuration configuration = _configuration;
+
+		_configuration = null;
+
+		if (configuration != null) {
+			configuration._close();
+		}
+	}
+
+	private static int _getLevel(int level) {
+		if ((level < 0) || (level > Deflater.BEST_COMPRESSION)) {
+			throw new IllegalArgumentException(
+				"Invalid compression level: " + level);
+		}
+
+		return level;
+	}
+
+	private static String _getMediaTypeName(MediaType mediaType) {
+		String name = mediaType.getType() + "/" + mediaType.getSubtype();
+
+		return name.toLowerCase(Locale.ENGLISH);
+	}
+
+	private OutputStream _compress(
+		WriterInterceptorContext writerInterceptorContext,
+		Configuration configuration, ContentCoding contentCoding,
+		OutputStream outputStream) {
+
+		MultivaluedMap<String, Object> headers =
+			writerInterceptorContext.getHeaders();
+
+		Object contentType = headers.getFirst(CONTENT_TYPE);
+
+		MediaType mediaType = writerInterceptorContext.getMediaType();
+
+		if (contentType != null) {
+			mediaType = MediaType.valueOf(String.valueOf(contentType));
+		}
+
+		int level = configuration._getLevel(mediaType);
+
+		if ((level == 0) || headers.containsKey(CONTENT_ENCODING)) {
+			return outputStream;
+		}
+
+		headers.putSingle(CONTENT_ENCODING, contentCoding.getName());
+		headers.remove(CONTENT_LENGTH);
+
+		Object eTag = headers.getFirst(ETAG);
+
+		if ((eTag != null) && !String.valueOf(eTag).startsWith("W/")) {
+			headers.putSingle(ETAG, "W/" + eTag);
+		}
+
+		return new PooledDeflaterOutputStream(
+			outputStream, contentCoding,
+			configuration._deflaterPools.get(contentCoding), level);
+	}
+
+	private volatile Configuration _configuration;
+
+	@Context
+	private HttpServletRequest _httpServletRequest;
+
+	private final Logger _logger = getLogger(getClass());
+
+	private static class Configuration {
+
+		private Configuration(
+			List<String> excludedMediaTypes, int level,
+			Map<String, Integer> levels, int poolSize, int threshold) {
+
+			_excludedMediaTypes = excludedMediaTypes;
+			_level = level;
+			_levels = levels;
+			_threshold = threshold;
+
+			for (ContentCoding contentCoding : ContentCoding.values()) {
+				_deflaterPools.put(
+					contentCoding,
+					new DeflaterPool(poolSize, contentCoding.isNowrap()));
+			}
+		}
+
+		private void _close() {
+			Collection<DeflaterPool> deflaterPools = _deflaterPools.values();
+
+			deflaterPools.forEach(DeflaterPool::close);
+		}
+
+		private int _getLevel(MediaType mediaType) {
+			if (mediaType == null) {
+				return _level;
+			}
+
+			String name = _getMediaTypeName(mediaType);
+
+			if (_isExcluded(name)) {
+				return 0;
+			}
+
+			return _levels.getOrDefault(name, _level);
+		}
+
+		private boolean _isExcluded(String name) {
+			for (String excludedMediaType : _excludedMediaTypes) {
+				if (excludedMediaType.equals(name)) {
+					return true;
+				}
+
+				if (excludedMediaType.endsWith("/*")) {
+					String prefix = excludedMediaType.substring(
+						0, excludedMediaType.length() - 1);
+
+					if (name.startsWith(prefix)) {
+						return true;
+					}
+				}
+			}
+
+			return false;
+		}
+
+		private final Map<ContentCoding, DeflaterPool> _deflaterPools =
+			new EnumMap<>(ContentCoding.class);
+		private final List<String> _excludedMediaTypes;
+		private final int _level;
+		private final Map<String, Integer> _levels;
+		private final int _threshold;
+
+	}
+
+}
@@ -14,11 +14,22 @@
 
 package com.liferay.apio.architect.internal.jaxrs.resource;
 
+import static com.liferay.apio.architect.internal.cache.DocumentationResponseCache.DOCUMENTATION;
+import static com.liferay.apio.architect.internal.cache.DocumentationResponseCache.ENTRY_POINT;
+import static com.liferay.apio.architect.internal.metrics.MetricsFormatUtil.PROMETHEUS_MEDIA_TYPE;
+import static com.liferay.apio.architect.internal.metrics.MetricsFormatUtil.toJSON;
+import static com.liferay.apio.architect.internal.metrics.MetricsFormatUtil.toPrometheus;
+
 import static io.vavr.API.$;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.singletonList;
 
+import static javax.ws.rs.core.HttpHeaders.ACCEPT;
+import static javax.ws.rs.core.HttpHeaders.CACHE_CONTROL;
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
+import static javax.ws.rs.core.MediaType.TEXT_PLAIN;
 import static javax.ws.rs.core.Response.Status.METHOD_NOT_ALLOWED;
 import static javax.ws.rs.core.Response.Status.NOT_FOUND;
 
@@ -27,12 +38,19 @@ import com.liferay.apio.architect.internal.annotation.Action.Error;
 import com.liferay.apio.architect.internal.annotation.Action.Error.NotAllowed;
 import com.liferay.apio.architect.internal.annotation.Action.NoContent;
 import com.liferay.apio.architect.internal.annotation.ActionManager;
-import com.liferay.apio.architect.internal.documentation.Documentation;
-import com.liferay.apio.architect.internal.entrypoint.EntryPoint;
+import com.liferay.apio.architect.internal.cache.CachedResponse;
+import com.liferay.apio.architect.internal.cache.DocumentationResponseCache;
+import com.liferay.apio.architect.internal.message.json.ld.JSONLDContextManager;
+import com.liferay.apio.architect.internal.metrics.ActionMetrics;
+import com.liferay.apio.architect.internal.metrics.MetricsRegistry;
+import com.liferay.apio.architect.internal.timing.Phase;
+import com.liferay.apio.architect.internal.timing.RequestTimings;
 
 import io.vavr.control.Either;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -54,6 +72,36 @@ import org.osgi.service.component.annotations.Reference;
 @Component(service = RootResource.class)
 public class RootResource {
 
+	/**
+	 * Returns the shared JSON-LD context of a resource. If shared contexts are
+	 * disabled, the request is handled as a request to a resource named {@code
+	 * c}.
+	 *
+	 * @review
+	 */
+	@GET
+	@Path("/c/{name}")
+	public Response context(@PathParam("name") String name) {
+		if (!_jsonLDContextManager.isEnabled()) {
+			return _getResponse("GET", asList("c", name));
+		}
+
+		Optional<CachedResponse> optional =
+			_jsonLDContextManager.getContextOptional(name);
+
+		if (!optional.isPresent()) {
+			return _notFoundResponse;
+		}
+
+		long maxAge = _jsonLDContextManager.getMaxAge();
+
+		return Response.ok(
+			optional.get()
+		).header(
+			CACHE_CONTROL, "public, max-age=" + maxAge
+		).build();
+	}
+
 	/**
 	 * Returns the application schema.
 	 *
@@ -61,8 +109,9 @@ public class RootResource {
 	 */
 	@GET
 	@Path("/doc")
-	public Documentation documentation() {
-		return _actionManager.getDocumentation(_request);
+	public Response documentation() {
+		return _getCachedResponse(
+			DOCUMENTATION, () -> _actionManager.getDocumentation(_request));
 	}
 
 	/**
@@ -72,8 +121,45 @@ public class RootResource {
 	 */
 	@GET
 	@Path("/")
-	public EntryPoint home() {
-		return _actionManager.getEntryPoint();
+	public Response home() {
+		return _getCachedResponse(ENTRY_POINT, _actionManager::getEntryPoint);
+	}
+
+	/**
+	 * Returns the metrics of the executed actions, including the state of
+	 * their concurrency limiters, in the Prometheus text format if the request
+	 * accepts {@code text/plain}, or as JSON otherwise.
+	 * If metrics are disabled, the request is handled as a request to a
+	 * resource named {@code metrics}.
+	 *
+	 * @review
+	 */
+	@GET
+	@Path("/metrics")
+	public Response metrics() {
+		if (!_metricsRegistry.isEnabled()) {
+			return _getResponse("GET", singletonList("metrics"));
+		}
+
+		List<ActionMetrics> actionMetrics = _metricsRegistry.getActionMetrics();
+
+		String accept = _request.getHeader(ACCEPT);
+
+		if ((accept != null) && accept.contains(TEXT_PLAIN)) {
+			return Response.ok(
+				toPrometheus(
+					actionMetrics,
+					_metricsRegistry::getConcurrencyLimiterOptional),
+				PROMETHEUS_MEDIA_TYPE
+			).build();
+		}
+
+		return Response.ok(
+			toJSON(
+				actionMetrics, _metricsRegistry.getUptime(),
+				_metricsRegistry::getConcurrencyLimiterOptional),
+			APPLICATION_JSON
+		).build();
 	}
 
 	/**
@@ -93,8 +179,32 @@ public class RootResource {
 		).build();
 	}
 
+	private Response _getCachedResponse(
+		String endpoint, Supplier<Object> supplier) {
+
+		Optional<CachedResponse> optional = _documentationResponseCache.get(
+			_request, endpoint);
+
+		Object entity = optional.isPresent() ? optional.get() : supplier.get();
+
+		return Response.ok(
+			entity
+		).build();
+	}
+
 	private Response _getResponse(String method, List<String> params) {
-		Either<Error, Action> either = _actionManager.getAction(method, params);
+		RequestTimings requestTimings = RequestTimings.of(_request);
+
+		Phase previous = requestTimings.enter(Phase.ROUTING);
+
+		Either<Error, Action> either;
+
+		try {
+			either = _actionManager.getAction(method, params);
+		}
+		finally {
+			requestTimings.exit(previous);
+		}
 
 		return either.fold(
 			error -> {
@@ -130,6 +240,15 @@ public class RootResource {
 	@Reference
 	private ActionManager _actionManager;
 
+	@Reference
+	private DocumentationResponseCache _documentationResponseCache;
+
+	@Reference
+	private JSONLDContextManager _jsonLDContextManager;
+
+	@Reference
+	private MetricsRegistry _metricsRegistry;
+
 	@Context
 	private HttpServletRequest _request;
 
@@ -21,6 +21,7 @@ import static java.lang.String.join;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import com.liferay.apio.architect.error.APIError;
+import com.liferay.apio.architect.internal.message.json.BinaryJSONFormat;
 import com.liferay.apio.architect.internal.message.json.ErrorMessageMapper;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.exception.mapper.ExceptionMapperManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.ErrorMessageMapperManager;
@@ -93,7 +94,7 @@ public class ErrorUtil {
 			).type(
 				errorMessageMapper.getMediaType()
 			).entity(
-				writeError(errorMessageMapper, apiError)
+				_getEntity(errorMessageMapper, apiError)
 			).build()
 		).orElseGet(
 			() -> Response.status(
@@ -102,6 +103,19 @@ public class ErrorUtil {
 		);
 	}
 
+	private Object _getEntity(
+		ErrorMessageMapper errorMessageMapper, APIError apiError) {
+
+		Optional<BinaryJSONFormat> optional =
+			errorMessageMapper.getBinaryJSONFormatOptional();
+
+		if (optional.isPresent()) {
+			return writeError(errorMessageMapper, apiError, optional.get());
+		}
+
+		return writeError(errorMessageMapper, apiError);
+	}
+
 	private <E extends Throwable> void _logException(E e, String message) {
 		if (_logger.isDebugEnabled()) {
 			_logger.debug(message, e);
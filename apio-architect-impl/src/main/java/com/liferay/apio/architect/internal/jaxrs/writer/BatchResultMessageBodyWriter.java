@@ -17,6 +17,7 @@ package com.liferay.apio.architect.internal.jaxrs.writer;
 import com.liferay.apio.architect.batch.BatchResult;
 import com.liferay.apio.architect.internal.jaxrs.writer.base.BaseMessageBodyWriter;
 import com.liferay.apio.architect.internal.message.json.BatchResultMessageMapper;
+import com.liferay.apio.architect.internal.message.json.BinaryJSONFormat;
 import com.liferay.apio.architect.internal.request.RequestInfo;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.BatchResultMessageMapperManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
@@ -24,6 +25,9 @@ import com.liferay.apio.architect.internal.wiring.osgi.manager.uri.mapper.PathId
 import com.liferay.apio.architect.internal.writer.BatchResultWriter;
 import com.liferay.apio.architect.internal.writer.BatchResultWriter.Builder;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 import java.util.Optional;
 
 import javax.ws.rs.NotFoundException;
@@ -70,7 +74,47 @@ public class BatchResultMessageBodyWriter<T>
 		BatchResultMessageMapper<T> batchResultMessageMapper,
 		RequestInfo requestInfo) {
 
-		BatchResultWriter<T> batchResultWriter = Builder.batchResult(
+		BatchResultWriter<T> batchResultWriter = _createBatchResultWriter(
+			batchResult, batchResultMessageMapper, requestInfo);
+
+		Optional<String> optional = batchResultWriter.write();
+
+		return optional.orElseThrow(NotFoundException::new);
+	}
+
+	@Override
+	protected void write(
+			BatchResult<T> batchResult,
+			BatchResultMessageMapper<T> batchResultMessageMapper,
+			RequestInfo requestInfo, OutputStream outputStream)
+		throws IOException {
+
+		Optional<BinaryJSONFormat> binaryJSONFormatOptional =
+			batchResultMessageMapper.getBinaryJSONFormatOptional();
+
+		if (!binaryJSONFormatOptional.isPresent()) {
+			super.write(
+				batchResult, batchResultMessageMapper, requestInfo,
+				outputStream);
+
+			return;
+		}
+
+		BatchResultWriter<T> batchResultWriter = _createBatchResultWriter(
+			batchResult, batchResultMessageMapper, requestInfo);
+
+		Optional<byte[]> optional = batchResultWriter.write(
+			binaryJSONFormatOptional.get());
+
+		outputStream.write(optional.orElseThrow(NotFoundException::new));
+	}
+
+	private BatchResultWriter<T> _createBatchResultWriter(
+		BatchResult<T> batchResult,
+		BatchResultMessageMapper<T> batchResultMessageMapper,
+		RequestInfo requestInfo) {
+
+		return Builder.batchResult(
 			batchResult
 		).batchResultMessageMapper(
 			batchResultMessageMapper
@@ -81,10 +125,6 @@ public class BatchResultMessageBodyWriter<T>
 		).requestInfo(
 			requestInfo
 		).build();
-
-		Optional<String> optional = batchResultWriter.write();
-
-		return optional.orElseThrow(NotFoundException::new);
 	}
 
 	@Reference
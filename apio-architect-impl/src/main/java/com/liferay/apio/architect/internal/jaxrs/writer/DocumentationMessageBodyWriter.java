@@ -14,6 +14,7 @@
 
 package com.liferay.apio.architect.internal.jaxrs.writer;
 
+import com.liferay.apio.architect.internal.cache.DocumentationResponseCache;
 import com.liferay.apio.architect.internal.documentation.Documentation;
 import com.liferay.apio.architect.internal.jaxrs.writer.base.BaseMessageBodyWriter;
 import com.liferay.apio.architect.internal.message.json.DocumentationMessageMapper;
@@ -86,13 +87,21 @@ public class DocumentationMessageBodyWriter
 				)
 			).build());
 
-		return documentationWriter.write();
+		String result = documentationWriter.write();
+
+		_documentationResponseCache.store(
+			request, documentationMessageMapper.getMediaType(), result);
+
+		return result;
 	}
 
 	@Reference
 	private DocumentationMessageMapperManager
 		_documentationMessageMapperManager;
 
+	@Reference
+	private DocumentationResponseCache _documentationResponseCache;
+
 	@Reference
 	private NameManager _nameManager;
 
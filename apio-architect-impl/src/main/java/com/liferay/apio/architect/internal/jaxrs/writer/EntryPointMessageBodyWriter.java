@@ -14,6 +14,7 @@
 
 package com.liferay.apio.architect.internal.jaxrs.writer;
 
+import com.liferay.apio.architect.internal.cache.DocumentationResponseCache;
 import com.liferay.apio.architect.internal.entrypoint.EntryPoint;
 import com.liferay.apio.architect.internal.jaxrs.writer.base.BaseMessageBodyWriter;
 import com.liferay.apio.architect.internal.message.json.EntryPointMessageMapper;
@@ -83,9 +84,17 @@ public class EntryPointMessageBodyWriter
 			)
 		).build();
 
-		return entryPointWriter.write();
+		String result = entryPointWriter.write();
+
+		_documentationResponseCache.store(
+			request, entryPointMessageMapper.getMediaType(), result);
+
+		return result;
 	}
 
+	@Reference
+	private DocumentationResponseCache _documentationResponseCache;
+
 	@Reference
 	private EntryPointMessageMapperManager _entryPointMessageMapperManager;
 
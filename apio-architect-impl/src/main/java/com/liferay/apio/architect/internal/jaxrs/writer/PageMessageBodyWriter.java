@@ -16,9 +16,13 @@ package com.liferay.apio.architect.internal.jaxrs.writer;
 
 import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
 
+import static javax.ws.rs.core.HttpHeaders.VARY;
+
 import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.internal.export.PageExporter;
 import com.liferay.apio.architect.internal.jaxrs.writer.base.BaseMessageBodyWriter;
 import com.liferay.apio.architect.internal.message.json.PageMessageMapper;
+import com.liferay.apio.architect.internal.pagination.PageImpl;
 import com.liferay.apio.architect.internal.request.RequestInfo;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.PageMessageMapperManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
@@ -26,8 +30,20 @@ import com.liferay.apio.architect.internal.wiring.osgi.manager.uri.mapper.PathId
 import com.liferay.apio.architect.internal.writer.PageWriter;
 import com.liferay.apio.architect.pagination.Page;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import javax.ws.rs.NotAcceptableException;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Request;
 import javax.ws.rs.ext.MessageBodyWriter;
 import javax.ws.rs.ext.Provider;
@@ -66,15 +82,115 @@ public class PageMessageBodyWriter<T>
 		return _pageMessageMapperManager.getPageMessageMapperOptional(request);
 	}
 
+	/**
+	 * Writes the page and closes its items, even if the page couldn't be
+	 * written (for example, because the client disconnected), so the
+	 * resources backing lazy items are released as soon as possible.
+	 *
+	 * <p>
+	 * Since clients can ask for shared embedded resources with a {@code
+	 * Prefer} header, that header is added to the response's {@code Vary}
+	 * header.
+	 * </p>
+	 *
+	 * @review
+	 */
+	@Override
+	public void writeTo(
+			Page<T> page, Class<?> aClass, Type type, Annotation[] annotations,
+			MediaType mediaType, MultivaluedMap<String, Object> httpHeaders,
+			OutputStream outputStream)
+		throws WebApplicationException {
+
+		List<Object> varyValues = httpHeaders.get(VARY);
+
+		if ((varyValues == null) || !varyValues.contains("Prefer")) {
+			httpHeaders.add(VARY, "Prefer");
+		}
+
+		try {
+			super.writeTo(
+				page, aClass, type, annotations, mediaType, httpHeaders,
+				outputStream);
+		}
+		finally {
+			if (page instanceof PageImpl) {
+				PageImpl<T> pageImpl = (PageImpl<T>)page;
+
+				pageImpl.close();
+			}
+		}
+	}
+
+	@Override
+	protected int getItemCount(Page<T> page) {
+		if (page.isLazy()) {
+			return page.getItemsPerPage();
+		}
+
+		Collection<T> items = page.getItems();
+
+		return items.size();
+	}
+
+	/**
+	 * Returns {@code true} if the page's items are lazy and the message mapper
+	 * writes each item on its own (see {@link
+	 * PageMessageMapper#isItemDelimited()}). Pages written with an envelope
+	 * are built in memory before being written, so they are never streamed.
+	 *
+	 * @review
+	 */
+	@Override
+	protected boolean isStreamed(
+		Page<T> page, PageMessageMapper<T> pageMessageMapper) {
+
+		if (page.isLazy() && pageMessageMapper.isItemDelimited()) {
+			return true;
+		}
+
+		return false;
+	}
+
 	@Override
 	protected String write(
 		Page<T> page, PageMessageMapper<T> pageMessageMapper,
 		RequestInfo requestInfo) {
 
+		PageWriter<T> pageWriter = _createPageWriter(
+			page, pageMessageMapper, requestInfo);
+
+		return pageWriter.write();
+	}
+
+	@Override
+	protected void write(
+			Page<T> page, PageMessageMapper<T> pageMessageMapper,
+			RequestInfo requestInfo, OutputStream outputStream)
+		throws IOException {
+
+		PageWriter<T> pageWriter = _createPageWriter(
+			page, pageMessageMapper, requestInfo);
+
+		pageWriter.write(outputStream);
+	}
+
+	private PageWriter<T> _createPageWriter(
+		Page<T> page, PageMessageMapper<T> pageMessageMapper,
+		RequestInfo requestInfo) {
+
+		if (PageExporter.isExport(request) &&
+			!pageMessageMapper.isItemDelimited()) {
+
+			throw new NotAcceptableException(
+				"Collections can only be exported with a media type whose " +
+					"items are delimited, such as application/x-ndjson");
+		}
+
 		Credentials credentials = providerManager.provideMandatory(
 			request, Credentials.class);
 
-		PageWriter<T> pageWriter = PageWriter.create(
+		return PageWriter.create(
 			builder -> builder.page(
 				page
 			).pageMessageMapper(
@@ -94,8 +210,6 @@ public class PageMessageBodyWriter<T>
 				resource -> actionManager.getActionSemantics(
 					resource, credentials, requestInfo.getHttpServletRequest())
 			).build());
-
-		return pageWriter.write();
 	}
 
 	@Reference
@@ -17,7 +17,9 @@ package com.liferay.apio.architect.internal.jaxrs.writer;
 import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
 
 import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.internal.cache.ItemResponseCache;
 import com.liferay.apio.architect.internal.jaxrs.writer.base.BaseMessageBodyWriter;
+import com.liferay.apio.architect.internal.message.json.BinaryJSONFormat;
 import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
 import com.liferay.apio.architect.internal.request.RequestInfo;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.SingleModelMessageMapperManager;
@@ -26,6 +28,9 @@ import com.liferay.apio.architect.internal.wiring.osgi.manager.uri.mapper.PathId
 import com.liferay.apio.architect.internal.writer.SingleModelWriter;
 import com.liferay.apio.architect.single.model.SingleModel;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 import java.util.Optional;
 
 import javax.ws.rs.NotFoundException;
@@ -74,10 +79,60 @@ public class SingleModelMessageBodyWriter<T>
 		SingleModelMessageMapper<T> singleModelMessageMapper,
 		RequestInfo requestInfo) {
 
+		SingleModelWriter<T> singleModelWriter = _createSingleModelWriter(
+			singleModel, singleModelMessageMapper, requestInfo);
+
+		Optional<String> optional = singleModelWriter.write();
+
+		String result = optional.orElseThrow(NotFoundException::new);
+
+		_itemResponseCache.store(
+			request, singleModelMessageMapper.getMediaType(), result);
+
+		return result;
+	}
+
+	@Override
+	protected void write(
+			SingleModel<T> singleModel,
+			SingleModelMessageMapper<T> singleModelMessageMapper,
+			RequestInfo requestInfo, OutputStream outputStream)
+		throws IOException {
+
+		Optional<BinaryJSONFormat> binaryJSONFormatOptional =
+			singleModelMessageMapper.getBinaryJSONFormatOptional();
+
+		if (!binaryJSONFormatOptional.isPresent()) {
+			super.write(
+				singleModel, singleModelMessageMapper, requestInfo,
+				outputStream);
+
+			return;
+		}
+
+		SingleModelWriter<T> singleModelWriter = _createSingleModelWriter(
+			singleModel, singleModelMessageMapper, requestInfo);
+
+		Optional<byte[]> optional = singleModelWriter.write(
+			binaryJSONFormatOptional.get());
+
+		byte[] bytes = optional.orElseThrow(NotFoundException::new);
+
+		_itemResponseCache.store(
+			request, singleModelMessageMapper.getMediaType(), bytes);
+
+		outputStream.write(bytes);
+	}
+
+	private SingleModelWriter<T> _createSingleModelWriter(
+		SingleModel<T> singleModel,
+		SingleModelMessageMapper<T> singleModelMessageMapper,
+		RequestInfo requestInfo) {
+
 		Credentials credentials = providerManager.provideMandatory(
 			request, Credentials.class);
 
-		SingleModelWriter<T> singleModelWriter = SingleModelWriter.create(
+		return SingleModelWriter.create(
 			builder -> builder.singleModel(
 				singleModel
 			).modelMessageMapper(
@@ -97,12 +152,11 @@ public class SingleModelMessageBodyWriter<T>
 				resource -> actionManager.getActionSemantics(
 					resource, credentials, requestInfo.getHttpServletRequest())
 			).build());
-
-		Optional<String> optional = singleModelWriter.write();
-
-		return optional.orElseThrow(NotFoundException::new);
 	}
 
+	@Reference
+	private ItemResponseCache _itemResponseCache;
+
 	@Reference
 	private PathIdentifierMapperManager _pathIdentifierMapperManager;
 
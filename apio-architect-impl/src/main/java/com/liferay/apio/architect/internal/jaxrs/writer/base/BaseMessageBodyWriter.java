@@ -17,13 +17,21 @@ package com.liferay.apio.architect.internal.jaxrs.writer.base;
 import static java.util.Collections.singletonList;
 
 import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static javax.ws.rs.core.HttpHeaders.ETAG;
 
 import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.internal.annotation.ActionManager;
+import com.liferay.apio.architect.internal.cache.ETagOutputStream;
+import com.liferay.apio.architect.internal.jfr.FlightRecorderUtil;
 import com.liferay.apio.architect.internal.message.json.MessageMapper;
+import com.liferay.apio.architect.internal.metrics.MetricsRegistry;
 import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.request.SingleModelIdentityMap;
 import com.liferay.apio.architect.internal.response.control.Embedded;
 import com.liferay.apio.architect.internal.response.control.Fields;
+import com.liferay.apio.architect.internal.timing.Phase;
+import com.liferay.apio.architect.internal.timing.RequestAllocations;
+import com.liferay.apio.architect.internal.timing.RequestTimings;
 import com.liferay.apio.architect.internal.url.ApplicationURL;
 import com.liferay.apio.architect.internal.url.ServerURL;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.provider.ProviderManager;
@@ -35,9 +43,10 @@ import com.liferay.apio.architect.resource.Resource.Item;
 import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.uri.Path;
 
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
-import java.io.PrintWriter;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
@@ -49,6 +58,7 @@ import java.util.Optional;
 
 import javax.servlet.http.HttpServletRequest;
 
+import javax.ws.rs.HttpMethod;
 import javax.ws.rs.NotSupportedException;
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Context;
@@ -109,55 +119,74 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 			OutputStream outputStream)
 		throws WebApplicationException {
 
-		OutputStreamWriter outputStreamWriter = new OutputStreamWriter(
-			outputStream, StandardCharsets.UTF_8);
+		S s = _getMessageMapper();
 
-		PrintWriter printWriter = new PrintWriter(outputStreamWriter, true);
+		RequestInfo requestInfo = _getRequestInfo();
 
-		Optional<S> optional = getMessageMapperOptional(_request);
+		httpHeaders.put(CONTENT_TYPE, singletonList(s.getMediaType()));
 
-		S s = optional.orElseThrow(NotSupportedException::new);
+		RequestAllocations requestAllocations = RequestAllocations.of(request);
 
-		RequestInfo requestInfo = RequestInfo.create(
-			builder -> builder.httpServletRequest(
-				request
-			).serverURL(
-				providerManager.provideMandatory(request, ServerURL.class)
-			).applicationURL(
-				providerManager.provideMandatory(request, ApplicationURL.class)
-			).embedded(
-				providerManager.provideOptional(
-					request, Embedded.class
-				).orElse(
-					__ -> false
-				)
-			).fields(
-				providerManager.provideOptional(
-					request, Fields.class
-				).orElse(
-					__ -> string -> true
-				)
-			).language(
-				providerManager.provideOptional(
-					request, AcceptLanguage.class
-				).orElse(
-					Locale::getDefault
-				)
-			).build());
+		ByteArrayOutputStream byteArrayOutputStream = null;
 
-		String result = write(t, s, requestInfo);
+		long allocatedBytes = requestAllocations.begin();
 
-		httpHeaders.put(CONTENT_TYPE, singletonList(s.getMediaType()));
+		try {
+			if (_isDigestNeeded(t, s, httpHeaders)) {
+				byteArrayOutputStream = _writeWithETag(
+					t, s, requestInfo, httpHeaders);
+			}
+			else if (requestAllocations.isDebugHeader()) {
+
+				// The allocations header is added before the first byte is
+				// sent, so the element is buffered to include its write
+
+				byteArrayOutputStream = new ByteArrayOutputStream();
 
-		printWriter.println(result);
+				_write(t, s, requestInfo, byteArrayOutputStream);
+			}
+			else {
+				_write(t, s, requestInfo, outputStream);
+			}
+		}
+		finally {
+			requestAllocations.endWrite(allocatedBytes);
+		}
 
-		printWriter.close();
+		try {
+			if (byteArrayOutputStream != null) {
+				byteArrayOutputStream.writeTo(outputStream);
+			}
+
+			outputStream.close();
+		}
+		catch (IOException ioe) {
+			throw new WebApplicationException(ioe);
+		}
+	}
+
+	/**
+	 * Returns the number of items of the element being written. Writers of
+	 * collections should override this method.
+	 *
+	 * @param  t the element being written
+	 * @return the number of items of the element
+	 * @review
+	 */
+	protected int getItemCount(T t) {
+		return 1;
 	}
 
 	/**
 	 * Returns a {@link SingleModel} identified by the supplied identifier, if
 	 * present; returns {@code Optional#empty()} otherwise.
 	 *
+	 * <p>
+	 * Single models are memoized in the request's {@link
+	 * SingleModelIdentityMap}, so each one is only retrieved once per
+	 * response.
+	 * </p>
+	 *
 	 * @param  identifier the single model identifier
 	 * @param  identifierClass the resource identifier class
 	 * @return the {@code SingleModel}, if present; {@code Optional#empty()}
@@ -166,14 +195,39 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 	protected Optional<SingleModel> getSingleModelOptional(
 		Object identifier, Class<? extends Identifier> identifierClass) {
 
-		Optional<String> nameOptional = nameManager.getNameOptional(
-			identifierClass.getName());
+		SingleModelIdentityMap singleModelIdentityMap =
+			SingleModelIdentityMap.of(request);
 
-		return nameOptional.flatMap(
-			name -> _getItem(name, identifier)
-		).flatMap(
-			item -> actionManager.getItemSingleModel(item, request)
-		);
+		int hitCount = singleModelIdentityMap.getHitCount();
+
+		Optional<SingleModel> optional =
+			singleModelIdentityMap.getSingleModelOptional(
+				identifier, identifierClass, this::_fetchSingleModelOptional);
+
+		if (singleModelIdentityMap.getHitCount() > hitCount) {
+			metricsRegistry.recordIdentityMapHit(request);
+		}
+
+		return optional;
+	}
+
+	/**
+	 * Returns {@code true} if the element must be written directly to the
+	 * response's output stream, even if its {@code ETag} header must be
+	 * computed from the written bytes. Streamed responses are sent with
+	 * chunked transfer encoding, and don't get an {@code ETag} header unless
+	 * it was already set (for example, from the versions of the written
+	 * models). Responses that receive the {@code Apio-Allocated-Bytes} header
+	 * are buffered anyway, so the header includes the allocations of the
+	 * write.
+	 *
+	 * @param  t the element being written
+	 * @param  s the message mapper
+	 * @return {@code true} if the element is streamed; {@code false} otherwise
+	 * @review
+	 */
+	protected boolean isStreamed(T t, S s) {
+		return false;
 	}
 
 	/**
@@ -187,9 +241,37 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 	 */
 	protected abstract String write(T t, S s, RequestInfo requestInfo);
 
+	/**
+	 * Writes the element directly to the output stream. This method is only
+	 * called for elements that are streamed (see {@link #isStreamed(Object,
+	 * MessageMapper)}), and for elements written with a message mapper that
+	 * has a binary encoding (see {@link
+	 * MessageMapper#getBinaryJSONFormatOptional()}), which writers supporting
+	 * those message mappers must honor. By default, it writes the string
+	 * returned by {@link #write(Object, MessageMapper, RequestInfo)}.
+	 *
+	 * @param  t the element being written
+	 * @param  s the message mapper
+	 * @param  requestInfo the current request's information
+	 * @param  outputStream the response's output stream
+	 * @throws IOException if the element couldn't be written
+	 * @review
+	 */
+	protected void write(
+			T t, S s, RequestInfo requestInfo, OutputStream outputStream)
+		throws IOException {
+
+		String result = write(t, s, requestInfo);
+
+		outputStream.write(result.getBytes(StandardCharsets.UTF_8));
+	}
+
 	@Reference
 	protected ActionManager actionManager;
 
+	@Reference
+	protected MetricsRegistry metricsRegistry;
+
 	@Reference
 	protected NameManager nameManager;
 
@@ -202,6 +284,32 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 	@Context
 	protected HttpServletRequest request;
 
+	private Optional<SingleModel> _fetchSingleModelOptional(
+		Object identifier, Class<? extends Identifier> identifierClass) {
+
+		Optional<String> nameOptional = nameManager.getNameOptional(
+			identifierClass.getName());
+
+		metricsRegistry.recordEmbeddedFetch(request);
+
+		RequestTimings requestTimings = RequestTimings.of(request);
+
+		Phase previous = requestTimings.enter(Phase.EMBEDDED);
+
+		try {
+			return FlightRecorderUtil.recordEmbeddedFetch(
+				identifierClass.getName(), identifier,
+				() -> nameOptional.flatMap(
+					name -> _getItem(name, identifier)
+				).flatMap(
+					item -> actionManager.getItemSingleModel(item, request)
+				));
+		}
+		finally {
+			requestTimings.exit(previous);
+		}
+	}
+
 	private Optional<Item> _getItem(String name, Object identifier) {
 		Optional<Path> optionalPath = pathIdentifierMapperManager.mapToPath(
 			name, identifier);
@@ -213,7 +321,130 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 		);
 	}
 
+	private S _getMessageMapper() {
+		Optional<S> optional = getMessageMapperOptional(_request);
+
+		return optional.orElseThrow(NotSupportedException::new);
+	}
+
+	private RequestInfo _getRequestInfo() {
+		return RequestInfo.create(
+			builder -> builder.httpServletRequest(
+				request
+			).serverURL(
+				providerManager.provideMandatory(request, ServerURL.class)
+			).applicationURL(
+				providerManager.provideMandatory(request, ApplicationURL.class)
+			).embedded(
+				providerManager.provideOptional(
+					request, Embedded.class
+				).orElse(
+					__ -> false
+				)
+			).fields(
+				providerManager.provideOptional(
+					request, Fields.class
+				).orElse(
+					__ -> string -> true
+				)
+			).language(
+				providerManager.provideOptional(
+					request, AcceptLanguage.class
+				).orElse(
+					Locale::getDefault
+				)
+			).build());
+	}
+
+	private boolean _isBinary(S s) {
+		Optional<?> optional = s.getBinaryJSONFormatOptional();
+
+		return optional.isPresent();
+	}
+
+	private boolean _isDigestNeeded(
+		T t, S s, MultivaluedMap<String, Object> httpHeaders) {
+
+		if (isStreamed(t, s) || httpHeaders.containsKey(ETAG)) {
+			return false;
+		}
+
+		return HttpMethod.GET.equals(request.getMethod());
+	}
+
+	private void _write(
+		T t, S s, RequestInfo requestInfo, OutputStream outputStream) {
+
+		CountingOutputStream countingOutputStream = new CountingOutputStream(
+			outputStream);
+
+		Class<?> writerClass = getClass();
+
+		FlightRecorderUtil.recordWrite(
+			writerClass.getSimpleName(), s.getMediaType(), getItemCount(t),
+			() -> {
+				try {
+					write(t, s, requestInfo, countingOutputStream);
+
+					if (!_isBinary(s)) {
+						String lineSeparator = System.lineSeparator();
+
+						countingOutputStream.write(
+							lineSeparator.getBytes(StandardCharsets.UTF_8));
+					}
+				}
+				catch (IOException ioe) {
+					throw new WebApplicationException(ioe);
+				}
+
+				return countingOutputStream._count;
+			});
+	}
+
+	private ByteArrayOutputStream _writeWithETag(
+		T t, S s, RequestInfo requestInfo,
+		MultivaluedMap<String, Object> httpHeaders) {
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		ETagOutputStream eTagOutputStream = new ETagOutputStream(
+			byteArrayOutputStream);
+
+		_write(t, s, requestInfo, eTagOutputStream);
+
+		httpHeaders.putSingle(ETAG, eTagOutputStream.getETag());
+
+		return byteArrayOutputStream;
+	}
+
 	@Context
 	private Request _request;
 
+	private static class CountingOutputStream extends FilterOutputStream {
+
+		@Override
+		public void write(byte[] bytes, int offset, int length)
+			throws IOException {
+
+			out.write(bytes, offset, length);
+
+			_count += length;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			out.write(b);
+
+			_count++;
+		}
+
+		private CountingOutputStream(OutputStream outputStream) {
+			super(outputStream);
+		}
+
+		private long _count;
+
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jfr;
+
+import com.liferay.apio.architect.internal.action.ActionSemantics;
+import com.liferay.apio.architect.internal.annotation.Action;
+import com.liferay.apio.architect.internal.wiring.osgi.alias.EmptyFunction;
+
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Emits the Flight Recorder events. The implementation links against {@code
+ * jdk.jfr}, so it lives in the {@code jfr} source set, which is compiled with
+ * a JDK that provides that package, and {@link FlightRecorderUtil} loads it
+ * reflectively once it has checked that Flight Recorder is available.
+ *
+ * @author agent
+ * @review
+ */
+interface FlightRecorderEvents {
+
+	public Action instrument(ActionSemantics actionSemantics, Action action);
+
+	public <T> Optional<T> recordEmbeddedFetch(
+		String identifierClassName, Object identifier,
+		Supplier<Optional<T>> supplier);
+
+	public void recordManagerCacheRecomputation(
+		String cacheName, EmptyFunction computeEmptyFunction);
+
+	public long recordWrite(
+		String writerName, String mediaType, int items,
+		LongSupplier supplier);
+
+}
@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jfr;
+
+import com.liferay.apio.architect.internal.action.ActionSemantics;
+import com.liferay.apio.architect.internal.annotation.Action;
+import com.liferay.apio.architect.internal.wiring.osgi.alias.EmptyFunction;
+
+import java.lang.reflect.Constructor;
+
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Provides methods to emit the Java Flight Recorder events of Apio Architect:
+ * action executions, writer runs, embedded fetches and recomputations of the
+ * manager cache. Events appear under the {@code Apio Architect} category of
+ * any recording that enables them (for example, {@code jcmd <pid> JFR.start
+ * settings=profile}).
+ *
+ * <p>
+ * Flight Recorder is an optional dependency: if the JVM doesn't provide the
+ * {@code jdk.jfr} package, the bundle can't import it, or the bundle was built
+ * without the {@code jfr} source set, every method simply runs the provided
+ * code, without creating any event.
+ * </p>
+ *
+ * @author agent
+ * @review
+ */
+public final class FlightRecorderUtil {
+
+	/**
+	 * Returns an action that emits an action execution event for every
+	 * execution of the provided action. The returned action keeps the type
+	 * ({@link Action.NoContent} or {@link Action.Ok}) of the original one. If
+	 * Flight Recorder isn't available, the original action is returned.
+	 *
+	 * @param  actionSemantics the semantics of the action
+	 * @param  action the action to record
+	 * @return the recorded action
+	 * @review
+	 */
+	public static Action instrument(
+		ActionSemantics actionSemantics, Action action) {
+
+		if (_flightRecorderEvents == null) {
+			return action;
+		}
+
+		return _flightRecorderEvents.instrument(actionSemantics, action);
+	}
+
+	/**
+	 * Returns {@code true} if Flight Recorder events can be emitted in this
+	 * JVM.
+	 *
+	 * @review
+	 */
+	public static boolean isAvailable() {
+		return _flightRecorderEvents != null;
+	}
+
+	/**
+	 * Fetches an embedded resource with the provided supplier, emitting an
+	 * embedded fetch event.
+	 *
+	 * @param  identifierClassName the class name of the resource's identifier
+	 * @param  identifier the identifier of the resource
+	 * @param  supplier the supplier that fetches the resource
+	 * @return the fetched resource, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public static <T> Optional<T> recordEmbeddedFetch(
+		String identifierClassName, Object identifier,
+		Supplier<Optional<T>> supplier) {
+
+		if (_flightRecorderEvents == null) {
+			return supplier.get();
+		}
+
+		return _flightRecorderEvents.recordEmbeddedFetch(
+			identifierClassName, identifier, supplier);
+	}
+
+	/**
+	 * Invokes the function that recomputes some data of the manager cache,
+	 * emitting a manager cache recomputation event.
+	 *
+	 * @param cacheName the name of the recomputed data
+	 * @param computeEmptyFunction the function that recomputes the data
+	 * @review
+	 */
+	public static void recordManagerCacheRecomputation(
+		String cacheName, EmptyFunction computeEmptyFunction) {
+
+		if (_flightRecorderEvents == null) {
+			computeEmptyFunction.invoke();
+
+			return;
+		}
+
+		_flightRecorderEvents.recordManagerCacheRecomputation(
+			cacheName, computeEmptyFunction);
+	}
+
+	/**
+	 * Writes an element with the provided supplier, emitting a writer run
+	 * event with the number of items and bytes written.
+	 *
+	 * @param  writerName the name of the writer
+	 * @param  mediaType the media type of the written bytes
+	 * @param  items the number of items being written
+	 * @param  supplier the supplier that writes the element, and returns the
+	 *         number of bytes written
+	 * @return the number of bytes written
+	 * @review
+	 */
+	public static long recordWrite(
+		String writerName, String mediaType, int items,
+		LongSupplier supplier) {
+
+		if (_flightRecorderEvents == null) {
+			return supplier.getAsLong();
+		}
+
+		return _flightRecorderEvents.recordWrite(
+			writerName, mediaType, items, supplier);
+	}
+
+	private static FlightRecorderEvents _loadFlightRecorderEvents() {
+		ClassLoader classLoader = FlightRecorderUtil.class.getClassLoader();
+
+		try {
+			Class.forName("jdk.jfr.Event", false, classLoader);
+
+			Class<?> clazz = Class.forName(
+				"com.liferay.apio.architect.internal.jfr." +
+					"FlightRecorderEventsImpl",
+				true, classLoader);
+
+			Constructor<?> constructor = clazz.getDeclaredConstructor();
+
+			return (FlightRecorderEvents)constructor.newInstance();
+		}
+		catch (LinkageError | ReflectiveOperationException e) {
+			return null;
+		}
+	}
+
+	private FlightRecorderUtil() {
+		throw new UnsupportedOperationException();
+	}
+
+	private static final FlightRecorderEvents _flightRecorderEvents =
+		_loadFlightRecorderEvents();
+
+}
@@ -0,0 +1,181 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.limit;
+
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getBoolean;
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getDouble;
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getInteger;
+
+import com.liferay.apio.architect.internal.action.ActionSemantics;
+import com.liferay.apio.architect.internal.annotation.Action;
+import com.liferay.apio.architect.resource.Resource;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.ServiceUnavailableException;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
+
+/**
+ * Limits the number of concurrent executions of each action, using an {@link
+ * AdaptiveConcurrencyLimiter} per action. Executions exceeding the limit are
+ * rejected with a {@code 503 Service Unavailable}.
+ *
+ * <p>
+ * Limiting is disabled by default. It can be enabled, and tuned, through this
+ * component's configuration. The current limit and the number of rejected
+ * executions of each action are published with the rest of the metrics (see
+ * {@link com.liferay.apio.architect.internal.metrics.MetricsRegistry}).
+ * </p>
+ *
+ * @author agent
+ * @review
+ */
+@Component(
+	property = {
+		"backoff.ratio=0.9", "enabled=false", "initial.limit=20",
+		"max.limit=200", "min.limit=1", "tolerance=2.0"
+	},
+	service = ActionConcurrencyLimiter.class
+)
+public class ActionConcurrencyLimiter {
+
+	/**
+	 * Returns the limiter of an action, if the action has been limited since
+	 * this component was last activated; returns {@code Optional#empty()}
+	 * otherwise.
+	 *
+	 * @param  httpMethod the action's HTTP method
+	 * @param  resourceName the name of the action's resource
+	 * @param  actionName the action's name
+	 * @return the action's limiter, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public Optional<AdaptiveConcurrencyLimiter> getLimiterOptional(
+		String httpMethod, String resourceName, String actionName) {
+
+		return Optional.ofNullable(
+			_limiters.get(_getKey(httpMethod, resourceName, actionName)));
+	}
+
+	/**
+	 * Returns {@code true} if actions are being limited.
+	 *
+	 * @review
+	 */
+	public boolean isEnabled() {
+		return _enabled;
+	}
+
+	/**
+	 * Returns an action that executes the provided one only if the limiter of
+	 * the action semantics has room for it; it throws a {@link
+	 * ServiceUnavailableException} otherwise.
+	 *
+	 * <p>
+	 * The returned action keeps the type ({@link Action.NoContent} or {@link
+	 * Action.Ok}) of the original one. If limiting is disabled, the original
+	 * action is returned.
+	 * </p>
+	 *
+	 * @param  actionSemantics the semantics of the action
+	 * @param  action the action to limit
+	 * @return the limited action
+	 * @review
+	 */
+	public Action limit(ActionSemantics actionSemantics, Action action) {
+		if (!_enabled) {
+			return action;
+		}
+
+		AdaptiveConcurrencyLimiter limiter = _limiters.computeIfAbsent(
+			_getKey(actionSemantics), __ -> _createLimiter());
+
+		if (action instanceof Action.NoContent) {
+			return (Action.NoContent)request -> _execute(
+				limiter, action, request);
+		}
+
+		return (Action.Ok)request -> _execute(limiter, action, request);
+	}
+
+	@Activate
+	@Modified
+	protected void activate(Map<String, Object> properties) {
+		_enabled = getBoolean(properties, "enabled", false);
+		_initialLimit = getInteger(properties, "initial.limit", 20);
+		_minLimit = getInteger(properties, "min.limit", 1);
+		_maxLimit = getInteger(properties, "max.limit", 200);
+		_backoffRatio = getDouble(properties, "backoff.ratio", 0.9);
+		_tolerance = getDouble(properties, "tolerance", 2.0);
+
+		_limiters.clear();
+	}
+
+	private static Object _execute(
+		AdaptiveConcurrencyLimiter limiter, Action action,
+		HttpServletRequest request) {
+
+		if (!limiter.tryAcquire()) {
+			throw new ServiceUnavailableException(
+				"Concurrency limit of " + limiter.getLimit() + " reached");
+		}
+
+		long start = System.nanoTime();
+
+		try {
+			return action.execute(request);
+		}
+		finally {
+			limiter.release(System.nanoTime() - start);
+		}
+	}
+
+	private static String _getKey(ActionSemantics actionSemantics) {
+		Resource resource = actionSemantics.getResource();
+
+		return _getKey(
+			actionSemantics.getHTTPMethod(), resource.getName(),
+			actionSemantics.getActionName());
+	}
+
+	private static String _getKey(
+		String httpMethod, String resourceName, String actionName) {
+
+		return String.join(" ", httpMethod, resourceName + "/" + actionName);
+	}
+
+	private AdaptiveConcurrencyLimiter _createLimiter() {
+		return new AdaptiveConcurrencyLimiter(
+			_initialLimit, _minLimit, _maxLimit, _backoffRatio, _tolerance);
+	}
+
+	private volatile double _backoffRatio;
+	private volatile boolean _enabled;
+	private volatile int _initialLimit;
+	private final Map<String, AdaptiveConcurrencyLimiter> _limiters =
+		new ConcurrentHashMap<>();
+	private volatile int _maxLimit;
+	private volatile int _minLimit;
+	private volatile double _tolerance;
+
+}
@@ -0,0 +1,199 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits the number of concurrent executions of a task using an AIMD
+ * (additive-increase, multiplicative-decrease) algorithm driven by latency.
+ *
+ * <p>
+ * The limiter tracks the lowest latency observed (the no-load latency). While
+ * the latency of completed executions stays below that baseline multiplied by
+ * the configured tolerance, and the limit is actually being used, the limit
+ * grows by one for each window of executions (a window being as many
+ * executions as the current limit). When the latency exceeds it, the limit is
+ * multiplied by the back-off ratio, at most once per window.
+ *
+ * <p>
+ * Since a baseline measured while overloaded is meaningless, the limiter
+ * periodically probes for a new one: it forgets the current baseline and
+ * halves the limit, so the next executions run with less contention.
+ * </p>
+ *
+ * <p>
+ * This class is thread-safe. Acquiring a permit is lock-free; only the limit
+ * recalculation after each execution is synchronized.
+ * </p>
+ *
+ * @author agent
+ * @review
+ */
+public class AdaptiveConcurrencyLimiter {
+
+	public AdaptiveConcurrencyLimiter(
+		int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+		double tolerance) {
+
+		if ((minLimit < 1) || (maxLimit < minLimit)) {
+			throw new IllegalArgumentException(
+				"Invalid limit bounds: [" + minLimit + ", " + maxLimit + "]");
+		}
+
+		if ((backoffRatio <= 0) || (backoffRatio >= 1)) {
+			throw new IllegalArgumentException(
+				"Back-off ratio must be between 0 and 1: " + backoffRatio);
+		}
+
+		if (tolerance < 1) {
+			throw new IllegalArgumentException(
+				"Tolerance must be greater or equal than 1: " + tolerance);
+		}
+
+		_minLimit = minLimit;
+		_maxLimit = maxLimit;
+		_backoffRatio = backoffRatio;
+		_tolerance = tolerance;
+
+		_limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+		_estimatedLimit = _limit;
+	}
+
+	/**
+	 * Returns the number of executions currently holding a permit.
+	 *
+	 * @return the number of executions currently holding a permit
+	 * @review
+	 */
+	public int getInFlight() {
+		return _inFlight.get();
+	}
+
+	/**
+	 * Returns the current concurrency limit.
+	 *
+	 * @return the current concurrency limit
+	 * @review
+	 */
+	public int getLimit() {
+		return _limit;
+	}
+
+	/**
+	 * Returns the no-load latency used as baseline, in nanoseconds, or {@code
+	 * -1} if no execution has completed yet.
+	 *
+	 * @return the no-load latency, in nanoseconds
+	 * @review
+	 */
+	public synchronized long getNoLoadLatency() {
+		if (_noLoadLatency == Long.MAX_VALUE) {
+			return -1;
+		}
+
+		return _noLoadLatency;
+	}
+
+	/**
+	 * Returns the number of executions rejected since this limiter was
+	 * created.
+	 *
+	 * @return the number of rejected executions
+	 * @review
+	 */
+	public long getShedCount() {
+		return _shedCount.sum();
+	}
+
+	/**
+	 * Releases a permit previously obtained with {@link #tryAcquire()}, and
+	 * updates the limit with the latency of the execution.
+	 *
+	 * @param  latencyNanos the latency of the execution, in nanoseconds
+	 * @review
+	 */
+	public void release(long latencyNanos) {
+		int inFlight = _inFlight.getAndDecrement();
+
+		_update(Math.max(1, latencyNanos), inFlight);
+	}
+
+	/**
+	 * Tries to obtain a permit for a new execution. Returns {@code false}, and
+	 * counts the execution as shed, if the limit has been reached.
+	 *
+	 * @return {@code true} if a permit was obtained; {@code false} otherwise
+	 * @review
+	 */
+	public boolean tryAcquire() {
+		while (true) {
+			int inFlight = _inFlight.get();
+
+			if (inFlight >= _limit) {
+				_shedCount.increment();
+
+				return false;
+			}
+
+			if (_inFlight.compareAndSet(inFlight, inFlight + 1)) {
+				return true;
+			}
+		}
+	}
+
+	private synchronized void _update(long latencyNanos, int inFlight) {
+		if (++_samples % _PROBE_INTERVAL == 0) {
+			_noLoadLatency = Long.MAX_VALUE;
+
+			_estimatedLimit = Math.max(_minLimit, _estimatedLimit / 2);
+		}
+
+		_noLoadLatency = Math.min(_noLoadLatency, latencyNanos);
+
+		_samplesSinceBackoff++;
+
+		if (latencyNanos > (_noLoadLatency * _tolerance)) {
+			if (_samplesSinceBackoff >= _estimatedLimit) {
+				_estimatedLimit = Math.max(
+					_minLimit, _estimatedLimit * _backoffRatio);
+
+				_samplesSinceBackoff = 0;
+			}
+		}
+		else if ((inFlight * 2) >= _estimatedLimit) {
+			_estimatedLimit = Math.min(
+				_maxLimit, _estimatedLimit + (1 / _estimatedLimit));
+		}
+
+		_limit = (int)_estimatedLimit;
+	}
+
+	private static final int _PROBE_INTERVAL = 1000;
+
+	private final double _backoffRatio;
+	private double _estimatedLimit;
+	private final AtomicInteger _inFlight = new AtomicInteger();
+	private volatile int _limit;
+	private final int _maxLimit;
+	private final int _minLimit;
+	private long _noLoadLatency = Long.MAX_VALUE;
+	private long _samples;
+	private long _samplesSinceBackoff;
+	private final LongAdder _shedCount = new LongAdder();
+	private final double _tolerance;
+
+}
@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.message.json;
+
+import static com.fasterxml.jackson.databind.SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Defines the binary encodings in which a {@link JSONObjectBuilder} can write
+ * its JSON object, instead of JSON text. Both encodings keep the JSON data
+ * model, so every message mapper can be reused to write them, while producing
+ * smaller responses that are faster to parse.
+ *
+ * @author agent
+ * @review
+ */
+public enum BinaryJSONFormat {
+
+	CBOR("application/cbor", new CBORFactory()),
+	SMILE("application/x-jackson-smile", new SmileFactory());
+
+	/**
+	 * Returns {@code true} if the media type is the media type of a binary
+	 * encoding.
+	 *
+	 * @param  mediaType the media type
+	 * @return {@code true} if the media type belongs to a binary encoding;
+	 *         {@code false} otherwise
+	 * @review
+	 */
+	public static boolean isBinaryMediaType(String mediaType) {
+		for (BinaryJSONFormat binaryJSONFormat : values()) {
+			if (binaryJSONFormat._mediaType.equalsIgnoreCase(mediaType)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns the media type of the binary encoding.
+	 *
+	 * @return the media type
+	 * @review
+	 */
+	public String getMediaType() {
+		return _mediaType;
+	}
+
+	/**
+	 * Reads a JSON tree encoded with the binary encoding.
+	 *
+	 * @param  inputStream the input stream with the encoded JSON
+	 * @return the JSON tree
+	 * @throws IOException if the input stream couldn't be read or decoded
+	 * @review
+	 */
+	public JsonNode readTree(InputStream inputStream) throws IOException {
+		return _objectMapper.readTree(inputStream);
+	}
+
+	/**
+	 * Returns the writer that encodes values with the binary encoding, sorting
+	 * map entries by key, like JSON text is written.
+	 *
+	 * @return the writer
+	 */
+	ObjectWriter getObjectWriter() {
+		return _objectWriter;
+	}
+
+	private BinaryJSONFormat(String mediaType, JsonFactory jsonFactory) {
+		_mediaType = mediaType;
+
+		_objectMapper = new ObjectMapper(jsonFactory);
+
+		_objectWriter = _objectMapper.writer(ORDER_MAP_ENTRIES_BY_KEYS);
+	}
+
+	private final String _mediaType;
+	private final ObjectMapper _objectMapper;
+	private final ObjectWriter _objectWriter;
+
+}
@@ -14,6 +14,7 @@
 
 package com.liferay.apio.architect.internal.message.json;
 
+import static com.fasterxml.jackson.core.JsonGenerator.Feature.AUTO_CLOSE_TARGET;
 import static com.fasterxml.jackson.databind.MapperFeature.SORT_PROPERTIES_ALPHABETICALLY;
 import static com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT;
 import static com.fasterxml.jackson.databind.SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS;
@@ -21,9 +22,14 @@ import static com.fasterxml.jackson.databind.SerializationFeature.ORDER_MAP_ENTR
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
 import java.util.Collection;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -107,6 +113,54 @@ public class JSONObjectBuilder {
 		}
 	}
 
+	/**
+	 * Returns the JSON object constructed by the JSON object builder, encoded
+	 * with the binary encoding.
+	 *
+	 * @param  binaryJSONFormat the binary encoding
+	 * @return the encoded JSON object
+	 * @review
+	 */
+	public byte[] build(BinaryJSONFormat binaryJSONFormat) {
+		try {
+			Object object = _OBJECT_MAPPER.treeToValue(
+				_objectNode, Object.class);
+
+			ObjectWriter objectWriter = binaryJSONFormat.getObjectWriter();
+
+			return objectWriter.writeValueAsBytes(object);
+		}
+		catch (JsonProcessingException jpe) {
+			throw new UncheckedIOException(jpe);
+		}
+	}
+
+	/**
+	 * Returns the JSON object constructed as a {@code String} by the JSON
+	 * object builder, in a single line and without indentation, as required
+	 * by line-delimited formats.
+	 *
+	 * @return the JSON object, in a single line
+	 * @review
+	 */
+	public String buildLine() {
+		try {
+			Object object = _OBJECT_MAPPER.treeToValue(
+				_objectNode, Object.class);
+
+			ObjectWriter objectWriter = _OBJECT_MAPPER.writer();
+
+			return objectWriter.without(
+				INDENT_OUTPUT
+			).writeValueAsString(
+				object
+			);
+		}
+		catch (JsonProcessingException jpe) {
+			return _objectNode.toString();
+		}
+	}
+
 	/**
 	 * Begins creating a field inside the JSON object.
 	 *
@@ -247,6 +301,73 @@ public class JSONObjectBuilder {
 		return fieldStep;
 	}
 
+	/**
+	 * Removes a field from the JSON object, if present.
+	 *
+	 * @param name the field's name
+	 * @review
+	 */
+	public void removeField(String name) {
+		_objectNode.remove(name);
+	}
+
+	/**
+	 * Writes the JSON object constructed by the JSON object builder to the
+	 * output stream in a single line and without indentation, as required by
+	 * line-delimited formats. The output stream is not closed.
+	 *
+	 * @param  outputStream the output stream
+	 * @throws IOException if the JSON object couldn't be written
+	 * @review
+	 */
+	public void writeLineTo(OutputStream outputStream) throws IOException {
+		ObjectWriter objectWriter = _OBJECT_MAPPER.writer();
+
+		_writeTo(objectWriter.without(INDENT_OUTPUT), outputStream);
+	}
+
+	/**
+	 * Writes the JSON object constructed by the JSON object builder to the
+	 * output stream, without creating an intermediate {@code String}. The
+	 * output stream is not closed.
+	 *
+	 * @param  outputStream the output stream
+	 * @throws IOException if the JSON object couldn't be written
+	 * @review
+	 */
+	public void writeTo(OutputStream outputStream) throws IOException {
+		_writeTo(_OBJECT_MAPPER.writer(), outputStream);
+	}
+
+	/**
+	 * Writes the JSON object constructed by the JSON object builder to the
+	 * output stream, encoded with the binary encoding. The output stream is not
+	 * closed.
+	 *
+	 * @param  outputStream the output stream
+	 * @param  binaryJSONFormat the binary encoding
+	 * @throws IOException if the JSON object couldn't be written
+	 * @review
+	 */
+	public void writeTo(
+			OutputStream outputStream, BinaryJSONFormat binaryJSONFormat)
+		throws IOException {
+
+		_writeTo(binaryJSONFormat.getObjectWriter(), outputStream);
+	}
+
+	private void _writeTo(ObjectWriter objectWriter, OutputStream outputStream)
+		throws IOException {
+
+		Object object = _OBJECT_MAPPER.treeToValue(_objectNode, Object.class);
+
+		objectWriter.without(
+			AUTO_CLOSE_TARGET
+		).writeValue(
+			outputStream, object
+		);
+	}
+
 	public static class ArrayValueStep {
 
 		public ArrayValueStep(ArrayNode arrayNode) {
@@ -309,6 +430,58 @@ public class JSONObjectBuilder {
 			collection.forEach(this::addBoolean);
 		}
 
+		/**
+		 * Adds all elements of a boolean array as elements of the JSON array,
+		 * without boxing them.
+		 *
+		 * @param values the boolean array to add to the JSON array
+		 * @review
+		 */
+		public void addAllBooleans(boolean[] values) {
+			for (boolean value : values) {
+				_arrayNode.add(value);
+			}
+		}
+
+		/**
+		 * Adds all elements of a double array as elements of the JSON array,
+		 * without boxing them.
+		 *
+		 * @param values the double array to add to the JSON array
+		 * @review
+		 */
+		public void addAllDoubles(double[] values) {
+			for (double value : values) {
+				_arrayNode.add(value);
+			}
+		}
+
+		/**
+		 * Adds all elements of a int array as elements of the JSON array,
+		 * without boxing them.
+		 *
+		 * @param values the int array to add to the JSON array
+		 * @review
+		 */
+		public void addAllInts(int[] values) {
+			for (int value : values) {
+				_arrayNode.add(value);
+			}
+		}
+
+		/**
+		 * Adds all elements of a long array as elements of the JSON array,
+		 * without boxing them.
+		 *
+		 * @param values the long array to add to the JSON array
+		 * @review
+		 */
+		public void addAllLongs(long[] values) {
+			for (long value : values) {
+				_arrayNode.add(value);
+			}
+		}
+
 		/**
 		 * Adds all elements of a number collection as elements of the JSON
 		 * array.
@@ -14,6 +14,8 @@
 
 package com.liferay.apio.architect.internal.message.json;
 
+import java.util.Optional;
+
 /**
  * Maps message data to its representation in a JSON object. Instances of this
  * interface work like events. The message's {@code
@@ -27,6 +29,19 @@ package com.liferay.apio.architect.internal.message.json;
  */
 public interface MessageMapper<T> {
 
+	/**
+	 * Returns the binary encoding in which the mapper's JSON object must be
+	 * written, if present; returns {@code Optional#empty()} if it must be
+	 * written as JSON text.
+	 *
+	 * @return the binary encoding of the JSON object, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public default Optional<BinaryJSONFormat> getBinaryJSONFormatOptional() {
+		return Optional.empty();
+	}
+
 	/**
 	 * Returns the media type the mapper represents.
 	 *
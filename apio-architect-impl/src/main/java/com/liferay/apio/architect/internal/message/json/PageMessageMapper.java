@@ -51,6 +51,23 @@ import java.util.Optional;
 public interface PageMessageMapper<T>
 	extends MessageMapper<Page<T>>, ActionMapper {
 
+	/**
+	 * Returns {@code true} if this mapper can write each embedded resource of
+	 * the page once, in a section shared by all the page's items, instead of
+	 * inline in every item embedding it. When clients ask for shared embedded
+	 * resources and this method returns {@code true}, items reference those
+	 * resources with {@link #mapItemLinkedResourceURL} and {@link
+	 * #onFinishSharedEmbeddedModel} is called once for each distinct embedded
+	 * resource.
+	 *
+	 * @return {@code true} if embedded resources can be shared; {@code false}
+	 *         otherwise
+	 * @review
+	 */
+	public default boolean canShareEmbeddedModels() {
+		return false;
+	}
+
 	/**
 	 * Returns the {@link SingleModelMessageMapper} used by the item methods.
 	 *
@@ -62,6 +79,22 @@ public interface PageMessageMapper<T>
 		return Optional.empty();
 	}
 
+	/**
+	 * Returns {@code true} if this mapper represents a page as a sequence of
+	 * delimited items (for example, one JSON object per line), instead of as a
+	 * single JSON object. The items of a delimited page are written one after
+	 * the other, as soon as each one is mapped, and the page-level methods
+	 * (URLs, counts, actions, semantics and {@link #onFinish}) are never
+	 * called.
+	 *
+	 * @return {@code true} if the page's items are delimited; {@code false}
+	 *         otherwise
+	 * @review
+	 */
+	public default boolean isItemDelimited() {
+		return false;
+	}
+
 	@Override
 	public default void mapActionSemanticsExpectedResourceURL(
 		JSONObjectBuilder jsonObjectBuilder, String url) {
@@ -98,6 +131,19 @@ public interface PageMessageMapper<T>
 		JSONObjectBuilder jsonObjectBuilder, String url) {
 	}
 
+	/**
+	 * Maps the URL of the shared context of the page items' type to its JSON
+	 * object representation. This method is called once all the page's items
+	 * are mapped.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the page
+	 * @param url the context's URL
+	 * @review
+	 */
+	public default void mapContextURL(
+		JSONObjectBuilder jsonObjectBuilder, String url) {
+	}
+
 	/**
 	 * Maps the current page's URL to its JSON object representation.
 	 *
@@ -137,6 +183,29 @@ public interface PageMessageMapper<T>
 				jsonObjectBuilder, httpMethod));
 	}
 
+	/**
+	 * Maps a resource's boolean array field to its JSON object representation.
+	 *
+	 * @param pageJSONObjectBuilder the JSON object builder for the page
+	 * @param itemJSONObjectBuilder the JSON object builder for the item
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapItemBooleanArrayField(
+		JSONObjectBuilder pageJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder, String fieldName,
+		boolean[] value) {
+
+		Optional<SingleModelMessageMapper<T>> optional =
+			getSingleModelMessageMapperOptional();
+
+		optional.ifPresent(
+			singleModelMessageMapper ->
+				singleModelMessageMapper.mapBooleanArrayField(
+					itemJSONObjectBuilder, fieldName, value));
+	}
+
 	/**
 	 * Maps a resource's boolean field to its JSON object representation.
 	 *
@@ -181,6 +250,56 @@ public interface PageMessageMapper<T>
 					itemJSONObjectBuilder, fieldName, value));
 	}
 
+	/**
+	 * Maps a resource's double array field to its JSON object representation.
+	 *
+	 * @param pageJSONObjectBuilder the JSON object builder for the page
+	 * @param itemJSONObjectBuilder the JSON object builder for the item
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapItemDoubleArrayField(
+		JSONObjectBuilder pageJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder, String fieldName,
+		double[] value) {
+
+		Optional<SingleModelMessageMapper<T>> optional =
+			getSingleModelMessageMapperOptional();
+
+		optional.ifPresent(
+			singleModelMessageMapper ->
+				singleModelMessageMapper.mapDoubleArrayField(
+					itemJSONObjectBuilder, fieldName, value));
+	}
+
+	/**
+	 * Maps an embedded resource's boolean array field to its JSON object
+	 * representation.
+	 *
+	 * @param pageJSONObjectBuilder the JSON object builder for the page
+	 * @param itemJSONObjectBuilder the JSON object builder for the item
+	 * @param embeddedPathElements the current resource's embedded path elements
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapItemEmbeddedResourceBooleanArrayField(
+		JSONObjectBuilder pageJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		boolean[] value) {
+
+		Optional<SingleModelMessageMapper<T>> optional =
+			getSingleModelMessageMapperOptional();
+
+		optional.ifPresent(
+			singleModelMessageMapper ->
+				singleModelMessageMapper.mapEmbeddedResourceBooleanArrayField(
+					itemJSONObjectBuilder, embeddedPathElements, fieldName,
+					value));
+	}
+
 	/**
 	 * Maps an embedded resource's boolean field to its JSON object
 	 * representation.
@@ -233,6 +352,60 @@ public interface PageMessageMapper<T>
 					value));
 	}
 
+	/**
+	 * Maps an embedded resource's double array field to its JSON object
+	 * representation.
+	 *
+	 * @param pageJSONObjectBuilder the JSON object builder for the page
+	 * @param itemJSONObjectBuilder the JSON object builder for the item
+	 * @param embeddedPathElements the current resource's embedded path elements
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapItemEmbeddedResourceDoubleArrayField(
+		JSONObjectBuilder pageJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		double[] value) {
+
+		Optional<SingleModelMessageMapper<T>> optional =
+			getSingleModelMessageMapperOptional();
+
+		optional.ifPresent(
+			singleModelMessageMapper ->
+				singleModelMessageMapper.mapEmbeddedResourceDoubleArrayField(
+					itemJSONObjectBuilder, embeddedPathElements, fieldName,
+					value));
+	}
+
+	/**
+	 * Maps an embedded resource's int array field to its JSON object
+	 * representation.
+	 *
+	 * @param pageJSONObjectBuilder the JSON object builder for the page
+	 * @param itemJSONObjectBuilder the JSON object builder for the item
+	 * @param embeddedPathElements the current resource's embedded path elements
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapItemEmbeddedResourceIntArrayField(
+		JSONObjectBuilder pageJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		int[] value) {
+
+		Optional<SingleModelMessageMapper<T>> optional =
+			getSingleModelMessageMapperOptional();
+
+		optional.ifPresent(
+			singleModelMessageMapper ->
+				singleModelMessageMapper.mapEmbeddedResourceIntArrayField(
+					itemJSONObjectBuilder, embeddedPathElements, fieldName,
+					value));
+	}
+
 	/**
 	 * Maps an embedded resource link to its JSON object representation.
 	 *
@@ -258,6 +431,33 @@ public interface PageMessageMapper<T>
 					url));
 	}
 
+	/**
+	 * Maps an embedded resource's long array field to its JSON object
+	 * representation.
+	 *
+	 * @param pageJSONObjectBuilder the JSON object builder for the page
+	 * @param itemJSONObjectBuilder the JSON object builder for the item
+	 * @param embeddedPathElements the current resource's embedded path elements
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapItemEmbeddedResourceLongArrayField(
+		JSONObjectBuilder pageJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		long[] value) {
+
+		Optional<SingleModelMessageMapper<T>> optional =
+			getSingleModelMessageMapperOptional();
+
+		optional.ifPresent(
+			singleModelMessageMapper ->
+				singleModelMessageMapper.mapEmbeddedResourceLongArrayField(
+					itemJSONObjectBuilder, embeddedPathElements, fieldName,
+					value));
+	}
+
 	/**
 	 * Maps an embedded resource number field to its JSON object representation.
 	 *
@@ -404,6 +604,29 @@ public interface PageMessageMapper<T>
 					itemJSONObjectBuilder, embeddedPathElements, url));
 	}
 
+	/**
+	 * Maps a resource's int array field to its JSON object representation.
+	 *
+	 * @param pageJSONObjectBuilder the JSON object builder for the page
+	 * @param itemJSONObjectBuilder the JSON object builder for the item
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapItemIntArrayField(
+		JSONObjectBuilder pageJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder, String fieldName,
+		int[] value) {
+
+		Optional<SingleModelMessageMapper<T>> optional =
+			getSingleModelMessageMapperOptional();
+
+		optional.ifPresent(
+			singleModelMessageMapper ->
+				singleModelMessageMapper.mapIntArrayField(
+					itemJSONObjectBuilder, fieldName, value));
+	}
+
 	/**
 	 * Maps a resource link to its JSON object representation.
 	 *
@@ -446,6 +669,29 @@ public interface PageMessageMapper<T>
 					itemJSONObjectBuilder, embeddedPathElements, url));
 	}
 
+	/**
+	 * Maps a resource's long array field to its JSON object representation.
+	 *
+	 * @param pageJSONObjectBuilder the JSON object builder for the page
+	 * @param itemJSONObjectBuilder the JSON object builder for the item
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapItemLongArrayField(
+		JSONObjectBuilder pageJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder, String fieldName,
+		long[] value) {
+
+		Optional<SingleModelMessageMapper<T>> optional =
+			getSingleModelMessageMapperOptional();
+
+		optional.ifPresent(
+			singleModelMessageMapper ->
+				singleModelMessageMapper.mapLongArrayField(
+					itemJSONObjectBuilder, fieldName, value));
+	}
+
 	/**
 	 * Maps a resource number field to its JSON object representation.
 	 *
@@ -668,6 +914,26 @@ public interface PageMessageMapper<T>
 		JSONObjectBuilder itemJSONObjectBuilder, SingleModel<T> singleModel) {
 	}
 
+	/**
+	 * Finishes a shared embedded resource. This is the final page message
+	 * mapper method the writer calls for the embedded resource, which is only
+	 * written once per page even if several items embed it.
+	 *
+	 * @param  pageJSONObjectBuilder the JSON object builder for the page
+	 * @param  embeddedJSONObjectBuilder the JSON object builder for the
+	 *         embedded resource
+	 * @param  embeddedPathElements the embedded resource's embedded path
+	 *         elements
+	 * @param  singleModel the embedded resource's single model
+	 * @review
+	 */
+	public default void onFinishSharedEmbeddedModel(
+		JSONObjectBuilder pageJSONObjectBuilder,
+		JSONObjectBuilder embeddedJSONObjectBuilder,
+		FunctionalList<String> embeddedPathElements,
+		SingleModel<?> singleModel) {
+	}
+
 	/**
 	 * Finishes a nested collection. This is the final nested-collection-mapper
 	 * method the writer calls.
@@ -677,13 +943,12 @@ public interface PageMessageMapper<T>
 	 * @param collectionJsonObjectBuilder the JSON object builder for the
 	 *        collection
 	 * @param fieldName the collection's field name
-	 * @param list the collection
 	 * @param embeddedPathElements the current resource's embedded path elements
 	 */
 	public default void onFinishNestedCollection(
 		JSONObjectBuilder singleModelJSONObjectBuilder,
 		JSONObjectBuilder collectionJsonObjectBuilder, String fieldName,
-		List<?> list, FunctionalList<String> embeddedPathElements) {
+		FunctionalList<String> embeddedPathElements) {
 	}
 
 	/**
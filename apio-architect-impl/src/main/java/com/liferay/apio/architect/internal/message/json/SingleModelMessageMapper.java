@@ -42,6 +42,19 @@ import java.util.List;
 public interface SingleModelMessageMapper<T>
 	extends MessageMapper<SingleModel<T>>, ActionMapper {
 
+	/**
+	 * Maps a resource's boolean array field to its JSON object representation.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the model
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapBooleanArrayField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName,
+		boolean[] value) {
+	}
+
 	/**
 	 * Maps a resource's boolean field to its JSON object representation.
 	 *
@@ -65,6 +78,31 @@ public interface SingleModelMessageMapper<T>
 		List<Boolean> value) {
 	}
 
+	/**
+	 * Maps the URL of the shared context of the resource's type to its JSON
+	 * object representation. This method is called once all the resource's
+	 * fields are mapped.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the model
+	 * @param url the context's URL
+	 * @review
+	 */
+	public default void mapContextURL(
+		JSONObjectBuilder jsonObjectBuilder, String url) {
+	}
+
+	/**
+	 * Maps a resource's double array field to its JSON object representation.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the model
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapDoubleArrayField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, double[] value) {
+	}
+
 	/**
 	 * Maps an embedded resource action's method to its JSON object
 	 * representation.
@@ -101,6 +139,22 @@ public interface SingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String targetURL) {
 	}
 
+	/**
+	 * Maps an embedded resource's boolean array field to its JSON object
+	 * representation.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the model
+	 * @param embeddedPathElements the current resource's embedded path elements
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapEmbeddedResourceBooleanArrayField(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		boolean[] value) {
+	}
+
 	/**
 	 * Maps an embedded resource's boolean field to its JSON object
 	 * representation.
@@ -131,6 +185,38 @@ public interface SingleModelMessageMapper<T>
 		List<Boolean> value) {
 	}
 
+	/**
+	 * Maps an embedded resource's double array field to its JSON object
+	 * representation.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the model
+	 * @param embeddedPathElements the current resource's embedded path elements
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapEmbeddedResourceDoubleArrayField(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		double[] value) {
+	}
+
+	/**
+	 * Maps an embedded resource's int array field to its JSON object
+	 * representation.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the model
+	 * @param embeddedPathElements the current resource's embedded path elements
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapEmbeddedResourceIntArrayField(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		int[] value) {
+	}
+
 	/**
 	 * Maps an embedded resource's link to its JSON object representation.
 	 *
@@ -145,6 +231,22 @@ public interface SingleModelMessageMapper<T>
 		String url) {
 	}
 
+	/**
+	 * Maps an embedded resource's long array field to its JSON object
+	 * representation.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the model
+	 * @param embeddedPathElements the current resource's embedded path elements
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapEmbeddedResourceLongArrayField(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		long[] value) {
+	}
+
 	/**
 	 * Maps an embedded resource's number field to its JSON object
 	 * representation.
@@ -229,6 +331,18 @@ public interface SingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String url) {
 	}
 
+	/**
+	 * Maps a resource's int array field to its JSON object representation.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the model
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapIntArrayField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, int[] value) {
+	}
+
 	/**
 	 * Maps a resource's link to its JSON object representation.
 	 *
@@ -252,6 +366,18 @@ public interface SingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String url) {
 	}
 
+	/**
+	 * Maps a resource's long array field to its JSON object representation.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the model
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapLongArrayField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, long[] value) {
+	}
+
 	/**
 	 * Maps the total number of elements in a nested collection to its JSON
 	 * object representation.
@@ -368,13 +494,12 @@ public interface SingleModelMessageMapper<T>
 	 * @param collectionJsonObjectBuilder the JSON object builder for the
 	 *        collection
 	 * @param fieldName the collection's field name
-	 * @param list the collection
 	 * @param embeddedPathElements the current resource's embedded path elements
 	 */
 	public default void onFinishNestedCollection(
 		JSONObjectBuilder singleModelJSONObjectBuilder,
 		JSONObjectBuilder collectionJsonObjectBuilder, String fieldName,
-		List<?> list, FunctionalList<String> embeddedPathElements) {
+		FunctionalList<String> embeddedPathElements) {
 	}
 
 	/**
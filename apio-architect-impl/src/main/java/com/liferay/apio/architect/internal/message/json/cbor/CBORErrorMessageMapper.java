@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.message.json.cbor;
+
+import com.liferay.apio.architect.internal.message.json.BinaryJSONFormat;
+import com.liferay.apio.architect.internal.message.json.ErrorMessageMapper;
+import com.liferay.apio.architect.internal.message.json.problem.ProblemJSONErrorMessageMapper;
+
+import java.util.Optional;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Represents errors in CBOR ({@code application/cbor}), with the same structure
+ * as their Problem JSON representation.
+ *
+ * @author agent
+ * @review
+ */
+@Component(service = ErrorMessageMapper.class)
+public class CBORErrorMessageMapper extends ProblemJSONErrorMessageMapper {
+
+	@Override
+	public Optional<BinaryJSONFormat> getBinaryJSONFormatOptional() {
+		return Optional.of(BinaryJSONFormat.CBOR);
+	}
+
+	@Override
+	public String getMediaType() {
+		return "application/cbor";
+	}
+
+}
@@ -22,7 +22,6 @@ import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.Rep
 import com.liferay.apio.architect.representor.Representor;
 import com.liferay.apio.architect.single.model.SingleModel;
 
-import java.util.List;
 import java.util.Optional;
 
 import org.osgi.service.component.annotations.Component;
@@ -32,6 +31,11 @@ import org.osgi.service.component.annotations.Reference;
  * Represents collection pages in <a
  * href="http://stateless.co/hal_specification.html">HAL </a> format.
  *
+ * <p>
+ * Shared embedded resources are added to the page's {@code _embedded} object,
+ * grouped by the name of the relation that embeds them.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @author Carlos Sierra Andrés
  * @author Jorge Ferrer
@@ -39,6 +43,11 @@ import org.osgi.service.component.annotations.Reference;
 @Component(service = PageMessageMapper.class)
 public class HALPageMessageMapper<T> implements PageMessageMapper<T> {
 
+	@Override
+	public boolean canShareEmbeddedModels() {
+		return true;
+	}
+
 	@Override
 	public String getMediaType() {
 		return "application/hal+json";
@@ -162,7 +171,7 @@ public class HALPageMessageMapper<T> implements PageMessageMapper<T> {
 	public void onFinishNestedCollection(
 		JSONObjectBuilder singleModelJSONObjectBuilder,
 		JSONObjectBuilder collectionJsonObjectBuilder, String fieldName,
-		List<?> list, FunctionalList<String> embeddedPathElements) {
+		FunctionalList<String> embeddedPathElements) {
 
 		singleModelJSONObjectBuilder.field(
 			"_embedded"
@@ -186,6 +195,26 @@ public class HALPageMessageMapper<T> implements PageMessageMapper<T> {
 		);
 	}
 
+	@Override
+	public void onFinishSharedEmbeddedModel(
+		JSONObjectBuilder pageJSONObjectBuilder,
+		JSONObjectBuilder embeddedJSONObjectBuilder,
+		FunctionalList<String> embeddedPathElements,
+		SingleModel<?> singleModel) {
+
+		String relation = embeddedPathElements.lastOptional(
+		).orElseGet(
+			embeddedPathElements::head
+		);
+
+		pageJSONObjectBuilder.nestedField(
+			"_embedded", relation
+		).arrayValue(
+		).add(
+			embeddedJSONObjectBuilder
+		);
+	}
+
 	@Reference
 	protected RepresentableManager representableManager;
 
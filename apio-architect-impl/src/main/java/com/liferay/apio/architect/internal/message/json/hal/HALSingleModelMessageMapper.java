@@ -44,6 +44,19 @@ public class HALSingleModelMessageMapper<T>
 		return "application/hal+json";
 	}
 
+	@Override
+	public void mapBooleanArrayField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName,
+		boolean[] value) {
+
+		jsonObjectBuilder.field(
+			fieldName
+		).arrayValue(
+		).addAllBooleans(
+			value
+		);
+	}
+
 	@Override
 	public void mapBooleanField(
 		JSONObjectBuilder jsonObjectBuilder, String fieldName, Boolean value) {
@@ -68,6 +81,32 @@ public class HALSingleModelMessageMapper<T>
 		);
 	}
 
+	@Override
+	public void mapDoubleArrayField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, double[] value) {
+
+		jsonObjectBuilder.field(
+			fieldName
+		).arrayValue(
+		).addAllDoubles(
+			value
+		);
+	}
+
+	@Override
+	public void mapEmbeddedResourceBooleanArrayField(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		boolean[] value) {
+
+		_mapEmbeddedResourceField(
+			jsonObjectBuilder, embeddedPathElements, fieldName,
+			builder -> builder.arrayValue(
+			).addAllBooleans(
+				value
+			));
+	}
+
 	@Override
 	public void mapEmbeddedResourceBooleanField(
 		JSONObjectBuilder jsonObjectBuilder,
@@ -93,6 +132,34 @@ public class HALSingleModelMessageMapper<T>
 			));
 	}
 
+	@Override
+	public void mapEmbeddedResourceDoubleArrayField(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		double[] value) {
+
+		_mapEmbeddedResourceField(
+			jsonObjectBuilder, embeddedPathElements, fieldName,
+			builder -> builder.arrayValue(
+			).addAllDoubles(
+				value
+			));
+	}
+
+	@Override
+	public void mapEmbeddedResourceIntArrayField(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		int[] value) {
+
+		_mapEmbeddedResourceField(
+			jsonObjectBuilder, embeddedPathElements, fieldName,
+			builder -> builder.arrayValue(
+			).addAllInts(
+				value
+			));
+	}
+
 	@Override
 	public void mapEmbeddedResourceLink(
 		JSONObjectBuilder jsonObjectBuilder,
@@ -124,6 +191,20 @@ public class HALSingleModelMessageMapper<T>
 		);
 	}
 
+	@Override
+	public void mapEmbeddedResourceLongArrayField(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		long[] value) {
+
+		_mapEmbeddedResourceField(
+			jsonObjectBuilder, embeddedPathElements, fieldName,
+			builder -> builder.arrayValue(
+			).addAllLongs(
+				value
+			));
+	}
+
 	@Override
 	public void mapEmbeddedResourceNumberField(
 		JSONObjectBuilder jsonObjectBuilder,
@@ -183,6 +264,18 @@ public class HALSingleModelMessageMapper<T>
 			jsonObjectBuilder, embeddedPathElements, "self", url);
 	}
 
+	@Override
+	public void mapIntArrayField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, int[] value) {
+
+		jsonObjectBuilder.field(
+			fieldName
+		).arrayValue(
+		).addAllInts(
+			value
+		);
+	}
+
 	@Override
 	public void mapLink(
 		JSONObjectBuilder jsonObjectBuilder, String fieldName, String url) {
@@ -243,6 +336,18 @@ public class HALSingleModelMessageMapper<T>
 		}
 	}
 
+	@Override
+	public void mapLongArrayField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, long[] value) {
+
+		jsonObjectBuilder.field(
+			fieldName
+		).arrayValue(
+		).addAllLongs(
+			value
+		);
+	}
+
 	@Override
 	public void mapNestedPageItemTotalCount(
 		JSONObjectBuilder jsonObjectBuilder, int totalCount) {
@@ -311,7 +416,7 @@ public class HALSingleModelMessageMapper<T>
 	public void onFinishNestedCollection(
 		JSONObjectBuilder singleModelJSONObjectBuilder,
 		JSONObjectBuilder collectionJsonObjectBuilder, String fieldName,
-		List<?> list, FunctionalList<String> embeddedPathElements) {
+		FunctionalList<String> embeddedPathElements) {
 
 		singleModelJSONObjectBuilder.field(
 			"_embedded"
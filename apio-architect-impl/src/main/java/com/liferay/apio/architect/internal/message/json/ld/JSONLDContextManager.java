@@ -0,0 +1,229 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.message.json.ld;
+
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getBoolean;
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getLong;
+
+import static java.util.stream.Collectors.toList;
+
+import com.liferay.apio.architect.internal.cache.CachedResponse;
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
+import com.liferay.apio.architect.related.RelatedCollection;
+import com.liferay.apio.architect.related.RelatedModel;
+import com.liferay.apio.architect.representor.BaseRepresentor;
+import com.liferay.apio.architect.representor.Representor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Publishes the JSON-LD context of each resource, so JSON-LD responses can
+ * reference it by URL instead of writing it inline.
+ *
+ * <p>
+ * The context of a resource contains the vocabularies used by every JSON-LD
+ * response, and declares as {@code @id} the linked models and related
+ * collections of the resource's representor. Contexts are computed once per
+ * representor, keyed by the resource's name (several representors can share a
+ * primary type, but not a name), and computed again when the registered
+ * representors change.
+ * </p>
+ *
+ * <p>
+ * Shared contexts are disabled by default. If enabled, the contexts are
+ * published at {@code /c/{name}} and can be cached by clients for {@code
+ * max.age.seconds} seconds.
+ * </p>
+ *
+ * @author agent
+ * @review
+ */
+@Component(
+	property = {"enabled=false", "max.age.seconds=31536000"},
+	service = JSONLDContextManager.class
+)
+public class JSONLDContextManager {
+
+	/**
+	 * The media type of the published contexts.
+	 */
+	public static final String MEDIA_TYPE = "application/ld+json";
+
+	/**
+	 * Returns the JSON-LD context of a representor.
+	 *
+	 * @param  baseRepresentor the representor
+	 * @return the context document
+	 * @review
+	 */
+	public static String createContext(BaseRepresentor<?> baseRepresentor) {
+		List<String> keys = _getLinkedKeys(baseRepresentor);
+
+		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilder();
+
+		jsonObjectBuilder.field(
+			"@context"
+		).arrayValue(
+			arrayBuilder -> {
+				if (!keys.isEmpty()) {
+					arrayBuilder.add(
+						builder -> keys.forEach(
+							key -> builder.nestedField(
+								key, "@type"
+							).stringValue(
+								"@id"
+							)));
+				}
+			},
+			arrayBuilder -> arrayBuilder.add(
+				builder -> builder.field(
+					"@vocab"
+				).stringValue(
+					"http://schema.org/"
+				)),
+			arrayBuilder -> arrayBuilder.addString(
+				"https://www.w3.org/ns/hydra/core#")
+		);
+
+		return jsonObjectBuilder.build();
+	}
+
+	/**
+	 * Returns the published context of a resource, if shared contexts are
+	 * enabled and the resource has a representor. Returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @param  name the resource's name
+	 * @return the resource's context, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public Optional<CachedResponse> getContextOptional(String name) {
+		if (!_enabled) {
+			return Optional.empty();
+		}
+
+		Map<String, CachedResponse> contexts = _getContexts();
+
+		return Optional.ofNullable(contexts.get(name));
+	}
+
+	/**
+	 * Returns the number of seconds clients can cache a published context.
+	 *
+	 * @return the maximum age of a context, in seconds
+	 * @review
+	 */
+	public long getMaxAge() {
+		return _maxAge;
+	}
+
+	/**
+	 * Returns {@code true} if JSON-LD responses should reference the shared
+	 * context of their resource instead of writing it inline.
+	 *
+	 * @return {@code true} if shared contexts are enabled; {@code false}
+	 *         otherwise
+	 * @review
+	 */
+	public boolean isEnabled() {
+		return _enabled;
+	}
+
+	@Activate
+	@Modified
+	protected void activate(Map<String, Object> properties) {
+		_enabled = getBoolean(properties, "enabled", false);
+		_maxAge = getLong(properties, "max.age.seconds", 31536000);
+
+		_contexts = null;
+	}
+
+	@Reference
+	protected RepresentableManager representableManager;
+
+	private static List<String> _getLinkedKeys(
+		BaseRepresentor<?> baseRepresentor) {
+
+		List<? extends RelatedModel<?, ?>> relatedModels =
+			baseRepresentor.getRelatedModels();
+
+		Stream<? extends RelatedCollection<?, ?>> relatedCollections =
+			baseRepresentor.getRelatedCollections();
+
+		return Stream.concat(
+			relatedModels.stream(
+			).map(
+				RelatedModel::getKey
+			),
+			relatedCollections.map(RelatedCollection::getKey)
+		).distinct(
+		).collect(
+			toList()
+		);
+	}
+
+	private Map<String, CachedResponse> _getContexts() {
+		long generation = INSTANCE.getGeneration();
+
+		Contexts contexts = _contexts;
+
+		if ((contexts != null) && (contexts._generation == generation)) {
+			return contexts._map;
+		}
+
+		Map<String, CachedResponse> map = new HashMap<>();
+
+		Map<String, Representor> representors =
+			representableManager.getRepresentors();
+
+		representors.forEach(
+			(name, representor) -> map.put(
+				name,
+				new CachedResponse(MEDIA_TYPE, createContext(representor))));
+
+		_contexts = new Contexts(generation, map);
+
+		return map;
+	}
+
+	private volatile Contexts _contexts;
+	private volatile boolean _enabled;
+	private volatile long _maxAge;
+
+	private static class Contexts {
+
+		private Contexts(long generation, Map<String, CachedResponse> map) {
+			_generation = generation;
+			_map = map;
+		}
+
+		private final long _generation;
+		private final Map<String, CachedResponse> _map;
+
+	}
+
+}
@@ -21,11 +21,11 @@ import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper
 import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.single.model.SingleModel;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
 
 /**
  * Represents collection pages in JSON-LD + Hydra format.
@@ -35,6 +35,20 @@ import org.osgi.service.component.annotations.Component;
  * href="https://www.hydra-cg.com/">Hydra </a> .
  * </p>
  *
+ * <p>
+ * If shared contexts are enabled (see {@link JSONLDContextManager}), the
+ * page's inline context is replaced with the URL of its resource's context,
+ * and the items' inline contexts are discarded, since that context already
+ * declares the items' linked resources.
+ * </p>
+ *
+ * <p>
+ * Shared embedded resources are added to the page's {@code @included} array,
+ * and items reference them by their {@code @id}. Unlike {@code @graph}, which
+ * would turn the page node into a named graph, {@code @included} keeps them as
+ * nodes of the same default graph as the page and its members.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @author Carlos Sierra Andrés
  * @author Jorge Ferrer
@@ -42,6 +56,11 @@ import org.osgi.service.component.annotations.Component;
 @Component(service = PageMessageMapper.class)
 public class JSONLDPageMessageMapper<T> implements PageMessageMapper<T> {
 
+	@Override
+	public boolean canShareEmbeddedModels() {
+		return true;
+	}
+
 	@Override
 	public String getMediaType() {
 		return "application/ld+json";
@@ -61,6 +80,19 @@ public class JSONLDPageMessageMapper<T> implements PageMessageMapper<T> {
 		_singleModelMessageMapper.mapSelfURL(jsonObjectBuilder, url);
 	}
 
+	@Override
+	public void mapContextURL(JSONObjectBuilder jsonObjectBuilder, String url) {
+		if (!jsonLDContextManager.isEnabled()) {
+			return;
+		}
+
+		jsonObjectBuilder.field(
+			"@context"
+		).stringValue(
+			url
+		);
+	}
+
 	@Override
 	public void mapCurrentPageURL(
 		JSONObjectBuilder jsonObjectBuilder, String url) {
@@ -154,18 +186,20 @@ public class JSONLDPageMessageMapper<T> implements PageMessageMapper<T> {
 
 	@Override
 	public void onFinish(JSONObjectBuilder jsonObjectBuilder, Page<T> page) {
-		jsonObjectBuilder.field(
-			"@context"
-		).arrayValue(
-			arrayBuilder -> arrayBuilder.add(
-				builder -> builder.field(
-					"@vocab"
-				).stringValue(
-					"http://schema.org/"
-				)),
-			arrayBuilder -> arrayBuilder.addString(
-				"https://www.w3.org/ns/hydra/core#")
-		);
+		if (!jsonLDContextManager.isEnabled()) {
+			jsonObjectBuilder.field(
+				"@context"
+			).arrayValue(
+				arrayBuilder -> arrayBuilder.add(
+					builder -> builder.field(
+						"@vocab"
+					).stringValue(
+						"http://schema.org/"
+					)),
+				arrayBuilder -> arrayBuilder.addString(
+					"https://www.w3.org/ns/hydra/core#")
+			);
+		}
 
 		jsonObjectBuilder.nestedField(
 			"view", "@type"
@@ -187,6 +221,10 @@ public class JSONLDPageMessageMapper<T> implements PageMessageMapper<T> {
 		JSONObjectBuilder pageJSONObjectBuilder,
 		JSONObjectBuilder itemJSONObjectBuilder, SingleModel<T> singleModel) {
 
+		if (jsonLDContextManager.isEnabled()) {
+			itemJSONObjectBuilder.removeField("@context");
+		}
+
 		pageJSONObjectBuilder.field(
 			"member"
 		).arrayValue(
@@ -199,7 +237,7 @@ public class JSONLDPageMessageMapper<T> implements PageMessageMapper<T> {
 	public void onFinishNestedCollection(
 		JSONObjectBuilder singleModelJSONObjectBuilder,
 		JSONObjectBuilder collectionJsonObjectBuilder, String fieldName,
-		List<?> list, FunctionalList<String> embeddedPathElements) {
+		FunctionalList<String> embeddedPathElements) {
 
 		collectionJsonObjectBuilder.field(
 			"@type"
@@ -228,6 +266,21 @@ public class JSONLDPageMessageMapper<T> implements PageMessageMapper<T> {
 		);
 	}
 
+	@Override
+	public void onFinishSharedEmbeddedModel(
+		JSONObjectBuilder pageJSONObjectBuilder,
+		JSONObjectBuilder embeddedJSONObjectBuilder,
+		FunctionalList<String> embeddedPathElements,
+		SingleModel<?> singleModel) {
+
+		pageJSONObjectBuilder.field(
+			"@included"
+		).arrayValue(
+		).add(
+			embeddedJSONObjectBuilder
+		);
+	}
+
 	private String[] _getTail(FunctionalList<String> embeddedPathElements) {
 		Stream<String> stream = embeddedPathElements.tailStream();
 
@@ -237,4 +290,7 @@ public class JSONLDPageMessageMapper<T> implements PageMessageMapper<T> {
 	private final SingleModelMessageMapper<T> _singleModelMessageMapper =
 		new JSONLDSingleModelMessageMapper<>();
 
+	@Reference
+	protected JSONLDContextManager jsonLDContextManager;
+
 }
\ No newline at end of file
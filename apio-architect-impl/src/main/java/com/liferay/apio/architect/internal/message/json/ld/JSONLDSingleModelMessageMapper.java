@@ -28,6 +28,7 @@ import java.util.Optional;
 import java.util.stream.Stream;
 
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
 
 /**
  * Represents single models in JSON-LD + Hydra format.
@@ -37,6 +38,12 @@ import org.osgi.service.component.annotations.Component;
  * href="https://www.hydra-cg.com/">Hydra </a> .
  * </p>
  *
+ * <p>
+ * If shared contexts are enabled (see {@link JSONLDContextManager}), the
+ * model's inline context is replaced with the URL of its resource's context,
+ * which already declares the model's linked resources.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @author Carlos Sierra Andrés
  * @author Jorge Ferrer
@@ -72,6 +79,19 @@ public class JSONLDSingleModelMessageMapper<T>
 		);
 	}
 
+	@Override
+	public void mapBooleanArrayField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName,
+		boolean[] value) {
+
+		jsonObjectBuilder.field(
+			fieldName
+		).arrayValue(
+		).addAllBooleans(
+			value
+		);
+	}
+
 	@Override
 	public void mapBooleanField(
 		JSONObjectBuilder jsonObjectBuilder, String fieldName, Boolean value) {
@@ -96,6 +116,31 @@ public class JSONLDSingleModelMessageMapper<T>
 		);
 	}
 
+	@Override
+	public void mapContextURL(JSONObjectBuilder jsonObjectBuilder, String url) {
+		if (!jsonLDContextManager.isEnabled()) {
+			return;
+		}
+
+		jsonObjectBuilder.field(
+			"@context"
+		).stringValue(
+			url
+		);
+	}
+
+	@Override
+	public void mapDoubleArrayField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, double[] value) {
+
+		jsonObjectBuilder.field(
+			fieldName
+		).arrayValue(
+		).addAllDoubles(
+			value
+		);
+	}
+
 	@Override
 	public void mapEmbeddedActionMethod(
 		JSONObjectBuilder singleModelJSONObjectBuilder,
@@ -122,6 +167,22 @@ public class JSONLDSingleModelMessageMapper<T>
 		);
 	}
 
+	@Override
+	public void mapEmbeddedResourceBooleanArrayField(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		boolean[] value) {
+
+		jsonObjectBuilder.nestedField(
+			embeddedPathElements.head(), _getTail(embeddedPathElements)
+		).field(
+			fieldName
+		).arrayValue(
+		).addAllBooleans(
+			value
+		);
+	}
+
 	@Override
 	public void mapEmbeddedResourceBooleanField(
 		JSONObjectBuilder jsonObjectBuilder,
@@ -153,6 +214,38 @@ public class JSONLDSingleModelMessageMapper<T>
 		);
 	}
 
+	@Override
+	public void mapEmbeddedResourceDoubleArrayField(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		double[] value) {
+
+		jsonObjectBuilder.nestedField(
+			embeddedPathElements.head(), _getTail(embeddedPathElements)
+		).field(
+			fieldName
+		).arrayValue(
+		).addAllDoubles(
+			value
+		);
+	}
+
+	@Override
+	public void mapEmbeddedResourceIntArrayField(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		int[] value) {
+
+		jsonObjectBuilder.nestedField(
+			embeddedPathElements.head(), _getTail(embeddedPathElements)
+		).field(
+			fieldName
+		).arrayValue(
+		).addAllInts(
+			value
+		);
+	}
+
 	@Override
 	public void mapEmbeddedResourceLink(
 		JSONObjectBuilder jsonObjectBuilder,
@@ -168,6 +261,22 @@ public class JSONLDSingleModelMessageMapper<T>
 		);
 	}
 
+	@Override
+	public void mapEmbeddedResourceLongArrayField(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		long[] value) {
+
+		jsonObjectBuilder.nestedField(
+			embeddedPathElements.head(), _getTail(embeddedPathElements)
+		).field(
+			fieldName
+		).arrayValue(
+		).addAllLongs(
+			value
+		);
+	}
+
 	@Override
 	public void mapEmbeddedResourceNumberField(
 		JSONObjectBuilder jsonObjectBuilder,
@@ -270,6 +379,18 @@ public class JSONLDSingleModelMessageMapper<T>
 		);
 	}
 
+	@Override
+	public void mapIntArrayField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, int[] value) {
+
+		jsonObjectBuilder.field(
+			fieldName
+		).arrayValue(
+		).addAllInts(
+			value
+		);
+	}
+
 	@Override
 	public void mapLink(
 		JSONObjectBuilder jsonObjectBuilder, String fieldName, String url) {
@@ -316,6 +437,18 @@ public class JSONLDSingleModelMessageMapper<T>
 		);
 	}
 
+	@Override
+	public void mapLongArrayField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, long[] value) {
+
+		jsonObjectBuilder.field(
+			fieldName
+		).arrayValue(
+		).addAllLongs(
+			value
+		);
+	}
+
 	@Override
 	public void mapNestedPageItemTotalCount(
 		JSONObjectBuilder jsonObjectBuilder, int totalCount) {
@@ -444,6 +577,10 @@ public class JSONLDSingleModelMessageMapper<T>
 	public void onFinish(
 		JSONObjectBuilder jsonObjectBuilder, SingleModel<T> singleModel) {
 
+		if (jsonLDContextManager.isEnabled()) {
+			return;
+		}
+
 		jsonObjectBuilder.field(
 			"@context"
 		).arrayValue(
@@ -496,7 +633,7 @@ public class JSONLDSingleModelMessageMapper<T>
 	public void onFinishNestedCollection(
 		JSONObjectBuilder singleModelJSONObjectBuilder,
 		JSONObjectBuilder collectionJsonObjectBuilder, String fieldName,
-		List<?> list, FunctionalList<String> embeddedPathElements) {
+		FunctionalList<String> embeddedPathElements) {
 
 		collectionJsonObjectBuilder.field(
 			"@type"
@@ -537,4 +674,7 @@ public class JSONLDSingleModelMessageMapper<T>
 		return stream.toArray(String[]::new);
 	}
 
+	@Reference
+	protected JSONLDContextManager jsonLDContextManager;
+
 }
\ No newline at end of file
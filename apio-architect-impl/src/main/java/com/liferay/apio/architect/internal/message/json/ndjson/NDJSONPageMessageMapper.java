@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.message.json.ndjson;
+
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
+import com.liferay.apio.architect.internal.message.json.PageMessageMapper;
+import com.liferay.apio.architect.internal.message.json.plain.PlainJSONPageMessageMapper;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Represents collection pages as newline-delimited JSON ({@code
+ * application/x-ndjson}): each item is written in its own line, as the same
+ * self-contained object used for the items of a plain JSON page, without a
+ * page envelope. Clients can therefore process the items of a collection as
+ * they're received, without parsing the whole document.
+ *
+ * @author agent
+ * @review
+ */
+@Component(service = PageMessageMapper.class)
+public class NDJSONPageMessageMapper<T> extends PlainJSONPageMessageMapper<T> {
+
+	@Override
+	public String getMediaType() {
+		return "application/x-ndjson";
+	}
+
+	@Override
+	public boolean isItemDelimited() {
+		return true;
+	}
+
+	/**
+	 * Doesn't add the item to the page, since each item is written on its own
+	 * as soon as it's mapped. Keeping it in the page would retain every item of
+	 * the page in memory until the page is fully written.
+	 *
+	 * @review
+	 */
+	@Override
+	public void onFinishItem(
+		JSONObjectBuilder pageJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder, SingleModel<T> singleModel) {
+	}
+
+}
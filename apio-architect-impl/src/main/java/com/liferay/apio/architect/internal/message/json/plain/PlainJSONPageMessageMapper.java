@@ -20,7 +20,6 @@ import com.liferay.apio.architect.internal.message.json.PageMessageMapper;
 import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
 import com.liferay.apio.architect.single.model.SingleModel;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -147,7 +146,7 @@ public class PlainJSONPageMessageMapper<T> implements PageMessageMapper<T> {
 	public void onFinishNestedCollection(
 		JSONObjectBuilder singleModelJSONObjectBuilder,
 		JSONObjectBuilder collectionJsonObjectBuilder, String fieldName,
-		List<?> list, FunctionalList<String> embeddedPathElements) {
+		FunctionalList<String> embeddedPathElements) {
 
 		singleModelJSONObjectBuilder.nestedField(
 			embeddedPathElements.head(), _getTail(embeddedPathElements)
@@ -0,0 +1,285 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Holds the metrics of the executions of an action: their latency, the status
+ * codes of their responses, the number of bytes written, the number of
+ * embedded resources fetched (or reused) while writing them, the number of
+ * retrievals they shared with concurrent requests and, if allocation tracking
+ * is enabled, the number of bytes allocated to serve them.
+ *
+ * <p>
+ * Every counter is lock-free, so metrics can be recorded from any number of
+ * concurrent requests.
+ * </p>
+ *
+ * @author agent
+ * @review
+ */
+public final class ActionMetrics {
+
+	public ActionMetrics(
+		String httpMethod, String resourceName, String actionName) {
+
+		_httpMethod = httpMethod;
+		_resourceName = resourceName;
+		_actionName = actionName;
+	}
+
+	/**
+	 * Returns the name of the action.
+	 *
+	 * @return the name of the action
+	 * @review
+	 */
+	public String getActionName() {
+		return _actionName;
+	}
+
+	/**
+	 * Returns the number of bytes allocated by the executions of the action
+	 * whose allocations have been measured, including the writing of their
+	 * responses.
+	 *
+	 * @return the number of bytes allocated
+	 * @review
+	 */
+	public long getAllocatedBytes() {
+		return _allocatedBytes.sum();
+	}
+
+	/**
+	 * Returns the number of executions of the action whose allocations have
+	 * been measured.
+	 *
+	 * @return the number of measured executions
+	 * @review
+	 */
+	public long getAllocationCount() {
+		return _allocationCount.sum();
+	}
+
+	/**
+	 * Returns the number of bytes written in the responses of the action.
+	 *
+	 * @return the number of bytes written
+	 * @review
+	 */
+	public long getBytesWritten() {
+		return _bytesWritten.sum();
+	}
+
+	/**
+	 * Returns the number of retrievals that the executions of the action have
+	 * shared with identical concurrent retrievals, instead of executing them
+	 * (see {@link
+	 * com.liferay.apio.architect.internal.coalescing.RequestCoalescer}).
+	 *
+	 * @return the number of coalesced retrievals
+	 * @review
+	 */
+	public long getCoalescedCount() {
+		return _coalescedCount.sum();
+	}
+
+	/**
+	 * Returns the number of embedded resources fetched while writing the
+	 * responses of the action.
+	 *
+	 * @return the number of embedded resources fetched
+	 * @review
+	 */
+	public long getEmbeddedFetchCount() {
+		return _embeddedFetchCount.sum();
+	}
+
+	/**
+	 * Returns the number of responses of the action with a server error
+	 * ({@code 5xx}) status code.
+	 *
+	 * @return the number of server errors
+	 * @review
+	 */
+	public long getErrorCount() {
+		long count = 0;
+
+		for (int status = 500; status < _MAX_STATUS; status++) {
+			count += _statusCounts.get(status);
+		}
+
+		return count;
+	}
+
+	/**
+	 * Returns the HTTP method of the action.
+	 *
+	 * @return the HTTP method of the action
+	 * @review
+	 */
+	public String getHTTPMethod() {
+		return _httpMethod;
+	}
+
+	/**
+	 * Returns the number of related resources written in the responses of the
+	 * action that were already fetched for the same response, and therefore
+	 * not fetched again.
+	 *
+	 * @return the number of identity map hits
+	 * @review
+	 */
+	public long getIdentityMapHitCount() {
+		return _identityMapHitCount.sum();
+	}
+
+	/**
+	 * Returns the histogram of the latencies of the action, in nanoseconds,
+	 * measured from the start of the action's execution until its response has
+	 * been written.
+	 *
+	 * @return the latency histogram
+	 * @review
+	 */
+	public LatencyHistogram getLatencyHistogram() {
+		return _latencyHistogram;
+	}
+
+	/**
+	 * Returns the number of recorded executions of the action.
+	 *
+	 * @return the number of recorded executions
+	 * @review
+	 */
+	public long getRequestCount() {
+		return _latencyHistogram.getCount();
+	}
+
+	/**
+	 * Returns the name of the resource of the action.
+	 *
+	 * @return the name of the resource
+	 * @review
+	 */
+	public String getResourceName() {
+		return _resourceName;
+	}
+
+	/**
+	 * Returns the number of responses of the action per status code, sorted by
+	 * status code. Status codes outside of the {@code 100-599} range are
+	 * counted under {@code 0}.
+	 *
+	 * @return the number of responses per status code
+	 * @review
+	 */
+	public Map<Integer, Long> getStatusCounts() {
+		Map<Integer, Long> statusCounts = new TreeMap<>();
+
+		for (int status = 0; status < _MAX_STATUS; status++) {
+			long count = _statusCounts.get(status);
+
+			if (count > 0) {
+				statusCounts.put(status, count);
+			}
+		}
+
+		return statusCounts;
+	}
+
+	/**
+	 * Records the bytes allocated by an execution of the action.
+	 *
+	 * @param  allocatedBytes the number of bytes allocated
+	 * @review
+	 */
+	public void recordAllocation(long allocatedBytes) {
+		_allocatedBytes.add(allocatedBytes);
+		_allocationCount.increment();
+	}
+
+	/**
+	 * Records that an execution of the action has shared an identical
+	 * concurrent retrieval.
+	 *
+	 * @review
+	 */
+	public void recordCoalescedCall() {
+		_coalescedCount.increment();
+	}
+
+	/**
+	 * Records that an embedded resource has been fetched while writing a
+	 * response of the action.
+	 *
+	 * @review
+	 */
+	public void recordEmbeddedFetch() {
+		_embeddedFetchCount.increment();
+	}
+
+	/**
+	 * Records that a related resource has been reused while writing a response
+	 * of the action, instead of being fetched again.
+	 *
+	 * @review
+	 */
+	public void recordIdentityMapHit() {
+		_identityMapHitCount.increment();
+	}
+
+	/**
+	 * Records an execution of the action.
+	 *
+	 * @param  status the status code of the response
+	 * @param  bytesWritten the number of bytes of the response's body
+	 * @param  latency the latency of the execution, in nanoseconds
+	 * @review
+	 */
+	public void recordResponse(int status, long bytesWritten, long latency) {
+		if ((status < 100) || (status >= _MAX_STATUS)) {
+			status = 0;
+		}
+
+		_statusCounts.incrementAndGet(status);
+
+		if (bytesWritten > 0) {
+			_bytesWritten.add(bytesWritten);
+		}
+
+		_latencyHistogram.record(latency);
+	}
+
+	private static final int _MAX_STATUS = 600;
+
+	private final String _actionName;
+	private final LongAdder _allocatedBytes = new LongAdder();
+	private final LongAdder _allocationCount = new LongAdder();
+	private final LongAdder _bytesWritten = new LongAdder();
+	private final LongAdder _coalescedCount = new LongAdder();
+	private final LongAdder _embeddedFetchCount = new LongAdder();
+	private final String _httpMethod;
+	private final LongAdder _identityMapHitCount = new LongAdder();
+	private final LatencyHistogram _latencyHistogram = new LatencyHistogram();
+	private final String _resourceName;
+	private final AtomicLongArray _statusCounts = new AtomicLongArray(
+		_MAX_STATUS);
+
+}
@@ -0,0 +1,221 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free log-linear histogram of non-negative values, usually latencies in
+ * nanoseconds.
+ *
+ * <p>
+ * Every power of two is split into eight linear buckets, so a value is stored
+ * with a relative error below 12.5%, using a fixed amount of memory for the
+ * whole range of {@code long} values. Recording a value only updates a bucket
+ * counter, a sum and, if needed, the maximum, so it never blocks.
+ * </p>
+ *
+ * <p>
+ * Reads are not atomic with respect to concurrent writes: the returned
+ * statistics may miss values being recorded at the same time.
+ * </p>
+ *
+ * @author agent
+ * @review
+ */
+public final class LatencyHistogram {
+
+	/**
+	 * Returns the index of the bucket in which the value is stored. Negative
+	 * values are stored in the first bucket.
+	 *
+	 * @param  value the value
+	 * @return the bucket's index
+	 * @review
+	 */
+	public static int getBucketIndex(long value) {
+		if (value < _SUB_BUCKETS) {
+			return (value < 0) ? 0 : (int)value;
+		}
+
+		int magnitude = 63 - Long.numberOfLeadingZeros(value);
+
+		int shift = magnitude - _SUB_BUCKET_BITS;
+
+		int subBucket = (int)(value >>> shift) & _SUB_BUCKET_MASK;
+
+		return ((shift + 1) << _SUB_BUCKET_BITS) + subBucket;
+	}
+
+	/**
+	 * Returns the inclusive upper bound of the bucket with the provided
+	 * index.
+	 *
+	 * @param  index the bucket's index
+	 * @return the bucket's upper bound
+	 * @review
+	 */
+	public static long getBucketUpperBound(int index) {
+		if (index < _SUB_BUCKETS) {
+			return index;
+		}
+
+		int shift = (index >> _SUB_BUCKET_BITS) - 1;
+
+		long lowerBound = (long)(_SUB_BUCKETS + (index & _SUB_BUCKET_MASK)) <<
+			shift;
+
+		return lowerBound + (1L << shift) - 1;
+	}
+
+	/**
+	 * Returns the number of recorded values.
+	 *
+	 * @return the number of recorded values
+	 * @review
+	 */
+	public long getCount() {
+		long count = 0;
+
+		for (int i = 0; i < _BUCKETS; i++) {
+			count += _counts.get(i);
+		}
+
+		return count;
+	}
+
+	/**
+	 * Returns the number of recorded values lower than or equal to the
+	 * provided one. Since values are stored in buckets, the result is exact
+	 * only if the value is the upper bound of a bucket (for example, a power
+	 * of two minus one).
+	 *
+	 * @param  value the value
+	 * @return the number of recorded values lower than or equal to the value
+	 * @review
+	 */
+	public long getCountAtOrBelow(long value) {
+		long count = 0;
+
+		for (int i = 0; i < _BUCKETS; i++) {
+			if (getBucketUpperBound(i) > value) {
+				break;
+			}
+
+			count += _counts.get(i);
+		}
+
+		return count;
+	}
+
+	/**
+	 * Returns the highest recorded value, or {@code 0} if none has been
+	 * recorded.
+	 *
+	 * @return the highest recorded value
+	 * @review
+	 */
+	public long getMax() {
+		return _max.get();
+	}
+
+	/**
+	 * Returns the sum of the recorded values.
+	 *
+	 * @return the sum of the recorded values
+	 * @review
+	 */
+	public long getSum() {
+		return _sum.sum();
+	}
+
+	/**
+	 * Returns the value below which the provided fraction of the recorded
+	 * values fall. The returned value is the upper bound of the bucket that
+	 * contains the quantile, capped to the highest recorded value.
+	 *
+	 * @param  quantile the quantile, between {@code 0.0} and {@code 1.0}
+	 * @return the value at the quantile, or {@code 0} if no value has been
+	 *         recorded
+	 * @review
+	 */
+	public long getValueAtQuantile(double quantile) {
+		if ((quantile < 0.0) || (quantile > 1.0)) {
+			throw new IllegalArgumentException(
+				"Quantile must be between 0.0 and 1.0: " + quantile);
+		}
+
+		long[] counts = new long[_BUCKETS];
+		long total = 0;
+
+		for (int i = 0; i < _BUCKETS; i++) {
+			counts[i] = _counts.get(i);
+
+			total += counts[i];
+		}
+
+		if (total == 0) {
+			return 0;
+		}
+
+		long rank = Math.max(1, (long)Math.ceil(quantile * total));
+
+		long count = 0;
+
+		for (int i = 0; i < _BUCKETS; i++) {
+			count += counts[i];
+
+			if (count >= rank) {
+				return Math.min(getBucketUpperBound(i), getMax());
+			}
+		}
+
+		return getMax();
+	}
+
+	/**
+	 * Records a value.
+	 *
+	 * @param value the value
+	 * @review
+	 */
+	public void record(long value) {
+		_counts.incrementAndGet(getBucketIndex(value));
+
+		_sum.add(value);
+
+		long max = _max.get();
+
+		while ((value > max) && !_max.compareAndSet(max, value)) {
+			max = _max.get();
+		}
+	}
+
+	private static final int _SUB_BUCKET_BITS = 3;
+
+	private static final int _BUCKETS =
+		(64 - _SUB_BUCKET_BITS) << _SUB_BUCKET_BITS;
+
+	private static final int _SUB_BUCKET_MASK = (1 << _SUB_BUCKET_BITS) - 1;
+
+	private static final int _SUB_BUCKETS = 1 << _SUB_BUCKET_BITS;
+
+	private final AtomicLongArray _counts = new AtomicLongArray(_BUCKETS);
+	private final AtomicLong _max = new AtomicLong();
+	private final LongAdder _sum = new LongAdder();
+
+}
@@ -0,0 +1,445 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.metrics;
+
+import com.liferay.apio.architect.internal.limit.AdaptiveConcurrencyLimiter;
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder.ArrayValueStep;
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder.FieldStep;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Provides methods to format the metrics of a {@link MetricsRegistry} as JSON
+ * or in the Prometheus text exposition format.
+ *
+ * @author agent
+ * @review
+ */
+public final class MetricsFormatUtil {
+
+	/**
+	 * The media type of the Prometheus text exposition format.
+	 */
+	public static final String PROMETHEUS_MEDIA_TYPE =
+		"text/plain; version=0.0.4; charset=utf-8";
+
+	/**
+	 * Returns the metrics as a JSON object. Latencies are expressed in
+	 * milliseconds, and the throughput of each action in requests per second
+	 * since metrics started being recorded.
+	 *
+	 * @param  actionMetricsCollection the metrics of the actions
+	 * @param  uptime the time elapsed since metrics started being recorded, in
+	 *         nanoseconds
+	 * @param  limiterFunction the function that returns the concurrency
+	 *         limiter of an action, if it's being limited
+	 * @return the metrics as a JSON object
+	 * @review
+	 */
+	public static String toJSON(
+		Collection<ActionMetrics> actionMetricsCollection, long uptime,
+		Function<ActionMetrics, Optional<AdaptiveConcurrencyLimiter>>
+			limiterFunction) {
+
+		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilder();
+
+		double uptimeSeconds = uptime / _NANOS_PER_SECOND;
+
+		jsonObjectBuilder.field(
+			"uptimeSeconds"
+		).numberValue(
+			uptimeSeconds
+		);
+
+		ArrayValueStep arrayValueStep = jsonObjectBuilder.field(
+			"actions"
+		).arrayValue();
+
+		for (ActionMetrics actionMetrics : actionMetricsCollection) {
+			arrayValueStep.add(
+				builder -> _addActionMetrics(
+					builder, actionMetrics, uptimeSeconds,
+					limiterFunction.apply(actionMetrics)));
+		}
+
+		return jsonObjectBuilder.build();
+	}
+
+	/**
+	 * Returns the metrics in the Prometheus text exposition format (version
+	 * {@code 0.0.4}). Latency histograms are exposed in seconds, with
+	 * cumulative buckets whose bounds are powers of two nanoseconds.
+	 *
+	 * @param  actionMetricsCollection the metrics of the actions
+	 * @param  limiterFunction the function that returns the concurrency
+	 *         limiter of an action, if it's being limited
+	 * @return the metrics in the Prometheus text format
+	 * @review
+	 */
+	public static String toPrometheus(
+		Collection<ActionMetrics> actionMetricsCollection,
+		Function<ActionMetrics, Optional<AdaptiveConcurrencyLimiter>>
+			limiterFunction) {
+
+		StringBuilder sb = new StringBuilder();
+
+		sb.append("# HELP apio_action_duration_seconds Latency of the ");
+		sb.append("executions of an action, until its response is written\n");
+		sb.append("# TYPE apio_action_duration_seconds histogram\n");
+
+		for (ActionMetrics actionMetrics : actionMetricsCollection) {
+			String labels = _getLabels(actionMetrics);
+
+			LatencyHistogram latencyHistogram =
+				actionMetrics.getLatencyHistogram();
+
+			long count = latencyHistogram.getCount();
+
+			for (int exponent = _MIN_BUCKET_EXPONENT;
+				 exponent <= _MAX_BUCKET_EXPONENT; exponent++) {
+
+				long bound = 1L << exponent;
+
+				sb.append("apio_action_duration_seconds_bucket{");
+				sb.append(labels);
+				sb.append(",le=\"");
+				sb.append(bound / _NANOS_PER_SECOND);
+				sb.append("\"} ");
+				sb.append(latencyHistogram.getCountAtOrBelow(bound - 1));
+				sb.append('\n');
+			}
+
+			sb.append("apio_action_duration_seconds_bucket{");
+			sb.append(labels);
+			sb.append(",le=\"+Inf\"} ");
+			sb.append(count);
+			sb.append('\n');
+
+			sb.append("apio_action_duration_seconds_sum{");
+			sb.append(labels);
+			sb.append("} ");
+			sb.append(latencyHistogram.getSum() / _NANOS_PER_SECOND);
+			sb.append('\n');
+
+			sb.append("apio_action_duration_seconds_count{");
+			sb.append(labels);
+			sb.append("} ");
+			sb.append(count);
+			sb.append('\n');
+		}
+
+		sb.append("# HELP apio_action_responses_total Responses of an ");
+		sb.append("action, per status code\n");
+		sb.append("# TYPE apio_action_responses_total counter\n");
+
+		for (ActionMetrics actionMetrics : actionMetricsCollection) {
+			String labels = _getLabels(actionMetrics);
+
+			Map<Integer, Long> statusCounts = actionMetrics.getStatusCounts();
+
+			for (Map.Entry<Integer, Long> entry : statusCounts.entrySet()) {
+				sb.append("apio_action_responses_total{");
+				sb.append(labels);
+				sb.append(",status=\"");
+				sb.append(entry.getKey());
+				sb.append("\"} ");
+				sb.append(entry.getValue());
+				sb.append('\n');
+			}
+		}
+
+		_appendCounter(
+			sb, actionMetricsCollection, "apio_action_allocated_bytes_total",
+			"Bytes allocated while executing an action and writing its " +
+				"response, if allocation tracking is enabled",
+			ActionMetrics::getAllocatedBytes);
+		_appendCounter(
+			sb, actionMetricsCollection, "apio_action_response_bytes_total",
+			"Bytes written in the responses of an action",
+			ActionMetrics::getBytesWritten);
+		_appendCounter(
+			sb, actionMetricsCollection, "apio_action_coalesced_calls_total",
+			"Retrievals shared with identical concurrent retrievals while " +
+				"executing an action",
+			ActionMetrics::getCoalescedCount);
+		_appendCounter(
+			sb, actionMetricsCollection, "apio_action_embedded_fetches_total",
+			"Embedded resources fetched while writing the responses of an " +
+				"action",
+			ActionMetrics::getEmbeddedFetchCount);
+		_appendCounter(
+			sb, actionMetricsCollection, "apio_action_identity_map_hits_total",
+			"Embedded resources reused, instead of fetched again, while " +
+				"writing the responses of an action",
+			ActionMetrics::getIdentityMapHitCount);
+
+		_appendLimiterMetric(
+			sb, actionMetricsCollection, limiterFunction,
+			"apio_action_concurrency_limit", "gauge",
+			"Current concurrency limit of an action",
+			AdaptiveConcurrencyLimiter::getLimit);
+		_appendLimiterMetric(
+			sb, actionMetricsCollection, limiterFunction,
+			"apio_action_in_flight", "gauge",
+			"Executions of an action currently holding a concurrency permit",
+			AdaptiveConcurrencyLimiter::getInFlight);
+		_appendLimiterMetric(
+			sb, actionMetricsCollection, limiterFunction,
+			"apio_action_shed_total", "counter",
+			"Executions of an action rejected by its concurrency limiter",
+			AdaptiveConcurrencyLimiter::getShedCount);
+
+		return sb.toString();
+	}
+
+	private static void _addActionMetrics(
+		JSONObjectBuilder jsonObjectBuilder, ActionMetrics actionMetrics,
+		double uptimeSeconds,
+		Optional<AdaptiveConcurrencyLimiter> limiterOptional) {
+
+		jsonObjectBuilder.field(
+			"action"
+		).stringValue(
+			actionMetrics.getActionName()
+		);
+
+		long allocationCount = actionMetrics.getAllocationCount();
+
+		if (allocationCount > 0) {
+			long allocatedBytes = actionMetrics.getAllocatedBytes();
+
+			jsonObjectBuilder.nestedField(
+				"allocatedBytes", "total"
+			).numberValue(
+				allocatedBytes
+			);
+
+			jsonObjectBuilder.nestedField(
+				"allocatedBytes", "mean"
+			).numberValue(
+				allocatedBytes / allocationCount
+			);
+		}
+
+		jsonObjectBuilder.field(
+			"bytesWritten"
+		).numberValue(
+			actionMetrics.getBytesWritten()
+		);
+
+		jsonObjectBuilder.field(
+			"coalescedCalls"
+		).numberValue(
+			actionMetrics.getCoalescedCount()
+		);
+
+		limiterOptional.ifPresent(
+			limiter -> {
+				jsonObjectBuilder.nestedField(
+					"concurrency", "inFlight"
+				).numberValue(
+					limiter.getInFlight()
+				);
+
+				jsonObjectBuilder.nestedField(
+					"concurrency", "limit"
+				).numberValue(
+					limiter.getLimit()
+				);
+
+				jsonObjectBuilder.nestedField(
+					"concurrency", "shed"
+				).numberValue(
+					limiter.getShedCount()
+				);
+			});
+
+		jsonObjectBuilder.field(
+			"embeddedFetches"
+		).numberValue(
+			actionMetrics.getEmbeddedFetchCount()
+		);
+
+		jsonObjectBuilder.field(
+			"errors"
+		).numberValue(
+			actionMetrics.getErrorCount()
+		);
+
+		jsonObjectBuilder.field(
+			"identityMapHits"
+		).numberValue(
+			actionMetrics.getIdentityMapHitCount()
+		);
+
+		jsonObjectBuilder.field(
+			"method"
+		).stringValue(
+			actionMetrics.getHTTPMethod()
+		);
+
+		long requests = actionMetrics.getRequestCount();
+
+		jsonObjectBuilder.field(
+			"requests"
+		).numberValue(
+			requests
+		);
+
+		jsonObjectBuilder.field(
+			"resource"
+		).stringValue(
+			actionMetrics.getResourceName()
+		);
+
+		Map<Integer, Long> statusCounts = actionMetrics.getStatusCounts();
+
+		statusCounts.forEach(
+			(status, count) -> jsonObjectBuilder.nestedField(
+				"statusCodes", String.valueOf(status)
+			).numberValue(
+				count
+			));
+
+		jsonObjectBuilder.field(
+			"throughput"
+		).numberValue(
+			(uptimeSeconds > 0) ? requests / uptimeSeconds : 0
+		);
+
+		LatencyHistogram latencyHistogram =
+			actionMetrics.getLatencyHistogram();
+
+		FieldStep latencyFieldStep = jsonObjectBuilder.field("latencyMillis");
+
+		_addLatency(latencyFieldStep, "max", latencyHistogram.getMax());
+		_addLatency(
+			latencyFieldStep, "mean",
+			(requests > 0) ? latencyHistogram.getSum() / requests : 0);
+		_addLatency(
+			latencyFieldStep, "p50", latencyHistogram.getValueAtQuantile(0.5));
+		_addLatency(
+			latencyFieldStep, "p90", latencyHistogram.getValueAtQuantile(0.9));
+		_addLatency(
+			latencyFieldStep, "p99",
+			latencyHistogram.getValueAtQuantile(0.99));
+		_addLatency(
+			latencyFieldStep, "p999",
+			latencyHistogram.getValueAtQuantile(0.999));
+	}
+
+	private static void _addLatency(
+		FieldStep fieldStep, String name, long nanos) {
+
+		fieldStep.field(
+			name
+		).numberValue(
+			nanos / _NANOS_PER_MILLISECOND
+		);
+	}
+
+	private static void _appendCounter(
+		StringBuilder sb, Collection<ActionMetrics> actionMetricsCollection,
+		String name, String help,
+		ToLongFunction<ActionMetrics> function) {
+
+		sb.append("# HELP ");
+		sb.append(name);
+		sb.append(' ');
+		sb.append(help);
+		sb.append('\n');
+		sb.append("# TYPE ");
+		sb.append(name);
+		sb.append(" counter\n");
+
+		for (ActionMetrics actionMetrics : actionMetricsCollection) {
+			sb.append(name);
+			sb.append('{');
+			sb.append(_getLabels(actionMetrics));
+			sb.append("} ");
+			sb.append(function.applyAsLong(actionMetrics));
+			sb.append('\n');
+		}
+	}
+
+	private static void _appendLimiterMetric(
+		StringBuilder sb, Collection<ActionMetrics> actionMetricsCollection,
+		Function<ActionMetrics, Optional<AdaptiveConcurrencyLimiter>>
+			limiterFunction,
+		String name, String type, String help,
+		ToLongFunction<AdaptiveConcurrencyLimiter> function) {
+
+		sb.append("# HELP ");
+		sb.append(name);
+		sb.append(' ');
+		sb.append(help);
+		sb.append('\n');
+		sb.append("# TYPE ");
+		sb.append(name);
+		sb.append(' ');
+		sb.append(type);
+		sb.append('\n');
+
+		for (ActionMetrics actionMetrics : actionMetricsCollection) {
+			Optional<AdaptiveConcurrencyLimiter> optional =
+				limiterFunction.apply(actionMetrics);
+
+			if (!optional.isPresent()) {
+				continue;
+			}
+
+			sb.append(name);
+			sb.append('{');
+			sb.append(_getLabels(actionMetrics));
+			sb.append("} ");
+			sb.append(function.applyAsLong(optional.get()));
+			sb.append('\n');
+		}
+	}
+
+	private static String _escape(String value) {
+		return value.replace(
+			"\\", "\\\\"
+		).replace(
+			"\"", "\\\""
+		).replace(
+			"\n", "\\n"
+		);
+	}
+
+	private static String _getLabels(ActionMetrics actionMetrics) {
+		return "method=\"" + _escape(actionMetrics.getHTTPMethod()) +
+			"\",resource=\"" + _escape(actionMetrics.getResourceName()) +
+				"\",action=\"" + _escape(actionMetrics.getActionName()) + "\"";
+	}
+
+	private MetricsFormatUtil() {
+		throw new UnsupportedOperationException();
+	}
+
+	private static final int _MAX_BUCKET_EXPONENT = 35;
+
+	private static final int _MIN_BUCKET_EXPONENT = 14;
+
+	private static final double _NANOS_PER_MILLISECOND = 1_000_000.0;
+
+	private static final double _NANOS_PER_SECOND = 1_000_000_000.0;
+
+}
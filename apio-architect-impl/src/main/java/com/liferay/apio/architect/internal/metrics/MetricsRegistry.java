@@ -0,0 +1,371 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.metrics;
+
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getBoolean;
+
+import static java.util.Comparator.comparing;
+
+import com.liferay.apio.architect.internal.action.ActionSemantics;
+import com.liferay.apio.architect.internal.annotation.Action;
+import com.liferay.apio.architect.internal.limit.ActionConcurrencyLimiter;
+import com.liferay.apio.architect.internal.limit.AdaptiveConcurrencyLimiter;
+import com.liferay.apio.architect.internal.timing.RequestAllocations;
+import com.liferay.apio.architect.resource.Resource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Keeps the {@link ActionMetrics} of every executed action, keyed by the
+ * resource name, the action name and the HTTP method of the action.
+ *
+ * <p>
+ * An execution is measured from the start of the action until its response
+ * has been written. The action marks the request when it starts (see {@link
+ * #instrument(ActionSemantics, Action)}), and the JAX-RS extensions that see
+ * the response complete the measurement (see {@link
+ * #recordStatus(HttpServletRequest, int)} and {@link
+ * #recordResponse(HttpServletRequest, long)}).
+ * </p>
+ *
+ * <p>
+ * Metrics are disabled by default. Once enabled through this component's
+ * configuration, they are also published on the {@code /metrics} endpoint,
+ * along with the state of the actions' concurrency limiters (see {@link
+ * ActionConcurrencyLimiter}).
+ * </p>
+ *
+ * @author agent
+ * @review
+ */
+@Component(property = "enabled=false", service = MetricsRegistry.class)
+public class MetricsRegistry {
+
+	/**
+	 * Returns the metrics of the executed actions, sorted by resource name,
+	 * action name and HTTP method.
+	 *
+	 * @return the metrics of the executed actions
+	 * @review
+	 */
+	public List<ActionMetrics> getActionMetrics() {
+		List<ActionMetrics> list = new ArrayList<>(_actionMetrics.values());
+
+		list.sort(
+			comparing(
+				ActionMetrics::getResourceName
+			).thenComparing(
+				ActionMetrics::getActionName
+			).thenComparing(
+				ActionMetrics::getHTTPMethod
+			));
+
+		return list;
+	}
+
+	/**
+	 * Returns the concurrency limiter of the action whose metrics are
+	 * provided, if the action is being limited; returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @param  actionMetrics the metrics of the action
+	 * @return the action's concurrency limiter, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<AdaptiveConcurrencyLimiter> getConcurrencyLimiterOptional(
+		ActionMetrics actionMetrics) {
+
+		return actionConcurrencyLimiter.getLimiterOptional(
+			actionMetrics.getHTTPMethod(), actionMetrics.getResourceName(),
+			actionMetrics.getActionName());
+	}
+
+	/**
+	 * Returns the time elapsed since metrics started being recorded, in
+	 * nanoseconds.
+	 *
+	 * @return the elapsed time, in nanoseconds
+	 * @review
+	 */
+	public long getUptime() {
+		return System.nanoTime() - _startTime;
+	}
+
+	/**
+	 * Returns an action that marks the request as an execution of the action
+	 * semantics before executing the provided action.
+	 *
+	 * <p>
+	 * The returned action keeps the type ({@link Action.NoContent} or {@link
+	 * Action.Ok}) of the original one. If metrics are disabled, the original
+	 * action is returned.
+	 * </p>
+	 *
+	 * @param  actionSemantics the semantics of the action
+	 * @param  action the action to measure
+	 * @return the measured action
+	 * @review
+	 */
+	public Action instrument(ActionSemantics actionSemantics, Action action) {
+		if (!_enabled) {
+			return action;
+		}
+
+		ActionMetrics actionMetrics = _getActionMetrics(actionSemantics);
+
+		if (action instanceof Action.NoContent) {
+			return (Action.NoContent)request -> _execute(
+				actionMetrics, action, request);
+		}
+
+		return (Action.Ok)request -> _execute(actionMetrics, action, request);
+	}
+
+	/**
+	 * Returns {@code true} if metrics are being recorded.
+	 *
+	 * @review
+	 */
+	public boolean isEnabled() {
+		return _enabled;
+	}
+
+	/**
+	 * Records that the current request, if it is being measured, has shared
+	 * the execution of an identical concurrent retrieval.
+	 *
+	 * @param  request the current request
+	 * @review
+	 */
+	public void recordCoalescedCall(HttpServletRequest request) {
+		Object object = request.getAttribute(_MEASUREMENT_ATTRIBUTE);
+
+		if (object instanceof Measurement) {
+			Measurement measurement = (Measurement)object;
+
+			measurement._actionMetrics.recordCoalescedCall();
+		}
+	}
+
+	/**
+	 * Records that an embedded resource has been fetched while writing the
+	 * response of the current request, if it is being measured.
+	 *
+	 * @param  request the current request
+	 * @review
+	 */
+	public void recordEmbeddedFetch(HttpServletRequest request) {
+		Object object = request.getAttribute(_MEASUREMENT_ATTRIBUTE);
+
+		if (object instanceof Measurement) {
+			Measurement measurement = (Measurement)object;
+
+			measurement._actionMetrics.recordEmbeddedFetch();
+		}
+	}
+
+	/**
+	 * Records that a related resource written in the response of the current
+	 * request, if it is being measured, has been found in the request's {@link
+	 * com.liferay.apio.architect.internal.request.SingleModelIdentityMap},
+	 * instead of being fetched again.
+	 *
+	 * @param  request the current request
+	 * @review
+	 */
+	public void recordIdentityMapHit(HttpServletRequest request) {
+		Object object = request.getAttribute(_MEASUREMENT_ATTRIBUTE);
+
+		if (object instanceof Measurement) {
+			Measurement measurement = (Measurement)object;
+
+			measurement._actionMetrics.recordIdentityMapHit();
+		}
+	}
+
+	/**
+	 * Completes the measurement of the current request, if it is being
+	 * measured. Once completed, further calls for the same request are
+	 * ignored. If the request's {@link RequestAllocations} are enabled, its
+	 * allocated bytes are recorded too.
+	 *
+	 * @param  request the current request
+	 * @param  bytesWritten the number of bytes of the response's body
+	 * @review
+	 */
+	public void recordResponse(HttpServletRequest request, long bytesWritten) {
+		Object object = request.getAttribute(_MEASUREMENT_ATTRIBUTE);
+
+		if (!(object instanceof Measurement)) {
+			return;
+		}
+
+		request.removeAttribute(_MEASUREMENT_ATTRIBUTE);
+
+		Measurement measurement = (Measurement)object;
+
+		ActionMetrics actionMetrics = measurement._actionMetrics;
+
+		actionMetrics.recordResponse(
+			measurement._status, bytesWritten,
+			System.nanoTime() - measurement._startTime);
+
+		RequestAllocations requestAllocations = RequestAllocations.of(request);
+
+		if (requestAllocations.isEnabled()) {
+			actionMetrics.recordAllocation(requestAllocations.getTotalBytes());
+		}
+	}
+
+	/**
+	 * Sets the status code of the response of the current request, if it is
+	 * being measured.
+	 *
+	 * @param  request the current request
+	 * @param  status the status code of the response
+	 * @review
+	 */
+	public void recordStatus(HttpServletRequest request, int status) {
+		Object object = request.getAttribute(_MEASUREMENT_ATTRIBUTE);
+
+		if (object instanceof Measurement) {
+			Measurement measurement = (Measurement)object;
+
+			measurement._status = status;
+		}
+	}
+
+	@Activate
+	@Modified
+	protected void activate(Map<String, Object> properties) {
+		_enabled = getBoolean(properties, "enabled", false);
+
+		_actionMetrics.clear();
+
+		_startTime = System.nanoTime();
+	}
+
+	@Reference
+	protected ActionConcurrencyLimiter actionConcurrencyLimiter;
+
+	private static Object _execute(
+		ActionMetrics actionMetrics, Action action,
+		HttpServletRequest request) {
+
+		request.setAttribute(
+			_MEASUREMENT_ATTRIBUTE,
+			new Measurement(actionMetrics, System.nanoTime()));
+
+		return action.execute(request);
+	}
+
+	private ActionMetrics _getActionMetrics(ActionSemantics actionSemantics) {
+		Resource resource = actionSemantics.getResource();
+
+		Key key = new Key(
+			actionSemantics.getHTTPMethod(), resource.getName(),
+			actionSemantics.getActionName());
+
+		ActionMetrics actionMetrics = _actionMetrics.get(key);
+
+		if (actionMetrics != null) {
+			return actionMetrics;
+		}
+
+		return _actionMetrics.computeIfAbsent(
+			key,
+			__ -> new ActionMetrics(
+				key._httpMethod, key._resourceName, key._actionName));
+	}
+
+	private static final String _MEASUREMENT_ATTRIBUTE =
+		MetricsRegistry.class.getName() + "#MEASUREMENT";
+
+	private final Map<Key, ActionMetrics> _actionMetrics =
+		new ConcurrentHashMap<>();
+	private volatile boolean _enabled;
+	private volatile long _startTime = System.nanoTime();
+
+	private static class Key {
+
+		@Override
+		public boolean equals(Object object) {
+			if (this == object) {
+				return true;
+			}
+
+			if (!(object instanceof Key)) {
+				return false;
+			}
+
+			Key key = (Key)object;
+
+			if (_httpMethod.equals(key._httpMethod) &&
+				_resourceName.equals(key._resourceName) &&
+				_actionName.equals(key._actionName)) {
+
+				return true;
+			}
+
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = _httpMethod.hashCode();
+
+			hashCode = (31 * hashCode) + _resourceName.hashCode();
+
+			return (31 * hashCode) + _actionName.hashCode();
+		}
+
+		private Key(String httpMethod, String resourceName, String actionName) {
+			_httpMethod = httpMethod;
+			_resourceName = resourceName;
+			_actionName = actionName;
+		}
+
+		private final String _actionName;
+		private final String _httpMethod;
+		private final String _resourceName;
+
+	}
+
+	private static class Measurement {
+
+		private Measurement(ActionMetrics actionMetrics, long startTime) {
+			_actionMetrics = actionMetrics;
+			_startTime = startTime;
+		}
+
+		private final ActionMetrics _actionMetrics;
+		private final long _startTime;
+		private int _status = 200;
+
+	}
+
+}
@@ -26,6 +26,7 @@ import com.liferay.apio.architect.uri.Path;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Represents a page in a collection. Writers can use instances of this
@@ -36,21 +37,32 @@ import java.util.Optional;
  * @author Jorge Ferrer
  * @param  <T> the model's type
  */
-public class PageImpl<T> implements Page<T> {
+public class PageImpl<T> implements AutoCloseable, Page<T> {
 
 	public PageImpl(
 		Resource resource, PageItems<T> pageItems, Pagination pagination) {
 
 		_resource = resource;
-		_items = pageItems.getItems();
+		_pageItems = pageItems;
 		_itemsPerPage = pagination.getItemsPerPage();
 		_pageNumber = pagination.getPageNumber();
 		_totalCount = pageItems.getTotalCount();
 	}
 
+	/**
+	 * Closes the page's items, releasing the resources backing them if they
+	 * are lazy.
+	 *
+	 * @review
+	 */
+	@Override
+	public void close() {
+		_pageItems.close();
+	}
+
 	@Override
 	public Collection<T> getItems() {
-		return _items;
+		return _pageItems.getItems();
 	}
 
 	@Override
@@ -58,6 +70,11 @@ public class PageImpl<T> implements Page<T> {
 		return _itemsPerPage;
 	}
 
+	@Override
+	public Stream<T> getItemsStream() {
+		return _pageItems.getItemsStream();
+	}
+
 	@Override
 	public int getLastPageNumber() {
 		if (_totalCount == 0) {
@@ -115,8 +132,13 @@ public class PageImpl<T> implements Page<T> {
 		return false;
 	}
 
-	private final Collection<T> _items;
+	@Override
+	public boolean isLazy() {
+		return _pageItems.isLazy();
+	}
+
 	private final int _itemsPerPage;
+	private final PageItems<T> _pageItems;
 	private final int _pageNumber;
 	private final Resource _resource;
 	private final int _totalCount;
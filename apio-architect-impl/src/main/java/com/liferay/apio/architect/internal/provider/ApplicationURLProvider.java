@@ -25,7 +25,8 @@ import org.osgi.service.component.annotations.Component;
 
 /**
  * Creates the application's URL based on the HTTP request and the forwarded
- * header, to account for proxies.
+ * header, to account for proxies. The URL is computed once per request, since
+ * it's used for every link of the response.
  *
  * @author Javier Gamarra
  */
@@ -34,11 +35,11 @@ public class ApplicationURLProvider implements Provider<ApplicationURL> {
 
 	@Override
 	public ApplicationURL createContext(HttpServletRequest httpServletRequest) {
-		return () -> {
-			String serverURL = getServerURL(httpServletRequest);
+		String serverURL = getServerURL(httpServletRequest);
 
-			return serverURL + httpServletRequest.getContextPath();
-		};
+		String applicationURL = serverURL + httpServletRequest.getContextPath();
+
+		return () -> applicationURL;
 	}
 
 }
\ No newline at end of file
@@ -16,11 +16,8 @@ package com.liferay.apio.architect.internal.provider;
 
 import com.liferay.apio.architect.internal.response.control.Embedded;
 import com.liferay.apio.architect.provider.Provider;
+import com.liferay.apio.architect.selection.EmbeddedSelection;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
 import java.util.regex.Pattern;
 
 import javax.servlet.http.HttpServletRequest;
@@ -31,6 +28,12 @@ import org.osgi.service.component.annotations.Component;
  * Lets consumers use the {@code embedded} affordance in order to embed inner
  * resources in representations.
  *
+ * <p>
+ * Clients can also ask for embedded resources to be shared across the items of
+ * a collection page, either with the {@code embedded_mode=shared} parameter or
+ * with a {@code Prefer: embedded=shared} header.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @author Carlos Sierra Andrés
  * @author Jorge Ferrer
@@ -39,35 +42,70 @@ import org.osgi.service.component.annotations.Component;
 public class EmbeddedProvider implements Provider<Embedded> {
 
 	public Embedded createContext(HttpServletRequest httpServletRequest) {
-		return Optional.ofNullable(
-			httpServletRequest.getParameter("embedded")
-		).map(
-			_pattern::split
-		).map(
-			Arrays::asList
-		).map(
-			EmbeddedProvider::_isEmbedded
-		).orElse(
-			__ -> false
-		);
-	}
+		EmbeddedSelection embeddedSelection =
+			_embeddedSelectionProvider.createContext(httpServletRequest);
+
+		Embedded embedded = embeddedSelection::isEmbedded;
 
-	private static Embedded _isEmbedded(List<String> strings) {
-		return field -> {
-			for (String string : strings) {
-				if (Objects.equals(string, field)) {
-					return true;
-				}
+		if (!_isShared(httpServletRequest)) {
+			return embedded;
+		}
 
-				if (string.startsWith(field + ".")) {
-					return true;
-				}
+		return new Embedded() {
+
+			@Override
+			public boolean isShared() {
+				return true;
+			}
+
+			@Override
+			public boolean test(String field) {
+				return embedded.test(field);
 			}
 
-			return false;
 		};
 	}
 
+	private static boolean _isShared(HttpServletRequest httpServletRequest) {
+		String mode = httpServletRequest.getParameter("embedded_mode");
+
+		if (mode != null) {
+			return "shared".equalsIgnoreCase(mode.trim());
+		}
+
+		String prefer = httpServletRequest.getHeader("Prefer");
+
+		if (prefer == null) {
+			return false;
+		}
+
+		for (String preference : _pattern.split(prefer)) {
+			String[] parts = preference.split(";", 2)[0].split("=", 2);
+
+			if ((parts.length == 2) &&
+				"embedded".equalsIgnoreCase(parts[0].trim()) &&
+				"shared".equalsIgnoreCase(_unquote(parts[1].trim()))) {
+
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static String _unquote(String value) {
+		if ((value.length() > 1) && value.startsWith("\"") &&
+			value.endsWith("\"")) {
+
+			return value.substring(1, value.length() - 1);
+		}
+
+		return value;
+	}
+
 	private static final Pattern _pattern = Pattern.compile("\\s*,\\s*");
 
+	private final EmbeddedSelectionProvider _embeddedSelectionProvider =
+		new EmbeddedSelectionProvider();
+
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.provider;
+
+import com.liferay.apio.architect.internal.selection.EmbeddedSelectionImpl;
+import com.liferay.apio.architect.provider.Provider;
+import com.liferay.apio.architect.selection.EmbeddedSelection;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Lets resources provide the {@link EmbeddedSelection} requested with the
+ * {@code embedded} affordance as a parameter in the methods of the different
+ * routes builders, so they can retrieve the related models that are going to
+ * be embedded together with their models.
+ *
+ * @author agent
+ * @review
+ */
+@Component(service = Provider.class)
+public class EmbeddedSelectionProvider implements Provider<EmbeddedSelection> {
+
+	@Override
+	public EmbeddedSelection createContext(
+		HttpServletRequest httpServletRequest) {
+
+		return Optional.ofNullable(
+			httpServletRequest.getParameter("embedded")
+		).map(
+			_pattern::split
+		).map(
+			Arrays::asList
+		).map(
+			EmbeddedSelectionImpl::new
+		).orElseGet(
+			() -> new EmbeddedSelectionImpl(Collections.emptyList())
+		);
+	}
+
+	private static final Pattern _pattern = Pattern.compile("\\s*,\\s*");
+
+}
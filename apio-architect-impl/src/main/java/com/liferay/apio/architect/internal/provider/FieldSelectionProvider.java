@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.provider;
+
+import com.liferay.apio.architect.internal.selection.FieldSelectionImpl;
+import com.liferay.apio.architect.provider.Provider;
+import com.liferay.apio.architect.selection.FieldSelection;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Lets resources provide the {@link FieldSelection} requested with the {@code
+ * fields} affordance as a parameter in the methods of the different routes
+ * builders, so they can retrieve only the selected fields.
+ *
+ * @author agent
+ * @review
+ */
+@Component(service = Provider.class)
+public class FieldSelectionProvider implements Provider<FieldSelection> {
+
+	@Override
+	public FieldSelection createContext(HttpServletRequest httpServletRequest) {
+		Map<String, String[]> parameterMap =
+			httpServletRequest.getParameterMap();
+
+		Map<String, List<String>> fieldsMap = new LinkedHashMap<>();
+
+		parameterMap.forEach(
+			(key, value) -> {
+				if (!key.matches(_REGEXP) || (value.length != 1) ||
+					value[0].isEmpty()) {
+
+					return;
+				}
+
+				fieldsMap.put(
+					_getTypeFunction.apply(key),
+					Arrays.asList(value[0].split(",")));
+			});
+
+		return new FieldSelectionImpl(fieldsMap);
+	}
+
+	private static final String _REGEXP = "fields\\[([A-Z|a-z]+)]";
+
+	private static final Function<String, String> _getTypeFunction =
+		key -> key.substring(key.indexOf("[") + 1, key.indexOf("]"));
+
+}
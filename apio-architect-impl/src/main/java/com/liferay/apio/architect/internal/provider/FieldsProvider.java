@@ -16,13 +16,10 @@ package com.liferay.apio.architect.internal.provider;
 
 import com.liferay.apio.architect.internal.response.control.Fields;
 import com.liferay.apio.architect.provider.Provider;
+import com.liferay.apio.architect.selection.FieldSelection;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -42,57 +39,29 @@ import org.osgi.service.component.annotations.Component;
 public class FieldsProvider implements Provider<Fields> {
 
 	public Fields createContext(HttpServletRequest httpServletRequest) {
-		Map<String, String[]> parameterMap =
-			httpServletRequest.getParameterMap();
+		FieldSelection fieldSelection =
+			_fieldSelectionProvider.createContext(httpServletRequest);
 
-		Set<Map.Entry<String, String[]>> set = parameterMap.entrySet();
+		return types -> {
+			Stream<String> stream = types.stream();
 
-		Stream<Map.Entry<String, String[]>> stream = set.stream();
-
-		Map<String, List<String>> fieldsMap = stream.filter(
-			entry -> {
-				String key = entry.getKey();
-
-				return key.matches(_REGEXP);
-			}
-		).filter(
-			entry -> {
-				String[] value = entry.getValue();
-
-				if (value.length == 1) {
-					return true;
-				}
-
-				return false;
-			}
-		).filter(
-			entry -> !entry.getValue()[0].isEmpty()
-		).collect(
-			Collectors.toMap(
-				entry -> _getTypeFunction.apply(entry.getKey()),
-				entry -> Arrays.asList(entry.getValue()[0].split(",")))
-		);
-
-		return types -> field -> {
-			Stream<String> typesStream = types.stream();
-
-			List<String> fields = typesStream.map(
-				fieldsMap::get
+			Set<String> fields = stream.map(
+				fieldSelection::getFieldsOptional
 			).filter(
-				Objects::nonNull
+				Optional::isPresent
+			).map(
+				Optional::get
 			).flatMap(
-				List::stream
+				Set::stream
 			).collect(
-				Collectors.toList()
+				Collectors.toSet()
 			);
 
-			return fields.isEmpty() || fields.contains(field);
+			return field -> fields.isEmpty() || fields.contains(field);
 		};
 	}
 
-	private static final String _REGEXP = "fields\\[([A-Z|a-z]+)]";
-
-	private static final Function<String, String> _getTypeFunction =
-		key -> key.substring(key.indexOf("[") + 1, key.indexOf("]"));
+	private final FieldSelectionProvider _fieldSelectionProvider =
+		new FieldSelectionProvider();
 
 }
\ No newline at end of file
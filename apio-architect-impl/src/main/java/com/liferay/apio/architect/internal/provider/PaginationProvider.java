@@ -15,10 +15,13 @@
 package com.liferay.apio.architect.internal.provider;
 
 import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.internal.export.PageExporter;
 import com.liferay.apio.architect.internal.pagination.PaginationImpl;
 import com.liferay.apio.architect.pagination.Pagination;
 import com.liferay.apio.architect.provider.Provider;
 
+import java.util.Optional;
+
 import javax.servlet.http.HttpServletRequest;
 
 import org.osgi.service.component.annotations.Component;
@@ -27,6 +30,12 @@ import org.osgi.service.component.annotations.Component;
  * Lets resources provide {@link Pagination} as a parameter in the methods of
  * the different routes builders.
  *
+ * <p>
+ * While a collection is being exported, the pagination of the page being
+ * retrieved by the {@link PageExporter} is provided instead of the one
+ * requested.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @author Carlos Sierra Andrés
  * @author Jorge Ferrer
@@ -36,6 +45,13 @@ public class PaginationProvider implements Provider<Pagination> {
 
 	@Override
 	public Pagination createContext(HttpServletRequest httpServletRequest) {
+		Optional<Pagination> optional = PageExporter.getPaginationOptional(
+			httpServletRequest);
+
+		if (optional.isPresent()) {
+			return optional.get();
+		}
+
 		int itemsPerPage = _getAsInt(
 			httpServletRequest.getParameter("per_page"),
 			_ITEMS_PER_PAGE_DEFAULT);
@@ -44,6 +44,7 @@ import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -78,6 +79,17 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 		);
 	}
 
+	@Override
+	public List<FieldFunction<T, boolean[]>> getBooleanArrayFunctions() {
+		return Optional.ofNullable(
+			fieldFunctions.get("BOOLEAN_ARRAY")
+		).<List<FieldFunction<T, boolean[]>>>map(
+			Unsafe::unsafeCast
+		).orElseGet(
+			Collections::emptyList
+		);
+	}
+
 	@Override
 	public List<FieldFunction<T, Boolean>> getBooleanFunctions() {
 		return Optional.ofNullable(
@@ -100,6 +112,28 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 		);
 	}
 
+	@Override
+	public List<FieldFunction<T, double[]>> getDoubleArrayFunctions() {
+		return Optional.ofNullable(
+			fieldFunctions.get("DOUBLE_ARRAY")
+		).<List<FieldFunction<T, double[]>>>map(
+			Unsafe::unsafeCast
+		).orElseGet(
+			Collections::emptyList
+		);
+	}
+
+	@Override
+	public List<FieldFunction<T, int[]>> getIntArrayFunctions() {
+		return Optional.ofNullable(
+			fieldFunctions.get("INT_ARRAY")
+		).<List<FieldFunction<T, int[]>>>map(
+			Unsafe::unsafeCast
+		).orElseGet(
+			Collections::emptyList
+		);
+	}
+
 	@Override
 	public List<FieldFunction<T, String>> getLinkFunctions() {
 		return Optional.ofNullable(
@@ -124,6 +158,17 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 		);
 	}
 
+	@Override
+	public List<FieldFunction<T, long[]>> getLongArrayFunctions() {
+		return Optional.ofNullable(
+			fieldFunctions.get("LONG_ARRAY")
+		).<List<FieldFunction<T, long[]>>>map(
+			Unsafe::unsafeCast
+		).orElseGet(
+			Collections::emptyList
+		);
+	}
+
 	@Override
 	public List<NestedFieldFunction<T, ?>> getNestedFieldFunctions() {
 		return nestedFieldFunctions;
@@ -253,6 +298,19 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 		_addFieldFunction(key, binaryFunction, "BINARY");
 	}
 
+	/**
+	 * Adds a boolean array function to the {@link
+	 * com.liferay.apio.architect.representor.Representor}.
+	 *
+	 * @param key the field's name
+	 * @param function the function used to get the boolean array
+	 */
+	protected void addBooleanArrayFunction(
+		String key, Function<T, boolean[]> function) {
+
+		_addFieldFunction(key, function, "BOOLEAN_ARRAY");
+	}
+
 	/**
 	 * Adds a boolean function to the {@link
 	 * com.liferay.apio.architect.representor.Representor}.
@@ -279,6 +337,32 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 		_addFieldFunction(key, function, "BOOLEAN_LIST");
 	}
 
+	/**
+	 * Adds a double array function to the {@link
+	 * com.liferay.apio.architect.representor.Representor}.
+	 *
+	 * @param key the field's name
+	 * @param function the function used to get the double array
+	 */
+	protected void addDoubleArrayFunction(
+		String key, Function<T, double[]> function) {
+
+		_addFieldFunction(key, function, "DOUBLE_ARRAY");
+	}
+
+	/**
+	 * Adds a int array function to the {@link
+	 * com.liferay.apio.architect.representor.Representor}.
+	 *
+	 * @param key the field's name
+	 * @param function the function used to get the int array
+	 */
+	protected void addIntArrayFunction(
+		String key, Function<T, int[]> function) {
+
+		_addFieldFunction(key, function, "INT_ARRAY");
+	}
+
 	/**
 	 * Adds a language function to the {@link
 	 * com.liferay.apio.architect.representor.Representor}.
@@ -303,6 +387,19 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 		_addFieldFunction(key, function, "LINK");
 	}
 
+	/**
+	 * Adds a long array function to the {@link
+	 * com.liferay.apio.architect.representor.Representor}.
+	 *
+	 * @param key the field's name
+	 * @param function the function used to get the long array
+	 */
+	protected void addLongArrayFunction(
+		String key, Function<T, long[]> function) {
+
+		_addFieldFunction(key, function, "LONG_ARRAY");
+	}
+
 	/**
 	 * Adds a nested field to the {@link
 	 * com.liferay.apio.architect.representor.Representor}.
@@ -382,6 +479,58 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 		nestedListFieldFunctions.add(nestedFieldFunction);
 	}
 
+	/**
+	 * Adds a nested list field, whose models are provided by a stream, to the
+	 * {@link com.liferay.apio.architect.representor.Representor}.
+	 *
+	 * @param key the field's name
+	 * @param transformFunction the function that transforms the model into the
+	 *        stream whose models are used inside the {@link NestedRepresentor}
+	 * @param function the function that creates the nested representor for each
+	 *        model
+	 * @review
+	 */
+	protected <S> void addNestedStreamField(
+		String key, Function<T, Stream<S>> transformFunction,
+		Function<NestedRepresentor.Builder<S>, NestedRepresentor<S>> function) {
+
+		NestedListFieldFunction<T, S> nestedFieldFunction = function.andThen(
+			nestedRepresentor -> new NestedListFieldFunction<T, S>() {
+
+				@Override
+				public List<S> apply(T t) {
+					try (Stream<S> stream = transformFunction.apply(t)) {
+						if (stream == null) {
+							return null;
+						}
+
+						return stream.collect(Collectors.toList());
+					}
+				}
+
+				@Override
+				public String getKey() {
+					return key;
+				}
+
+				@Override
+				public NestedRepresentor<S> getNestedRepresentor() {
+					return nestedRepresentor;
+				}
+
+				@Override
+				public Stream<S> stream(T t) {
+					return transformFunction.apply(t);
+				}
+
+			}
+		).apply(
+			new NestedRepresentorImpl.BuilderImpl(_nameFunction)
+		);
+
+		nestedListFieldFunctions.add(nestedFieldFunction);
+	}
+
 	/**
 	 * Adds a number function to the {@link
 	 * com.liferay.apio.architect.representor.Representor}.
@@ -532,6 +681,15 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 				return _this;
 			}
 
+			@Override
+			public V addBooleanArray(
+				String key, Function<T, boolean[]> function) {
+
+				baseRepresentor.addBooleanArrayFunction(key, function);
+
+				return _this;
+			}
+
 			@Override
 			public V addBooleanList(
 				String key, Function<T, List<Boolean>> function) {
@@ -557,6 +715,22 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 				return _this;
 			}
 
+			@Override
+			public V addDoubleArray(
+				String key, Function<T, double[]> function) {
+
+				baseRepresentor.addDoubleArrayFunction(key, function);
+
+				return _this;
+			}
+
+			@Override
+			public V addIntArray(String key, Function<T, int[]> function) {
+				baseRepresentor.addIntArrayFunction(key, function);
+
+				return _this;
+			}
+
 			@Override
 			public V addLink(String key, String url) {
 				baseRepresentor.addLinkFunction(key, __ -> url);
@@ -598,6 +772,13 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 						t, acceptLanguage.getPreferredLocale()));
 			}
 
+			@Override
+			public V addLongArray(String key, Function<T, long[]> function) {
+				baseRepresentor.addLongArrayFunction(key, function);
+
+				return _this;
+			}
+
 			@Override
 			public <W> V addNested(
 				String key, Function<T, W> transformFunction,
@@ -622,6 +803,18 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 				return _this;
 			}
 
+			@Override
+			public <W> V addNestedStream(
+				String key, Function<T, Stream<W>> transformFunction,
+				Function<NestedRepresentor.Builder<W>, NestedRepresentor<W>>
+					function) {
+
+				baseRepresentor.addNestedStreamField(
+					key, transformFunction, function);
+
+				return _this;
+			}
+
 			@Override
 			public V addNumber(String key, Function<T, Number> function) {
 				baseRepresentor.addNumberFunction(key, function);
@@ -21,6 +21,7 @@ import com.liferay.apio.architect.representor.Representor;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -36,6 +37,11 @@ public class RepresentorImpl<T>
 		return _modelToIdentifierFunction.apply(model);
 	}
 
+	@Override
+	public Optional<Function<T, Object>> getVersionFunctionOptional() {
+		return Optional.ofNullable(_versionFunction);
+	}
+
 	@Override
 	public boolean isNested() {
 		return false;
@@ -106,6 +112,13 @@ public class RepresentorImpl<T>
 				return this;
 			}
 
+			@Override
+			public FirstStep<T> addVersion(Function<T, ?> versionFunction) {
+				baseRepresentor._setVersionFunction(versionFunction::apply);
+
+				return this;
+			}
+
 			@Override
 			public FirstStepImpl getThis() {
 				return this;
@@ -148,6 +161,11 @@ public class RepresentorImpl<T>
 		_modelToIdentifierFunction = modelToIdentifierFunction;
 	}
 
+	private void _setVersionFunction(Function<T, Object> versionFunction) {
+		_versionFunction = versionFunction;
+	}
+
 	private Function<T, ?> _modelToIdentifierFunction;
+	private Function<T, Object> _versionFunction;
 
 }
\ No newline at end of file
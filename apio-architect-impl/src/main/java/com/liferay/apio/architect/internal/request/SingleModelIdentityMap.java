@@ -0,0 +1,183 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.request;
+
+import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.internal.alias.SingleModelFunction;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Memoizes the single models of the related resources written in a response,
+ * keyed by identifier class and identifier, so every distinct related
+ * resource is retrieved (and its permissions checked) only once per request,
+ * no matter how many times it appears in the response.
+ *
+ * <p>
+ * Missing resources are memoized too, so a resource that can't be retrieved
+ * isn't requested again either.
+ * </p>
+ *
+ * <p>
+ * Instances are request-scoped, and must not be shared between threads. Use
+ * {@link #of(HttpServletRequest)} to obtain the instance of a request.
+ * </p>
+ *
+ * @author agent
+ * @review
+ */
+public final class SingleModelIdentityMap {
+
+	/**
+	 * Returns the identity map of the request, creating it if it doesn't exist
+	 * yet. If the request is {@code null}, a new identity map that isn't
+	 * shared with any other caller is returned.
+	 *
+	 * @param  request the current request
+	 * @return the identity map of the request
+	 * @review
+	 */
+	public static SingleModelIdentityMap of(HttpServletRequest request) {
+		if (request == null) {
+			return new SingleModelIdentityMap();
+		}
+
+		Object object = request.getAttribute(_ATTRIBUTE);
+
+		if (object instanceof SingleModelIdentityMap) {
+			return (SingleModelIdentityMap)object;
+		}
+
+		SingleModelIdentityMap singleModelIdentityMap =
+			new SingleModelIdentityMap();
+
+		request.setAttribute(_ATTRIBUTE, singleModelIdentityMap);
+
+		return singleModelIdentityMap;
+	}
+
+	/**
+	 * Returns the number of lookups answered by the identity map.
+	 *
+	 * @return the number of hits
+	 * @review
+	 */
+	public int getHitCount() {
+		return _hitCount;
+	}
+
+	/**
+	 * Returns the number of lookups that had to call the single model
+	 * function.
+	 *
+	 * @return the number of misses
+	 * @review
+	 */
+	public int getMissCount() {
+		return _missCount;
+	}
+
+	/**
+	 * Returns the single model identified by the identifier, calling the
+	 * single model function only if it hasn't been looked up yet.
+	 *
+	 * @param  identifier the single model's identifier
+	 * @param  identifierClass the resource identifier class
+	 * @param  singleModelFunction the function that retrieves the single model
+	 * @return the single model, if present; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<SingleModel> getSingleModelOptional(
+		Object identifier, Class<? extends Identifier> identifierClass,
+		SingleModelFunction singleModelFunction) {
+
+		Key key = new Key(identifierClass, identifier);
+
+		Optional<SingleModel> optional = _singleModels.get(key);
+
+		if (optional != null) {
+			_hitCount++;
+
+			return optional;
+		}
+
+		_missCount++;
+
+		optional = singleModelFunction.apply(identifier, identifierClass);
+
+		_singleModels.put(key, optional);
+
+		return optional;
+	}
+
+	private SingleModelIdentityMap() {
+	}
+
+	private static final String _ATTRIBUTE =
+		SingleModelIdentityMap.class.getName() + "#INSTANCE";
+
+	private int _hitCount;
+	private int _missCount;
+	private final Map<Key, Optional<SingleModel>> _singleModels =
+		new HashMap<>();
+
+	private static class Key {
+
+		@Override
+		public boolean equals(Object object) {
+			if (this == object) {
+				return true;
+			}
+
+			if (!(object instanceof Key)) {
+				return false;
+			}
+
+			Key key = (Key)object;
+
+			if (_identifierClass.equals(key._identifierClass) &&
+				Objects.equals(_identifier, key._identifier)) {
+
+				return true;
+			}
+
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return (31 * _identifierClass.hashCode()) +
+				Objects.hashCode(_identifier);
+		}
+
+		private Key(
+			Class<? extends Identifier> identifierClass, Object identifier) {
+
+			_identifierClass = identifierClass;
+			_identifier = identifier;
+		}
+
+		private final Object _identifier;
+		private final Class<? extends Identifier> _identifierClass;
+
+	}
+
+}
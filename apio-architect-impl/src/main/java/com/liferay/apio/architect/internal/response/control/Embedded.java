@@ -31,4 +31,18 @@ import java.util.function.Predicate;
  * @author Jorge Ferrer
  */
 public interface Embedded extends Predicate<String> {
+
+	/**
+	 * Returns {@code true} if the client asked for embedded resources to be
+	 * written once in a shared section of a collection page, with items
+	 * referencing them by URL, instead of being repeated inline in every item.
+	 *
+	 * @return {@code true} if embedded resources should be shared; {@code
+	 *         false} otherwise
+	 * @review
+	 */
+	public default boolean isShared() {
+		return false;
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.selection;
+
+import static java.util.Collections.unmodifiableSet;
+
+import com.liferay.apio.architect.selection.EmbeddedSelection;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Defines the embedded paths requested by the client. Instances of this class
+ * are immutable.
+ *
+ * @author agent
+ * @review
+ */
+public class EmbeddedSelectionImpl implements EmbeddedSelection {
+
+	public EmbeddedSelectionImpl(Collection<String> paths) {
+		_paths = unmodifiableSet(new LinkedHashSet<>(paths));
+	}
+
+	@Override
+	public Set<String> getPaths() {
+		return _paths;
+	}
+
+	@Override
+	public boolean isEmbedded(String path) {
+		for (String requestedPath : _paths) {
+			if (requestedPath.equals(path) ||
+				requestedPath.startsWith(path + ".")) {
+
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private final Set<String> _paths;
+
+}
@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.selection;
+
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Collections.unmodifiableSet;
+
+import com.liferay.apio.architect.selection.FieldSelection;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Defines the fields selected by the client for each type. Instances of this
+ * class are immutable.
+ *
+ * @author agent
+ * @review
+ */
+public class FieldSelectionImpl implements FieldSelection {
+
+	public FieldSelectionImpl(Map<String, ? extends Collection<String>> map) {
+		Map<String, Set<String>> fieldsMap = new LinkedHashMap<>();
+
+		map.forEach(
+			(type, fields) -> fieldsMap.put(
+				type, unmodifiableSet(new LinkedHashSet<>(fields))));
+
+		_fieldsMap = unmodifiableMap(fieldsMap);
+	}
+
+	@Override
+	public Optional<Set<String>> getFieldsOptional(String type) {
+		return Optional.ofNullable(_fieldsMap.get(type));
+	}
+
+	@Override
+	public Set<String> getTypes() {
+		return _fieldsMap.keySet();
+	}
+
+	private final Map<String, Set<String>> _fieldsMap;
+
+}
@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.timing;
+
+/**
+ * Defines the phases in which the handling of a request is split by {@link
+ * RequestTimings}.
+ *
+ * @author agent
+ * @review
+ */
+public enum Phase {
+
+	EMBEDDED("embedded", "Embedded resources"),
+	EXECUTION("execution", "Router execution"),
+	JSON("json", "Representation building"), OUTPUT("output", "Output"),
+	PERMISSION("permission", "Permission checks"),
+	PROVIDERS("providers", "Provider creation"), ROUTING("routing", "Routing");
+
+	/**
+	 * Returns the phase with the provided name, if present; returns {@code
+	 * null} otherwise.
+	 *
+	 * @param  name the phase's name
+	 * @return the phase, if present; {@code null} otherwise
+	 * @review
+	 */
+	public static Phase fromName(String name) {
+		for (Phase phase : values()) {
+			if (phase._name.equals(name)) {
+				return phase;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the human readable description of the phase.
+	 *
+	 * @return the phase's description
+	 * @review
+	 */
+	public String getDescription() {
+		return _description;
+	}
+
+	/**
+	 * Returns the name of the phase, used as metric name in the {@code
+	 * Server-Timing} header.
+	 *
+	 * @return the phase's name
+	 * @review
+	 */
+	public String getName() {
+		return _name;
+	}
+
+	private Phase(String name, String description) {
+		_name = name;
+		_description = description;
+	}
+
+	private final String _description;
+	private final String _name;
+
+}
@@ -0,0 +1,285 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.timing;
+
+import com.sun.management.ThreadMXBean;
+
+import java.lang.management.ManagementFactory;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Collects the bytes allocated by the thread of a request while executing its
+ * action and while writing its response, as reported by the JVM's {@code
+ * ThreadMXBean}.
+ *
+ * <p>
+ * Measurements can be nested: the bytes allocated by an action executed while
+ * writing a response (for example, to fetch an embedded resource) are
+ * attributed to the write, so every byte is counted once.
+ * </p>
+ *
+ * <p>
+ * Instances are request-scoped, and must not be shared between threads. Use
+ * {@link #of(HttpServletRequest)} to obtain the instance of a request, which
+ * ignores every call if the request's allocations aren't being measured.
+ * </p>
+ *
+ * @author agent
+ * @review
+ */
+public final class RequestAllocations {
+
+	/**
+	 * Returns {@code true} if the JVM can measure the bytes allocated by a
+	 * thread.
+	 *
+	 * @review
+	 */
+	public static boolean isSupported() {
+		if (_THREAD_MX_BEAN == null) {
+			return false;
+		}
+
+		return _THREAD_MX_BEAN.isThreadAllocatedMemoryEnabled();
+	}
+
+	/**
+	 * Returns the allocations of the request, or a disabled instance that
+	 * ignores every call if the request's allocations are not being measured
+	 * (or the request is {@code null}).
+	 *
+	 * @param  request the current request
+	 * @return the allocations of the request
+	 * @review
+	 */
+	public static RequestAllocations of(HttpServletRequest request) {
+		if (request == null) {
+			return _DISABLED;
+		}
+
+		Object object = request.getAttribute(_ATTRIBUTE);
+
+		if (object instanceof RequestAllocations) {
+			return (RequestAllocations)object;
+		}
+
+		return _DISABLED;
+	}
+
+	/**
+	 * Starts measuring the allocations of the request and returns them. If the
+	 * JVM can't measure allocations, the request is not measured and a
+	 * disabled instance is returned.
+	 *
+	 * @param  request the current request
+	 * @param  debugHeader {@code true} if the allocations must be sent to the
+	 *         client in a debug header
+	 * @return the allocations of the request
+	 * @review
+	 */
+	public static RequestAllocations start(
+		HttpServletRequest request, boolean debugHeader) {
+
+		if (!isSupported()) {
+			return _DISABLED;
+		}
+
+		RequestAllocations requestAllocations = new RequestAllocations(
+			true, debugHeader);
+
+		request.setAttribute(_ATTRIBUTE, requestAllocations);
+
+		return requestAllocations;
+	}
+
+	/**
+	 * Starts a measurement and returns the value that must be passed to {@link
+	 * #endExecution(long)} or {@link #endWrite(long)} once it ends.
+	 *
+	 * @return the bytes allocated so far by the current thread, or {@code -1}
+	 *         if the measurement is ignored
+	 * @review
+	 */
+	public long begin() {
+		if (!_enabled) {
+			return -1;
+		}
+
+		if (_depth++ > 0) {
+			return -1;
+		}
+
+		return _getAllocatedBytes();
+	}
+
+	/**
+	 * Ends a measurement started by {@link #begin()}, attributing the bytes
+	 * allocated since then to the execution of the action.
+	 *
+	 * @param  start the value returned by {@link #begin()}
+	 * @review
+	 */
+	public void endExecution(long start) {
+		if (!_enabled) {
+			return;
+		}
+
+		_executionBytes += _end(start);
+	}
+
+	/**
+	 * Ends a measurement started by {@link #begin()}, attributing the bytes
+	 * allocated since then to the writing of the response.
+	 *
+	 * @param  start the value returned by {@link #begin()}
+	 * @review
+	 */
+	public void endWrite(long start) {
+		if (!_enabled) {
+			return;
+		}
+
+		_writeBytes += _end(start);
+	}
+
+	/**
+	 * Returns the bytes allocated while executing the action.
+	 *
+	 * @return the bytes allocated while executing the action
+	 * @review
+	 */
+	public long getExecutionBytes() {
+		return _executionBytes;
+	}
+
+	/**
+	 * Returns the bytes allocated while executing the action and writing the
+	 * response.
+	 *
+	 * @return the bytes allocated
+	 * @review
+	 */
+	public long getTotalBytes() {
+		return _executionBytes + _writeBytes;
+	}
+
+	/**
+	 * Returns the bytes allocated while writing the response.
+	 *
+	 * @return the bytes allocated while writing the response
+	 * @review
+	 */
+	public long getWriteBytes() {
+		return _writeBytes;
+	}
+
+	/**
+	 * Returns {@code true} if the allocations must be sent to the client in a
+	 * debug header.
+	 *
+	 * @review
+	 */
+	public boolean isDebugHeader() {
+		return _debugHeader;
+	}
+
+	/**
+	 * Returns {@code true} if the request's allocations are being measured.
+	 *
+	 * @review
+	 */
+	public boolean isEnabled() {
+		return _enabled;
+	}
+
+	/**
+	 * Returns the value of the debug header for the allocations measured so
+	 * far, in bytes (for example, {@code execution=1024, write=2048,
+	 * total=3072}).
+	 *
+	 * @return the value of the debug header
+	 * @review
+	 */
+	public String toHeaderValue() {
+		return "execution=" + _executionBytes + ", write=" + _writeBytes +
+			", total=" + getTotalBytes();
+	}
+
+	private static long _getAllocatedBytes() {
+		Thread thread = Thread.currentThread();
+
+		return _THREAD_MX_BEAN.getThreadAllocatedBytes(thread.getId());
+	}
+
+	private static ThreadMXBean _getThreadMXBean() {
+		try {
+			Object threadMXBean = ManagementFactory.getThreadMXBean();
+
+			if (!(threadMXBean instanceof ThreadMXBean)) {
+				return null;
+			}
+
+			ThreadMXBean sunThreadMXBean = (ThreadMXBean)threadMXBean;
+
+			if (!sunThreadMXBean.isThreadAllocatedMemorySupported()) {
+				return null;
+			}
+
+			return sunThreadMXBean;
+		}
+		catch (LinkageError le) {
+			return null;
+		}
+	}
+
+	private RequestAllocations(boolean enabled, boolean debugHeader) {
+		_enabled = enabled;
+		_debugHeader = debugHeader;
+	}
+
+	private long _end(long start) {
+		if (--_depth > 0) {
+			return 0;
+		}
+
+		if (start < 0) {
+			return 0;
+		}
+
+		long end = _getAllocatedBytes();
+
+		if (end < start) {
+			return 0;
+		}
+
+		return end - start;
+	}
+
+	private static final String _ATTRIBUTE =
+		RequestAllocations.class.getName() + "#ALLOCATIONS";
+
+	private static final RequestAllocations _DISABLED = new RequestAllocations(
+		false, false);
+
+	private static final ThreadMXBean _THREAD_MX_BEAN = _getThreadMXBean();
+
+	private final boolean _debugHeader;
+	private int _depth;
+	private final boolean _enabled;
+	private long _executionBytes;
+	private long _writeBytes;
+
+}
@@ -0,0 +1,237 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.timing;
+
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getBoolean;
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getLong;
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getString;
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getStringArray;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.provider.ProviderManager;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.component.annotations.Reference;
+
+import org.slf4j.Logger;
+
+/**
+ * Decides which requests are timed with {@link RequestTimings} and which have
+ * their allocations measured with {@link RequestAllocations}, and logs the
+ * slow ones.
+ *
+ * <p>
+ * A request is timed if the {@code Server-Timing} header is enabled for every
+ * request, if the slow request log is enabled, or if the request contains the
+ * debug header and its credentials are trusted. The {@code Server-Timing}
+ * header is only sent in the first and last cases.
+ * </p>
+ *
+ * <p>
+ * If {@code allocation.tracking.enabled} is set, the allocations of every
+ * request are measured and recorded in the action metrics. They're also sent
+ * in the {@code Apio-Allocated-Bytes} header of the requests that receive the
+ * {@code Server-Timing} header.
+ * </p>
+ *
+ * <p>
+ * A request is logged as slow if its total time exceeds {@code
+ * slow.request.threshold.ms}, or if the time spent in a phase exceeds the
+ * threshold configured for it in {@code slow.phase.thresholds.ms}, as a list
+ * of {@code phase=milliseconds} pairs (for example, {@code execution=500,
+ * embedded=200}).
+ * </p>
+ *
+ * <p>
+ * Everything is disabled by default, and can be enabled through this
+ * component's configuration.
+ * </p>
+ *
+ * @author agent
+ * @review
+ */
+@Component(
+	property = {
+		"allocation.tracking.enabled=false",
+		"debug.header.name=Apio-Debug-Timing", "server.timing.enabled=false",
+		"slow.phase.thresholds.ms=", "slow.request.log.enabled=false",
+		"slow.request.threshold.ms=1000", "trusted.credentials="
+	},
+	service = RequestTimingManager.class
+)
+public class RequestTimingManager {
+
+	/**
+	 * Logs the request if it has been timed and is slow. Further calls for the
+	 * same request are ignored.
+	 *
+	 * @param  request the current request
+	 * @review
+	 */
+	public void finish(HttpServletRequest request) {
+		RequestTimings requestTimings = RequestTimings.of(request);
+
+		if (!requestTimings.isEnabled() || !_slowRequestLogEnabled ||
+			(request.getAttribute(_FINISHED_ATTRIBUTE) != null)) {
+
+			return;
+		}
+
+		request.setAttribute(_FINISHED_ATTRIBUTE, Boolean.TRUE);
+
+		if (!_isSlow(requestTimings) || !_logger.isWarnEnabled()) {
+			return;
+		}
+
+		_logger.warn(
+			"Slow request {} {}: {}", request.getMethod(),
+			request.getRequestURI(), requestTimings.toServerTiming());
+	}
+
+	/**
+	 * Starts timing the request and measuring its allocations, if needed.
+	 *
+	 * @param  request the current request
+	 * @review
+	 */
+	public void start(HttpServletRequest request) {
+		boolean serverTiming = _serverTimingEnabled || _isDebugRequest(request);
+
+		if (serverTiming || _slowRequestLogEnabled) {
+			RequestTimings.start(request, serverTiming);
+		}
+
+		if (_allocationTrackingEnabled) {
+			RequestAllocations.start(request, serverTiming);
+		}
+	}
+
+	@Activate
+	@Modified
+	protected void activate(Map<String, Object> properties) {
+		_allocationTrackingEnabled = getBoolean(
+			properties, "allocation.tracking.enabled", false);
+		_debugHeaderName = getString(
+			properties, "debug.header.name", "Apio-Debug-Timing");
+		_serverTimingEnabled = getBoolean(
+			properties, "server.timing.enabled", false);
+		_slowRequestLogEnabled = getBoolean(
+			properties, "slow.request.log.enabled", false);
+		_slowRequestThreshold = TimeUnit.MILLISECONDS.toNanos(
+			getLong(properties, "slow.request.threshold.ms", 1000));
+
+		Map<Phase, Long> slowPhaseThresholds = new EnumMap<>(Phase.class);
+
+		for (String entry :
+				getStringArray(properties, "slow.phase.thresholds.ms")) {
+
+			String[] parts = entry.split("=");
+
+			Phase phase = Phase.fromName(parts[0].trim());
+
+			if ((parts.length != 2) || (phase == null)) {
+				_logger.error("Invalid slow phase threshold: {}", entry);
+
+				continue;
+			}
+
+			try {
+				slowPhaseThresholds.put(
+					phase,
+					TimeUnit.MILLISECONDS.toNanos(
+						Long.parseLong(parts[1].trim())));
+			}
+			catch (NumberFormatException nfe) {
+				_logger.error("Invalid slow phase threshold: {}", entry);
+			}
+		}
+
+		_slowPhaseThresholds = slowPhaseThresholds;
+
+		Set<String> trustedCredentials = new HashSet<>(
+			Arrays.asList(getStringArray(properties, "trusted.credentials")));
+
+		trustedCredentials.remove("");
+
+		_trustedCredentials = trustedCredentials;
+	}
+
+	private boolean _isDebugRequest(HttpServletRequest request) {
+		Set<String> trustedCredentials = _trustedCredentials;
+
+		if (trustedCredentials.isEmpty() ||
+			(request.getHeader(_debugHeaderName) == null)) {
+
+			return false;
+		}
+
+		Optional<Credentials> optional = _providerManager.provideOptional(
+			request, Credentials.class);
+
+		return optional.map(
+			Credentials::get
+		).map(
+			String::valueOf
+		).filter(
+			trustedCredentials::contains
+		).isPresent();
+	}
+
+	private boolean _isSlow(RequestTimings requestTimings) {
+		if (requestTimings.getElapsedTime() > _slowRequestThreshold) {
+			return true;
+		}
+
+		for (Map.Entry<Phase, Long> entry : _slowPhaseThresholds.entrySet()) {
+			if (requestTimings.getDuration(entry.getKey()) > entry.getValue()) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static final String _FINISHED_ATTRIBUTE =
+		RequestTimingManager.class.getName() + "#FINISHED";
+
+	private volatile boolean _allocationTrackingEnabled;
+	private volatile String _debugHeaderName = "Apio-Debug-Timing";
+	private final Logger _logger = getLogger(getClass());
+
+	@Reference
+	private ProviderManager _providerManager;
+
+	private volatile boolean _serverTimingEnabled;
+	private volatile Map<Phase, Long> _slowPhaseThresholds = new EnumMap<>(
+		Phase.class);
+	private volatile boolean _slowRequestLogEnabled;
+	private volatile long _slowRequestThreshold;
+	private volatile Set<String> _trustedCredentials = new HashSet<>();
+
+}
@@ -0,0 +1,265 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.timing;
+
+import io.vavr.CheckedFunction0;
+
+import java.util.Locale;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Collects the time spent by a request in each {@link Phase}.
+ *
+ * <p>
+ * Phases can be nested: entering a phase pauses the current one, which is
+ * resumed when the nested phase is exited, so every phase accounts only for
+ * its own time. The only exception is {@link Phase#EMBEDDED}: the phases
+ * entered while resolving an embedded resource are attributed to it.
+ * </p>
+ *
+ * <p>
+ * Instances are request-scoped, and must not be shared between threads. Use
+ * {@link #of(HttpServletRequest)} to obtain the instance of a request, which
+ * ignores every call if the request's timing hasn't been started.
+ * </p>
+ *
+ * @author agent
+ * @review
+ */
+public final class RequestTimings {
+
+	/**
+	 * Returns the timings of the request, or a disabled instance that ignores
+	 * every call if the request is not being timed (or is {@code null}).
+	 *
+	 * @param  request the current request
+	 * @return the timings of the request
+	 * @review
+	 */
+	public static RequestTimings of(HttpServletRequest request) {
+		if (request == null) {
+			return _DISABLED;
+		}
+
+		Object object = request.getAttribute(_ATTRIBUTE);
+
+		if (object instanceof RequestTimings) {
+			return (RequestTimings)object;
+		}
+
+		return _DISABLED;
+	}
+
+	/**
+	 * Starts timing the request and returns its timings.
+	 *
+	 * @param  request the current request
+	 * @param  serverTiming {@code true} if the timings must be sent to the
+	 *         client in the {@code Server-Timing} header
+	 * @return the timings of the request
+	 * @review
+	 */
+	public static RequestTimings start(
+		HttpServletRequest request, boolean serverTiming) {
+
+		RequestTimings requestTimings = new RequestTimings(
+			true, serverTiming, System.nanoTime());
+
+		request.setAttribute(_ATTRIBUTE, requestTimings);
+
+		return requestTimings;
+	}
+
+	/**
+	 * Enters a phase, pausing the current one, and returns the phase that was
+	 * current before, which must be passed to {@link #exit(Phase)} once the
+	 * phase ends.
+	 *
+	 * @param  phase the phase
+	 * @return the previous phase, or {@code null} if there wasn't one
+	 * @review
+	 */
+	public Phase enter(Phase phase) {
+		if (!_enabled) {
+			return null;
+		}
+
+		if (_current == Phase.EMBEDDED) {
+			return Phase.EMBEDDED;
+		}
+
+		Phase previous = _current;
+
+		_switchTo(phase);
+
+		return previous;
+	}
+
+	/**
+	 * Exits the current phase, resuming the previous one.
+	 *
+	 * @param  previous the phase returned by {@link #enter(Phase)}
+	 * @review
+	 */
+	public void exit(Phase previous) {
+		if (!_enabled || (previous == _current)) {
+			return;
+		}
+
+		_switchTo(previous);
+	}
+
+	/**
+	 * Returns the time spent in a phase, in nanoseconds. The time of the
+	 * current phase is not included until it is exited.
+	 *
+	 * @param  phase the phase
+	 * @return the time spent in the phase, in nanoseconds
+	 * @review
+	 */
+	public long getDuration(Phase phase) {
+		return _durations[phase.ordinal()];
+	}
+
+	/**
+	 * Returns the time elapsed since the request's timing started, in
+	 * nanoseconds.
+	 *
+	 * @return the elapsed time, in nanoseconds
+	 * @review
+	 */
+	public long getElapsedTime() {
+		if (!_enabled) {
+			return 0;
+		}
+
+		return System.nanoTime() - _startTime;
+	}
+
+	/**
+	 * Returns {@code true} if the request is being timed.
+	 *
+	 * @review
+	 */
+	public boolean isEnabled() {
+		return _enabled;
+	}
+
+	/**
+	 * Returns {@code true} if the timings must be sent to the client in the
+	 * {@code Server-Timing} header.
+	 *
+	 * @review
+	 */
+	public boolean isServerTiming() {
+		return _serverTiming;
+	}
+
+	/**
+	 * Executes the function inside a phase.
+	 *
+	 * @param  phase the phase
+	 * @param  checkedFunction0 the function
+	 * @return the function's result
+	 * @review
+	 */
+	public <T> T time(Phase phase, CheckedFunction0<T> checkedFunction0)
+		throws Throwable {
+
+		Phase previous = enter(phase);
+
+		try {
+			return checkedFunction0.apply();
+		}
+		finally {
+			exit(previous);
+		}
+	}
+
+	/**
+	 * Returns the value of the {@code Server-Timing} header for the timings
+	 * collected so far: the duration of every phase in which some time has
+	 * been spent, and the total elapsed time, in milliseconds.
+	 *
+	 * @return the value of the {@code Server-Timing} header
+	 * @review
+	 */
+	public String toServerTiming() {
+		StringBuilder sb = new StringBuilder();
+
+		for (Phase phase : Phase.values()) {
+			long duration = _durations[phase.ordinal()];
+
+			if (duration == 0) {
+				continue;
+			}
+
+			_append(sb, phase.getName(), phase.getDescription(), duration);
+
+			sb.append(", ");
+		}
+
+		_append(sb, "total", "Total", getElapsedTime());
+
+		return sb.toString();
+	}
+
+	private RequestTimings(
+		boolean enabled, boolean serverTiming, long startTime) {
+
+		_enabled = enabled;
+		_serverTiming = serverTiming;
+		_startTime = startTime;
+	}
+
+	private static void _append(
+		StringBuilder sb, String name, String description, long duration) {
+
+		sb.append(name);
+		sb.append(";desc=\"");
+		sb.append(description);
+		sb.append("\";dur=");
+		sb.append(
+			String.format(Locale.ROOT, "%.3f", duration / _NANOS_PER_MILLIS));
+	}
+
+	private void _switchTo(Phase phase) {
+		long now = System.nanoTime();
+
+		if (_current != null) {
+			_durations[_current.ordinal()] += now - _currentStartTime;
+		}
+
+		_current = phase;
+		_currentStartTime = now;
+	}
+
+	private static final String _ATTRIBUTE =
+		RequestTimings.class.getName() + "#TIMINGS";
+
+	private static final RequestTimings _DISABLED = new RequestTimings(
+		false, false, 0);
+
+	private static final double _NANOS_PER_MILLIS = 1_000_000.0;
+
+	private Phase _current;
+	private long _currentStartTime;
+	private final long[] _durations = new long[Phase.values().length];
+	private final boolean _enabled;
+	private final boolean _serverTiming;
+	private final long _startTime;
+
+}
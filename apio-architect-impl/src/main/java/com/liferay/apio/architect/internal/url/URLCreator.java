@@ -14,8 +14,6 @@
 
 package com.liferay.apio.architect.internal.url;
 
-import static java.lang.String.join;
-
 import static java.util.Arrays.asList;
 
 import com.liferay.apio.architect.internal.pagination.PageType;
@@ -28,19 +26,26 @@ import com.liferay.apio.architect.resource.Resource.Nested;
 import com.liferay.apio.architect.resource.Resource.Paged;
 import com.liferay.apio.architect.uri.Path;
 
-import java.net.URI;
-
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
-import javax.ws.rs.core.UriBuilder;
-
 /**
  * Manages the creation of URLs and has all their necessary information.
  *
  * <p>
+ * URLs are written into a per-thread {@code StringBuilder}, reused between
+ * calls. Resource names are percent-encoded once and cached, while identifiers
+ * are encoded on each call, copying them unchanged if they don't contain any
+ * character that must be encoded. Values are encoded as path template values
+ * of {@code javax.ws.rs.core.UriBuilder#build(Object...)}, so {@code /},
+ * {@code ;} and {@code %} are always encoded.
+ * </p>
+ *
+ * <p>
  * This class shouldn't be instantiated.
  * </p>
  *
@@ -109,17 +114,19 @@ public final class URLCreator {
 	public static String createBinaryURL(
 		ApplicationURL applicationURL, String binaryId, Path path) {
 
-		URI uri = UriBuilder.fromPath(
-			"{name}"
-		).path(
-			"{id}"
-		).path(
-			"{binaryId}"
-		).build(
-			path.getName(), path.getId(), binaryId
-		);
+		StringBuilder stringBuilder = _startURL(applicationURL);
+
+		_appendName(stringBuilder, path.getName());
 
-		return createAbsoluteURL(applicationURL, uri.toString());
+		stringBuilder.append('/');
+
+		_appendSegment(stringBuilder, path.getId());
+
+		stringBuilder.append('/');
+
+		_appendSegment(stringBuilder, binaryId);
+
+		return stringBuilder.toString();
 	}
 
 	/**
@@ -132,14 +139,60 @@ public final class URLCreator {
 	public static String createCollectionPageURL(
 		String collectionURL, Page page, PageType pageType) {
 
-		return UriBuilder.fromUri(
-			collectionURL
-		).queryParam(
-			"page", pageType.getPageNumber(page)
-		).queryParam(
-			"per_page", page.getItemsPerPage()
-		).build(
-		).toString();
+		StringBuilder stringBuilder = _getStringBuilder();
+
+		int end = collectionURL.indexOf('#');
+
+		if (end == -1) {
+			end = collectionURL.length();
+		}
+
+		stringBuilder.append(collectionURL, 0, end);
+
+		int queryIndex = collectionURL.lastIndexOf('?', end - 1);
+
+		if (queryIndex == -1) {
+			stringBuilder.append('?');
+		}
+		else if ((queryIndex != (end - 1)) &&
+				 (collectionURL.charAt(end - 1) != '&')) {
+
+			stringBuilder.append('&');
+		}
+
+		stringBuilder.append(
+			"page="
+		).append(
+			pageType.getPageNumber(page)
+		).append(
+			"&per_page="
+		).append(
+			page.getItemsPerPage()
+		).append(
+			collectionURL, end, collectionURL.length()
+		);
+
+		return stringBuilder.toString();
+	}
+
+	/**
+	 * Returns the URL of the shared JSON-LD context of a resource.
+	 *
+	 * @param  applicationURL the application URL
+	 * @param  name the resource's name
+	 * @return the URL of the resource's context
+	 * @review
+	 */
+	public static String createContextURL(
+		ApplicationURL applicationURL, String name) {
+
+		StringBuilder stringBuilder = _startURL(applicationURL);
+
+		stringBuilder.append("c/");
+
+		_appendSegment(stringBuilder, name);
+
+		return stringBuilder.toString();
 	}
 
 	/**
@@ -158,19 +211,21 @@ public final class URLCreator {
 		Optional<Id> optional = genericParent.getParentIdOptional();
 
 		return optional.map(
-			id -> UriBuilder.fromPath(
-				"{name}"
-			).path(
-				"{parentName}"
-			).path(
-				"{parentId}"
-			).build(
-				genericParent.getName(), genericParent.getParentName(),
-				id.asString()
-			)
-		).map(
-			uri -> createAbsoluteURL(applicationURL, uri.toString())
-		);
+			id -> {
+				StringBuilder stringBuilder = _startURL(applicationURL);
+
+				_appendName(stringBuilder, genericParent.getName());
+
+				stringBuilder.append('/');
+
+				_appendName(stringBuilder, genericParent.getParentName());
+
+				stringBuilder.append('/');
+
+				_appendSegment(stringBuilder, id.asString());
+
+				return stringBuilder.toString();
+			});
 	}
 
 	/**
@@ -189,16 +244,17 @@ public final class URLCreator {
 		Optional<Id> optional = item.getIdOptional();
 
 		return optional.map(
-			id -> UriBuilder.fromPath(
-				"{name}"
-			).path(
-				"{id}"
-			).build(
-				item.getName(), id.asString()
-			)
-		).map(
-			uri -> createAbsoluteURL(applicationURL, uri.toString())
-		);
+			id -> {
+				StringBuilder stringBuilder = _startURL(applicationURL);
+
+				_appendName(stringBuilder, item.getName());
+
+				stringBuilder.append('/');
+
+				_appendSegment(stringBuilder, id.asString());
+
+				return stringBuilder.toString();
+			});
 	}
 
 	/**
@@ -219,18 +275,21 @@ public final class URLCreator {
 		Optional<Id> optional = parent.getIdOptional();
 
 		return optional.map(
-			id -> UriBuilder.fromPath(
-				"{parentName}"
-			).path(
-				"{id}"
-			).path(
-				"{name}"
-			).build(
-				parent.getName(), id.asString(), nested.getName()
-			)
-		).map(
-			uri -> createAbsoluteURL(applicationURL, uri.toString())
-		);
+			id -> {
+				StringBuilder stringBuilder = _startURL(applicationURL);
+
+				_appendName(stringBuilder, parent.getName());
+
+				stringBuilder.append('/');
+
+				_appendSegment(stringBuilder, id.asString());
+
+				stringBuilder.append('/');
+
+				_appendName(stringBuilder, nested.getName());
+
+				return stringBuilder.toString();
+			});
 	}
 
 	/**
@@ -244,13 +303,11 @@ public final class URLCreator {
 	public static String createPagedResourceURL(
 		ApplicationURL applicationURL, Paged paged) {
 
-		URI uri = UriBuilder.fromPath(
-			"{name}"
-		).build(
-			paged.getName()
-		);
+		StringBuilder stringBuilder = _startURL(applicationURL);
 
-		return createAbsoluteURL(applicationURL, uri.toString());
+		_appendName(stringBuilder, paged.getName());
+
+		return stringBuilder.toString();
 	}
 
 	/**
@@ -322,20 +379,156 @@ public final class URLCreator {
 		);
 	}
 
-	private static String _buildURL(String baseUrl, String relativeURL) {
+	private static void _appendName(StringBuilder stringBuilder, String name) {
+		String encodedName = _encodedNames.get(name);
+
+		if (encodedName == null) {
+			StringBuilder nameStringBuilder = new StringBuilder(
+				name.length() + 16);
+
+			_appendSegment(nameStringBuilder, name);
+
+			encodedName = nameStringBuilder.toString();
+
+			if (_encodedNames.size() < _MAX_ENCODED_NAMES) {
+				_encodedNames.put(name, encodedName);
+			}
+		}
+
+		stringBuilder.append(encodedName);
+	}
+
+	private static void _appendPercentEncoded(
+		StringBuilder stringBuilder, int value) {
+
+		stringBuilder.append(
+			'%'
+		).append(
+			_HEX_DIGITS[(value >> 4) & 0xF]
+		).append(
+			_HEX_DIGITS[value & 0xF]
+		);
+	}
+
+	private static void _appendSegment(
+		StringBuilder stringBuilder, String value) {
+
+		int length = value.length();
+
+		int index = 0;
+
+		while ((index < length) && _isAllowed(value.charAt(index))) {
+			index++;
+		}
+
+		if (index == length) {
+			stringBuilder.append(value);
+
+			return;
+		}
+
+		stringBuilder.append(value, 0, index);
+
+		while (index < length) {
+			char c = value.charAt(index++);
+
+			if (_isAllowed(c)) {
+				stringBuilder.append(c);
+			}
+			else if (c < 0x80) {
+				_appendPercentEncoded(stringBuilder, c);
+			}
+			else if (c < 0x800) {
+				_appendPercentEncoded(stringBuilder, 0xC0 | (c >> 6));
+				_appendPercentEncoded(stringBuilder, 0x80 | (c & 0x3F));
+			}
+			else if (Character.isHighSurrogate(c) && (index < length) &&
+					 Character.isLowSurrogate(value.charAt(index))) {
+
+				int codePoint = Character.toCodePoint(
+					c, value.charAt(index++));
+
+				_appendPercentEncoded(stringBuilder, 0xF0 | (codePoint >> 18));
+				_appendPercentEncoded(
+					stringBuilder, 0x80 | ((codePoint >> 12) & 0x3F));
+				_appendPercentEncoded(
+					stringBuilder, 0x80 | ((codePoint >> 6) & 0x3F));
+				_appendPercentEncoded(stringBuilder, 0x80 | (codePoint & 0x3F));
+			}
+			else if (Character.isSurrogate(c)) {
+				_appendPercentEncoded(stringBuilder, '?');
+			}
+			else {
+				_appendPercentEncoded(stringBuilder, 0xE0 | (c >> 12));
+				_appendPercentEncoded(stringBuilder, 0x80 | ((c >> 6) & 0x3F));
+				_appendPercentEncoded(stringBuilder, 0x80 | (c & 0x3F));
+			}
+		}
+	}
+
+	private static String _buildURL(String baseURL, String relativeURL) {
 		if ((relativeURL == null) || relativeURL.isEmpty()) {
 			return null;
 		}
 
-		if (baseUrl.endsWith("/")) {
-			baseUrl = baseUrl.substring(0, baseUrl.length() - 1);
+		StringBuilder stringBuilder = _startURL(baseURL);
+
+		int start = 0;
+
+		if (relativeURL.charAt(0) == '/') {
+			start = 1;
+		}
+
+		stringBuilder.append(relativeURL, start, relativeURL.length());
+
+		return stringBuilder.toString();
+	}
+
+	private static boolean[] _createAllowedCharacters() {
+		boolean[] allowedCharacters = new boolean[128];
+
+		for (char c = 'a'; c <= 'z'; c++) {
+			allowedCharacters[c] = true;
+		}
+
+		for (char c = 'A'; c <= 'Z'; c++) {
+			allowedCharacters[c] = true;
+		}
+
+		for (char c = '0'; c <= '9'; c++) {
+			allowedCharacters[c] = true;
+		}
+
+		String symbols = "-._~!$&'()*+,=:@";
+
+		for (int i = 0; i < symbols.length(); i++) {
+			allowedCharacters[symbols.charAt(i)] = true;
 		}
 
-		if (relativeURL.startsWith("/")) {
-			relativeURL = relativeURL.substring(1);
+		return allowedCharacters;
+	}
+
+	private static StringBuilder _getStringBuilder() {
+		StringBuilder stringBuilder = _stringBuilderThreadLocal.get();
+
+		if (stringBuilder.capacity() > _MAX_STRING_BUILDER_CAPACITY) {
+			stringBuilder = new StringBuilder(_INITIAL_STRING_BUILDER_CAPACITY);
+
+			_stringBuilderThreadLocal.set(stringBuilder);
+		}
+		else {
+			stringBuilder.setLength(0);
 		}
 
-		return join("/", baseUrl, relativeURL);
+		return stringBuilder;
+	}
+
+	private static boolean _isAllowed(char c) {
+		if ((c < 128) && _allowedCharacters[c]) {
+			return true;
+		}
+
+		return false;
 	}
 
 	private static Predicate<Path> _isNotEmpty(
@@ -344,11 +537,48 @@ public final class URLCreator {
 		return function.andThen(s -> (s != null) && !s.isEmpty())::apply;
 	}
 
+	private static StringBuilder _startURL(ApplicationURL applicationURL) {
+		return _startURL(applicationURL.get());
+	}
+
+	private static StringBuilder _startURL(String baseURL) {
+		StringBuilder stringBuilder = _getStringBuilder();
+
+		int end = baseURL.length();
+
+		if ((end > 0) && (baseURL.charAt(end - 1) == '/')) {
+			end--;
+		}
+
+		stringBuilder.append(
+			baseURL, 0, end
+		).append(
+			'/'
+		);
+
+		return stringBuilder;
+	}
+
 	private URLCreator() {
 		throw new UnsupportedOperationException();
 	}
 
+	private static final char[] _HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+	private static final int _INITIAL_STRING_BUILDER_CAPACITY = 256;
+
+	private static final int _MAX_ENCODED_NAMES = 1024;
+
+	private static final int _MAX_STRING_BUILDER_CAPACITY = 8192;
+
+	private static final boolean[] _allowedCharacters =
+		_createAllowedCharacters();
+	private static final Map<String, String> _encodedNames =
+		new ConcurrentHashMap<>();
 	private static final List<String> _resourceActions = asList(
 		"create", "remove", "replace", "retrieve");
+	private static final ThreadLocal<StringBuilder> _stringBuilderThreadLocal =
+		ThreadLocal.withInitial(
+			() -> new StringBuilder(_INITIAL_STRING_BUILDER_CAPACITY));
 
 }
\ No newline at end of file
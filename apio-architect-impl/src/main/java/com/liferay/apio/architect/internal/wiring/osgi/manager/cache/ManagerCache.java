@@ -14,13 +14,17 @@
 
 package com.liferay.apio.architect.internal.wiring.osgi.manager.cache;
 
+import static java.util.stream.Collectors.partitioningBy;
+
 import static javax.ws.rs.core.Variant.VariantListBuilder.newInstance;
 
 import com.liferay.apio.architect.documentation.contributor.CustomDocumentation;
 import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.internal.action.ActionSemantics;
 import com.liferay.apio.architect.internal.annotation.representor.processor.ParsedType;
+import com.liferay.apio.architect.internal.jfr.FlightRecorderUtil;
 import com.liferay.apio.architect.internal.message.json.BatchResultMessageMapper;
+import com.liferay.apio.architect.internal.message.json.BinaryJSONFormat;
 import com.liferay.apio.architect.internal.message.json.DocumentationMessageMapper;
 import com.liferay.apio.architect.internal.message.json.EntryPointMessageMapper;
 import com.liferay.apio.architect.internal.message.json.ErrorMessageMapper;
@@ -40,6 +44,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Request;
@@ -97,13 +103,16 @@ public class ManagerCache {
 		_reusableNestedCollectionRoutes = null;
 		_rootResourceNameSdks = null;
 		_singleModelMessageMappers = null;
+
+		_generation.incrementAndGet();
 	}
 
 	public List<ActionSemantics> getActionSemantics(
 		EmptyFunction computeEmptyFunction) {
 
 		if (_actionSemantics == null) {
-			computeEmptyFunction.invoke();
+			FlightRecorderUtil.recordManagerCacheRecomputation(
+				"actionSemantics", computeEmptyFunction);
 		}
 
 		return _actionSemantics;
@@ -124,7 +133,8 @@ public class ManagerCache {
 			Request request, EmptyFunction computeEmptyFunction) {
 
 		if (_batchResultMessageMappers == null) {
-			computeEmptyFunction.invoke();
+			FlightRecorderUtil.recordManagerCacheRecomputation(
+				"batchResultMessageMappers", computeEmptyFunction);
 		}
 
 		Optional<BatchResultMessageMapper> optional = _getMessageMapperOptional(
@@ -137,7 +147,8 @@ public class ManagerCache {
 		EmptyFunction computeEmptyFunction) {
 
 		if (_collectionRoutes == null) {
-			computeEmptyFunction.invoke();
+			FlightRecorderUtil.recordManagerCacheRecomputation(
+				"collectionRoutes", computeEmptyFunction);
 		}
 
 		return _collectionRoutes;
@@ -147,7 +158,8 @@ public class ManagerCache {
 		EmptyFunction computeEmptyFunction) {
 
 		if (_customDocumentation == null) {
-			computeEmptyFunction.invoke();
+			FlightRecorderUtil.recordManagerCacheRecomputation(
+				"customDocumentation", computeEmptyFunction);
 		}
 
 		return _customDocumentation;
@@ -168,7 +180,8 @@ public class ManagerCache {
 			Request request, EmptyFunction computeEmptyFunction) {
 
 		if (_documentationMessageMappers == null) {
-			computeEmptyFunction.invoke();
+			FlightRecorderUtil.recordManagerCacheRecomputation(
+				"documentationMessageMappers", computeEmptyFunction);
 		}
 
 		Optional<DocumentationMessageMapper> optional =
@@ -191,7 +204,8 @@ public class ManagerCache {
 		Request request, EmptyFunction computeEmptyFunction) {
 
 		if (_entryPointMessageMappers == null) {
-			computeEmptyFunction.invoke();
+			FlightRecorderUtil.recordManagerCacheRecomputation(
+				"entryPointMessageMappers", computeEmptyFunction);
 		}
 
 		Optional<EntryPointMessageMapper> optional = _getMessageMapperOptional(
@@ -214,7 +228,8 @@ public class ManagerCache {
 		Request request, EmptyFunction computeEmptyFunction) {
 
 		if (_errorMessageMappers == null) {
-			computeEmptyFunction.invoke();
+			FlightRecorderUtil.recordManagerCacheRecomputation(
+				"errorMessageMappers", computeEmptyFunction);
 		}
 
 		Optional<ErrorMessageMapper> optional = _getMessageMapperOptional(
@@ -223,6 +238,17 @@ public class ManagerCache {
 		return optional.map(Unsafe::unsafeCast);
 	}
 
+	/**
+	 * Returns the generation of the cache. The generation changes every time
+	 * the cache is cleared, so it identifies a snapshot of the registered
+	 * services.
+	 *
+	 * @return the generation of the cache
+	 */
+	public long getGeneration() {
+		return _generation.get();
+	}
+
 	/**
 	 * Returns the resource name's identifier class.
 	 *
@@ -235,7 +261,8 @@ public class ManagerCache {
 		String name, EmptyFunction computeEmptyFunction) {
 
 		if (_identifierClasses == null) {
-			computeEmptyFunction.invoke();
+			FlightRecorderUtil.recordManagerCacheRecomputation(
+				"identifierClasses", computeEmptyFunction);
 		}
 
 		return Optional.ofNullable(
@@ -251,7 +278,8 @@ public class ManagerCache {
 		EmptyFunction computeEmptyFunction) {
 
 		if (_itemRoutes == null) {
-			computeEmptyFunction.invoke();
+			FlightRecorderUtil.recordManagerCacheRecomputation(
+				"itemRoutes", computeEmptyFunction);
 		}
 
 		return _itemRoutes;
@@ -270,7 +298,8 @@ public class ManagerCache {
 		String className, EmptyFunction computeEmptyFunction) {
 
 		if (_names == null) {
-			computeEmptyFunction.invoke();
+			FlightRecorderUtil.recordManagerCacheRecomputation(
+				"names", computeEmptyFunction);
 		}
 
 		Optional<Map<String, String>> optional = getNamesOptional();
@@ -295,7 +324,8 @@ public class ManagerCache {
 		EmptyFunction computeEmptyFunction) {
 
 		if (_nestedCollectionRoutes == null) {
-			computeEmptyFunction.invoke();
+			FlightRecorderUtil.recordManagerCacheRecomputation(
+				"nestedCollectionRoutes", computeEmptyFunction);
 		}
 
 		return _nestedCollectionRoutes;
@@ -315,7 +345,8 @@ public class ManagerCache {
 		Request request, EmptyFunction computeEmptyFunction) {
 
 		if (_pageMessageMappers == null) {
-			computeEmptyFunction.invoke();
+			FlightRecorderUtil.recordManagerCacheRecomputation(
+				"pageMessageMappers", computeEmptyFunction);
 		}
 
 		Optional<PageMessageMapper> optional = _getMessageMapperOptional(
@@ -336,7 +367,8 @@ public class ManagerCache {
 		EmptyFunction computeEmptyFunction) {
 
 		if (_parsedTypes == null) {
-			computeEmptyFunction.invoke();
+			FlightRecorderUtil.recordManagerCacheRecomputation(
+				"parsedTypes", computeEmptyFunction);
 		}
 
 		return _parsedTypes;
@@ -346,7 +378,8 @@ public class ManagerCache {
 		EmptyFunction computeEmptyFunction) {
 
 		if (_representors == null) {
-			computeEmptyFunction.invoke();
+			FlightRecorderUtil.recordManagerCacheRecomputation(
+				"representors", computeEmptyFunction);
 		}
 
 		return _representors;
@@ -365,7 +398,8 @@ public class ManagerCache {
 		String name, EmptyFunction computeEmptyFunction) {
 
 		if (_representors == null) {
-			computeEmptyFunction.invoke();
+			FlightRecorderUtil.recordManagerCacheRecomputation(
+				"representors", computeEmptyFunction);
 		}
 
 		return Optional.ofNullable(
@@ -381,7 +415,8 @@ public class ManagerCache {
 		EmptyFunction computeEmptyFunction) {
 
 		if (_reusableNestedCollectionRoutes == null) {
-			computeEmptyFunction.invoke();
+			FlightRecorderUtil.recordManagerCacheRecomputation(
+				"reusableNestedCollectionRoutes", computeEmptyFunction);
 		}
 
 		return _reusableNestedCollectionRoutes;
@@ -412,7 +447,8 @@ public class ManagerCache {
 			Request request, EmptyFunction computeEmptyFunction) {
 
 		if (_singleModelMessageMappers == null) {
-			computeEmptyFunction.invoke();
+			FlightRecorderUtil.recordManagerCacheRecomputation(
+				"singleModelMessageMappers", computeEmptyFunction);
 		}
 
 		Optional<SingleModelMessageMapper> optional = _getMessageMapperOptional(
@@ -710,15 +746,34 @@ public class ManagerCache {
 		List<MediaType> list = Arrays.asList(mediaTypes);
 
 		if (list.contains(_MEDIA_TYPE)) {
-			return variantListBuilder.mediaTypes(
+			variantListBuilder.mediaTypes(
 				_MEDIA_TYPE
-			).add(
-			).mediaTypes(
-				mediaTypes
-			);
+			).add();
+		}
+
+		Stream<MediaType> stream = list.stream();
+
+		Map<Boolean, List<MediaType>> map = stream.collect(
+			partitioningBy(
+				mediaType -> BinaryJSONFormat.isBinaryMediaType(
+					mediaType.toString())));
+
+		List<MediaType> binaryMediaTypes = map.get(true);
+
+		if (binaryMediaTypes.isEmpty()) {
+			return variantListBuilder.mediaTypes(mediaTypes);
+		}
+
+		List<MediaType> textMediaTypes = map.get(false);
+
+		if (!textMediaTypes.isEmpty()) {
+			variantListBuilder.mediaTypes(
+				textMediaTypes.toArray(new MediaType[0])
+			).add();
 		}
 
-		return variantListBuilder.mediaTypes(mediaTypes);
+		return variantListBuilder.mediaTypes(
+			binaryMediaTypes.toArray(new MediaType[0]));
 	}
 
 	private static final MediaType _MEDIA_TYPE = new MediaType(
@@ -732,6 +787,7 @@ public class ManagerCache {
 		_documentationMessageMappers;
 	private Map<MediaType, EntryPointMessageMapper> _entryPointMessageMappers;
 	private Map<MediaType, ErrorMessageMapper> _errorMessageMappers;
+	private final AtomicLong _generation = new AtomicLong();
 	private Map<String, Class<Identifier>> _identifierClasses;
 	private Map<String, ItemRoutes> _itemRoutes;
 	private Map<String, String> _names;
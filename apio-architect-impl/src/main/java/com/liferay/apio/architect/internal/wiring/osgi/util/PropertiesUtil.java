@@ -0,0 +1,188 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.wiring.osgi.util;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Provides methods for reading typed values from the properties of an OSGi
+ * component. Values can be provided either by the component declaration, in
+ * which case they are strings, or by the configuration admin, in which case
+ * they can already have the right type.
+ *
+ * <p>
+ * This class should not be instantiated.
+ * </p>
+ *
+ * @author agent
+ * @review
+ */
+public final class PropertiesUtil {
+
+	/**
+	 * Returns the boolean value of a property, or the default value if the
+	 * property is missing.
+	 *
+	 * @review
+	 */
+	public static boolean getBoolean(
+		Map<String, Object> properties, String key, boolean defaultValue) {
+
+		return _getString(
+			properties, key
+		).map(
+			Boolean::parseBoolean
+		).orElse(
+			defaultValue
+		);
+	}
+
+	/**
+	 * Returns the double value of a property, or the default value if the
+	 * property is missing or isn't a valid number.
+	 *
+	 * @review
+	 */
+	public static double getDouble(
+		Map<String, Object> properties, String key, double defaultValue) {
+
+		try {
+			return _getString(
+				properties, key
+			).map(
+				Double::parseDouble
+			).orElse(
+				defaultValue
+			);
+		}
+		catch (NumberFormatException nfe) {
+			return defaultValue;
+		}
+	}
+
+	/**
+	 * Returns the integer value of a property, or the default value if the
+	 * property is missing or isn't a valid number.
+	 *
+	 * @review
+	 */
+	public static int getInteger(
+		Map<String, Object> properties, String key, int defaultValue) {
+
+		try {
+			return _getString(
+				properties, key
+			).map(
+				Integer::parseInt
+			).orElse(
+				defaultValue
+			);
+		}
+		catch (NumberFormatException nfe) {
+			return defaultValue;
+		}
+	}
+
+	/**
+	 * Returns the long value of a property, or the default value if the
+	 * property is missing or isn't a valid number.
+	 *
+	 * @review
+	 */
+	public static long getLong(
+		Map<String, Object> properties, String key, long defaultValue) {
+
+		try {
+			return _getString(
+				properties, key
+			).map(
+				Long::parseLong
+			).orElse(
+				defaultValue
+			);
+		}
+		catch (NumberFormatException nfe) {
+			return defaultValue;
+		}
+	}
+
+	/**
+	 * Returns the string value of a property, or the default value if the
+	 * property is missing.
+	 *
+	 * @review
+	 */
+	public static String getString(
+		Map<String, Object> properties, String key, String defaultValue) {
+
+		return _getString(
+			properties, key
+		).orElse(
+			defaultValue
+		);
+	}
+
+	/**
+	 * Returns the values of a comma-separated property, or an empty array if
+	 * the property is missing.
+	 *
+	 * @review
+	 */
+	public static String[] getStringArray(
+		Map<String, Object> properties, String key) {
+
+		if (properties == null) {
+			return new String[0];
+		}
+
+		Object value = properties.get(key);
+
+		if (value instanceof String[]) {
+			return (String[])value;
+		}
+
+		return _getString(
+			properties, key
+		).map(
+			string -> string.split("\\s*,\\s*")
+		).orElseGet(
+			() -> new String[0]
+		);
+	}
+
+	private static Optional<String> _getString(
+		Map<String, Object> properties, String key) {
+
+		if (properties == null) {
+			return Optional.empty();
+		}
+
+		return Optional.ofNullable(
+			properties.get(key)
+		).map(
+			String::valueOf
+		).map(
+			String::trim
+		).filter(
+			string -> !string.isEmpty()
+		);
+	}
+
+	private PropertiesUtil() {
+		throw new UnsupportedOperationException();
+	}
+
+}
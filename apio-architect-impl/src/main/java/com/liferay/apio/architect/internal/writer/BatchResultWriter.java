@@ -19,6 +19,7 @@ import static com.liferay.apio.architect.internal.url.URLCreator.createItemResou
 import com.liferay.apio.architect.batch.BatchResult;
 import com.liferay.apio.architect.internal.alias.PathFunction;
 import com.liferay.apio.architect.internal.message.json.BatchResultMessageMapper;
+import com.liferay.apio.architect.internal.message.json.BinaryJSONFormat;
 import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.internal.request.RequestInfo;
 import com.liferay.apio.architect.internal.url.ApplicationURL;
@@ -49,52 +50,27 @@ public class BatchResultWriter<T> {
 	 *         otherwise
 	 */
 	public Optional<String> write() {
-		Optional<Representor<Object>> optional = _representorFunction.apply(
-			_batchResult.resourceName);
-
-		if (!optional.isPresent()) {
-			return Optional.empty();
-		}
-
-		Representor<Object> representor = optional.get();
-
-		Collection<T> identifiers = _batchResult.getIdentifiers();
-
-		_batchResultMessageMapper.mapItemTotalCount(
-			_jsonObjectBuilder, identifiers.size());
-
-		ApplicationURL applicationURL = _requestInfo.getApplicationURL();
-
-		List<String> types = representor.getTypes();
-
-		for (T identifier : identifiers) {
-			JSONObjectBuilder itemJsonObjectBuilder = new JSONObjectBuilder();
+		Optional<JSONObjectBuilder> optional = _writeBatchResult();
 
-			_pathFunction.apply(
-				_batchResult.resourceName, identifier
-			).map(
-				path -> Item.of(path.getName(), Id.of("", path.getId()))
-			).ifPresent(
-				item -> {
-					Optional<String> optionalURL = createItemResourceURL(
-						applicationURL, item);
-
-					optionalURL.ifPresent(
-						url -> _batchResultMessageMapper.mapItemSelfURL(
-							_jsonObjectBuilder, itemJsonObjectBuilder, url));
-
-					_batchResultMessageMapper.mapItemTypes(
-						_jsonObjectBuilder, itemJsonObjectBuilder, types);
-
-					_batchResultMessageMapper.onFinishItem(
-						_jsonObjectBuilder, itemJsonObjectBuilder);
-				}
-			);
-		}
+		return optional.map(JSONObjectBuilder::build);
+	}
 
-		_batchResultMessageMapper.onFinish(_jsonObjectBuilder, _batchResult);
+	/**
+	 * Writes the handled batch result, encoded with the binary encoding. If no
+	 * {@code Representor} exists for the resource, this method returns {@code
+	 * Optional#empty()}.
+	 *
+	 * @param  binaryJSONFormat the binary encoding
+	 * @return the batch result's encoded representation, if the {@code
+	 *         Representor} exists for the resource; returns {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<byte[]> write(BinaryJSONFormat binaryJSONFormat) {
+		Optional<JSONObjectBuilder> optional = _writeBatchResult();
 
-		return Optional.of(_jsonObjectBuilder.build());
+		return optional.map(
+			jsonObjectBuilder -> jsonObjectBuilder.build(binaryJSONFormat));
 	}
 
 	/**
@@ -207,6 +183,55 @@ public class BatchResultWriter<T> {
 		_jsonObjectBuilder = new JSONObjectBuilder();
 	}
 
+	private Optional<JSONObjectBuilder> _writeBatchResult() {
+		Optional<Representor<Object>> optional = _representorFunction.apply(
+			_batchResult.resourceName);
+
+		if (!optional.isPresent()) {
+			return Optional.empty();
+		}
+
+		Representor<Object> representor = optional.get();
+
+		Collection<T> identifiers = _batchResult.getIdentifiers();
+
+		_batchResultMessageMapper.mapItemTotalCount(
+			_jsonObjectBuilder, identifiers.size());
+
+		ApplicationURL applicationURL = _requestInfo.getApplicationURL();
+
+		List<String> types = representor.getTypes();
+
+		for (T identifier : identifiers) {
+			JSONObjectBuilder itemJsonObjectBuilder = new JSONObjectBuilder();
+
+			_pathFunction.apply(
+				_batchResult.resourceName, identifier
+			).map(
+				path -> Item.of(path.getName(), Id.of("", path.getId()))
+			).ifPresent(
+				item -> {
+					Optional<String> optionalURL = createItemResourceURL(
+						applicationURL, item);
+
+					optionalURL.ifPresent(
+						url -> _batchResultMessageMapper.mapItemSelfURL(
+							_jsonObjectBuilder, itemJsonObjectBuilder, url));
+
+					_batchResultMessageMapper.mapItemTypes(
+						_jsonObjectBuilder, itemJsonObjectBuilder, types);
+
+					_batchResultMessageMapper.onFinishItem(
+						_jsonObjectBuilder, itemJsonObjectBuilder);
+				}
+			);
+		}
+
+		_batchResultMessageMapper.onFinish(_jsonObjectBuilder, _batchResult);
+
+		return Optional.of(_jsonObjectBuilder);
+	}
+
 	private final BatchResult<T> _batchResult;
 	private final BatchResultMessageMapper<T> _batchResultMessageMapper;
 	private final JSONObjectBuilder _jsonObjectBuilder;
@@ -235,14 +235,22 @@ public class DocumentationWriter {
 				representor.getApplicationRelativeURLFunctions(), STRING),
 			_getDocumentationFieldStream(
 				representor.getBinaryFunctions(), FILE),
+			_getDocumentationFieldStream(
+				representor.getBooleanArrayFunctions(), BOOLEAN_LIST),
 			_getDocumentationFieldStream(
 				representor.getBooleanFunctions(), BOOLEAN),
 			_getDocumentationFieldStream(
 				representor.getBooleanListFunctions(), BOOLEAN_LIST),
+			_getDocumentationFieldStream(
+				representor.getDoubleArrayFunctions(), NUMBER_LIST),
+			_getDocumentationFieldStream(
+				representor.getIntArrayFunctions(), NUMBER_LIST),
 			_getDocumentationFieldStream(
 				representor.getLinkFunctions(), STRING),
 			_getDocumentationFieldStream(
 				representor.getLocalizedStringFunctions(), STRING),
+			_getDocumentationFieldStream(
+				representor.getLongArrayFunctions(), NUMBER_LIST),
 			_getDocumentationFieldStream(
 				representor.getNestedFieldFunctions(), NESTED_MODEL),
 			_getDocumentationFieldStream(
@@ -15,6 +15,7 @@
 package com.liferay.apio.architect.internal.writer;
 
 import com.liferay.apio.architect.error.APIError;
+import com.liferay.apio.architect.internal.message.json.BinaryJSONFormat;
 import com.liferay.apio.architect.internal.message.json.ErrorMessageMapper;
 import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 
@@ -41,6 +42,35 @@ public final class ErrorWriter {
 	public static String writeError(
 		ErrorMessageMapper errorMessageMapper, APIError apiError) {
 
+		JSONObjectBuilder jsonObjectBuilder = _writeError(
+			errorMessageMapper, apiError);
+
+		return jsonObjectBuilder.build();
+	}
+
+	/**
+	 * Writes an {@link APIError} to a JSON object, encoded with the binary
+	 * encoding.
+	 *
+	 * @param  errorMessageMapper the {@link ErrorMessageMapper}
+	 * @param  apiError the API error
+	 * @param  binaryJSONFormat the binary encoding
+	 * @return the API error, as an encoded JSON object
+	 * @review
+	 */
+	public static byte[] writeError(
+		ErrorMessageMapper errorMessageMapper, APIError apiError,
+		BinaryJSONFormat binaryJSONFormat) {
+
+		JSONObjectBuilder jsonObjectBuilder = _writeError(
+			errorMessageMapper, apiError);
+
+		return jsonObjectBuilder.build(binaryJSONFormat);
+	}
+
+	private static JSONObjectBuilder _writeError(
+		ErrorMessageMapper errorMessageMapper, APIError apiError) {
+
 		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilder();
 
 		Optional<String> optional = apiError.getDescription();
@@ -55,7 +85,7 @@ public final class ErrorWriter {
 		errorMessageMapper.mapType(jsonObjectBuilder, apiError.getType());
 		errorMessageMapper.onFinish(jsonObjectBuilder, apiError);
 
-		return jsonObjectBuilder.build();
+		return jsonObjectBuilder;
 	}
 
 	private ErrorWriter() {
@@ -17,6 +17,7 @@ package com.liferay.apio.architect.internal.writer;
 import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
 import static com.liferay.apio.architect.internal.url.URLCreator.createAbsoluteURL;
 import static com.liferay.apio.architect.internal.url.URLCreator.createBinaryURL;
+import static com.liferay.apio.architect.internal.url.URLCreator.createContextURL;
 import static com.liferay.apio.architect.internal.url.URLCreator.createGenericParentResourceURL;
 import static com.liferay.apio.architect.internal.url.URLCreator.createItemResourceURL;
 import static com.liferay.apio.architect.internal.url.URLCreator.createNestedResourceURL;
@@ -176,6 +177,21 @@ public class FieldsWriter<T> {
 				key, urlFunction.apply(key)));
 	}
 
+	/**
+	 * Writes the model's boolean array fields. This method uses a {@code
+	 * BiConsumer} so each {@code javax.ws.rs.ext.MessageBodyWriter} can write
+	 * each field differently.
+	 *
+	 * @param biConsumer the {@code BiConsumer} called to write each field
+	 * @review
+	 */
+	public void writeBooleanArrayFields(
+		BiConsumer<String, boolean[]> biConsumer) {
+
+		writeFields(
+			BaseRepresentor::getBooleanArrayFunctions, writeField(biConsumer));
+	}
+
 	/**
 	 * Writes the model's boolean fields. This method uses a {@code BiConsumer}
 	 * so each {@code javax.ws.rs.ext.MessageBodyWriter} can write each field
@@ -202,6 +218,36 @@ public class FieldsWriter<T> {
 			BaseRepresentor::getBooleanListFunctions, writeField(biConsumer));
 	}
 
+	/**
+	 * Writes the URL of the shared context of the model's resource. This
+	 * method uses a consumer so each {@code javax.ws.rs.ext.MessageBodyWriter}
+	 * can decide whether to reference the context or not.
+	 *
+	 * @param urlConsumer the consumer that writes the URL
+	 * @review
+	 */
+	public void writeContextURL(Consumer<String> urlConsumer) {
+		urlConsumer.accept(
+			createContextURL(
+				_requestInfo.getApplicationURL(),
+				_singleModel.getResourceName()));
+	}
+
+	/**
+	 * Writes the model's double array fields. This method uses a {@code
+	 * BiConsumer} so each {@code javax.ws.rs.ext.MessageBodyWriter} can write
+	 * each field differently.
+	 *
+	 * @param biConsumer the {@code BiConsumer} called to write each field
+	 * @review
+	 */
+	public void writeDoubleArrayFields(
+		BiConsumer<String, double[]> biConsumer) {
+
+		writeFields(
+			BaseRepresentor::getDoubleArrayFunctions, writeField(biConsumer));
+	}
+
 	/**
 	 * Returns a consumer for entries of a {@code Map<String, Function<T, S>}.
 	 * The consumer uses a value function to get the final value, then uses the
@@ -283,6 +329,19 @@ public class FieldsWriter<T> {
 		);
 	}
 
+	/**
+	 * Writes the model's int array fields. This method uses a {@code
+	 * BiConsumer} so each {@code javax.ws.rs.ext.MessageBodyWriter} can write
+	 * each field differently.
+	 *
+	 * @param biConsumer the {@code BiConsumer} called to write each field
+	 * @review
+	 */
+	public void writeIntArrayFields(BiConsumer<String, int[]> biConsumer) {
+		writeFields(
+			BaseRepresentor::getIntArrayFunctions, writeField(biConsumer));
+	}
+
 	/**
 	 * Writes the model's links. This method uses a {@code BiConsumer} so each
 	 * {@code javax.ws.rs.ext.MessageBodyWriter} can write each link
@@ -296,6 +355,19 @@ public class FieldsWriter<T> {
 			writeField(Function.identity(), biConsumer));
 	}
 
+	/**
+	 * Writes the model's long array fields. This method uses a {@code
+	 * BiConsumer} so each {@code javax.ws.rs.ext.MessageBodyWriter} can write
+	 * each field differently.
+	 *
+	 * @param biConsumer the {@code BiConsumer} called to write each field
+	 * @review
+	 */
+	public void writeLongArrayFields(BiConsumer<String, long[]> biConsumer) {
+		writeFields(
+			BaseRepresentor::getLongArrayFunctions, writeField(biConsumer));
+	}
+
 	/**
 	 * Writes a model's localized string fields. This method uses a {@code
 	 * BiConsumer} so each {@code javax.ws.rs.ext.MessageBodyWriter} can write
@@ -313,10 +385,21 @@ public class FieldsWriter<T> {
 				biConsumer));
 	}
 
+	/**
+	 * Writes a model's nested list fields. The stream with the models of each
+	 * field is closed as soon as the {@code BiConsumer} returns, so it must be
+	 * consumed inside it.
+	 *
+	 * @param baseRepresentorFunction the function that gets the model's
+	 *        representor
+	 * @param singleModel the single model
+	 * @param biConsumer the {@code BiConsumer} called to write each field
+	 * @review
+	 */
 	public <S> void writeNestedLists(
 		BaseRepresentorFunction baseRepresentorFunction,
 		SingleModel<S> singleModel,
-		BiConsumer<NestedListFieldFunction, List<?>> biConsumer) {
+		BiConsumer<NestedListFieldFunction, Stream<?>> biConsumer) {
 
 		baseRepresentorFunction.apply(
 			singleModel.getResourceName()
@@ -338,14 +421,15 @@ public class FieldsWriter<T> {
 					return;
 				}
 
-				List<?> list = nestedListFieldFunction.apply(
-					singleModel.getModel());
+				try (Stream<?> stream = nestedListFieldFunction.stream(
+						singleModel.getModel())) {
 
-				if (list == null) {
-					return;
-				}
+					if (stream == null) {
+						return;
+					}
 
-				biConsumer.accept(nestedListFieldFunction, list);
+					biConsumer.accept(nestedListFieldFunction, stream);
+				}
 			}
 		);
 	}
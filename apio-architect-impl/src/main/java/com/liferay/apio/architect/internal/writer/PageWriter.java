@@ -15,6 +15,7 @@
 package com.liferay.apio.architect.internal.writer;
 
 import static com.liferay.apio.architect.internal.url.URLCreator.createCollectionPageURL;
+import static com.liferay.apio.architect.internal.url.URLCreator.createContextURL;
 import static com.liferay.apio.architect.internal.url.URLCreator.createResourceURL;
 import static com.liferay.apio.architect.internal.writer.util.WriterUtil.getFieldsWriter;
 import static com.liferay.apio.architect.internal.writer.util.WriterUtil.getPathOptional;
@@ -27,21 +28,33 @@ import com.liferay.apio.architect.internal.alias.RepresentorFunction;
 import com.liferay.apio.architect.internal.alias.ResourceNameFunction;
 import com.liferay.apio.architect.internal.alias.SingleModelFunction;
 import com.liferay.apio.architect.internal.list.FunctionalList;
+import com.liferay.apio.architect.internal.message.json.BinaryJSONFormat;
 import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.internal.message.json.PageMessageMapper;
 import com.liferay.apio.architect.internal.pagination.PageType;
 import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.response.control.Embedded;
 import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
 import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.representor.BaseRepresentor;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.resource.Resource;
 import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.uri.Path;
 
-import java.util.Collection;
-import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.stream.Stream;
 
 /**
  * Writes a page.
@@ -74,6 +87,17 @@ public class PageWriter<T> {
 		_resourceNameFunction = builder._resourceNameFunction;
 		_singleModelFunction = builder._singleModelFunction;
 
+		Embedded embedded = _requestInfo.getEmbedded();
+
+		if (embedded.isShared() && !_pageMessageMapper.isItemDelimited() &&
+			_pageMessageMapper.canShareEmbeddedModels()) {
+
+			_sharedEmbeddedModelURIs = new HashSet<>();
+		}
+		else {
+			_sharedEmbeddedModelURIs = null;
+		}
+
 		_jsonObjectBuilder = new JSONObjectBuilder();
 	}
 
@@ -84,50 +108,86 @@ public class PageWriter<T> {
 	 * Representor} or {@code Path} exist for the model, this method returns
 	 * {@code Optional#empty()}.
 	 *
+	 * <p>
+	 * If the {@link PageMessageMapper} delimits the page's items (see {@link
+	 * PageMessageMapper#isItemDelimited()}), each item is written in its own
+	 * line, without a page envelope.
+	 * </p>
+	 *
+	 * <p>
+	 * If the client asked for shared embedded resources (see {@link
+	 * Embedded#isShared()}) and the {@code PageMessageMapper} supports them
+	 * (see {@link PageMessageMapper#canShareEmbeddedModels()}), each distinct
+	 * embedded resource is written only once per page, and items reference it
+	 * by URL.
+	 * </p>
+	 *
 	 * @return the representation of the {@code Page}, if the {@code
 	 *         Representor} and {@code Path} exist for the model; returns {@code
 	 *         Optional#empty()} otherwise
 	 */
 	public String write() {
-		_pageMessageMapper.mapItemTotalCount(
-			_jsonObjectBuilder, _page.getTotalCount());
+		if (_pageMessageMapper.isItemDelimited()) {
+			StringBuilder sb = new StringBuilder();
 
-		Collection<T> items = _page.getItems();
-
-		_pageMessageMapper.mapPageCount(_jsonObjectBuilder, items.size());
-
-		_writePageURLs();
+			_writeItems(
+				(itemJSONObjectBuilder, index) -> {
+					if (index > 0) {
+						sb.append('\n');
+					}
 
-		Optional<String> optionalURL = createResourceURL(
-			_requestInfo.getApplicationURL(), _page.getResource());
+					sb.append(itemJSONObjectBuilder.buildLine());
+				});
 
-		optionalURL.ifPresent(
-			url -> _pageMessageMapper.mapCollectionURL(
-				_jsonObjectBuilder, url));
+			return sb.toString();
+		}
 
-		String resourceName = _page.getResourceName();
+		_writePage();
 
-		items.forEach(
-			model -> _writeItem(new SingleModelImpl<>(model, resourceName)));
+		return _jsonObjectBuilder.build();
+	}
 
-		ActionWriter actionWriter = new ActionWriter(
-			_pageMessageMapper, _requestInfo, _jsonObjectBuilder);
+	/**
+	 * Writes the handled {@link Page} to the output stream, without creating
+	 * an intermediate string. The page's items are pulled one at a time, so
+	 * lazy items (see {@link Page#isLazy()}) are never collected into a list.
+	 *
+	 * <p>
+	 * Only if the {@link PageMessageMapper} delimits the page's items (see
+	 * {@link PageMessageMapper#isItemDelimited()}) is each item written to the
+	 * output stream as soon as it's mapped, so only one item is kept in memory
+	 * at a time. Otherwise, the whole page, including its envelope, is built
+	 * in memory before being written.
+	 * </p>
+	 *
+	 * <p>
+	 * If the {@link PageMessageMapper} has a binary encoding (see {@link
+	 * PageMessageMapper#getBinaryJSONFormatOptional()}), the page is written
+	 * with that encoding.
+	 * </p>
+	 *
+	 * @param  outputStream the output stream
+	 * @throws IOException if the page couldn't be written to the output stream
+	 * @review
+	 */
+	public void write(OutputStream outputStream) throws IOException {
+		if (_pageMessageMapper.isItemDelimited()) {
+			_writeDelimitedItems(outputStream);
 
-		_actionSemanticsFunction.apply(
-			_page.getResource()
-		).forEach(
-			actionWriter::write
-		);
+			return;
+		}
 
-		_representorFunction.apply(
-			resourceName
-		).ifPresent(
-			_mapPageSemantics(_jsonObjectBuilder)
-		);
+		_writePage();
 
-		_pageMessageMapper.onFinish(_jsonObjectBuilder, _page);
+		Optional<BinaryJSONFormat> optional =
+			_pageMessageMapper.getBinaryJSONFormatOptional();
 
-		return _jsonObjectBuilder.build();
+		if (optional.isPresent()) {
+			_jsonObjectBuilder.writeTo(outputStream, optional.get());
+		}
+		else {
+			_jsonObjectBuilder.writeTo(outputStream);
+		}
 	}
 
 	/**
@@ -315,6 +375,44 @@ public class PageWriter<T> {
 
 	}
 
+	private static FunctionalList<String> _relativize(
+		FunctionalList<String> embeddedPathElements) {
+
+		String last = embeddedPathElements.lastOptional(
+		).orElseGet(
+			embeddedPathElements::head
+		);
+
+		return new FunctionalList<>(null, last);
+	}
+
+	private BiConsumer<SingleModel<?>, FunctionalList<String>>
+		_getEmbeddedModelBiConsumer(
+			BiConsumer<SingleModel<?>, FunctionalList<String>> biConsumer) {
+
+		if (_sharedEmbeddedModelURIs == null) {
+			return biConsumer;
+		}
+
+		return this::_writeSharedEmbeddedModel;
+	}
+
+	private BiConsumer<String, FunctionalList<String>>
+		_getEmbeddedURLBiConsumer(JSONObjectBuilder itemJsonObjectBuilder) {
+
+		if (_sharedEmbeddedModelURIs == null) {
+			return (resourceURL, embeddedPathElements) ->
+				_pageMessageMapper.mapItemEmbeddedResourceURL(
+					_jsonObjectBuilder, itemJsonObjectBuilder,
+					embeddedPathElements, resourceURL);
+		}
+
+		return (resourceURL, embeddedPathElements) ->
+			_pageMessageMapper.mapItemLinkedResourceURL(
+				_jsonObjectBuilder, itemJsonObjectBuilder, embeddedPathElements,
+				resourceURL);
+	}
+
 	private Consumer<BaseRepresentor> _mapPageSemantics(
 		JSONObjectBuilder jsonObjectBuilder) {
 
@@ -352,6 +450,22 @@ public class PageWriter<T> {
 			(field, value) -> _pageMessageMapper.mapItemNumberListField(
 				_jsonObjectBuilder, jsonObjectBuilder, field, value));
 
+		fieldsWriter.writeBooleanArrayFields(
+			(field, value) -> _pageMessageMapper.mapItemBooleanArrayField(
+				_jsonObjectBuilder, jsonObjectBuilder, field, value));
+
+		fieldsWriter.writeDoubleArrayFields(
+			(field, value) -> _pageMessageMapper.mapItemDoubleArrayField(
+				_jsonObjectBuilder, jsonObjectBuilder, field, value));
+
+		fieldsWriter.writeIntArrayFields(
+			(field, value) -> _pageMessageMapper.mapItemIntArrayField(
+				_jsonObjectBuilder, jsonObjectBuilder, field, value));
+
+		fieldsWriter.writeLongArrayFields(
+			(field, value) -> _pageMessageMapper.mapItemLongArrayField(
+				_jsonObjectBuilder, jsonObjectBuilder, field, value));
+
 		fieldsWriter.writeRelativeURLFields(
 			(field, value) -> _pageMessageMapper.mapItemStringField(
 				_jsonObjectBuilder, jsonObjectBuilder, field, value));
@@ -377,6 +491,29 @@ public class PageWriter<T> {
 				_jsonObjectBuilder, jsonObjectBuilder, field, value));
 	}
 
+	private void _writeDelimitedItems(OutputStream outputStream)
+		throws IOException {
+
+		try {
+			_writeItems(
+				(itemJSONObjectBuilder, index) -> {
+					try {
+						if (index > 0) {
+							outputStream.write('\n');
+						}
+
+						itemJSONObjectBuilder.writeLineTo(outputStream);
+					}
+					catch (IOException ioe) {
+						throw new UncheckedIOException(ioe);
+					}
+				});
+		}
+		catch (UncheckedIOException uioe) {
+			throw uioe.getCause();
+		}
+	}
+
 	private <U> void _writeItem(
 		JSONObjectBuilder collectionJSONObjectBuilder,
 		SingleModel<U> singleModel, FunctionalList<String> embeddedPathElements,
@@ -414,19 +551,17 @@ public class PageWriter<T> {
 			relatedModelFieldsWriter -> {
 				relatedModelFieldsWriter.writeRelatedModels(
 					_pathFunction,
-					(embeddedSingleModel, embeddedPathElements1) ->
-						_writeItemEmbeddedModelFields(
-							embeddedSingleModel, embeddedPathElements1,
-							itemJsonObjectBuilder, baseRepresentorFunction,
-							singleModel),
+					_getEmbeddedModelBiConsumer(
+						(embeddedSingleModel, embeddedPathElements1) ->
+							_writeItemEmbeddedModelFields(
+								embeddedSingleModel, embeddedPathElements1,
+								itemJsonObjectBuilder, baseRepresentorFunction,
+								singleModel)),
 					(resourceURL, embeddedPathElements1) ->
 						_pageMessageMapper.mapItemLinkedResourceURL(
 							_jsonObjectBuilder, itemJsonObjectBuilder,
 							embeddedPathElements1, resourceURL),
-					(resourceURL, embeddedPathElements1) ->
-						_pageMessageMapper.mapItemEmbeddedResourceURL(
-							_jsonObjectBuilder, itemJsonObjectBuilder,
-							embeddedPathElements1, resourceURL));
+					_getEmbeddedURLBiConsumer(itemJsonObjectBuilder));
 
 				relatedModelFieldsWriter.writeRelatedCollections(
 					_pathFunction, _resourceNameFunction,
@@ -445,20 +580,22 @@ public class PageWriter<T> {
 
 		fieldsWriter.writeNestedLists(
 			baseRepresentorFunction, singleModel,
-			(nestedListFieldFunction, list) -> _writeNestedLists(
-				nestedListFieldFunction, list, itemJsonObjectBuilder,
+			(nestedListFieldFunction, stream) -> _writeNestedLists(
+				nestedListFieldFunction, stream, itemJsonObjectBuilder,
 				rootSingleModel, null));
 
 		_pageMessageMapper.onFinishNestedCollectionItem(
 			collectionJSONObjectBuilder, itemJsonObjectBuilder, singleModel);
 	}
 
-	private void _writeItem(SingleModel<T> singleModel) {
+	private Optional<JSONObjectBuilder> _writeItem(
+		SingleModel<T> singleModel) {
+
 		Optional<Path> pathOptional = getPathOptional(
 			singleModel, _pathFunction, _representorFunction::apply);
 
 		if (!pathOptional.isPresent()) {
-			return;
+			return Optional.empty();
 		}
 
 		Optional<FieldsWriter<T>> optional = getFieldsWriter(
@@ -466,7 +603,7 @@ public class PageWriter<T> {
 			_singleModelFunction, pathOptional.get());
 
 		if (!optional.isPresent()) {
-			return;
+			return Optional.empty();
 		}
 
 		FieldsWriter<T> fieldsWriter = optional.get();
@@ -481,18 +618,16 @@ public class PageWriter<T> {
 
 		fieldsWriter.writeRelatedModels(
 			_pathFunction,
-			(embeddedSingleModel, embeddedPathElements1) ->
-				_writeItemEmbeddedModelFields(
-					embeddedSingleModel, embeddedPathElements1,
-					itemJsonObjectBuilder),
+			_getEmbeddedModelBiConsumer(
+				(embeddedSingleModel, embeddedPathElements1) ->
+					_writeItemEmbeddedModelFields(
+						embeddedSingleModel, embeddedPathElements1,
+						itemJsonObjectBuilder)),
 			(resourceURL, embeddedPathElements) ->
 				_pageMessageMapper.mapItemLinkedResourceURL(
 					_jsonObjectBuilder, itemJsonObjectBuilder,
 					embeddedPathElements, resourceURL),
-			(resourceURL, embeddedPathElements) ->
-				_pageMessageMapper.mapItemEmbeddedResourceURL(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
-					embeddedPathElements, resourceURL));
+			_getEmbeddedURLBiConsumer(itemJsonObjectBuilder));
 
 		fieldsWriter.writeRelatedCollections(
 			_pathFunction, _resourceNameFunction,
@@ -510,12 +645,14 @@ public class PageWriter<T> {
 
 		fieldsWriter.writeNestedLists(
 			_representorFunction::apply, singleModel,
-			(nestedListFieldFunction, list) -> _writeNestedLists(
-				nestedListFieldFunction, list, itemJsonObjectBuilder,
+			(nestedListFieldFunction, stream) -> _writeNestedLists(
+				nestedListFieldFunction, stream, itemJsonObjectBuilder,
 				singleModel, null));
 
 		_pageMessageMapper.onFinishItem(
 			_jsonObjectBuilder, itemJsonObjectBuilder, singleModel);
+
+		return Optional.of(itemJsonObjectBuilder);
 	}
 
 	private <S> void _writeItemEmbeddedModelFields(
@@ -587,6 +724,30 @@ public class PageWriter<T> {
 					_jsonObjectBuilder, itemJsonObjectBuilder,
 					embeddedPathElements, field, value));
 
+		fieldsWriter.writeBooleanArrayFields(
+			(field, value) ->
+				_pageMessageMapper.mapItemEmbeddedResourceBooleanArrayField(
+					_jsonObjectBuilder, itemJsonObjectBuilder,
+					embeddedPathElements, field, value));
+
+		fieldsWriter.writeDoubleArrayFields(
+			(field, value) ->
+				_pageMessageMapper.mapItemEmbeddedResourceDoubleArrayField(
+					_jsonObjectBuilder, itemJsonObjectBuilder,
+					embeddedPathElements, field, value));
+
+		fieldsWriter.writeIntArrayFields(
+			(field, value) ->
+				_pageMessageMapper.mapItemEmbeddedResourceIntArrayField(
+					_jsonObjectBuilder, itemJsonObjectBuilder,
+					embeddedPathElements, field, value));
+
+		fieldsWriter.writeLongArrayFields(
+			(field, value) ->
+				_pageMessageMapper.mapItemEmbeddedResourceLongArrayField(
+					_jsonObjectBuilder, itemJsonObjectBuilder,
+					embeddedPathElements, field, value));
+
 		fieldsWriter.writeRelativeURLFields(
 			(field, value) ->
 				_pageMessageMapper.mapItemEmbeddedResourceStringField(
@@ -628,18 +789,16 @@ public class PageWriter<T> {
 
 		fieldsWriter.writeRelatedModels(
 			_pathFunction,
-			(embeddedSingleModel, embeddedModelEmbeddedPathElements) ->
-				_writeItemEmbeddedModelFields(
-					embeddedSingleModel, embeddedModelEmbeddedPathElements,
-					itemJsonObjectBuilder),
+			_getEmbeddedModelBiConsumer(
+				(embeddedSingleModel, embeddedModelEmbeddedPathElements) ->
+					_writeItemEmbeddedModelFields(
+						embeddedSingleModel, embeddedModelEmbeddedPathElements,
+						itemJsonObjectBuilder)),
 			(resourceURL, resourceEmbeddedPathElements) ->
 				_pageMessageMapper.mapItemLinkedResourceURL(
 					_jsonObjectBuilder, itemJsonObjectBuilder,
 					resourceEmbeddedPathElements, resourceURL),
-			(resourceURL, resourceEmbeddedPathElements) ->
-				_pageMessageMapper.mapItemEmbeddedResourceURL(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
-					resourceEmbeddedPathElements, resourceURL));
+			_getEmbeddedURLBiConsumer(itemJsonObjectBuilder));
 
 		fieldsWriter.writeRelatedCollections(
 			_pathFunction, _resourceNameFunction,
@@ -657,13 +816,39 @@ public class PageWriter<T> {
 
 		fieldsWriter.writeNestedLists(
 			baseRepresentorFunction, singleModel,
-			(nestedListFieldFunction, list) -> _writeNestedLists(
-				nestedListFieldFunction, list, itemJsonObjectBuilder,
+			(nestedListFieldFunction, stream) -> _writeNestedLists(
+				nestedListFieldFunction, stream, itemJsonObjectBuilder,
 				rootSingleModel, embeddedPathElements));
 	}
 
+	private int _writeItems(ObjIntConsumer<JSONObjectBuilder> consumer) {
+		String resourceName = _page.getResourceName();
+
+		int count = 0;
+		int index = 0;
+
+		try (Stream<T> stream = _page.getItemsStream()) {
+			Iterator<T> iterator = stream.iterator();
+
+			while (iterator.hasNext()) {
+				T model = iterator.next();
+
+				Optional<JSONObjectBuilder> optional = _writeItem(
+					new SingleModelImpl<>(model, resourceName));
+
+				if (optional.isPresent()) {
+					consumer.accept(optional.get(), index++);
+				}
+
+				count++;
+			}
+		}
+
+		return count;
+	}
+
 	private <U> void _writeNestedList(
-		String fieldName, List<U> nestedList,
+		String fieldName, Stream<U> stream,
 		JSONObjectBuilder jsonObjectBuilder,
 		FunctionalList<String> embeddedPathElements,
 		BaseRepresentorFunction baseRepresentorFunction,
@@ -671,27 +856,35 @@ public class PageWriter<T> {
 
 		JSONObjectBuilder nestedPageJSONObjectBuilder = new JSONObjectBuilder();
 
-		_pageMessageMapper.mapItemTotalCount(
-			nestedPageJSONObjectBuilder, nestedList.size());
-
 		baseRepresentorFunction.apply(
 			""
 		).ifPresent(
 			_mapPageSemantics(nestedPageJSONObjectBuilder)
 		);
 
-		nestedList.forEach(
-			model -> _writeItem(
-				nestedPageJSONObjectBuilder, new SingleModelImpl<>(model, ""),
-				embeddedPathElements, baseRepresentorFunction, singleModel));
+		int count = 0;
+
+		Iterator<U> iterator = stream.iterator();
+
+		while (iterator.hasNext()) {
+			_writeItem(
+				nestedPageJSONObjectBuilder,
+				new SingleModelImpl<>(iterator.next(), ""),
+				embeddedPathElements, baseRepresentorFunction, singleModel);
+
+			count++;
+		}
+
+		_pageMessageMapper.mapItemTotalCount(
+			nestedPageJSONObjectBuilder, count);
 
 		_pageMessageMapper.onFinishNestedCollection(
 			jsonObjectBuilder, nestedPageJSONObjectBuilder, fieldName,
-			nestedList, embeddedPathElements);
+			embeddedPathElements);
 	}
 
 	private <S> void _writeNestedLists(
-		NestedListFieldFunction nestedListFieldFunction, List<S> list,
+		NestedListFieldFunction nestedListFieldFunction, Stream<S> stream,
 		JSONObjectBuilder jsonObjectBuilder, SingleModel rootSingleModel,
 		FunctionalList<String> embeddedPathElements) {
 
@@ -705,11 +898,62 @@ public class PageWriter<T> {
 				nestedListFieldFunction.getNestedRepresentor());
 
 		_writeNestedList(
-			key, list, jsonObjectBuilder, embeddedNestedPathElements,
+			key, stream, jsonObjectBuilder, embeddedNestedPathElements,
 			baseRepresentorFunction, rootSingleModel);
 	}
 
+	private void _writePage() {
+		_pageMessageMapper.mapItemTotalCount(
+			_jsonObjectBuilder, _page.getTotalCount());
+
+		_writePageURLs();
+
+		Optional<String> optionalURL = createResourceURL(
+			_requestInfo.getApplicationURL(), _page.getResource());
+
+		optionalURL.ifPresent(
+			url -> _pageMessageMapper.mapCollectionURL(
+				_jsonObjectBuilder, url));
+
+		int count = _writeItems(
+			(itemJSONObjectBuilder, index) -> {
+			});
+
+		_pageMessageMapper.mapPageCount(_jsonObjectBuilder, count);
+
+		ActionWriter actionWriter = new ActionWriter(
+			_pageMessageMapper, _requestInfo, _jsonObjectBuilder);
+
+		_actionSemanticsFunction.apply(
+			_page.getResource()
+		).forEach(
+			actionWriter::write
+		);
+
+		Resource resource = _page.getResource();
+
+		String resourceName = resource.getName();
+
+		Optional<Representor<?>> optional = _representorFunction.apply(
+			resourceName);
+
+		optional.ifPresent(_mapPageSemantics(_jsonObjectBuilder));
+
+		optional.map(
+			__ -> createContextURL(
+				_requestInfo.getApplicationURL(), resourceName)
+		).ifPresent(
+			url -> _pageMessageMapper.mapContextURL(_jsonObjectBuilder, url)
+		);
+
+		_pageMessageMapper.onFinish(_jsonObjectBuilder, _page);
+	}
+
 	private void _writePageURLs() {
+		if (!_page.isPaginated()) {
+			return;
+		}
+
 		Optional<String> optionalURL = createResourceURL(
 			_requestInfo.getApplicationURL(), _page.getResource());
 
@@ -741,6 +985,83 @@ public class PageWriter<T> {
 			});
 	}
 
+	private <S> void _writeSharedEmbeddedModel(
+		SingleModel<S> singleModel,
+		FunctionalList<String> embeddedPathElements) {
+
+		Optional<Path> pathOptional = getPathOptional(
+			singleModel, _pathFunction, _representorFunction::apply);
+
+		if (!pathOptional.isPresent()) {
+			return;
+		}
+
+		Path path = pathOptional.get();
+
+		if (!_sharedEmbeddedModelURIs.add(path.asURI())) {
+			return;
+		}
+
+		Optional<FieldsWriter<S>> optional = getFieldsWriter(
+			singleModel, null, _requestInfo, _representorFunction::apply,
+			_singleModelFunction, path);
+
+		Optional<FieldsWriter<S>> relatedModelsOptional = getFieldsWriter(
+			singleModel, embeddedPathElements, _requestInfo,
+			_representorFunction::apply, _singleModelFunction, path);
+
+		if (!optional.isPresent() || !relatedModelsOptional.isPresent()) {
+			return;
+		}
+
+		FieldsWriter<S> fieldsWriter = optional.get();
+
+		JSONObjectBuilder embeddedJsonObjectBuilder = new JSONObjectBuilder();
+
+		_writeBasicFields(fieldsWriter, embeddedJsonObjectBuilder);
+
+		fieldsWriter.writeSingleURL(
+			url -> _pageMessageMapper.mapItemSelfURL(
+				_jsonObjectBuilder, embeddedJsonObjectBuilder, url));
+
+		BiConsumer<String, FunctionalList<String>> linkedURLBiConsumer =
+			(resourceURL, resourceEmbeddedPathElements) ->
+				_pageMessageMapper.mapItemLinkedResourceURL(
+					_jsonObjectBuilder, embeddedJsonObjectBuilder,
+					_relativize(resourceEmbeddedPathElements), resourceURL);
+
+		FieldsWriter<S> relatedModelsFieldsWriter = relatedModelsOptional.get();
+
+		relatedModelsFieldsWriter.writeRelatedModels(
+			_pathFunction, this::_writeSharedEmbeddedModel, linkedURLBiConsumer,
+			linkedURLBiConsumer);
+
+		fieldsWriter.writeRelatedCollections(
+			_pathFunction, _resourceNameFunction,
+			(url, resourceEmbeddedPathElements) ->
+				_pageMessageMapper.mapItemLinkedResourceURL(
+					_jsonObjectBuilder, embeddedJsonObjectBuilder,
+					resourceEmbeddedPathElements, url));
+
+		fieldsWriter.writeNestedResources(
+			_representorFunction::apply, singleModel, null,
+			(nestedSingleModel, nestedPathElements, nestedRepresentorFunction)
+				-> _writeItemEmbeddedModelFields(
+				nestedSingleModel, nestedPathElements,
+				embeddedJsonObjectBuilder, nestedRepresentorFunction,
+				singleModel));
+
+		fieldsWriter.writeNestedLists(
+			_representorFunction::apply, singleModel,
+			(nestedListFieldFunction, stream) -> _writeNestedLists(
+				nestedListFieldFunction, stream, embeddedJsonObjectBuilder,
+				singleModel, null));
+
+		_pageMessageMapper.onFinishSharedEmbeddedModel(
+			_jsonObjectBuilder, embeddedJsonObjectBuilder, embeddedPathElements,
+			singleModel);
+	}
+
 	private final ActionSemanticsFunction _actionSemanticsFunction;
 	private final JSONObjectBuilder _jsonObjectBuilder;
 	private final Page<T> _page;
@@ -749,6 +1070,7 @@ public class PageWriter<T> {
 	private final RepresentorFunction _representorFunction;
 	private final RequestInfo _requestInfo;
 	private final ResourceNameFunction _resourceNameFunction;
+	private final Set<String> _sharedEmbeddedModelURIs;
 	private final SingleModelFunction _singleModelFunction;
 
 }
\ No newline at end of file
@@ -26,6 +26,7 @@ import com.liferay.apio.architect.internal.alias.RepresentorFunction;
 import com.liferay.apio.architect.internal.alias.ResourceNameFunction;
 import com.liferay.apio.architect.internal.alias.SingleModelFunction;
 import com.liferay.apio.architect.internal.list.FunctionalList;
+import com.liferay.apio.architect.internal.message.json.BinaryJSONFormat;
 import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
 import com.liferay.apio.architect.internal.request.RequestInfo;
@@ -35,6 +36,7 @@ import com.liferay.apio.architect.representor.BaseRepresentor;
 import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.uri.Path;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -88,71 +90,27 @@ public class SingleModelWriter<T> {
 	 *         {@code Optional#empty()} otherwise
 	 */
 	public Optional<String> write() {
-		Optional<Path> pathOptional = getPathOptional(
-			_singleModel, _pathFunction, _representorFunction::apply);
-
-		if (!pathOptional.isPresent()) {
-			return Optional.empty();
-		}
-
-		Optional<FieldsWriter<T>> fieldsWriterOptional = getFieldsWriter(
-			_singleModel, null, _requestInfo, _representorFunction::apply,
-			_singleModelFunction, pathOptional.get());
-
-		if (!fieldsWriterOptional.isPresent()) {
-			return Optional.empty();
-		}
-
-		FieldsWriter<T> fieldsWriter = fieldsWriterOptional.get();
-
-		_writeBasicFields(fieldsWriter, _jsonObjectBuilder);
-
-		fieldsWriter.writeSingleURL(
-			url -> _singleModelMessageMapper.mapSelfURL(
-				_jsonObjectBuilder, url));
-
-		ActionWriter actionWriter = new ActionWriter(
-			_singleModelMessageMapper, _requestInfo, _jsonObjectBuilder);
-
-		fieldsWriter.withItem(
-			item -> _actionSemanticsFunction.apply(
-				item
-			).forEach(
-				actionWriter::write
-			));
-
-		fieldsWriter.writeRelatedModels(
-			_pathFunction,
-			(singleModel, embeddedPathElements) -> writeEmbeddedModelFields(
-				singleModel, _jsonObjectBuilder, embeddedPathElements),
-			(resourceURL, embeddedPathElements) ->
-				_singleModelMessageMapper.mapLinkedResourceURL(
-					_jsonObjectBuilder, embeddedPathElements, resourceURL),
-			(resourceURL, embeddedPathElements) ->
-				_singleModelMessageMapper.mapEmbeddedResourceURL(
-					_jsonObjectBuilder, embeddedPathElements, resourceURL));
-
-		fieldsWriter.writeRelatedCollections(
-			_pathFunction, _resourceNameFunction,
-			(url, embeddedPathElements) ->
-				_singleModelMessageMapper.mapLinkedResourceURL(
-					_jsonObjectBuilder, embeddedPathElements, url));
-
-		fieldsWriter.writeNestedResources(
-			_representorFunction::apply, _singleModel, null,
-			(nestedSingleModel, nestedPathElements, nestedRepresentorFunction)
-				-> writeEmbeddedModelFields(
-				nestedSingleModel, _jsonObjectBuilder, nestedPathElements,
-				nestedRepresentorFunction));
+		Optional<JSONObjectBuilder> optional = _writeSingleModel();
 
-		fieldsWriter.writeNestedLists(
-			_representorFunction::apply, _singleModel,
-			(nestedListFieldFunction, list) -> _writeNestedList(
-				nestedListFieldFunction, list, _jsonObjectBuilder, null));
+		return optional.map(JSONObjectBuilder::build);
+	}
 
-		_singleModelMessageMapper.onFinish(_jsonObjectBuilder, _singleModel);
+	/**
+	 * Writes the handled {@link SingleModel}, encoded with the binary
+	 * encoding. If no {@code Representor} or {@code Path} exists for the model,
+	 * this method returns {@code Optional#empty()}.
+	 *
+	 * @param  binaryJSONFormat the binary encoding
+	 * @return the encoded representation of the {@code SingleModel}, if the
+	 *         model's {@code Representor} and {@code Path} exist; returns
+	 *         {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<byte[]> write(BinaryJSONFormat binaryJSONFormat) {
+		Optional<JSONObjectBuilder> optional = _writeSingleModel();
 
-		return Optional.of(_jsonObjectBuilder.build());
+		return optional.map(
+			jsonObjectBuilder -> jsonObjectBuilder.build(binaryJSONFormat));
 	}
 
 	public <S> void writeEmbeddedModelFields(
@@ -260,8 +218,8 @@ public class SingleModelWriter<T> {
 
 		fieldsWriter.writeNestedLists(
 			baseRepresentorFunction, singleModel,
-			(nestedListFieldFunction, list) -> _writeNestedList(
-				nestedListFieldFunction, list, _jsonObjectBuilder,
+			(nestedListFieldFunction, stream) -> _writeNestedList(
+				nestedListFieldFunction, stream, _jsonObjectBuilder,
 				embeddedPathElements));
 	}
 
@@ -490,6 +448,22 @@ public class SingleModelWriter<T> {
 			(field, value) -> _singleModelMessageMapper.mapNumberListField(
 				jsonObjectBuilder, field, value));
 
+		fieldsWriter.writeBooleanArrayFields(
+			(field, value) -> _singleModelMessageMapper.mapBooleanArrayField(
+				jsonObjectBuilder, field, value));
+
+		fieldsWriter.writeDoubleArrayFields(
+			(field, value) -> _singleModelMessageMapper.mapDoubleArrayField(
+				jsonObjectBuilder, field, value));
+
+		fieldsWriter.writeIntArrayFields(
+			(field, value) -> _singleModelMessageMapper.mapIntArrayField(
+				jsonObjectBuilder, field, value));
+
+		fieldsWriter.writeLongArrayFields(
+			(field, value) -> _singleModelMessageMapper.mapLongArrayField(
+				jsonObjectBuilder, field, value));
+
 		fieldsWriter.writeRelativeURLFields(
 			(field, value) -> _singleModelMessageMapper.mapStringField(
 				jsonObjectBuilder, field, value));
@@ -549,6 +523,26 @@ public class SingleModelWriter<T> {
 				_singleModelMessageMapper.mapEmbeddedResourceNumberListField(
 					jsonObjectBuilder, embeddedPathElements, field, value));
 
+		fieldsWriter.writeBooleanArrayFields(
+			(field, value) ->
+				_singleModelMessageMapper.mapEmbeddedResourceBooleanArrayField(
+					jsonObjectBuilder, embeddedPathElements, field, value));
+
+		fieldsWriter.writeDoubleArrayFields(
+			(field, value) ->
+				_singleModelMessageMapper.mapEmbeddedResourceDoubleArrayField(
+					jsonObjectBuilder, embeddedPathElements, field, value));
+
+		fieldsWriter.writeIntArrayFields(
+			(field, value) ->
+				_singleModelMessageMapper.mapEmbeddedResourceIntArrayField(
+					jsonObjectBuilder, embeddedPathElements, field, value));
+
+		fieldsWriter.writeLongArrayFields(
+			(field, value) ->
+				_singleModelMessageMapper.mapEmbeddedResourceLongArrayField(
+					jsonObjectBuilder, embeddedPathElements, field, value));
+
 		fieldsWriter.writeRelativeURLFields(
 			(field, value) ->
 				_singleModelMessageMapper.mapEmbeddedResourceStringField(
@@ -638,8 +632,8 @@ public class SingleModelWriter<T> {
 
 		fieldsWriter.writeNestedLists(
 			baseRepresentorFunction, singleModel,
-			(nestedListFieldFunction, list) -> _writeNestedList(
-				nestedListFieldFunction, list, itemJsonObjectBuilder, null));
+			(nestedListFieldFunction, stream) -> _writeNestedList(
+				nestedListFieldFunction, stream, itemJsonObjectBuilder, null));
 
 		_singleModelMessageMapper.onFinishNestedCollectionItem(
 			collectionJSONObjectBuilder, itemJsonObjectBuilder, singleModel);
@@ -701,13 +695,13 @@ public class SingleModelWriter<T> {
 
 		fieldsWriter.writeNestedLists(
 			baseRepresentorFunction, singleModel,
-			(nestedListFieldFunction, list) -> _writeNestedList(
-				nestedListFieldFunction, list, itemJsonObjectBuilder,
+			(nestedListFieldFunction, stream) -> _writeNestedList(
+				nestedListFieldFunction, stream, itemJsonObjectBuilder,
 				embeddedPathElements));
 	}
 
 	private <U> void _writeNestedList(
-		NestedListFieldFunction nestedListFieldFunction, List<U> list,
+		NestedListFieldFunction nestedListFieldFunction, Stream<U> stream,
 		JSONObjectBuilder jsonObjectBuilder,
 		FunctionalList<String> embeddedNestedPathElements) {
 
@@ -722,22 +716,30 @@ public class SingleModelWriter<T> {
 
 		JSONObjectBuilder pageJSONObjectBuilder = new JSONObjectBuilder();
 
-		_singleModelMessageMapper.mapNestedPageItemTotalCount(
-			pageJSONObjectBuilder, list.size());
-
 		baseRepresentorFunction.apply(
 			""
 		).ifPresent(
 			_mapPageSemantics(pageJSONObjectBuilder)
 		);
 
-		list.forEach(
-			model -> _writeItem(
-				pageJSONObjectBuilder, new SingleModelImpl<>(model, ""),
-				embeddedPathElements, baseRepresentorFunction));
+		int count = 0;
+
+		Iterator<U> iterator = stream.iterator();
+
+		while (iterator.hasNext()) {
+			_writeItem(
+				pageJSONObjectBuilder,
+				new SingleModelImpl<>(iterator.next(), ""),
+				embeddedPathElements, baseRepresentorFunction);
+
+			count++;
+		}
+
+		_singleModelMessageMapper.mapNestedPageItemTotalCount(
+			pageJSONObjectBuilder, count);
 
 		_singleModelMessageMapper.onFinishNestedCollection(
-			jsonObjectBuilder, pageJSONObjectBuilder, key, list,
+			jsonObjectBuilder, pageJSONObjectBuilder, key,
 			embeddedPathElements);
 	}
 
@@ -776,6 +778,78 @@ public class SingleModelWriter<T> {
 		);
 	}
 
+	private Optional<JSONObjectBuilder> _writeSingleModel() {
+		Optional<Path> pathOptional = getPathOptional(
+			_singleModel, _pathFunction, _representorFunction::apply);
+
+		if (!pathOptional.isPresent()) {
+			return Optional.empty();
+		}
+
+		Optional<FieldsWriter<T>> fieldsWriterOptional = getFieldsWriter(
+			_singleModel, null, _requestInfo, _representorFunction::apply,
+			_singleModelFunction, pathOptional.get());
+
+		if (!fieldsWriterOptional.isPresent()) {
+			return Optional.empty();
+		}
+
+		FieldsWriter<T> fieldsWriter = fieldsWriterOptional.get();
+
+		_writeBasicFields(fieldsWriter, _jsonObjectBuilder);
+
+		fieldsWriter.writeSingleURL(
+			url -> _singleModelMessageMapper.mapSelfURL(
+				_jsonObjectBuilder, url));
+
+		ActionWriter actionWriter = new ActionWriter(
+			_singleModelMessageMapper, _requestInfo, _jsonObjectBuilder);
+
+		fieldsWriter.withItem(
+			item -> _actionSemanticsFunction.apply(
+				item
+			).forEach(
+				actionWriter::write
+			));
+
+		fieldsWriter.writeRelatedModels(
+			_pathFunction,
+			(singleModel, embeddedPathElements) -> writeEmbeddedModelFields(
+				singleModel, _jsonObjectBuilder, embeddedPathElements),
+			(resourceURL, embeddedPathElements) ->
+				_singleModelMessageMapper.mapLinkedResourceURL(
+					_jsonObjectBuilder, embeddedPathElements, resourceURL),
+			(resourceURL, embeddedPathElements) ->
+				_singleModelMessageMapper.mapEmbeddedResourceURL(
+					_jsonObjectBuilder, embeddedPathElements, resourceURL));
+
+		fieldsWriter.writeRelatedCollections(
+			_pathFunction, _resourceNameFunction,
+			(url, embeddedPathElements) ->
+				_singleModelMessageMapper.mapLinkedResourceURL(
+					_jsonObjectBuilder, embeddedPathElements, url));
+
+		fieldsWriter.writeNestedResources(
+			_representorFunction::apply, _singleModel, null,
+			(nestedSingleModel, nestedPathElements, nestedRepresentorFunction)
+				-> writeEmbeddedModelFields(
+				nestedSingleModel, _jsonObjectBuilder, nestedPathElements,
+				nestedRepresentorFunction));
+
+		fieldsWriter.writeNestedLists(
+			_representorFunction::apply, _singleModel,
+			(nestedListFieldFunction, stream) -> _writeNestedList(
+				nestedListFieldFunction, stream, _jsonObjectBuilder, null));
+
+		fieldsWriter.writeContextURL(
+			url -> _singleModelMessageMapper.mapContextURL(
+				_jsonObjectBuilder, url));
+
+		_singleModelMessageMapper.onFinish(_jsonObjectBuilder, _singleModel);
+
+		return Optional.of(_jsonObjectBuilder);
+	}
+
 	private final ActionSemanticsFunction _actionSemanticsFunction;
 	private final JSONObjectBuilder _jsonObjectBuilder;
 	private final PathFunction _pathFunction;
@@ -68,6 +68,28 @@ public class RepresentorTransformerTest {
 			singletonList("/application"));
 	}
 
+	@Test
+	public void testArrayFields() {
+		_testFields(
+			_representor.getBooleanArrayFunctions(),
+			singletonList("booleanArrayField"),
+			singletonList(new boolean[] {true, false, true}));
+
+		_testFields(
+			_representor.getDoubleArrayFunctions(),
+			singletonList("doubleArrayField"),
+			singletonList(new double[] {1.5, 2.5}));
+
+		_testFields(
+			_representor.getIntArrayFunctions(), singletonList("intArrayField"),
+			singletonList(new int[] {1, 2}));
+
+		_testFields(
+			_representor.getLongArrayFunctions(),
+			singletonList("longArrayField"),
+			singletonList(new long[] {3L, 4L}));
+	}
+
 	@Test
 	public void testBooleanFields() {
 		_testFields(
@@ -55,6 +55,21 @@ public class TypeProcessorTest {
 		_parsedType = TypeProcessor.processType(Dummy.class);
 	}
 
+	@Test
+	public void testArrayFields() {
+		List<FieldData<Class<?>>> arrayFieldData = getOrderedList(
+			_parsedType::getArrayFieldDataList);
+
+		assertThat(arrayFieldData.size(), is(4));
+
+		testFieldData(
+			arrayFieldData.get(0), "booleanArrayField", boolean[].class);
+		testFieldData(
+			arrayFieldData.get(1), "doubleArrayField", double[].class);
+		testFieldData(arrayFieldData.get(2), "intArrayField", int[].class);
+		testFieldData(arrayFieldData.get(3), "longArrayField", long[].class);
+	}
+
 	@Test
 	public void testBasicFields() {
 		List<FieldData<Class<?>>> fieldMetadata = getOrderedList(
@@ -62,6 +62,11 @@ public interface Dummy extends Identifier<Long> {
 		return "2d1d";
 	}
 
+	@Field("booleanArrayField")
+	public default boolean[] getBooleanArrayField() {
+		return new boolean[] {true, false, true};
+	}
+
 	@Field("booleanField1")
 	@NotNull
 	public default Boolean getBooleanField1() {
@@ -98,6 +103,16 @@ public interface Dummy extends Identifier<Long> {
 		return new Date(200000L);
 	}
 
+	@Field("doubleArrayField")
+	public default double[] getDoubleArrayField() {
+		return new double[] {1.5, 2.5};
+	}
+
+	@Field("intArrayField")
+	public default int[] getIntArrayField() {
+		return new int[] {1, 2};
+	}
+
 	@Id
 	public default Long getId() {
 		return 1L;
@@ -138,6 +153,11 @@ public interface Dummy extends Identifier<Long> {
 		return "2d1d";
 	}
 
+	@Field("longArrayField")
+	public default long[] getLongArrayField() {
+		return new long[] {3L, 4L};
+	}
+
 	@Field("numberField1")
 	@NotNull
 	public default Integer getNumberField1() {
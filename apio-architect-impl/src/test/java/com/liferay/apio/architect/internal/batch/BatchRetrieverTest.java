@@ -0,0 +1,202 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.batch;
+
+import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+
+import static io.vavr.control.Either.left;
+import static io.vavr.control.Either.right;
+
+import static java.util.Collections.singletonMap;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.annotation.Id;
+import com.liferay.apio.architect.internal.action.ActionSemantics;
+import com.liferay.apio.architect.internal.alias.ProvideFunction;
+import com.liferay.apio.architect.internal.annotation.Action;
+import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.resource.Resource;
+import com.liferay.apio.architect.resource.Resource.Item;
+import com.liferay.apio.architect.resource.Resource.Paged;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import io.vavr.control.Either;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.NotFoundException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author agent
+ */
+public class BatchRetrieverTest {
+
+	@Before
+	public void setUp() {
+		_httpServletRequest = Mockito.mock(HttpServletRequest.class);
+
+		_batchRetriever = new BatchRetriever();
+
+		Map<String, Object> properties = new HashMap<>();
+
+		properties.put("enabled", true);
+		properties.put("max.items", 4);
+
+		_batchRetriever.activate(properties);
+	}
+
+	@Test(expected = BadRequestException.class)
+	public void testBatchWithTooManyIDsFails() {
+		_mockIds("1,2,3,4,5");
+
+		Action action = _getBatchAction(left(_notFound));
+
+		action.execute(_httpServletRequest);
+	}
+
+	@Test
+	public void testDisabledRetrieverReturnsTheOriginalAction() {
+		BatchRetriever batchRetriever = new BatchRetriever();
+
+		batchRetriever.activate(singletonMap("enabled", false));
+
+		Either<Action.Error, Action> either = right(
+			(Action.Ok)request -> "Apio");
+
+		assertThat(
+			batchRetriever.batch(
+				Paged.of("name"), either, this::_getActionSemanticsOptional,
+				_provideFunction),
+			is(either));
+	}
+
+	@Test
+	public void testRequestWithIDsRetrievesTheAccessibleItemsInOrder() {
+		_mockIds("3, 1,missing,forbidden,3");
+
+		Action action = _getBatchAction(left(_notFound));
+
+		Object result = action.execute(_httpServletRequest);
+
+		assertThat(result, is(instanceOf(Page.class)));
+
+		Page<String> page = unsafeCast(result);
+
+		assertThat(page.getItems(), contains("3", "1"));
+		assertThat(page.getTotalCount(), is(2));
+		assertThat(page.isPaginated(), is(false));
+		assertThat(page.getResourceName(), is("name"));
+		assertThat(_providedCount.get(), is(1));
+	}
+
+	@Test
+	public void testRequestWithoutIDsExecutesTheCollectionAction() {
+		Action action = _getBatchAction(right((Action.Ok)request -> "Apio"));
+
+		assertThat(action.execute(_httpServletRequest), is("Apio"));
+	}
+
+	@Test(expected = NotFoundException.class)
+	public void testRequestWithoutIDsFailsIfTheCollectionIsMissing() {
+		Action action = _getBatchAction(left(_notFound));
+
+		action.execute(_httpServletRequest);
+	}
+
+	private Optional<ActionSemantics> _getActionSemanticsOptional(String id) {
+		if (id.equals("missing")) {
+			return Optional.empty();
+		}
+
+		ActionSemantics actionSemantics = ActionSemantics.ofResource(
+			Item.of("name", Resource.Id.of(id, id))
+		).name(
+			"retrieve"
+		).method(
+			"GET"
+		).returns(
+			SingleModel.class
+		).permissionFunction(
+			params -> !"forbidden".equals(params.get(0))
+		).permissionProvidedClasses(
+			Id.class, String.class
+		).executeFunction(
+			params -> new SingleModelImpl<>(params.get(0), "name")
+		).receivesParams(
+			Id.class, String.class
+		).build();
+
+		return Optional.of(actionSemantics);
+	}
+
+	private Action _getBatchAction(Either<Action.Error, Action> either) {
+		Either<Action.Error, Action> batchEither = _batchRetriever.batch(
+			Paged.of("name"), either, this::_getActionSemanticsOptional,
+			_provideFunction);
+
+		return batchEither.get();
+	}
+
+	private void _mockIds(String ids) {
+		Mockito.when(
+			_httpServletRequest.getParameter("ids")
+		).thenReturn(
+			ids
+		);
+	}
+
+	private static final Action.Error.NotFound _notFound =
+		new Action.Error.NotFound() {
+		};
+
+	private BatchRetriever _batchRetriever;
+	private HttpServletRequest _httpServletRequest;
+	private final AtomicInteger _providedCount = new AtomicInteger();
+
+	private final ProvideFunction _provideFunction =
+		(actionSemantics, request, clazz) -> {
+			if (Id.class.equals(clazz)) {
+				Item item = (Item)actionSemantics.getResource();
+
+				return item.getIdOptional(
+				).map(
+					Resource.Id::asObject
+				).orElse(
+					null
+				);
+			}
+
+			_providedCount.incrementAndGet();
+
+			return "provided";
+		};
+
+}
@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.cache;
+
+import static com.liferay.apio.architect.internal.cache.ETagUtil.getETag;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class ETagOutputStreamTest {
+
+	@Test
+	public void testGetETagMatchesTheETagOfTheWrittenBytes()
+		throws IOException {
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		ETagOutputStream eTagOutputStream = new ETagOutputStream(
+			byteArrayOutputStream);
+
+		eTagOutputStream.write('a');
+		eTagOutputStream.write("pio!".getBytes(UTF_8), 0, 3);
+
+		assertThat(byteArrayOutputStream.toString("UTF-8"), is("apio"));
+		assertThat(
+			eTagOutputStream.getETag(), is(getETag("apio".getBytes(UTF_8))));
+	}
+
+}
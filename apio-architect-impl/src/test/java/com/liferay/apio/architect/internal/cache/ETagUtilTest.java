@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.cache;
+
+import static com.liferay.apio.architect.internal.cache.ETagUtil.getETag;
+import static com.liferay.apio.architect.internal.cache.ETagUtil.matches;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.core.Is.is;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class ETagUtilTest {
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testConstructorThrowsException() throws Throwable {
+		Constructor<?> constructor =
+			ETagUtil.class.getDeclaredConstructors()[0];
+
+		constructor.setAccessible(true);
+
+		try {
+			constructor.newInstance();
+		}
+		catch (InvocationTargetException ite) {
+			throw ite.getTargetException();
+		}
+	}
+
+	@Test
+	public void testGetETagIsQuotedAndStable() {
+		String eTag = getETag("apio".getBytes(UTF_8));
+
+		assertThat(eTag.startsWith("\""), is(true));
+		assertThat(eTag.endsWith("\""), is(true));
+		assertThat(eTag, is(getETag("apio".getBytes(UTF_8))));
+		assertThat(eTag, is(not(getETag("apio!".getBytes(UTF_8)))));
+	}
+
+	@Test
+	public void testGetETagWithStringsDependsOnTheirBoundaries() {
+		assertThat(getETag("ab", "c"), is(not(getETag("a", "bc"))));
+	}
+
+	@Test
+	public void testMatchesReturnsFalseIfNoTagMatches() {
+		assertThat(matches(null, "\"a\""), is(false));
+		assertThat(matches("\"b\", \"c\"", "\"a\""), is(false));
+	}
+
+	@Test
+	public void testMatchesReturnsTrueIfAnyTagMatches() {
+		assertThat(matches("\"b\", \"a\"", "\"a\""), is(true));
+		assertThat(matches("W/\"a\"", "\"a\""), is(true));
+		assertThat(matches("*", "\"a\""), is(true));
+	}
+
+}
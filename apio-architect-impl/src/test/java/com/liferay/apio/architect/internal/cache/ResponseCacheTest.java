@@ -0,0 +1,174 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.cache;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class ResponseCacheTest {
+
+	@Before
+	public void setUp() {
+		_responseCache = new ResponseCache<>(3, 20, 100, _nanoTime::get);
+	}
+
+	@Test
+	public void testEntriesAreEvictedWhenMaxBytesIsReached() {
+		_put("a", null, "0123456789");
+		_put("b", null, "0123456789");
+		_put("c", null, "0");
+
+		assertThat(_responseCache.get("a"), is(emptyOptional()));
+		assertThat(_responseCache.getBytes(), is(11L));
+		assertThat(_responseCache.getEvictionCount(), is(1L));
+	}
+
+	@Test
+	public void testEntriesAreEvictedWhenMaxEntriesIsReached() {
+		_put("a", null, "a");
+		_put("b", null, "b");
+		_put("c", null, "c");
+
+		_responseCache.get("a");
+
+		_put("d", null, "d");
+
+		assertThat(_responseCache.get("a"), is(optionalWithValue()));
+		assertThat(_responseCache.get("b"), is(emptyOptional()));
+		assertThat(_responseCache.getSize(), is(3));
+		assertThat(_responseCache.getEvictionCount(), is(1L));
+	}
+
+	@Test
+	public void testExpiredEntriesAreNotReturned() {
+		_put("a", null, "a");
+
+		_nanoTime.addAndGet(50);
+
+		assertThat(_responseCache.get("a"), is(optionalWithValue()));
+
+		_nanoTime.addAndGet(51);
+
+		assertThat(_responseCache.get("a"), is(emptyOptional()));
+		assertThat(_responseCache.getSize(), is(0));
+	}
+
+	@Test
+	public void testGetCountsHitsAndMisses() {
+		_put("a", null, "a");
+
+		_responseCache.get("a");
+		_responseCache.get("a");
+		_responseCache.get("b");
+
+		assertThat(_responseCache.getHitCount(), is(2L));
+		assertThat(_responseCache.getMissCount(), is(1L));
+	}
+
+	@Test
+	public void testInvalidateRemovesEveryEntryOfTheGroup() {
+		_put("a", "group", "a");
+		_put("b", "group", "b");
+		_put("c", "other", "c");
+
+		_responseCache.invalidate("group");
+
+		assertThat(_responseCache.get("a"), is(emptyOptional()));
+		assertThat(_responseCache.get("b"), is(emptyOptional()));
+		assertThat(_responseCache.get("c"), is(optionalWithValue()));
+		assertThat(_responseCache.getInvalidationCount(), is(2L));
+		assertThat(_responseCache.getBytes(), is(1L));
+	}
+
+	@Test
+	public void testPutIgnoresResponsesRenderedBeforeAClear() {
+		long generation = _responseCache.getGeneration();
+
+		_responseCache.clear();
+
+		_responseCache.put(
+			"a", "group", new CachedResponse("text/plain", "a"), generation);
+
+		assertThat(_responseCache.get("a"), is(emptyOptional()));
+	}
+
+	@Test
+	public void testPutIgnoresResponsesRenderedBeforeAForgottenInvalidation() {
+		long generation = _responseCache.getGeneration();
+
+		_responseCache.invalidate("group");
+		_responseCache.invalidate("group1");
+		_responseCache.invalidate("group2");
+		_responseCache.invalidate("group3");
+
+		_responseCache.put(
+			"a", "group", new CachedResponse("text/plain", "a"), generation);
+
+		assertThat(_responseCache.get("a"), is(emptyOptional()));
+	}
+
+	@Test
+	public void testPutIgnoresResponsesRenderedBeforeAnInvalidation() {
+		long generation = _responseCache.getGeneration();
+
+		_responseCache.invalidate("group");
+
+		_responseCache.put(
+			"a", "group", new CachedResponse("text/plain", "a"), generation);
+
+		assertThat(_responseCache.get("a"), is(emptyOptional()));
+	}
+
+	@Test
+	public void testPutIgnoresResponsesBiggerThanMaxBytes() {
+		_put("a", null, "012345678901234567890");
+
+		assertThat(_responseCache.get("a"), is(emptyOptional()));
+		assertThat(_responseCache.getEvictionCount(), is(0L));
+	}
+
+	@Test
+	public void testPutKeepsResponsesRenderedBeforeAnotherGroupInvalidation() {
+		long generation = _responseCache.getGeneration();
+
+		_responseCache.invalidate("other");
+
+		_responseCache.put(
+			"a", "group", new CachedResponse("text/plain", "a"), generation);
+
+		assertThat(_responseCache.get("a"), is(optionalWithValue()));
+	}
+
+	private void _put(String key, String group, String body) {
+		_responseCache.put(
+			key, group, new CachedResponse("text/plain", body),
+			_responseCache.getGeneration());
+	}
+
+	private final AtomicLong _nanoTime = new AtomicLong();
+	private ResponseCache<String> _responseCache;
+
+}
@@ -0,0 +1,231 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.coalescing;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class SingleFlightTest {
+
+	@Test
+	public void testConcurrentCallsWithDifferentKeysAreNotCoalesced()
+		throws Exception {
+
+		SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+
+		CountDownLatch countDownLatch = new CountDownLatch(2);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+		try {
+			Future<Integer> future1 = executorService.submit(
+				() -> singleFlight.execute(
+					"1", () -> _countDownAndAwait(countDownLatch, 1), () -> {
+					}));
+			Future<Integer> future2 = executorService.submit(
+				() -> singleFlight.execute(
+					"2", () -> _countDownAndAwait(countDownLatch, 2), () -> {
+					}));
+
+			assertThat(future1.get(10, TimeUnit.SECONDS), is(1));
+			assertThat(future2.get(10, TimeUnit.SECONDS), is(2));
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+
+		assertThat(singleFlight.getCoalescedCount(), is(0L));
+		assertThat(singleFlight.getExecutionCount(), is(2L));
+		assertThat(singleFlight.getInFlightCount(), is(0));
+	}
+
+	@Test
+	public void testConcurrentCallsWithSameKeyShareTheExecution()
+		throws Exception {
+
+		SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+
+		AtomicInteger coalescedCount = new AtomicInteger();
+		AtomicInteger executionCount = new AtomicInteger();
+		CountDownLatch leaderCountDownLatch = new CountDownLatch(1);
+		CountDownLatch releaseCountDownLatch = new CountDownLatch(1);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(
+			_THREADS);
+
+		try {
+			Future<Integer> leaderFuture = executorService.submit(
+				() -> singleFlight.execute(
+					"key",
+					() -> {
+						executionCount.incrementAndGet();
+
+						leaderCountDownLatch.countDown();
+
+						return _await(releaseCountDownLatch, 42);
+					},
+					coalescedCount::incrementAndGet));
+
+			leaderCountDownLatch.await(10, TimeUnit.SECONDS);
+
+			List<Future<Integer>> futures = new ArrayList<>();
+
+			for (int i = 1; i < _THREADS; i++) {
+				futures.add(
+					executorService.submit(
+						() -> singleFlight.execute(
+							"key", executionCount::incrementAndGet,
+							coalescedCount::incrementAndGet)));
+			}
+
+			while (coalescedCount.get() < (_THREADS - 1)) {
+				Thread.sleep(1);
+			}
+
+			releaseCountDownLatch.countDown();
+
+			assertThat(leaderFuture.get(10, TimeUnit.SECONDS), is(42));
+
+			for (Future<Integer> future : futures) {
+				assertThat(future.get(10, TimeUnit.SECONDS), is(42));
+			}
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+
+		assertThat(executionCount.get(), is(1));
+		assertThat(singleFlight.getCoalescedCount(), is(_THREADS - 1L));
+		assertThat(singleFlight.getExecutionCount(), is(1L));
+		assertThat(singleFlight.getInFlightCount(), is(0));
+	}
+
+	@Test
+	public void testExceptionIsSharedWithCoalescedCalls() throws Exception {
+		SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+
+		AtomicInteger coalescedCount = new AtomicInteger();
+		CountDownLatch leaderCountDownLatch = new CountDownLatch(1);
+		CountDownLatch releaseCountDownLatch = new CountDownLatch(1);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+		try {
+			Future<Integer> leaderFuture = executorService.submit(
+				() -> singleFlight.execute(
+					"key",
+					() -> {
+						leaderCountDownLatch.countDown();
+
+						_await(releaseCountDownLatch, 0);
+
+						throw new IllegalStateException("failed");
+					},
+					coalescedCount::incrementAndGet));
+
+			leaderCountDownLatch.await(10, TimeUnit.SECONDS);
+
+			Future<Integer> future = executorService.submit(
+				() -> singleFlight.execute(
+					"key", () -> 1, coalescedCount::incrementAndGet));
+
+			while (coalescedCount.get() < 1) {
+				Thread.sleep(1);
+			}
+
+			releaseCountDownLatch.countDown();
+
+			_assertFailsWithIllegalStateException(leaderFuture);
+			_assertFailsWithIllegalStateException(future);
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+
+		assertThat(singleFlight.getInFlightCount(), is(0));
+	}
+
+	@Test
+	public void testSequentialCallsAreNotCoalesced() {
+		SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+
+		AtomicInteger executionCount = new AtomicInteger();
+
+		for (int i = 1; i <= 3; i++) {
+			Integer result = singleFlight.execute(
+				"key", executionCount::incrementAndGet, () -> {
+				});
+
+			assertThat(result, is(i));
+		}
+
+		assertThat(singleFlight.getCoalescedCount(), is(0L));
+		assertThat(singleFlight.getExecutionCount(), is(3L));
+		assertThat(singleFlight.getInFlightCount(), is(0));
+	}
+
+	private static void _assertFailsWithIllegalStateException(
+			Future<Integer> future)
+		throws Exception {
+
+		try {
+			future.get(10, TimeUnit.SECONDS);
+
+			throw new AssertionError("Expected an IllegalStateException");
+		}
+		catch (ExecutionException ee) {
+			Throwable throwable = ee.getCause();
+
+			assertThat(throwable instanceof IllegalStateException, is(true));
+		}
+	}
+
+	private static int _await(CountDownLatch countDownLatch, int value) {
+		try {
+			countDownLatch.await(10, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ie) {
+			Thread.currentThread().interrupt();
+		}
+
+		return value;
+	}
+
+	private static int _countDownAndAwait(
+		CountDownLatch countDownLatch, int value) {
+
+		countDownLatch.countDown();
+
+		return _await(countDownLatch, value);
+	}
+
+	private static final int _THREADS = 8;
+
+}
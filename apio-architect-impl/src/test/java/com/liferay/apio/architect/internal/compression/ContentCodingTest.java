@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.compression;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class ContentCodingTest {
+
+	@Test
+	public void testNegotiateIgnoresUnsupportedCodings() {
+		assertThat(
+			ContentCoding.negotiate("br, identity"), is(emptyOptional()));
+	}
+
+	@Test
+	public void testNegotiatePrefersExplicitCodingsOverWildcard() {
+		assertThat(
+			ContentCoding.negotiate("gzip;q=0, *"),
+			is(optionalWithValue(is(ContentCoding.DEFLATE))));
+	}
+
+	@Test
+	public void testNegotiatePrefersGzipWithTheSameQuality() {
+		assertThat(
+			ContentCoding.negotiate("deflate, gzip"),
+			is(optionalWithValue(is(ContentCoding.GZIP))));
+	}
+
+	@Test
+	public void testNegotiatePrefersHighestQuality() {
+		assertThat(
+			ContentCoding.negotiate("gzip;q=0.5, deflate"),
+			is(optionalWithValue(is(ContentCoding.DEFLATE))));
+	}
+
+	@Test
+	public void testNegotiateReturnsEmptyWithoutHeader() {
+		assertThat(ContentCoding.negotiate(null), is(emptyOptional()));
+	}
+
+	@Test
+	public void testNegotiateReturnsEmptyWithZeroQuality() {
+		assertThat(ContentCoding.negotiate("gzip;q=0"), is(emptyOptional()));
+	}
+
+}
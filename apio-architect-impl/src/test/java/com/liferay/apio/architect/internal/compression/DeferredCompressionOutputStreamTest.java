@@ -0,0 +1,174 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.compression;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.util.Collections;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class DeferredCompressionOutputStreamTest {
+
+	@Test
+	public void testAbortReturnsTheDeflaterWithoutFinishingTheData()
+		throws IOException {
+
+		DeflaterPool deflaterPool = new DeflaterPool(1, true);
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		DeferredCompressionOutputStream deferredCompressionOutputStream =
+			new DeferredCompressionOutputStream(
+				byteArrayOutputStream, 16,
+				outputStream -> new PooledDeflaterOutputStream(
+					outputStream, ContentCoding.GZIP, deflaterPool, 6));
+
+		deferredCompressionOutputStream.write(_BODY);
+
+		deferredCompressionOutputStream.flush();
+
+		int size = byteArrayOutputStream.size();
+
+		deferredCompressionOutputStream.abort();
+
+		deferredCompressionOutputStream.close();
+
+		assertThat(byteArrayOutputStream.size(), is(size));
+		assertThat(deflaterPool.getIdleCount(), is(1));
+	}
+
+	@Test
+	public void testBodyAboveThresholdIsCompressedWithDeflate()
+		throws IOException {
+
+		DeflaterPool deflaterPool = new DeflaterPool(1, false);
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		DeferredCompressionOutputStream deferredCompressionOutputStream =
+			new DeferredCompressionOutputStream(
+				byteArrayOutputStream, 16,
+				outputStream -> new PooledDeflaterOutputStream(
+					outputStream, ContentCoding.DEFLATE, deflaterPool, 9));
+
+		deferredCompressionOutputStream.write(_BODY);
+
+		deferredCompressionOutputStream.close();
+
+		byte[] bytes = _read(
+			new InflaterInputStream(
+				new ByteArrayInputStream(byteArrayOutputStream.toByteArray())));
+
+		assertThat(new String(bytes, UTF_8), is(new String(_BODY, UTF_8)));
+		assertThat(deflaterPool.getIdleCount(), is(1));
+	}
+
+	@Test
+	public void testBodyAboveThresholdIsCompressedWithGzip()
+		throws IOException {
+
+		DeflaterPool deflaterPool = new DeflaterPool(1, true);
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		DeferredCompressionOutputStream deferredCompressionOutputStream =
+			new DeferredCompressionOutputStream(
+				byteArrayOutputStream, 16,
+				outputStream -> new PooledDeflaterOutputStream(
+					outputStream, ContentCoding.GZIP, deflaterPool, 6));
+
+		deferredCompressionOutputStream.write(_BODY, 0, 10);
+
+		assertThat(
+			deferredCompressionOutputStream.isThresholdExceeded(), is(false));
+
+		deferredCompressionOutputStream.write(_BODY, 10, _BODY.length - 10);
+
+		assertThat(
+			deferredCompressionOutputStream.isThresholdExceeded(), is(true));
+
+		deferredCompressionOutputStream.close();
+
+		byte[] bytes = _read(
+			new GZIPInputStream(
+				new ByteArrayInputStream(byteArrayOutputStream.toByteArray())));
+
+		assertThat(new String(bytes, UTF_8), is(new String(_BODY, UTF_8)));
+		assertThat(byteArrayOutputStream.size() < _BODY.length, is(true));
+		assertThat(deflaterPool.getIdleCount(), is(1));
+	}
+
+	@Test
+	public void testBodyBelowThresholdIsWrittenUncompressed()
+		throws IOException {
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		DeferredCompressionOutputStream deferredCompressionOutputStream =
+			new DeferredCompressionOutputStream(
+				byteArrayOutputStream, _BODY.length,
+				outputStream -> {
+					throw new AssertionError("The body must not be compressed");
+				});
+
+		deferredCompressionOutputStream.write(_BODY);
+
+		deferredCompressionOutputStream.close();
+
+		assertThat(
+			new String(byteArrayOutputStream.toByteArray(), UTF_8),
+			is(new String(_BODY, UTF_8)));
+	}
+
+	private static byte[] _read(InputStream inputStream) throws IOException {
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		byte[] buffer = new byte[1024];
+
+		int length;
+
+		while ((length = inputStream.read(buffer)) != -1) {
+			byteArrayOutputStream.write(buffer, 0, length);
+		}
+
+		return byteArrayOutputStream.toByteArray();
+	}
+
+	private static final byte[] _BODY = String.join(
+		",", Collections.nCopies(200, "\"http://localhost/p/people\"")
+	).getBytes(
+		UTF_8
+	);
+
+}
@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.compression;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+import java.util.zip.Deflater;
+
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class DeflaterPoolTest {
+
+	@Test
+	public void testBorrowReusesReleasedDeflater() {
+		DeflaterPool deflaterPool = new DeflaterPool(2, true);
+
+		Deflater deflater = deflaterPool.borrow(6);
+
+		deflaterPool.release(deflater);
+
+		assertThat(deflaterPool.getIdleCount(), is(1));
+		assertThat(deflaterPool.borrow(1), is(sameInstance(deflater)));
+		assertThat(deflaterPool.getIdleCount(), is(0));
+	}
+
+	@Test
+	public void testCloseEndsIdleAndReleasedDeflaters() {
+		DeflaterPool deflaterPool = new DeflaterPool(2, true);
+
+		Deflater deflater = deflaterPool.borrow(6);
+
+		deflaterPool.release(deflaterPool.borrow(6));
+
+		deflaterPool.close();
+
+		deflaterPool.release(deflater);
+
+		assertThat(deflaterPool.getIdleCount(), is(0));
+	}
+
+	@Test
+	public void testReleaseDoesNotKeepMoreDeflatersThanMaxSize() {
+		DeflaterPool deflaterPool = new DeflaterPool(1, false);
+
+		Deflater deflater1 = deflaterPool.borrow(6);
+		Deflater deflater2 = deflaterPool.borrow(6);
+
+		deflaterPool.release(deflater1);
+		deflaterPool.release(deflater2);
+
+		assertThat(deflaterPool.getIdleCount(), is(1));
+	}
+
+}
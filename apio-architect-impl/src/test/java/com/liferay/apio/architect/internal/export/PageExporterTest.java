@@ -0,0 +1,191 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.export;
+
+import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+import static com.liferay.apio.architect.internal.util.request.MockHttpServletRequestCreator.createHttpServletRequest;
+
+import static java.util.Collections.singletonMap;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.internal.action.ActionSemantics;
+import com.liferay.apio.architect.internal.annotation.Action;
+import com.liferay.apio.architect.internal.pagination.PageImpl;
+import com.liferay.apio.architect.internal.pagination.PaginationImpl;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.pagination.PageItems;
+import com.liferay.apio.architect.pagination.Pagination;
+import com.liferay.apio.architect.resource.Resource.Item;
+import com.liferay.apio.architect.resource.Resource.Paged;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author agent
+ */
+public class PageExporterTest {
+
+	@Before
+	public void setUp() {
+		_httpServletRequest = createHttpServletRequest();
+
+		_pageExporter = new PageExporter();
+
+		Map<String, Object> properties = new HashMap<>();
+
+		properties.put("enabled", true);
+		properties.put("page.size", 2);
+
+		_pageExporter.activate(properties);
+	}
+
+	@Test
+	public void testActionNotRetrievingAPageIsReturnedUnchanged() {
+		ActionSemantics actionSemantics = ActionSemantics.ofResource(
+			Item.of("name")
+		).name(
+			"retrieve"
+		).method(
+			"GET"
+		).returns(
+			SingleModel.class
+		).permissionFunction(
+		).executeFunction(
+			__ -> null
+		).build();
+
+		Action action = (Action.Ok)request -> "Apio";
+
+		assertThat(_pageExporter.export(actionSemantics, action), is(action));
+	}
+
+	@Test
+	public void testDisabledExporterReturnsTheOriginalAction() {
+		PageExporter pageExporter = new PageExporter();
+
+		pageExporter.activate(singletonMap("enabled", false));
+
+		Action action = (Action.Ok)request -> "Apio";
+
+		assertThat(pageExporter.export(_actionSemantics, action), is(action));
+	}
+
+	@Test
+	public void testExportedActionRetrievesEveryPageLazily() {
+		Mockito.when(
+			_httpServletRequest.getParameter("export")
+		).thenReturn(
+			"true"
+		);
+
+		AtomicInteger executions = new AtomicInteger();
+
+		Action action = _pageExporter.export(
+			_actionSemantics,
+			(Action.Ok)request -> {
+				executions.incrementAndGet();
+
+				return _getPage(request);
+			});
+
+		Object result = action.execute(_httpServletRequest);
+
+		assertThat(result, is(instanceOf(Page.class)));
+		assertThat(PageExporter.isExport(_httpServletRequest), is(true));
+
+		Page<Integer> page = unsafeCast(result);
+
+		assertThat(page.isLazy(), is(true));
+		assertThat(page.getTotalCount(), is(5));
+		assertThat(executions.get(), is(1));
+
+		Stream<Integer> stream = page.getItemsStream();
+
+		List<Integer> items = stream.collect(Collectors.toList());
+
+		assertThat(items, contains(1, 2, 3, 4, 5));
+		assertThat(executions.get(), is(3));
+	}
+
+	@Test
+	public void testRequestWithoutExportParameterIsNotExported() {
+		Action action = _pageExporter.export(
+			_actionSemantics, (Action.Ok)this::_getPage);
+
+		Object result = action.execute(_httpServletRequest);
+
+		assertThat(PageExporter.isExport(_httpServletRequest), is(false));
+
+		Page<Integer> page = unsafeCast(result);
+
+		assertThat(page.isLazy(), is(false));
+		assertThat(page.getItems(), contains(1, 2, 3));
+	}
+
+	private Page<Integer> _getPage(HttpServletRequest request) {
+		Optional<Pagination> optional = PageExporter.getPaginationOptional(
+			request);
+
+		Pagination pagination = optional.orElseGet(() -> _defaultPagination);
+
+		List<Integer> items = IntStream.rangeClosed(
+			pagination.getStartPosition() + 1,
+			Math.min(pagination.getEndPosition(), 5)
+		).boxed(
+		).collect(
+			Collectors.toList()
+		);
+
+		return new PageImpl<>(
+			Paged.of("name"), new PageItems<>(items, 5), pagination);
+	}
+
+	private final ActionSemantics _actionSemantics = ActionSemantics.ofResource(
+		Paged.of("name")
+	).name(
+		"retrieve"
+	).method(
+		"GET"
+	).returns(
+		Page.class
+	).permissionFunction(
+	).executeFunction(
+		__ -> null
+	).build();
+
+	private final Pagination _defaultPagination = new PaginationImpl(3, 1);
+	private HttpServletRequest _httpServletRequest;
+	private PageExporter _pageExporter;
+
+}
@@ -0,0 +1,226 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.filter;
+
+import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+
+import static java.util.Arrays.asList;
+
+import static javax.ws.rs.core.HttpHeaders.ETAG;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsNull.notNullValue;
+import static org.hamcrest.core.IsNull.nullValue;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.liferay.apio.architect.credentials.PrincipalKey;
+import com.liferay.apio.architect.internal.cache.CachedResponse;
+import com.liferay.apio.architect.internal.cache.ItemResponseCache;
+import com.liferay.apio.architect.internal.pagination.PageImpl;
+import com.liferay.apio.architect.internal.pagination.PaginationImpl;
+import com.liferay.apio.architect.internal.response.control.Embedded;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.provider.ProviderManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
+import com.liferay.apio.architect.pagination.PageItems;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.resource.Resource.Paged;
+
+import java.net.URI;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.UriInfo;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class ConditionalRequestFilterTest implements RepresentableManager {
+
+	@Override
+	public <T> Optional<Representor<T>> getRepresentorOptional(String name) {
+		return Optional.of(unsafeCast(_representor));
+	}
+
+	@Override
+	public Map<String, Representor> getRepresentors() {
+		return Collections.emptyMap();
+	}
+
+	@Before
+	public void setUp() {
+		_conditionalRequestFilter = new ConditionalRequestFilter();
+
+		_conditionalRequestFilter.httpServletRequest = mock(
+			HttpServletRequest.class);
+		_conditionalRequestFilter.itemResponseCache = new ItemResponseCache();
+
+		ProviderManager providerManager = mock(ProviderManager.class);
+
+		when(
+			providerManager.provideOptional(any(), any())
+		).thenReturn(
+			Optional.empty()
+		);
+
+		PrincipalKey principalKey = () -> "user";
+
+		when(
+			providerManager.provideOptional(any(), eq(PrincipalKey.class))
+		).thenReturn(
+			Optional.of(principalKey)
+		);
+
+		_conditionalRequestFilter.providerManager = providerManager;
+		_conditionalRequestFilter.representableManager = this;
+
+		_representor = unsafeCast(mock(Representor.class));
+
+		when(
+			_representor.getIdentifier(any())
+		).thenAnswer(
+			invocation -> invocation.getArguments()[0]
+		);
+
+		when(
+			_representor.getVersionFunctionOptional()
+		).thenReturn(
+			Optional.of(model -> "version")
+		);
+	}
+
+	@Test
+	public void testFilterGivesCachedResponsesTheirStoredETag() {
+		CachedResponse cachedResponse = new CachedResponse(
+			"application/json", new byte[0], "\"version\"");
+
+		assertThat(_getETag(cachedResponse), is("\"version\""));
+	}
+
+	@Test
+	public void testFilterGivesDifferentETagsToDifferentPageNumbers() {
+		String eTag = _getETag(_getPage(asList("1", "2"), 1));
+
+		assertThat(_getETag(_getPage(asList("1", "2"), 2)), is(not(eTag)));
+	}
+
+	@Test
+	public void testFilterGivesDifferentETagsToPagesWithDifferentItems() {
+		String eTag = _getETag(_getPage(asList("1", "2"), 1));
+
+		assertThat(eTag, is(notNullValue()));
+		assertThat(_getETag(_getPage(asList("1", "2"), 1)), is(eTag));
+		assertThat(_getETag(_getPage(asList("3", "4"), 1)), is(not(eTag)));
+		assertThat(_getETag(_getPage(asList("2", "1"), 1)), is(not(eTag)));
+	}
+
+	@Test
+	public void testFilterGivesDifferentETagsToSharedEmbeddedPages() {
+		String eTag = _getETag(_getPage(asList("1", "2"), 1));
+
+		Embedded embedded = new Embedded() {
+
+			@Override
+			public boolean isShared() {
+				return true;
+			}
+
+			@Override
+			public boolean test(String field) {
+				return false;
+			}
+
+		};
+
+		when(
+			_conditionalRequestFilter.providerManager.provideOptional(
+				any(), eq(Embedded.class))
+		).thenReturn(
+			Optional.of(embedded)
+		);
+
+		assertThat(_getETag(_getPage(asList("1", "2"), 1)), is(not(eTag)));
+	}
+
+	@Test
+	public void testFilterGivesNoVersionETagWithoutPrincipalKey() {
+		when(
+			_conditionalRequestFilter.providerManager.provideOptional(
+				any(), eq(PrincipalKey.class))
+		).thenReturn(
+			Optional.empty()
+		);
+
+		assertThat(_getETag(_getPage(asList("1", "2"), 1)), nullValue());
+	}
+
+	private String _getETag(Object entity) {
+		ContainerRequestContext containerRequestContext = mock(
+			ContainerRequestContext.class);
+
+		when(containerRequestContext.getMethod()).thenReturn("GET");
+
+		UriInfo uriInfo = mock(UriInfo.class);
+
+		when(
+			uriInfo.getRequestUri()
+		).thenReturn(
+			URI.create("http://localhost/p/name")
+		);
+
+		when(containerRequestContext.getUriInfo()).thenReturn(uriInfo);
+
+		ContainerResponseContext containerResponseContext = mock(
+			ContainerResponseContext.class);
+
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		when(containerResponseContext.getEntity()).thenReturn(entity);
+		when(containerResponseContext.getHeaders()).thenReturn(headers);
+		when(containerResponseContext.getStatus()).thenReturn(200);
+
+		_conditionalRequestFilter.filter(
+			containerRequestContext, containerResponseContext);
+
+		return (String)headers.getFirst(ETAG);
+	}
+
+	private PageImpl<String> _getPage(List<String> items, int pageNumber) {
+		return new PageImpl<>(
+			Paged.of("name"), new PageItems<>(items, 10),
+			new PaginationImpl(2, pageNumber));
+	}
+
+	private ConditionalRequestFilter _conditionalRequestFilter;
+	private Representor<Object> _representor;
+
+}
@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.limit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.core.Is.is;
+
+import org.junit.Test;
+
+/**
+ * Simulates a synthetic slow router, whose latency grows linearly once the
+ * number of concurrent requests exceeds its capacity, and checks that the
+ * limiter converges to a limit that keeps the latency bounded.
+ *
+ * @author agent
+ */
+public class AdaptiveConcurrencyLimiterTest {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testCreatingWithInvalidBackoffRatioThrowsException() {
+		new AdaptiveConcurrencyLimiter(10, 1, 100, 1.5, 2.0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testCreatingWithInvalidBoundsThrowsException() {
+		new AdaptiveConcurrencyLimiter(10, 100, 1, 0.9, 2.0);
+	}
+
+	@Test
+	public void testLimitGrowsWhenLatencyIsStable() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+			10, 1, 50, 0.9, 2.0);
+
+		_simulate(limiter, 100, 1000, 1000);
+
+		assertThat(limiter.getLimit(), is(greaterThan(10)));
+		assertThat(limiter.getShedCount(), is(greaterThan(0L)));
+		assertThat(limiter.getInFlight(), is(0));
+	}
+
+	@Test
+	public void testLimitShrinksAndLatencyStaysBoundedWithSlowRouter() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+			100, 1, 200, 0.9, 2.0);
+
+		long maxLatency = _simulate(limiter, 150, 10, 1000);
+
+		assertThat(limiter.getLimit(), is(lessThanOrEqualTo(40)));
+		assertThat(limiter.getShedCount(), is(greaterThan(0L)));
+		assertThat(limiter.getInFlight(), is(0));
+		assertThat(maxLatency, is(lessThanOrEqualTo(_BASE_LATENCY * 4)));
+	}
+
+	@Test
+	public void testTryAcquireReturnsFalseWhenLimitIsReached() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+			2, 1, 10, 0.9, 2.0);
+
+		assertThat(limiter.tryAcquire(), is(true));
+		assertThat(limiter.tryAcquire(), is(true));
+		assertThat(limiter.tryAcquire(), is(false));
+		assertThat(limiter.getInFlight(), is(2));
+		assertThat(limiter.getShedCount(), is(1L));
+
+		limiter.release(_BASE_LATENCY);
+
+		assertThat(limiter.tryAcquire(), is(true));
+	}
+
+	/**
+	 * Runs {@code rounds} rounds in which {@code clients} concurrent clients
+	 * try to call a router with the provided capacity. Returns the maximum
+	 * latency observed during the second half of the simulation, once the
+	 * limiter has had time to adapt.
+	 */
+	private static long _simulate(
+		AdaptiveConcurrencyLimiter limiter, int clients, int capacity,
+		int rounds) {
+
+		long maxLatency = 0;
+
+		for (int round = 0; round < rounds; round++) {
+			int accepted = 0;
+
+			for (int client = 0; client < clients; client++) {
+				if (limiter.tryAcquire()) {
+					accepted++;
+				}
+			}
+
+			int load = (accepted + capacity - 1) / capacity;
+
+			long latency = _BASE_LATENCY * Math.max(1, load);
+
+			if (round >= (rounds / 2)) {
+				maxLatency = Math.max(maxLatency, latency);
+			}
+
+			for (int i = 0; i < accepted; i++) {
+				limiter.release(latency);
+			}
+		}
+
+		return maxLatency;
+	}
+
+	private static final long _BASE_LATENCY = 1000000;
+
+}
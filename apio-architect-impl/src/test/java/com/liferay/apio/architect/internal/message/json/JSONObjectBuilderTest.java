@@ -14,8 +14,16 @@
 
 package com.liferay.apio.architect.internal.message.json;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
 import static org.skyscreamer.jsonassert.JSONAssert.assertEquals;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
 import java.util.Arrays;
 
 import org.json.JSONException;
@@ -172,6 +180,36 @@ public class JSONObjectBuilderTest {
 		assertEquals(expected, _jsonObjectBuilder.build(), true);
 	}
 
+	@Test
+	public void testInvokingBuildLineCreatesAJsonObjectInASingleLine() {
+		_jsonObjectBuilder.nestedField(
+			"object", "inner"
+		).numberValue(
+			42
+		);
+
+		assertThat(
+			_jsonObjectBuilder.buildLine(), is("{\"object\":{\"inner\":42}}"));
+	}
+
+	@Test
+	public void testInvokingBuildWithBinaryJSONFormatEncodesTheJsonObject()
+		throws IOException {
+
+		_jsonObjectBuilder.nestedField(
+			"object", "inner"
+		).numberValue(
+			42
+		);
+
+		byte[] bytes = _jsonObjectBuilder.build(BinaryJSONFormat.CBOR);
+
+		JsonNode jsonNode = BinaryJSONFormat.CBOR.readTree(
+			new ByteArrayInputStream(bytes));
+
+		assertThat(jsonNode.toString(), is("{\"object\":{\"inner\":42}}"));
+	}
+
 	@Test
 	public void testInvokingFalseIfElseConditionCreatesACorrectField()
 		throws JSONException {
@@ -395,6 +433,27 @@ public class JSONObjectBuilderTest {
 		assertEquals(expected, _jsonObjectBuilder.build(), true);
 	}
 
+	@Test
+	public void testInvokingRemoveFieldRemovesTheField() throws JSONException {
+		_jsonObjectBuilder.field(
+			"solution"
+		).numberValue(
+			42
+		);
+
+		_jsonObjectBuilder.field(
+			"question"
+		).stringValue(
+			"unknown"
+		);
+
+		_jsonObjectBuilder.removeField("question");
+
+		String expected = "{'solution': 42}";
+
+		assertEquals(expected, _jsonObjectBuilder.build(), true);
+	}
+
 	@Test
 	public void testInvokingStringValueCreatesAString() throws JSONException {
 		_jsonObjectBuilder.field(
@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.message.json.cbor;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import static org.skyscreamer.jsonassert.JSONAssert.assertEquals;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import com.liferay.apio.architect.internal.message.json.BinaryJSONFormat;
+import com.liferay.apio.architect.internal.util.writer.MockSingleModelWriter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import java.util.Optional;
+
+import org.json.JSONException;
+
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class CBORMessageMapperTest {
+
+	@Test
+	public void testMessageMappersUseCBOR() {
+		_assertCBOR(new CBORBatchResultMessageMapper<>().getMediaType());
+		_assertCBOR(new CBORErrorMessageMapper().getMediaType());
+		_assertCBOR(new CBORPageMessageMapper<>().getMediaType());
+		_assertCBOR(new CBORSingleModelMessageMapper<>().getMediaType());
+
+		Optional<BinaryJSONFormat> optional =
+			new CBORPageMessageMapper<>().getBinaryJSONFormatOptional();
+
+		assertThat(optional, is(Optional.of(BinaryJSONFormat.CBOR)));
+	}
+
+	@Test
+	public void testSingleModelIsEncodedWithThePlainJSONStructure()
+		throws IOException, JSONException {
+
+		byte[] bytes = MockSingleModelWriter.write(
+			new CBORSingleModelMessageMapper<>(), BinaryJSONFormat.CBOR);
+
+		JsonNode jsonNode = BinaryJSONFormat.CBOR.readTree(
+			new ByteArrayInputStream(bytes));
+
+		Path path = Paths.get(
+			"src", "test", "resources", "plain", "single_model.json");
+
+		String expected = new String(Files.readAllBytes(path), UTF_8);
+
+		assertEquals(expected, jsonNode.toString(), true);
+	}
+
+	private void _assertCBOR(String mediaType) {
+		assertThat(mediaType, is("application/cbor"));
+	}
+
+}
@@ -14,9 +14,15 @@
 
 package com.liferay.apio.architect.internal.message.json.hal;
 
+import static com.liferay.apio.architect.internal.util.writer.MockWriterUtil.getSharedEmbeddedRequestInfo;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
 import com.liferay.apio.architect.internal.unsafe.Unsafe;
 import com.liferay.apio.architect.internal.util.json.MessageMapperTesterBuilder;
 import com.liferay.apio.architect.internal.util.model.RootModel;
+import com.liferay.apio.architect.internal.util.writer.MockPageWriter;
 import com.liferay.apio.architect.internal.util.writer.MockWriterUtil;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
 import com.liferay.apio.architect.representor.Representor;
@@ -24,9 +30,14 @@ import com.liferay.apio.architect.representor.Representor;
 import java.nio.file.Paths;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
 import org.junit.Test;
 
 /**
@@ -70,4 +81,72 @@ public class HALMessageMapperTest implements RepresentableManager {
 		);
 	}
 
-}
\ No newline at end of file
+	@Test
+	public void testHALPageMessageMapperAddsSharedEmbeddedModelsOnce()
+		throws JSONException {
+
+		HALPageMessageMapper<RootModel> pageMessageMapper =
+			new HALPageMessageMapper<>();
+
+		pageMessageMapper.representableManager = this;
+
+		JSONObject jsonObject = new JSONObject(
+			MockPageWriter.write(
+				pageMessageMapper, getSharedEmbeddedRequestInfo()));
+
+		JSONObject embeddedJSONObject = jsonObject.getJSONObject("_embedded");
+
+		JSONArray sharedJSONArray = embeddedJSONObject.getJSONArray(
+			"embedded1");
+
+		assertThat(sharedJSONArray.length(), is(1));
+
+		String url = sharedJSONArray.getJSONObject(
+			0
+		).getJSONObject(
+			"_links"
+		).getJSONObject(
+			"self"
+		).getString(
+			"href"
+		);
+
+		assertThat(embeddedJSONObject.getJSONArray("embedded").length(), is(1));
+
+		Optional<Representor<RootModel>> optional = getRepresentorOptional(
+			"root");
+
+		List<String> types = optional.map(
+			Representor::getTypes
+		).orElseGet(
+			Collections::emptyList
+		);
+
+		JSONArray itemsJSONArray = embeddedJSONObject.getJSONArray(
+			types.get(0));
+
+		assertThat(itemsJSONArray.length(), is(3));
+
+		for (int i = 0; i < itemsJSONArray.length(); i++) {
+			JSONObject itemJSONObject = itemsJSONArray.getJSONObject(i);
+
+			JSONObject itemEmbeddedJSONObject = itemJSONObject.optJSONObject(
+				"_embedded");
+
+			if (itemEmbeddedJSONObject != null) {
+				assertThat(itemEmbeddedJSONObject.has("embedded1"), is(false));
+			}
+
+			String itemURL = itemJSONObject.getJSONObject(
+				"_links"
+			).getJSONObject(
+				"embedded1"
+			).getString(
+				"href"
+			);
+
+			assertThat(itemURL, is(url));
+		}
+	}
+
+}
@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.message.json.ld;
+
+import static com.liferay.apio.architect.internal.message.json.ld.JSONLDContextManager.createContext;
+import static com.liferay.apio.architect.internal.util.representor.MockRepresentorCreator.createSecondEmbeddedModelRepresentor;
+import static com.liferay.apio.architect.internal.util.representor.MockRepresentorCreator.createThirdEmbeddedModelRepresentor;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+
+import static org.skyscreamer.jsonassert.JSONAssert.assertEquals;
+
+import com.liferay.apio.architect.internal.cache.CachedResponse;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
+import com.liferay.apio.architect.representor.Representor;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.json.JSONException;
+
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class JSONLDContextManagerTest implements RepresentableManager {
+
+	@Override
+	public <T> Optional<Representor<T>> getRepresentorOptional(String name) {
+		return Optional.empty();
+	}
+
+	@Override
+	public Map<String, Representor> getRepresentors() {
+		Map<String, Representor> representors = new HashMap<>();
+
+		representors.put("second", createSecondEmbeddedModelRepresentor());
+		representors.put("third", createThirdEmbeddedModelRepresentor());
+
+		return representors;
+	}
+
+	@Test
+	public void testCreateContextDeclaresLinkedResourcesAsIds()
+		throws JSONException {
+
+		String context = createContext(createSecondEmbeddedModelRepresentor());
+
+		String expected = String.join(
+			"", "{'@context': [{'embedded': {'@type': '@id'}, 'linked': ",
+			"{'@type': '@id'}, 'relatedCollection': {'@type': '@id'}}, ",
+			"{'@vocab': 'http://schema.org/'}, ",
+			"'https://www.w3.org/ns/hydra/core#']}");
+
+		assertEquals(expected, context, true);
+	}
+
+	@Test
+	public void testCreateContextWithoutLinkedResourcesOnlyHasVocabularies()
+		throws JSONException {
+
+		String context = createContext(createThirdEmbeddedModelRepresentor());
+
+		String expected = String.join(
+			"", "{'@context': [{'@vocab': 'http://schema.org/'}, ",
+			"'https://www.w3.org/ns/hydra/core#']}");
+
+		assertEquals(expected, context, true);
+	}
+
+	@Test
+	public void testGetContextOptionalKeysContextsByResourceName() {
+		JSONLDContextManager jsonLDContextManager = new JSONLDContextManager();
+
+		jsonLDContextManager.activate(
+			Collections.singletonMap("enabled", "true"));
+		jsonLDContextManager.representableManager = this;
+
+		String secondContext = _getContext(jsonLDContextManager, "second");
+		String thirdContext = _getContext(jsonLDContextManager, "third");
+
+		assertThat(
+			secondContext,
+			is(createContext(createSecondEmbeddedModelRepresentor())));
+		assertThat(
+			thirdContext,
+			is(createContext(createThirdEmbeddedModelRepresentor())));
+		assertThat(secondContext, is(not(thirdContext)));
+		assertThat(
+			jsonLDContextManager.getContextOptional("Type"),
+			is(emptyOptional()));
+	}
+
+	@Test
+	public void testGetContextOptionalReturnsEmptyIfDisabled() {
+		JSONLDContextManager jsonLDContextManager = new JSONLDContextManager();
+
+		Optional<CachedResponse> optional =
+			jsonLDContextManager.getContextOptional("Type");
+
+		assertThat(jsonLDContextManager.isEnabled(), is(false));
+		assertThat(optional, is(emptyOptional()));
+	}
+
+	private String _getContext(
+		JSONLDContextManager jsonLDContextManager, String name) {
+
+		Optional<CachedResponse> optional =
+			jsonLDContextManager.getContextOptional(name);
+
+		CachedResponse cachedResponse = optional.get();
+
+		return new String(cachedResponse.getBytes(), UTF_8);
+	}
+
+}
@@ -14,10 +14,24 @@
 
 package com.liferay.apio.architect.internal.message.json.ld;
 
+import static com.liferay.apio.architect.internal.util.writer.MockWriterUtil.getSharedEmbeddedRequestInfo;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
 import com.liferay.apio.architect.internal.util.json.MessageMapperTesterBuilder;
+import com.liferay.apio.architect.internal.util.model.RootModel;
+import com.liferay.apio.architect.internal.util.writer.MockPageWriter;
 
 import java.nio.file.Paths;
 
+import java.util.Arrays;
+import java.util.List;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
 import org.junit.Test;
 
 /**
@@ -28,6 +42,17 @@ public class JSONLDMessageMapperTest {
 
 	@Test
 	public void testJSONLDMessageMappers() {
+		JSONLDPageMessageMapper<RootModel> pageMessageMapper =
+			new JSONLDPageMessageMapper<>();
+
+		pageMessageMapper.jsonLDContextManager = new JSONLDContextManager();
+
+		JSONLDSingleModelMessageMapper<RootModel> singleModelMessageMapper =
+			new JSONLDSingleModelMessageMapper<>();
+
+		singleModelMessageMapper.jsonLDContextManager =
+			new JSONLDContextManager();
+
 		MessageMapperTesterBuilder.path(
 			Paths.get("src", "test", "resources", "ld")
 		).mediaType(
@@ -41,10 +66,56 @@ public class JSONLDMessageMapperTest {
 		).validateErrorMessageMapper(
 			new JSONLDErrorMessageMapper()
 		).validatePageMessageMapper(
-			new JSONLDPageMessageMapper<>()
+			pageMessageMapper
 		).validateSingleModelMessageMapper(
-			new JSONLDSingleModelMessageMapper<>()
+			singleModelMessageMapper
 		);
 	}
 
-}
\ No newline at end of file
+	@Test
+	public void testJSONLDPageMessageMapperAddsSharedEmbeddedModelsToIncluded()
+		throws JSONException {
+
+		JSONLDPageMessageMapper<RootModel> pageMessageMapper =
+			new JSONLDPageMessageMapper<>();
+
+		pageMessageMapper.jsonLDContextManager = new JSONLDContextManager();
+
+		JSONObject jsonObject = new JSONObject(
+			MockPageWriter.write(
+				pageMessageMapper, getSharedEmbeddedRequestInfo()));
+
+		assertThat(jsonObject.has("@graph"), is(false));
+
+		JSONArray includedJSONArray = jsonObject.getJSONArray("@included");
+
+		assertThat(includedJSONArray.length(), is(2));
+
+		List<String> urls = Arrays.asList(
+			includedJSONArray.getJSONObject(
+				0
+			).getString(
+				"@id"
+			),
+			includedJSONArray.getJSONObject(
+				1
+			).getString(
+				"@id"
+			));
+
+		assertThat(urls.get(0).equals(urls.get(1)), is(false));
+
+		JSONArray membersJSONArray = jsonObject.getJSONArray("member");
+
+		assertThat(membersJSONArray.length(), is(3));
+
+		for (int i = 0; i < membersJSONArray.length(); i++) {
+			JSONObject memberJSONObject = membersJSONArray.getJSONObject(i);
+
+			assertThat(
+				urls.contains(memberJSONObject.getString("embedded1")),
+				is(true));
+		}
+	}
+
+}
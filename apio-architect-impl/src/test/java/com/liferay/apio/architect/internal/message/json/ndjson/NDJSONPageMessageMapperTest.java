@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.message.json.ndjson;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import static org.skyscreamer.jsonassert.JSONAssert.assertEquals;
+
+import com.liferay.apio.architect.internal.util.writer.MockPageWriter;
+
+import java.io.IOException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class NDJSONPageMessageMapperTest {
+
+	@Test
+	public void testGetMediaTypeReturnsNDJSON() {
+		NDJSONPageMessageMapper<?> ndJSONPageMessageMapper =
+			new NDJSONPageMessageMapper<>();
+
+		assertThat(
+			ndJSONPageMessageMapper.getMediaType(), is("application/x-ndjson"));
+		assertThat(ndJSONPageMessageMapper.isItemDelimited(), is(true));
+	}
+
+	@Test
+	public void testItemsAreWrittenAsPlainJSONObjectsOnePerLine()
+		throws IOException, JSONException {
+
+		String result = MockPageWriter.write(new NDJSONPageMessageMapper<>());
+
+		String[] lines = result.split("\n");
+
+		Path path = Paths.get("src", "test", "resources", "plain", "page.json");
+
+		JSONObject jsonObject = new JSONObject(
+			new String(Files.readAllBytes(path), UTF_8));
+
+		JSONArray jsonArray = jsonObject.getJSONArray("elements");
+
+		assertThat(lines.length, is(jsonArray.length()));
+
+		for (int i = 0; i < lines.length; i++) {
+			assertEquals(
+				jsonArray.getJSONObject(i), new JSONObject(lines[i]), true);
+		}
+	}
+
+}
@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.metrics;
+
+import static com.liferay.apio.architect.internal.metrics.LatencyHistogram.getBucketIndex;
+import static com.liferay.apio.architect.internal.metrics.LatencyHistogram.getBucketUpperBound;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.core.Is.is;
+
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class LatencyHistogramTest {
+
+	@Test
+	public void testBucketsCoverEveryValueWithBoundedError() {
+		long[] values = {
+			0, 1, 7, 8, 9, 15, 16, 17, 1000, 123_456_789L, Long.MAX_VALUE
+		};
+
+		for (long value : values) {
+			int index = getBucketIndex(value);
+
+			long upperBound = getBucketUpperBound(index);
+
+			assertThat(upperBound, is(greaterThanOrEqualTo(value)));
+			assertThat(upperBound - value, is(lessThanOrEqualTo(value / 8)));
+
+			if (index > 0) {
+				long previousUpperBound = getBucketUpperBound(index - 1);
+
+				assertThat(previousUpperBound, is(lessThan(value)));
+			}
+		}
+	}
+
+	@Test
+	public void testEmptyHistogramReturnsZero() {
+		LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+		assertThat(latencyHistogram.getCount(), is(0L));
+		assertThat(latencyHistogram.getMax(), is(0L));
+		assertThat(latencyHistogram.getSum(), is(0L));
+		assertThat(latencyHistogram.getValueAtQuantile(0.99), is(0L));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testGetValueAtInvalidQuantileThrowsException() {
+		LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+		latencyHistogram.getValueAtQuantile(1.5);
+	}
+
+	@Test
+	public void testRecordedValuesAreCountedAndSummed() {
+		LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+		for (int i = 1; i <= 1000; i++) {
+			latencyHistogram.record(i * 1000L);
+		}
+
+		assertThat(latencyHistogram.getCount(), is(1000L));
+		assertThat(latencyHistogram.getMax(), is(1_000_000L));
+		assertThat(latencyHistogram.getSum(), is(500_500_000L));
+		assertThat(latencyHistogram.getCountAtOrBelow(1023), is(1L));
+		assertThat(
+			latencyHistogram.getCountAtOrBelow(Long.MAX_VALUE), is(1000L));
+	}
+
+	@Test
+	public void testValueAtQuantileHasBoundedRelativeError() {
+		LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+		for (int i = 1; i <= 1000; i++) {
+			latencyHistogram.record(i * 1000L);
+		}
+
+		long p50 = latencyHistogram.getValueAtQuantile(0.5);
+		long p99 = latencyHistogram.getValueAtQuantile(0.99);
+
+		assertThat(p50, is(greaterThanOrEqualTo(500_000L)));
+		assertThat(p50, is(lessThanOrEqualTo(562_500L)));
+		assertThat(p99, is(greaterThanOrEqualTo(990_000L)));
+		assertThat(p99, is(lessThanOrEqualTo(1_000_000L)));
+		assertThat(latencyHistogram.getValueAtQuantile(1.0), is(1_000_000L));
+	}
+
+}
@@ -0,0 +1,189 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.metrics;
+
+import static com.liferay.apio.architect.internal.util.request.MockHttpServletRequestCreator.createHttpServletRequest;
+
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.internal.action.ActionSemantics;
+import com.liferay.apio.architect.internal.annotation.Action;
+import com.liferay.apio.architect.internal.limit.AdaptiveConcurrencyLimiter;
+import com.liferay.apio.architect.resource.Resource.Item;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.util.List;
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class MetricsRegistryTest {
+
+	@Before
+	public void setUp() {
+		_httpServletRequest = createHttpServletRequest();
+	}
+
+	@Test
+	public void testDisabledRegistryReturnsTheOriginalAction() {
+		MetricsRegistry metricsRegistry = new MetricsRegistry();
+
+		metricsRegistry.activate(singletonMap("enabled", false));
+
+		Action action = request -> "Apio";
+
+		assertThat(
+			metricsRegistry.instrument(_actionSemantics, action), is(action));
+	}
+
+	@Test
+	public void testInstrumentedActionKeepsItsType() {
+		MetricsRegistry metricsRegistry = new MetricsRegistry();
+
+		metricsRegistry.activate(singletonMap("enabled", true));
+
+		Action noContentAction = (Action.NoContent)request -> null;
+		Action okAction = (Action.Ok)request -> "Apio";
+
+		assertThat(
+			metricsRegistry.instrument(_actionSemantics, noContentAction),
+			is(instanceOf(Action.NoContent.class)));
+		assertThat(
+			metricsRegistry.instrument(_actionSemantics, okAction),
+			is(instanceOf(Action.Ok.class)));
+	}
+
+	@Test
+	public void testMetricsAreRecordedOncePerRequest() {
+		MetricsRegistry metricsRegistry = new MetricsRegistry();
+
+		metricsRegistry.activate(singletonMap("enabled", true));
+
+		Action action = metricsRegistry.instrument(
+			_actionSemantics, (Action.Ok)request -> "Apio");
+
+		assertThat(action.execute(_httpServletRequest), is("Apio"));
+
+		metricsRegistry.recordEmbeddedFetch(_httpServletRequest);
+		metricsRegistry.recordEmbeddedFetch(_httpServletRequest);
+		metricsRegistry.recordIdentityMapHit(_httpServletRequest);
+		metricsRegistry.recordStatus(_httpServletRequest, 201);
+		metricsRegistry.recordResponse(_httpServletRequest, 42);
+		metricsRegistry.recordResponse(_httpServletRequest, 42);
+
+		List<ActionMetrics> actionMetricsList =
+			metricsRegistry.getActionMetrics();
+
+		assertThat(actionMetricsList.size(), is(1));
+
+		ActionMetrics actionMetrics = actionMetricsList.get(0);
+
+		assertThat(actionMetrics.getActionName(), is("retrieve"));
+		assertThat(actionMetrics.getBytesWritten(), is(42L));
+		assertThat(actionMetrics.getEmbeddedFetchCount(), is(2L));
+		assertThat(actionMetrics.getErrorCount(), is(0L));
+		assertThat(actionMetrics.getHTTPMethod(), is("GET"));
+		assertThat(actionMetrics.getIdentityMapHitCount(), is(1L));
+		assertThat(actionMetrics.getRequestCount(), is(1L));
+		assertThat(actionMetrics.getResourceName(), is("name"));
+		assertThat(actionMetrics.getStatusCounts(), is(singletonMap(201, 1L)));
+	}
+
+	@Test
+	public void testPrometheusFormatContainsConcurrencyLimits() {
+		ActionMetrics actionMetrics = new ActionMetrics(
+			"GET", "name", "retrieve");
+
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+			1, 1, 10, 0.9, 2.0);
+
+		assertThat(limiter.tryAcquire(), is(true));
+		assertThat(limiter.tryAcquire(), is(false));
+
+		String text = MetricsFormatUtil.toPrometheus(
+			singletonList(actionMetrics), __ -> Optional.of(limiter));
+
+		String labels = "method=\"GET\",resource=\"name\",action=\"retrieve\"";
+
+		assertThat(
+			text,
+			containsString(
+				"apio_action_concurrency_limit{" + labels + "} 1\n"));
+		assertThat(
+			text, containsString("apio_action_in_flight{" + labels + "} 1\n"));
+		assertThat(
+			text, containsString("apio_action_shed_total{" + labels + "} 1\n"));
+	}
+
+	@Test
+	public void testPrometheusFormatContainsEveryMetric() {
+		ActionMetrics actionMetrics = new ActionMetrics(
+			"GET", "name", "retrieve");
+
+		actionMetrics.recordResponse(500, 10, 1_000_000);
+
+		String text = MetricsFormatUtil.toPrometheus(
+			singletonList(actionMetrics), __ -> Optional.empty());
+
+		String labels = "method=\"GET\",resource=\"name\",action=\"retrieve\"";
+
+		assertThat(
+			text,
+			containsString(
+				"apio_action_duration_seconds_count{" + labels + "} 1\n"));
+		assertThat(
+			text,
+			containsString(
+				"apio_action_responses_total{" + labels +
+					",status=\"500\"} 1\n"));
+		assertThat(
+			text,
+			containsString(
+				"apio_action_response_bytes_total{" + labels + "} 10\n"));
+		assertThat(
+			text,
+			containsString(
+				"apio_action_embedded_fetches_total{" + labels + "} 0\n"));
+		assertThat(actionMetrics.getErrorCount(), is(1L));
+	}
+
+	private final ActionSemantics _actionSemantics = ActionSemantics.ofResource(
+		Item.of("name")
+	).name(
+		"retrieve"
+	).method(
+		"GET"
+	).returns(
+		SingleModel.class
+	).permissionFunction(
+	).executeFunction(
+		__ -> null
+	).build();
+
+	private HttpServletRequest _httpServletRequest;
+
+}
@@ -16,6 +16,7 @@ package com.liferay.apio.architect.internal.pagination;
 
 import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -29,6 +30,9 @@ import com.liferay.apio.architect.pagination.Pagination;
 import com.liferay.apio.architect.resource.Resource.Paged;
 
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -49,6 +53,26 @@ public class PageTest {
 		_page = new PageImpl<>(_paged, _pageItems, pagination);
 	}
 
+	@Test
+	public void testCloseClosesLazyItems() {
+		AtomicBoolean closed = new AtomicBoolean();
+
+		PageItems<String> pageItems = new PageItems<>(
+			Stream.of(
+				"apio"
+			).onClose(
+				() -> closed.set(true)
+			),
+			10);
+
+		PageImpl<String> page = new PageImpl<>(
+			_paged, pageItems, new PaginationImpl(1, 4));
+
+		page.close();
+
+		assertThat(closed.get(), is(true));
+	}
+
 	@Test
 	public void testGetItemsPerPageReturnsItemsPerPage() {
 		assertThat(_page.getItemsPerPage(), is(1));
@@ -59,6 +83,36 @@ public class PageTest {
 		assertThat(_page.getItems(), contains("apio"));
 	}
 
+	@Test
+	public void testGetItemsReturnsLazyItemsAndClosesThem() {
+		AtomicBoolean closed = new AtomicBoolean();
+
+		PageItems<String> pageItems = new PageItems<>(
+			asList("apio", "architect").iterator(), 10,
+			() -> closed.set(true));
+
+		Page<String> page = new PageImpl<>(
+			_paged, pageItems, new PaginationImpl(2, 4));
+
+		assertThat(page.getItems(), contains("apio", "architect"));
+		assertThat(page.getItems(), contains("apio", "architect"));
+		assertThat(closed.get(), is(true));
+	}
+
+	@Test
+	public void testGetItemsStreamReturnsLazyItems() {
+		PageItems<String> pageItems = new PageItems<>(
+			Stream.of("apio", "architect"), 10);
+
+		Page<String> page = new PageImpl<>(
+			_paged, pageItems, new PaginationImpl(2, 4));
+
+		Stream<String> stream = page.getItemsStream();
+
+		assertThat(
+			stream.collect(Collectors.toList()), contains("apio", "architect"));
+	}
+
 	@Test
 	public void testGetLastPageNumberIsOneWithEmptyList() {
 		Pagination pagination = new PaginationImpl(30, 1);
@@ -128,6 +182,33 @@ public class PageTest {
 		assertThat(_page.hasPrevious(), is(true));
 	}
 
+	@Test
+	public void testIsLazyReturnsFalseOnceItemsAreCollected() {
+		PageItems<String> pageItems = new PageItems<>(Stream.of("apio"), 10);
+
+		Page<String> page = new PageImpl<>(
+			_paged, pageItems, new PaginationImpl(1, 4));
+
+		page.getItems();
+
+		assertThat(page.isLazy(), is(false));
+	}
+
+	@Test
+	public void testIsLazyReturnsFalseWithCollection() {
+		assertThat(_page.isLazy(), is(false));
+	}
+
+	@Test
+	public void testIsLazyReturnsTrueWithStream() {
+		PageItems<String> pageItems = new PageItems<>(Stream.of("apio"), 10);
+
+		Page<String> page = new PageImpl<>(
+			_paged, pageItems, new PaginationImpl(1, 4));
+
+		assertThat(page.isLazy(), is(true));
+	}
+
 	private Page<String> _page;
 	private Paged _paged;
 	private PageItems<String> _pageItems;
@@ -17,6 +17,8 @@ package com.liferay.apio.architect.internal.provider;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
+import com.liferay.apio.architect.internal.response.control.Embedded;
+
 import java.util.function.Predicate;
 
 import javax.servlet.http.HttpServletRequest;
@@ -39,6 +41,39 @@ public class EmbeddedProviderTest {
 		assertThat(predicate.test("randomThing"), is(false));
 	}
 
+	@Test
+	public void testEmbeddedProviderReturnsNotSharedByDefault() {
+		Embedded embedded = _getEmbedded("embedded", null, null);
+
+		assertThat(embedded.isShared(), is(false));
+	}
+
+	@Test
+	public void testEmbeddedProviderReturnsNotSharedIfParamOverridesPrefer() {
+		Embedded embedded = _getEmbedded(
+			"embedded", "inline", "embedded=shared");
+
+		assertThat(embedded.isShared(), is(false));
+	}
+
+	@Test
+	public void testEmbeddedProviderReturnsSharedIfParamIsShared() {
+		Embedded embedded = _getEmbedded("embedded", "shared", null);
+
+		assertThat(embedded.isShared(), is(true));
+		assertThat(embedded.test("embedded"), is(true));
+		assertThat(embedded.test("randomThing"), is(false));
+	}
+
+	@Test
+	public void testEmbeddedProviderReturnsSharedIfPreferIsShared() {
+		Embedded embedded = _getEmbedded(
+			"embedded", null, "return=minimal, Embedded=\"shared\";strict");
+
+		assertThat(embedded.isShared(), is(true));
+		assertThat(embedded.test("embedded"), is(true));
+	}
+
 	@Test
 	public void testEmbeddedProviderReturnValidEmbedded() {
 		Predicate<String> predicate = _getPredicate("embedded,embedded.inner");
@@ -58,7 +93,7 @@ public class EmbeddedProviderTest {
 		assertThat(predicate.test("embedded.other"), is(false));
 	}
 
-	private Predicate<String> _getPredicate(String embedded) {
+	private Embedded _getEmbedded(String embedded, String mode, String prefer) {
 		EmbeddedProvider embeddedProvider = new EmbeddedProvider();
 
 		HttpServletRequest httpServletRequest = Mockito.mock(
@@ -70,7 +105,23 @@ public class EmbeddedProviderTest {
 			embedded
 		);
 
+		Mockito.when(
+			httpServletRequest.getParameter("embedded_mode")
+		).thenReturn(
+			mode
+		);
+
+		Mockito.when(
+			httpServletRequest.getHeader("Prefer")
+		).thenReturn(
+			prefer
+		);
+
 		return embeddedProvider.createContext(httpServletRequest);
 	}
 
+	private Predicate<String> _getPredicate(String embedded) {
+		return _getEmbedded(embedded, null, null);
+	}
+
 }
\ No newline at end of file
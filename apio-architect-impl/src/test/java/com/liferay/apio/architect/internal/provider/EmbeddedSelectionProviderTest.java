@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.provider;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+
+import com.liferay.apio.architect.selection.EmbeddedSelection;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author agent
+ */
+public class EmbeddedSelectionProviderTest {
+
+	@Test
+	public void testEmbeddedSelectionProviderReturnsEmptyIfMissingParam() {
+		EmbeddedSelection embeddedSelection = _getEmbeddedSelection(null);
+
+		assertThat(embeddedSelection.getPaths(), is(empty()));
+		assertThat(embeddedSelection.isEmbedded("embedded"), is(false));
+	}
+
+	@Test
+	public void testEmbeddedSelectionProviderReturnsRequestedPaths() {
+		EmbeddedSelection embeddedSelection = _getEmbeddedSelection(
+			"embedded.inner , other");
+
+		assertThat(
+			embeddedSelection.getPaths(), contains("embedded.inner", "other"));
+		assertThat(embeddedSelection.isEmbedded("embedded"), is(true));
+		assertThat(embeddedSelection.isEmbedded("embedded.inner"), is(true));
+		assertThat(embeddedSelection.isEmbedded("embedded.other"), is(false));
+		assertThat(embeddedSelection.isEmbedded("other"), is(true));
+	}
+
+	private EmbeddedSelection _getEmbeddedSelection(String embedded) {
+		EmbeddedSelectionProvider embeddedSelectionProvider =
+			new EmbeddedSelectionProvider();
+
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		Mockito.when(
+			httpServletRequest.getParameter("embedded")
+		).thenReturn(
+			embedded
+		);
+
+		return embeddedSelectionProvider.createContext(httpServletRequest);
+	}
+
+}
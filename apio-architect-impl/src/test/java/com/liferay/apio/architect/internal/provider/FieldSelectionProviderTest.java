@@ -0,0 +1,107 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.provider;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+
+import com.liferay.apio.architect.selection.FieldSelection;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author agent
+ */
+public class FieldSelectionProviderTest {
+
+	@Test
+	public void testFieldSelectionProviderIgnoresInvalidParams() {
+		Map<String, String[]> parameterMap = new HashMap<>();
+
+		parameterMap.put("fields[Person]", new String[] {"a", "b"});
+		parameterMap.put("fields[Thing]", new String[] {""});
+		parameterMap.put("other", new String[] {"name"});
+
+		FieldSelection fieldSelection = _getFieldSelection(parameterMap);
+
+		assertThat(fieldSelection.getTypes(), is(empty()));
+		assertThat(fieldSelection.isSelected("Person", "a"), is(true));
+	}
+
+	@Test
+	public void testFieldSelectionProviderReturnsSelectedFields() {
+		Map<String, String[]> parameterMap = new HashMap<>();
+
+		parameterMap.put(
+			"fields[Person]", new String[] {"familyName,givenName"});
+
+		FieldSelection fieldSelection = _getFieldSelection(parameterMap);
+
+		Optional<Set<String>> optional = fieldSelection.getFieldsOptional(
+			"Person");
+
+		assertThat(optional.get(), contains("familyName", "givenName"));
+		assertThat(fieldSelection.getTypes(), contains("Person"));
+		assertThat(fieldSelection.isSelected("Person", "givenName"), is(true));
+		assertThat(fieldSelection.isSelected("Person", "email"), is(false));
+		assertThat(fieldSelection.isSelected("Thing", "email"), is(true));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testFieldSelectionProviderReturnsUnmodifiableFields() {
+		Map<String, String[]> parameterMap = new HashMap<>();
+
+		parameterMap.put("fields[Person]", new String[] {"givenName"});
+
+		FieldSelection fieldSelection = _getFieldSelection(parameterMap);
+
+		Optional<Set<String>> optional = fieldSelection.getFieldsOptional(
+			"Person");
+
+		Set<String> fields = optional.get();
+
+		fields.add("email");
+	}
+
+	private FieldSelection _getFieldSelection(
+		Map<String, String[]> parameterMap) {
+
+		FieldSelectionProvider fieldSelectionProvider =
+			new FieldSelectionProvider();
+
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		Mockito.when(
+			httpServletRequest.getParameterMap()
+		).thenReturn(
+			parameterMap
+		);
+
+		return fieldSelectionProvider.createContext(httpServletRequest);
+	}
+
+}
@@ -40,6 +40,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -88,6 +90,8 @@ public class RepresentorTest {
 			"boolean1", dummy -> dummy.boolean1
 		).addBoolean(
 			"boolean2", dummy -> dummy.boolean2
+		).addBooleanArray(
+			"booleanArray", dummy -> dummy.booleanArray
 		).addBooleanList(
 			"booleanList1", dummy -> dummy.booleanList1
 		).addBooleanList(
@@ -98,6 +102,10 @@ public class RepresentorTest {
 			"date2", dummy -> dummy.date2
 		).addDate(
 			"nullDate", __ -> null
+		).addDoubleArray(
+			"doubleArray", dummy -> dummy.doubleArray
+		).addIntArray(
+			"intArray", dummy -> dummy.intArray
 		).addLink(
 			"link1", "Link 1"
 		).addLink(
@@ -110,6 +118,8 @@ public class RepresentorTest {
 			"localized1", Dummy::getLocalizedString1
 		).addLocalizedStringByLocale(
 			"localized2", Dummy::getLocalizedString2
+		).addLongArray(
+			"longArray", dummy -> dummy.longArray
 		).addNumber(
 			"number1", dummy -> dummy.number1
 		).addNumber(
@@ -136,6 +146,8 @@ public class RepresentorTest {
 			"stringList1", dummy -> dummy.stringList1
 		).addStringList(
 			"stringList2", dummy -> dummy.stringList2
+		).addVersion(
+			dummy -> dummy.number2
 		).build();
 	}
 
@@ -175,6 +187,27 @@ public class RepresentorTest {
 			asList("Link 1", "Link 2"));
 	}
 
+	@Test
+	public void testPrimitiveArrayFunctions() {
+		testFields(
+			_dummy, _representor.getBooleanArrayFunctions(),
+			asList("booleanArray"),
+			Collections.singletonList(new boolean[] {true, false, true}));
+
+		testFields(
+			_dummy, _representor.getDoubleArrayFunctions(),
+			asList("doubleArray"),
+			Collections.singletonList(new double[] {1.5, 2.5, 3.5}));
+
+		testFields(
+			_dummy, _representor.getIntArrayFunctions(), asList("intArray"),
+			Collections.singletonList(new int[] {1, 2, 3}));
+
+		testFields(
+			_dummy, _representor.getLongArrayFunctions(), asList("longArray"),
+			Collections.singletonList(new long[] {4L, 5L, 6L}));
+	}
+
 	@Test
 	public void testPrimitiveFunctions() {
 		testFields(
@@ -277,6 +310,16 @@ public class RepresentorTest {
 		assertThat(types, contains("Type 1", "Type 2", "Type 3"));
 	}
 
+	@Test
+	public void testVersionFunction() {
+		Optional<Function<Dummy, Object>> optional =
+			_representor.getVersionFunctionOptional();
+
+		Function<Dummy, Object> versionFunction = optional.get();
+
+		assertThat(versionFunction.apply(_dummy), is(2L));
+	}
+
 	private List<Class> _classes;
 	private final Dummy _dummy = new Dummy(23);
 	private List<String> _keys;
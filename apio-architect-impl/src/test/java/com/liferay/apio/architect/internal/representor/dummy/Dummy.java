@@ -73,11 +73,15 @@ public class Dummy {
 		"application/octet-stream");
 	public final Boolean boolean1 = true;
 	public final Boolean boolean2 = false;
+	public final boolean[] booleanArray = {true, false, true};
 	public final List<Boolean> booleanList1 = asList(true, false, false, true);
 	public final List<Boolean> booleanList2 = asList(false, false, true, false);
 	public final Date date1 = new Date(1465981200000L);
 	public final Date date2 = new Date(1491244560000L);
+	public final double[] doubleArray = {1.5, 2.5, 3.5};
 	public final int id;
+	public final int[] intArray = {1, 2, 3};
+	public final long[] longArray = {4L, 5L, 6L};
 	public final Number number1 = 1L;
 	public final Number number2 = 2L;
 	public final List<Number> numberList1 = asList(1, 2, 3, 4, 5);
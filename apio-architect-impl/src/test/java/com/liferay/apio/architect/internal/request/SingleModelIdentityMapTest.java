@@ -0,0 +1,140 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.request;
+
+import static com.liferay.apio.architect.internal.util.request.MockHttpServletRequestCreator.createHttpServletRequest;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.internal.alias.SingleModelFunction;
+import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
+import com.liferay.apio.architect.internal.util.identifier.FirstEmbeddedId;
+import com.liferay.apio.architect.internal.util.identifier.SecondEmbeddedId;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class SingleModelIdentityMapTest {
+
+	@Before
+	public void setUp() {
+		_httpServletRequest = createHttpServletRequest();
+
+		_count = new AtomicInteger();
+	}
+
+	@Test
+	public void testDifferentIdentifiersAreFetchedOnce() {
+		SingleModelIdentityMap singleModelIdentityMap =
+			SingleModelIdentityMap.of(_httpServletRequest);
+
+		for (int i = 0; i < 3; i++) {
+			singleModelIdentityMap.getSingleModelOptional(
+				"1", FirstEmbeddedId.class, _singleModelFunction);
+			singleModelIdentityMap.getSingleModelOptional(
+				"2", FirstEmbeddedId.class, _singleModelFunction);
+			singleModelIdentityMap.getSingleModelOptional(
+				"1", SecondEmbeddedId.class, _singleModelFunction);
+		}
+
+		assertThat(_count.get(), is(3));
+		assertThat(singleModelIdentityMap.getHitCount(), is(6));
+		assertThat(singleModelIdentityMap.getMissCount(), is(3));
+	}
+
+	@Test
+	public void testIdentityMapIsSharedWithinRequest() {
+		SingleModelIdentityMap singleModelIdentityMap =
+			SingleModelIdentityMap.of(_httpServletRequest);
+
+		assertThat(
+			SingleModelIdentityMap.of(_httpServletRequest),
+			is(singleModelIdentityMap));
+	}
+
+	@Test
+	public void testMissingSingleModelsAreMemoized() {
+		SingleModelIdentityMap singleModelIdentityMap =
+			SingleModelIdentityMap.of(_httpServletRequest);
+
+		SingleModelFunction singleModelFunction = (identifier, __) -> {
+			_count.incrementAndGet();
+
+			return Optional.empty();
+		};
+
+		Optional<SingleModel> optional1 =
+			singleModelIdentityMap.getSingleModelOptional(
+				"1", FirstEmbeddedId.class, singleModelFunction);
+		Optional<SingleModel> optional2 =
+			singleModelIdentityMap.getSingleModelOptional(
+				"1", FirstEmbeddedId.class, singleModelFunction);
+
+		assertThat(optional1.isPresent(), is(false));
+		assertThat(optional2.isPresent(), is(false));
+		assertThat(_count.get(), is(1));
+	}
+
+	@Test
+	public void testNullRequestReturnsUnsharedIdentityMap() {
+		SingleModelIdentityMap singleModelIdentityMap =
+			SingleModelIdentityMap.of(null);
+
+		assertThat(
+			SingleModelIdentityMap.of(null) == singleModelIdentityMap,
+			is(false));
+	}
+
+	@Test
+	public void testSameIdentifierIsFetchedOnce() {
+		SingleModelIdentityMap singleModelIdentityMap =
+			SingleModelIdentityMap.of(_httpServletRequest);
+
+		Optional<SingleModel> optional1 =
+			singleModelIdentityMap.getSingleModelOptional(
+				"1", FirstEmbeddedId.class, _singleModelFunction);
+		Optional<SingleModel> optional2 =
+			singleModelIdentityMap.getSingleModelOptional(
+				"1", FirstEmbeddedId.class, _singleModelFunction);
+
+		assertThat(_count.get(), is(1));
+		assertThat(optional2.get(), is(optional1.get()));
+		assertThat(singleModelIdentityMap.getHitCount(), is(1));
+		assertThat(singleModelIdentityMap.getMissCount(), is(1));
+	}
+
+	private AtomicInteger _count;
+	private HttpServletRequest _httpServletRequest;
+
+	private final SingleModelFunction _singleModelFunction =
+		(identifier, identifierClass) -> {
+			_count.incrementAndGet();
+
+			return Optional.of(
+				new SingleModelImpl<>(
+					identifier, identifierClass.getSimpleName()));
+		};
+
+}
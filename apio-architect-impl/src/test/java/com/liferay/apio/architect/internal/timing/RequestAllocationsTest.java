@@ -0,0 +1,143 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.timing;
+
+import static com.liferay.apio.architect.internal.util.request.MockHttpServletRequestCreator.createHttpServletRequest;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.core.Is.is;
+
+import static org.junit.Assume.assumeTrue;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class RequestAllocationsTest {
+
+	@Before
+	public void setUp() {
+		_httpServletRequest = createHttpServletRequest();
+	}
+
+	@Test
+	public void testAllocationsAreMeasured() {
+		assumeTrue(RequestAllocations.isSupported());
+
+		RequestAllocations requestAllocations = RequestAllocations.start(
+			_httpServletRequest, false);
+
+		long start = requestAllocations.begin();
+
+		_allocate();
+
+		requestAllocations.endExecution(start);
+
+		start = requestAllocations.begin();
+
+		_allocate();
+
+		requestAllocations.endWrite(start);
+
+		assertThat(
+			requestAllocations.getExecutionBytes(),
+			is(greaterThanOrEqualTo(_SIZE)));
+		assertThat(
+			requestAllocations.getWriteBytes(),
+			is(greaterThanOrEqualTo(_SIZE)));
+		assertThat(
+			requestAllocations.getTotalBytes(),
+			is(
+				requestAllocations.getExecutionBytes() +
+					requestAllocations.getWriteBytes()));
+	}
+
+	@Test
+	public void testNestedMeasurementsAreAttributedToTheOuterOne() {
+		assumeTrue(RequestAllocations.isSupported());
+
+		RequestAllocations requestAllocations = RequestAllocations.start(
+			_httpServletRequest, false);
+
+		long writeStart = requestAllocations.begin();
+
+		long executionStart = requestAllocations.begin();
+
+		_allocate();
+
+		requestAllocations.endExecution(executionStart);
+
+		requestAllocations.endWrite(writeStart);
+
+		assertThat(requestAllocations.getExecutionBytes(), is(0L));
+		assertThat(
+			requestAllocations.getWriteBytes(),
+			is(greaterThanOrEqualTo(_SIZE)));
+	}
+
+	@Test
+	public void testNotStartedRequestIsIgnored() {
+		RequestAllocations requestAllocations = RequestAllocations.of(
+			_httpServletRequest);
+
+		long start = requestAllocations.begin();
+
+		_allocate();
+
+		requestAllocations.endExecution(start);
+
+		assertThat(requestAllocations.isEnabled(), is(false));
+		assertThat(start, is(-1L));
+		assertThat(requestAllocations.getTotalBytes(), is(0L));
+	}
+
+	@Test
+	public void testNullRequestIsIgnored() {
+		RequestAllocations requestAllocations = RequestAllocations.of(null);
+
+		assertThat(requestAllocations.isEnabled(), is(false));
+	}
+
+	@Test
+	public void testOfReturnsStartedAllocations() {
+		assumeTrue(RequestAllocations.isSupported());
+
+		RequestAllocations requestAllocations = RequestAllocations.start(
+			_httpServletRequest, true);
+
+		assertThat(
+			RequestAllocations.of(_httpServletRequest), is(requestAllocations));
+		assertThat(requestAllocations.isDebugHeader(), is(true));
+		assertThat(
+			requestAllocations.toHeaderValue(),
+			is("execution=0, write=0, total=0"));
+	}
+
+	private static void _allocate() {
+		_sink = new byte[(int)_SIZE];
+	}
+
+	private static final long _SIZE = 1024 * 1024;
+
+	private static byte[] _sink;
+
+	private HttpServletRequest _httpServletRequest;
+
+}
@@ -0,0 +1,142 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.timing;
+
+import static com.liferay.apio.architect.internal.util.request.MockHttpServletRequestCreator.createHttpServletRequest;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.core.Is.is;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class RequestTimingsTest {
+
+	@Before
+	public void setUp() {
+		_httpServletRequest = createHttpServletRequest();
+	}
+
+	@Test
+	public void testNestedPhasesAccountOnlyForTheirOwnTime() {
+		RequestTimings requestTimings = RequestTimings.start(
+			_httpServletRequest, true);
+
+		Phase previous = requestTimings.enter(Phase.PROVIDERS);
+
+		_spin();
+
+		Phase nestedPrevious = requestTimings.enter(Phase.EXECUTION);
+
+		_spin();
+
+		requestTimings.exit(nestedPrevious);
+		requestTimings.exit(previous);
+
+		long providersDuration = requestTimings.getDuration(Phase.PROVIDERS);
+		long executionDuration = requestTimings.getDuration(Phase.EXECUTION);
+
+		assertThat(providersDuration, is(greaterThan(0L)));
+		assertThat(executionDuration, is(greaterThan(0L)));
+		assertThat(
+			requestTimings.getElapsedTime(),
+			is(greaterThanOrEqualTo(providersDuration + executionDuration)));
+	}
+
+	@Test
+	public void testOfReturnsDisabledTimingsIfRequestIsNotTimed() {
+		RequestTimings requestTimings = RequestTimings.of(_httpServletRequest);
+
+		assertThat(requestTimings.isEnabled(), is(false));
+		assertThat(requestTimings.enter(Phase.ROUTING), is(nullValue()));
+		assertThat(RequestTimings.of(null).isEnabled(), is(false));
+	}
+
+	@Test
+	public void testOfReturnsStartedTimings() {
+		RequestTimings requestTimings = RequestTimings.start(
+			_httpServletRequest, false);
+
+		assertThat(RequestTimings.of(_httpServletRequest), is(requestTimings));
+		assertThat(requestTimings.isEnabled(), is(true));
+		assertThat(requestTimings.isServerTiming(), is(false));
+	}
+
+	@Test
+	public void testPhasesInsideEmbeddedAreAttributedToIt() {
+		RequestTimings requestTimings = RequestTimings.start(
+			_httpServletRequest, true);
+
+		Phase jsonPrevious = requestTimings.enter(Phase.JSON);
+
+		_spin();
+
+		Phase embeddedPrevious = requestTimings.enter(Phase.EMBEDDED);
+
+		Phase executionPrevious = requestTimings.enter(Phase.EXECUTION);
+
+		_spin();
+
+		requestTimings.exit(executionPrevious);
+		requestTimings.exit(embeddedPrevious);
+		requestTimings.exit(jsonPrevious);
+
+		long embeddedDuration = requestTimings.getDuration(Phase.EMBEDDED);
+
+		assertThat(embeddedDuration, is(greaterThan(0L)));
+		assertThat(requestTimings.getDuration(Phase.EXECUTION), is(0L));
+		assertThat(requestTimings.getDuration(Phase.JSON), is(greaterThan(0L)));
+	}
+
+	@Test
+	public void testToServerTimingContainsVisitedPhasesAndTotal() {
+		RequestTimings requestTimings = RequestTimings.start(
+			_httpServletRequest, true);
+
+		Phase previous = requestTimings.enter(Phase.ROUTING);
+
+		_spin();
+
+		requestTimings.exit(previous);
+
+		String serverTiming = requestTimings.toServerTiming();
+
+		assertThat(
+			serverTiming, containsString("routing;desc=\"Routing\";dur="));
+		assertThat(serverTiming, containsString(", total;desc=\"Total\";dur="));
+		assertThat(serverTiming, not(containsString("execution")));
+	}
+
+	private static void _spin() {
+		long start = System.nanoTime();
+
+		while (System.nanoTime() - start < 10_000) {
+			Thread.yield();
+		}
+	}
+
+	private HttpServletRequest _httpServletRequest;
+
+}
@@ -18,6 +18,7 @@ import static com.liferay.apio.architect.internal.url.URLCreator.createAbsoluteU
 import static com.liferay.apio.architect.internal.url.URLCreator.createActionURL;
 import static com.liferay.apio.architect.internal.url.URLCreator.createBinaryURL;
 import static com.liferay.apio.architect.internal.url.URLCreator.createCollectionPageURL;
+import static com.liferay.apio.architect.internal.url.URLCreator.createContextURL;
 import static com.liferay.apio.architect.internal.url.URLCreator.createGenericParentResourceURL;
 import static com.liferay.apio.architect.internal.url.URLCreator.createItemResourceURL;
 import static com.liferay.apio.architect.internal.url.URLCreator.createNestedResourceURL;
@@ -57,6 +58,8 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 import java.util.Optional;
 
+import javax.ws.rs.core.UriBuilder;
+
 import org.junit.Test;
 
 import org.mockito.Mockito;
@@ -259,6 +262,34 @@ public class URLCreatorTest {
 		assertThat(firstPageURL, is("www.liferay.com?page=1&per_page=30"));
 	}
 
+	@Test
+	public void testCreateCollectionPageURLWithQueryAndFragment() {
+		Pagination pagination = Mockito.mock(Pagination.class);
+
+		Mockito.when(
+			pagination.getItemsPerPage()
+		).thenReturn(
+			10
+		);
+
+		Mockito.when(
+			pagination.getPageNumber()
+		).thenReturn(
+			2
+		);
+
+		PageItems<String> pageItems = new PageItems<>(emptyList(), 0);
+
+		Page page = new PageImpl<>(Paged.of("name"), pageItems, pagination);
+
+		String currentPageURL = createCollectionPageURL(
+			"www.liferay.com/name?filter=a#top", page, PageType.CURRENT);
+
+		assertThat(
+			currentPageURL,
+			is("www.liferay.com/name?filter=a&page=2&per_page=10#top"));
+	}
+
 	@Test
 	public void testCreateCollectionURL() {
 		Paged paged = Paged.of("resource");
@@ -268,6 +299,13 @@ public class URLCreatorTest {
 		assertThat(url, is("www.liferay.com/resource"));
 	}
 
+	@Test
+	public void testCreateContextURLEncodesTheName() {
+		String url = createContextURL(_applicationURL, "blog postings");
+
+		assertThat(url, is("www.liferay.com/c/blog%20postings"));
+	}
+
 	@Test
 	public void testCreateGenericParentResourceURLReturnsEmptyIfMissingId() {
 		GenericParent genericParent = GenericParent.of("parent", "name");
@@ -278,6 +316,33 @@ public class URLCreatorTest {
 		assertThat(optional, is(emptyOptional()));
 	}
 
+	@Test
+	public void testCreateItemResourceURLEncodesLikeUriBuilder() {
+		List<String> ids = asList(
+			"id", "a b", "a/b", "100%", "?#[]{}", "!$&'()*+,;=:@-._~", "\u00f1",
+			"\u20ac", "\ud83d\ude00");
+
+		ids.forEach(
+			id -> {
+				Item item = Item.of("na me", Id.of(id, id));
+
+				Optional<String> optional = createItemResourceURL(
+					_applicationURL, item);
+
+				String expected = UriBuilder.fromPath(
+					"{name}"
+				).path(
+					"{id}"
+				).build(
+					"na me", id
+				).toString();
+
+				String url = "www.liferay.com/" + expected;
+
+				assertThat(optional, is(optionalWithValue(equalTo(url))));
+			});
+	}
+
 	@Test
 	public void testCreateNestedResourceURLReturnsEmptyIfMissingId() {
 		Nested nested = Nested.of(Item.of("parent"), "related");
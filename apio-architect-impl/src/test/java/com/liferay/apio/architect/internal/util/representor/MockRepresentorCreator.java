@@ -30,6 +30,7 @@ import com.liferay.apio.architect.internal.util.writer.MockWriterUtil;
 import com.liferay.apio.architect.representor.Representor;
 
 import java.util.Date;
+import java.util.stream.Stream;
 
 /**
  * Provides methods that create {@link Representor} objects for {@link
@@ -162,9 +163,9 @@ public class MockRepresentorCreator {
 					"Type 7"
 				).addString(
 					"string1", ThirdEmbeddedModel::getId
-				).addNestedList(
+				).addNestedStream(
 					"nestedList",
-					__ -> asList(
+					__ -> Stream.of(
 						(FirstEmbeddedModel)() -> "id 1", () -> "id 2"),
 					nestedListBuilder1 -> nestedListBuilder1.types(
 						"Type 8"
@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.util.request;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.mockito.Mockito;
+
+/**
+ * Provides methods that create mock {@link HttpServletRequest} objects.
+ *
+ * <p>
+ * This class shouldn't be instantiated.
+ * </p>
+ *
+ * @author agent
+ */
+public class MockHttpServletRequestCreator {
+
+	/**
+	 * Creates a mock {@code HttpServletRequest} that stores its attributes in
+	 * a map, so the attributes set during a test can be read back.
+	 *
+	 * @return the mock {@code HttpServletRequest}
+	 */
+	public static HttpServletRequest createHttpServletRequest() {
+		Map<String, Object> attributes = new HashMap<>();
+
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		Mockito.when(
+			httpServletRequest.getAttribute(Mockito.anyString())
+		).thenAnswer(
+			invocation -> attributes.get(invocation.getArguments()[0])
+		);
+
+		Mockito.doAnswer(
+			invocation -> attributes.put(
+				(String)invocation.getArguments()[0],
+				invocation.getArguments()[1])
+		).when(
+			httpServletRequest
+		).setAttribute(
+			Mockito.anyString(), Mockito.any()
+		);
+
+		Mockito.doAnswer(
+			invocation -> attributes.remove(invocation.getArguments()[0])
+		).when(
+			httpServletRequest
+		).removeAttribute(
+			Mockito.anyString()
+		);
+
+		return httpServletRequest;
+	}
+
+	private MockHttpServletRequestCreator() {
+		throw new UnsupportedOperationException();
+	}
+
+}
@@ -19,6 +19,7 @@ import static com.liferay.apio.architect.internal.util.writer.MockWriterUtil.get
 import com.liferay.apio.architect.internal.message.json.PageMessageMapper;
 import com.liferay.apio.architect.internal.pagination.PageImpl;
 import com.liferay.apio.architect.internal.pagination.PaginationImpl;
+import com.liferay.apio.architect.internal.request.RequestInfo;
 import com.liferay.apio.architect.internal.util.model.RootModel;
 import com.liferay.apio.architect.internal.writer.PageWriter;
 import com.liferay.apio.architect.pagination.Page;
@@ -50,6 +51,22 @@ public class MockPageWriter {
 	 * @return the string containing the JSON object
 	 */
 	public static String write(PageMessageMapper<RootModel> pageMessageMapper) {
+		return write(pageMessageMapper, getRequestInfo());
+	}
+
+	/**
+	 * Writes a {@link RootModel} collection with the hierarchy of embedded
+	 * models and multiple fields, for the provided request.
+	 *
+	 * @param  pageMessageMapper the {@code PageMessageMapper} to use for
+	 *         writing the JSON object
+	 * @param  requestInfo the request's information
+	 * @return the string containing the JSON object
+	 */
+	public static String write(
+		PageMessageMapper<RootModel> pageMessageMapper,
+		RequestInfo requestInfo) {
+
 		Collection<RootModel> items = Arrays.asList(
 			() -> "1", () -> "2", () -> "3");
 
@@ -72,7 +89,7 @@ public class MockPageWriter {
 			).representorFunction(
 				MockWriterUtil::getRepresentorOptional
 			).requestInfo(
-				getRequestInfo()
+				requestInfo
 			).singleModelFunction(
 				MockWriterUtil::getSingleModel
 			).actionSemanticsFunction(
@@ -16,6 +16,7 @@ package com.liferay.apio.architect.internal.util.writer;
 
 import static com.liferay.apio.architect.internal.util.writer.MockWriterUtil.getRequestInfo;
 
+import com.liferay.apio.architect.internal.message.json.BinaryJSONFormat;
 import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
 import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
 import com.liferay.apio.architect.internal.util.model.RootModel;
@@ -46,28 +47,8 @@ public class MockSingleModelWriter {
 	public static String write(
 		SingleModelMessageMapper<RootModel> singleModelMessageMapper) {
 
-		SingleModel<RootModel> singleModel = new SingleModelImpl<>(
-			() -> "first", "root");
-
 		SingleModelWriter<RootModel> singleModelWriter =
-			SingleModelWriter.create(
-				builder -> builder.singleModel(
-					singleModel
-				).modelMessageMapper(
-					singleModelMessageMapper
-				).pathFunction(
-					MockWriterUtil::identifierToPath
-				).resourceNameFunction(
-					__ -> Optional.of("models")
-				).representorFunction(
-					MockWriterUtil::getRepresentorOptional
-				).requestInfo(
-					getRequestInfo()
-				).singleModelFunction(
-					MockWriterUtil::getSingleModel
-				).actionSemanticsFunction(
-					MockWriterUtil::getActionSemantics
-				).build());
+			_createSingleModelWriter(singleModelMessageMapper);
 
 		Optional<String> optional = singleModelWriter.write();
 
@@ -75,6 +56,54 @@ public class MockSingleModelWriter {
 			() -> new AssertionError("Unable to write"));
 	}
 
+	/**
+	 * Writes a {@link RootModel} with the hierarchy of embedded models and
+	 * multiple fields, encoded with a binary encoding.
+	 *
+	 * @param  singleModelMessageMapper the {@code SingleModelMessageMapper} to
+	 *         use for writing the JSON object
+	 * @param  binaryJSONFormat the binary encoding
+	 * @return the encoded JSON object
+	 */
+	public static byte[] write(
+		SingleModelMessageMapper<RootModel> singleModelMessageMapper,
+		BinaryJSONFormat binaryJSONFormat) {
+
+		SingleModelWriter<RootModel> singleModelWriter =
+			_createSingleModelWriter(singleModelMessageMapper);
+
+		Optional<byte[]> optional = singleModelWriter.write(binaryJSONFormat);
+
+		return optional.orElseThrow(
+			() -> new AssertionError("Unable to write"));
+	}
+
+	private static SingleModelWriter<RootModel> _createSingleModelWriter(
+		SingleModelMessageMapper<RootModel> singleModelMessageMapper) {
+
+		SingleModel<RootModel> singleModel = new SingleModelImpl<>(
+			() -> "first", "root");
+
+		return SingleModelWriter.create(
+			builder -> builder.singleModel(
+				singleModel
+			).modelMessageMapper(
+				singleModelMessageMapper
+			).pathFunction(
+				MockWriterUtil::identifierToPath
+			).resourceNameFunction(
+				__ -> Optional.of("models")
+			).representorFunction(
+				MockWriterUtil::getRepresentorOptional
+			).requestInfo(
+				getRequestInfo()
+			).singleModelFunction(
+				MockWriterUtil::getSingleModel
+			).actionSemanticsFunction(
+				MockWriterUtil::getActionSemantics
+			).build());
+	}
+
 	private MockSingleModelWriter() {
 		throw new UnsupportedOperationException();
 	}
@@ -25,6 +25,7 @@ import static com.liferay.apio.architect.operation.HTTPMethod.PUT;
 import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.internal.action.ActionSemantics;
 import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.response.control.Embedded;
 import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
 import com.liferay.apio.architect.internal.util.identifier.FirstEmbeddedId;
 import com.liferay.apio.architect.internal.util.identifier.SecondEmbeddedId;
@@ -41,6 +42,7 @@ import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.uri.Path;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 import java.util.function.Function;
@@ -140,6 +142,20 @@ public class MockWriterUtil {
 	 * @return the {@code RequestInfo}
 	 */
 	public static RequestInfo getRequestInfo() {
+		return getRequestInfo(
+			Arrays.asList("embedded1", "embedded1.embedded")::contains);
+	}
+
+	/**
+	 * Returns a {@link RequestInfo} with a mock {@code ServerURL}, the provided
+	 * {@code Embedded} request, and {@link
+	 * com.liferay.apio.architect.language.AcceptLanguage} with {@code
+	 * Locale#getDefault()}.
+	 *
+	 * @param  embedded the {@code Embedded} request
+	 * @return the {@code RequestInfo}
+	 */
+	public static RequestInfo getRequestInfo(Embedded embedded) {
 		return RequestInfo.create(
 			builder -> builder.httpServletRequest(
 				null
@@ -148,7 +164,7 @@ public class MockWriterUtil {
 			).applicationURL(
 				() -> "/"
 			).embedded(
-				Arrays.asList("embedded1", "embedded1.embedded")::contains
+				embedded
 			).fields(
 				__ -> string -> true
 			).language(
@@ -156,6 +172,32 @@ public class MockWriterUtil {
 			).build());
 	}
 
+	/**
+	 * Returns a {@link RequestInfo} like the one returned by {@link
+	 * #getRequestInfo()}, but whose {@code Embedded} request asks for embedded
+	 * resources to be shared across the items of a page.
+	 *
+	 * @return the {@code RequestInfo}
+	 */
+	public static RequestInfo getSharedEmbeddedRequestInfo() {
+		List<String> fields = Arrays.asList("embedded1", "embedded1.embedded");
+
+		return getRequestInfo(
+			new Embedded() {
+
+				@Override
+				public boolean isShared() {
+					return true;
+				}
+
+				@Override
+				public boolean test(String field) {
+					return fields.contains(field);
+				}
+
+			});
+	}
+
 	/**
 	 * Returns a mock {@link SingleModel} (with the provided identifier as its
 	 * ID) for an identifier class.
@@ -35,13 +35,16 @@ import static org.junit.Assert.assertEquals;
 import com.liferay.apio.architect.internal.alias.PathFunction;
 import com.liferay.apio.architect.internal.list.FunctionalList;
 import com.liferay.apio.architect.internal.related.RelatedModelImpl;
+import com.liferay.apio.architect.internal.representor.RepresentorImpl;
 import com.liferay.apio.architect.internal.request.RequestInfo;
 import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
 import com.liferay.apio.architect.internal.util.identifier.FirstEmbeddedId;
+import com.liferay.apio.architect.internal.util.identifier.RootModelId;
 import com.liferay.apio.architect.internal.util.model.FirstEmbeddedModel;
 import com.liferay.apio.architect.internal.util.model.RootModel;
 import com.liferay.apio.architect.internal.util.writer.MockWriterUtil;
 import com.liferay.apio.architect.related.RelatedModel;
+import com.liferay.apio.architect.representor.Representor;
 import com.liferay.apio.architect.resource.Resource.Id;
 import com.liferay.apio.architect.resource.Resource.Item;
 import com.liferay.apio.architect.single.model.SingleModel;
@@ -53,7 +56,10 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -560,6 +566,54 @@ public class FieldsWriterTest {
 			localizedStrings, hasEntry("localizedString2", "Translated 2"));
 	}
 
+	@Test
+	public void testWriteNestedLists() {
+		Representor.Builder<RootModel, String> builder =
+			new RepresentorImpl.BuilderImpl<>(
+				RootModelId.class, MockWriterUtil::getIdentifierName);
+
+		AtomicBoolean closed = new AtomicBoolean();
+
+		Representor<RootModel> representor = builder.types(
+			"Type"
+		).identifier(
+			RootModel::getId
+		).addNestedList(
+			"nestedList", __ -> asList("a", "b"),
+			nestedBuilder -> nestedBuilder.types(
+				"Type 2"
+			).build()
+		).addNestedStream(
+			"nestedStream",
+			__ -> Stream.of(
+				"c", "d"
+			).onClose(
+				() -> closed.set(true)
+			),
+			nestedBuilder -> nestedBuilder.types(
+				"Type 3"
+			).build()
+		).build();
+
+		Map<String, List<String>> nestedLists = new HashMap<>();
+
+		_fieldsWriter.writeNestedLists(
+			__ -> Optional.of(representor),
+			new SingleModelImpl<>((RootModel)() -> "first", "root"),
+			(nestedListFieldFunction, stream) -> nestedLists.put(
+				nestedListFieldFunction.getKey(),
+				stream.map(
+					String.class::cast
+				).collect(
+					Collectors.toList()
+				)));
+
+		assertThat(nestedLists, is(aMapWithSize(2)));
+		assertThat(nestedLists, hasEntry("nestedList", asList("a", "b")));
+		assertThat(nestedLists, hasEntry("nestedStream", asList("c", "d")));
+		assertThat(closed.get(), is(true));
+	}
+
 	@Test
 	public void testWriteNumberFields() {
 		Map<String, Number> numbers = new HashMap<>();
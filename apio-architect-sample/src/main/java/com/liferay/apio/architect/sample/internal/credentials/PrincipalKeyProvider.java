@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.sample.internal.credentials;
+
+import static com.liferay.apio.architect.sample.internal.auth.PermissionChecker.hasPermission;
+
+import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.credentials.PrincipalKey;
+import com.liferay.apio.architect.provider.Provider;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Provides the {@link PrincipalKey} of the current request, so responses can
+ * be shared between requests of the same principal.
+ *
+ * <p>
+ * The sample application only distinguishes between authorized and anonymous
+ * requests, so those are the only two keys.
+ * </p>
+ *
+ * @author agent
+ */
+@Component(service = Provider.class)
+public class PrincipalKeyProvider implements Provider<PrincipalKey> {
+
+	@Override
+	public PrincipalKey createContext(HttpServletRequest httpServletRequest) {
+		Credentials credentials = () -> httpServletRequest.getHeader(
+			"Authorization");
+
+		if (hasPermission(credentials)) {
+			return () -> "authorized";
+		}
+
+		return () -> "anonymous";
+	}
+
+}
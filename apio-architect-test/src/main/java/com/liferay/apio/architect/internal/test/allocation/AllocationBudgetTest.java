@@ -0,0 +1,279 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.test.allocation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.core.Is.is;
+
+import static org.junit.Assume.assumeTrue;
+
+import com.liferay.apio.architect.internal.test.base.BaseTest;
+
+import java.io.IOException;
+
+import java.util.Hashtable;
+import java.util.function.Supplier;
+
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.Invocation;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.Response;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.ServiceReference;
+import org.osgi.service.cm.Configuration;
+import org.osgi.service.cm.ConfigurationAdmin;
+
+/**
+ * Checks that the bytes allocated to serve the canonical requests of the
+ * sample application stay within a budget, so allocation regressions in the
+ * writers and message mappers make the build fail.
+ *
+ * <p>
+ * Allocations are measured by the server itself (see {@code
+ * RequestAllocations}) and read from the {@code Apio-Allocated-Bytes} header.
+ * Every request is repeated until the JIT and the caches are warm, and the
+ * lowest measurement is compared against the budget, since the noise of a
+ * measurement can only add bytes.
+ * </p>
+ *
+ * <p>
+ * Every budget is twice a baseline, measured in process on JDK 8 as the lowest
+ * allocation of 20 runs after 50 warm-up ones (5 after 10, for the batch): the
+ * sample blog posting written with the JSON-LD writers, as an item and as a
+ * page of 30, and, for the batch, the body parsed and bound to 100 blog
+ * postings, plus the written result. The margin covers what the baselines
+ * leave out (retrieving or creating the models, computing the {@code ETag})
+ * and the differences between JVMs. When a change legitimately moves the
+ * allocations, measure and update the baseline in the same change.
+ * </p>
+ *
+ * @author agent
+ */
+public class AllocationBudgetTest extends BaseTest {
+
+	@BeforeClass
+	public static void setUpClass() {
+		BaseTest.setUpClass();
+
+		BundleContext bundleContext = _getBundleContext();
+
+		_serviceReference = bundleContext.getServiceReference(
+			ConfigurationAdmin.class);
+
+		ConfigurationAdmin configurationAdmin = bundleContext.getService(
+			_serviceReference);
+
+		try {
+			_configuration = configurationAdmin.getConfiguration(
+				_REQUEST_TIMING_MANAGER_PID, "?");
+
+			Hashtable<String, Object> properties = new Hashtable<>();
+
+			properties.put("allocation.tracking.enabled", true);
+			properties.put("server.timing.enabled", true);
+
+			_configuration.update(properties);
+		}
+		catch (IOException ioe) {
+			throw new AssertionError(
+				"Unable to enable allocation tracking", ioe);
+		}
+	}
+
+	@AfterClass
+	public static void tearDownClass() {
+		try {
+			_configuration.delete();
+		}
+		catch (IOException ioe) {
+			throw new AssertionError(
+				"Unable to disable allocation tracking", ioe);
+		}
+		finally {
+			BundleContext bundleContext = _getBundleContext();
+
+			bundleContext.ungetService(_serviceReference);
+
+			BaseTest.tearDownClass();
+		}
+	}
+
+	@Test
+	public void testBatchCreateOf100StaysWithinBudget() {
+
+		// The sample application only allows batch creations if the
+		// LIFERAY_APIO_AUTH environment variable is set
+
+		assumeTrue(_AUTHORIZATION != null);
+
+		String body = _createBatchBody(100);
+
+		long allocatedBytes = _measure(
+			_BATCH_WARM_UP_RUNS, _BATCH_RUNS,
+			() -> _request(
+				"blog-postings/batch-create"
+			).post(
+				Entity.json(body)
+			));
+
+		assertThat(allocatedBytes, is(lessThanOrEqualTo(_BATCH_BUDGET)));
+	}
+
+	@Test
+	public void testItemGetStaysWithinBudget() {
+		long allocatedBytes = _measure(
+			_WARM_UP_RUNS, _RUNS, () -> _request("blog-postings/1").get());
+
+		assertThat(allocatedBytes, is(lessThanOrEqualTo(_ITEM_BUDGET)));
+	}
+
+	@Test
+	public void testPageOf30ItemsStaysWithinBudget() {
+		long allocatedBytes = _measure(
+			_WARM_UP_RUNS, _RUNS,
+			() -> _request("blog-postings?page=1&per_page=30").get());
+
+		assertThat(allocatedBytes, is(lessThanOrEqualTo(_PAGE_BUDGET)));
+	}
+
+	private static String _createBatchBody(int size) {
+		JSONArray jsonArray = new JSONArray();
+
+		for (int i = 0; i < size; i++) {
+			JSONObject ratingJSONObject = new JSONObject();
+
+			ratingJSONObject.put("ratingValue", (i % 5) + 1);
+
+			JSONObject reviewJSONObject = new JSONObject();
+
+			reviewJSONObject.put("rating", ratingJSONObject);
+			reviewJSONObject.put("reviewBody", "Review " + i);
+
+			JSONObject jsonObject = new JSONObject();
+
+			jsonObject.put("alternativeHeadline", "Alternative headline " + i);
+			jsonObject.put("articleBody", "Article body " + i);
+			jsonObject.put("creator", "people/1");
+			jsonObject.put("headline", "Headline " + i);
+			jsonObject.put("review", new JSONArray().put(reviewJSONObject));
+
+			jsonArray.put(jsonObject);
+		}
+
+		return jsonArray.toString();
+	}
+
+	private static BundleContext _getBundleContext() {
+		return FrameworkUtil.getBundle(
+			AllocationBudgetTest.class
+		).getBundleContext();
+	}
+
+	private static long _getTotalBytes(String header) {
+		for (String part : header.split(",")) {
+			String[] keyValue = part.trim().split("=");
+
+			if ((keyValue.length == 2) && keyValue[0].equals("total")) {
+				return Long.parseLong(keyValue[1]);
+			}
+		}
+
+		throw new AssertionError("Invalid allocation header: " + header);
+	}
+
+	private long _measure(
+		int warmUpRuns, int runs, Supplier<Response> supplier) {
+
+		long min = Long.MAX_VALUE;
+
+		for (int i = 0; i < (warmUpRuns + runs); i++) {
+			Response response = supplier.get();
+
+			int status = response.getStatus();
+
+			String header = response.getHeaderString(_ALLOCATED_BYTES);
+
+			response.close();
+
+			assertThat(status, is(lessThan(300)));
+
+			if ((i >= warmUpRuns) && (header != null)) {
+				min = Math.min(min, _getTotalBytes(header));
+			}
+		}
+
+		// The header is missing if the JVM can't measure allocations
+
+		assumeTrue(min != Long.MAX_VALUE);
+
+		return min;
+	}
+
+	private Invocation.Builder _request(String path) {
+		WebTarget webTarget = createDefaultTarget();
+
+		return webTarget.path(
+			path
+		).request(
+		).header(
+			"Accept", "application/ld+json"
+		).header(
+			"Authorization", _AUTHORIZATION
+		);
+	}
+
+	private static final String _ALLOCATED_BYTES = "Apio-Allocated-Bytes";
+
+	private static final String _AUTHORIZATION = System.getenv(
+		"LIFERAY_APIO_AUTH");
+
+	private static final long _BATCH_BASELINE = 2176344;
+
+	private static final long _BATCH_BUDGET = _BATCH_BASELINE * 2;
+
+	private static final int _BATCH_RUNS = 5;
+
+	private static final int _BATCH_WARM_UP_RUNS = 10;
+
+	private static final long _ITEM_BASELINE = 100432;
+
+	private static final long _ITEM_BUDGET = _ITEM_BASELINE * 2;
+
+	private static final long _PAGE_BASELINE = 2683160;
+
+	private static final long _PAGE_BUDGET = _PAGE_BASELINE * 2;
+
+	private static final String _REQUEST_TIMING_MANAGER_PID =
+		"com.liferay.apio.architect.internal.timing.RequestTimingManager";
+
+	private static final int _RUNS = 20;
+
+	private static final int _WARM_UP_RUNS = 50;
+
+	private static Configuration _configuration;
+	private static ServiceReference<ConfigurationAdmin> _serviceReference;
+
+}
@@ -0,0 +1,334 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.test.load;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Contains the configuration of a {@link LoadHarness} run.
+ *
+ * <p>
+ * Every setting is read from a property with the {@code
+ * apio.architect.load.} prefix:
+ * </p>
+ *
+ * <ul>
+ * <li>
+ * {@code enabled}: whether the load test must run (default {@code false})
+ * </li>
+ * <li>
+ * {@code threads}: the number of client threads (default {@code 8})
+ * </li>
+ * <li>
+ * {@code warmup.seconds}: the seconds during which requests are sent but not
+ * measured (default {@code 10})
+ * </li>
+ * <li>
+ * {@code duration.seconds}: the seconds during which requests are measured
+ * (default {@code 30})
+ * </li>
+ * <li>
+ * {@code mix}: the relative weight of every {@link LoadScenario} (default
+ * {@code item=50,page=30,batch=10,binary=10})
+ * </li>
+ * <li>
+ * {@code batch.size}: the number of blog postings created by every batch
+ * request (default {@code 10})
+ * </li>
+ * <li>
+ * {@code page.size}: the size of the requested pages (default {@code 30})
+ * </li>
+ * <li>
+ * {@code authorization}: the value of the {@code Authorization} header. The
+ * sample application only allows creating blog postings if it's equal to the
+ * {@code LIFERAY_APIO_AUTH} environment variable (default {@code Apio}).
+ * </li>
+ * <li>
+ * {@code report.dir}: the folder where the report is written (default {@code
+ * build/reports/load})
+ * </li>
+ * </ul>
+ *
+ * @author agent
+ * @review
+ */
+public final class LoadConfiguration {
+
+	/**
+	 * Creates the configuration from the provided properties.
+	 *
+	 * @param  propertyFunction the function that returns the value of a
+	 *         property, or {@code null} if it isn't set
+	 * @return the configuration
+	 * @review
+	 */
+	public static LoadConfiguration of(
+		Function<String, String> propertyFunction) {
+
+		return new LoadConfiguration(propertyFunction);
+	}
+
+	/**
+	 * Returns the value of the {@code Authorization} header of every request.
+	 *
+	 * @return the {@code Authorization} header
+	 * @review
+	 */
+	public String getAuthorization() {
+		return _authorization;
+	}
+
+	/**
+	 * Returns the JSON body of the batch requests. The returned array must not
+	 * be modified.
+	 *
+	 * @return the body of the batch requests
+	 * @review
+	 */
+	public byte[] getBatchBody() {
+		return _batchBody;
+	}
+
+	/**
+	 * Returns the number of blog postings created by every batch request.
+	 *
+	 * @return the batch size
+	 * @review
+	 */
+	public int getBatchSize() {
+		return _batchSize;
+	}
+
+	/**
+	 * Returns the seconds during which requests are measured.
+	 *
+	 * @return the measured seconds
+	 * @review
+	 */
+	public int getDurationSeconds() {
+		return _durationSeconds;
+	}
+
+	/**
+	 * Returns the relative weight of every scenario. Scenarios with no weight
+	 * are not executed.
+	 *
+	 * @return the weight of every scenario
+	 * @review
+	 */
+	public Map<LoadScenario, Integer> getMix() {
+		return _mix;
+	}
+
+	/**
+	 * Returns the size of the requested pages.
+	 *
+	 * @return the page size
+	 * @review
+	 */
+	public int getPageSize() {
+		return _pageSize;
+	}
+
+	/**
+	 * Returns the folder where the report is written.
+	 *
+	 * @return the report's folder
+	 * @review
+	 */
+	public String getReportDir() {
+		return _reportDir;
+	}
+
+	/**
+	 * Returns the number of client threads.
+	 *
+	 * @return the number of client threads
+	 * @review
+	 */
+	public int getThreads() {
+		return _threads;
+	}
+
+	/**
+	 * Returns the seconds during which requests are sent but not measured.
+	 *
+	 * @return the warm-up seconds
+	 * @review
+	 */
+	public int getWarmupSeconds() {
+		return _warmupSeconds;
+	}
+
+	/**
+	 * Returns {@code true} if the load test must run.
+	 *
+	 * @return {@code true} if the load test must run; {@code false} otherwise
+	 * @review
+	 */
+	public boolean isEnabled() {
+		return _enabled;
+	}
+
+	/**
+	 * Returns the configuration as a JSON object, so it can be included in the
+	 * report.
+	 *
+	 * @return the configuration as a JSON object
+	 * @review
+	 */
+	public JSONObject toJSONObject() {
+		JSONObject mixJSONObject = new JSONObject();
+
+		_mix.forEach(
+			(loadScenario, weight) -> mixJSONObject.put(
+				loadScenario.getKey(), weight));
+
+		JSONObject jsonObject = new JSONObject();
+
+		jsonObject.put("batchSize", _batchSize);
+		jsonObject.put("durationSeconds", _durationSeconds);
+		jsonObject.put("mix", mixJSONObject);
+		jsonObject.put("pageSize", _pageSize);
+		jsonObject.put("threads", _threads);
+		jsonObject.put("warmupSeconds", _warmupSeconds);
+
+		return jsonObject;
+	}
+
+	private LoadConfiguration(Function<String, String> propertyFunction) {
+		_propertyFunction = propertyFunction;
+
+		_authorization = _getString("authorization", "Apio");
+		_batchSize = _getInteger("batch.size", 10);
+		_durationSeconds = _getInteger("duration.seconds", 30);
+		_enabled = Boolean.parseBoolean(_getString("enabled", "false"));
+		_mix = _getMix(_getString("mix", "item=50,page=30,batch=10,binary=10"));
+		_pageSize = _getInteger("page.size", 30);
+		_reportDir = _getString("report.dir", "build/reports/load");
+		_threads = _getInteger("threads", 8);
+		_warmupSeconds = _getInteger("warmup.seconds", 10);
+
+		_batchBody = _createBatchBody(_batchSize);
+	}
+
+	private static byte[] _createBatchBody(int batchSize) {
+		JSONArray jsonArray = new JSONArray();
+
+		for (int i = 0; i < batchSize; i++) {
+			JSONObject ratingJSONObject = new JSONObject();
+
+			ratingJSONObject.put("creator", "people/1");
+			ratingJSONObject.put("ratingValue", (i % 5) + 1);
+
+			JSONObject reviewJSONObject = new JSONObject();
+
+			reviewJSONObject.put("rating", ratingJSONObject);
+			reviewJSONObject.put("reviewBody", "Review " + i);
+
+			JSONObject jsonObject = new JSONObject();
+
+			jsonObject.put("alternativeHeadline", "Alternative headline " + i);
+			jsonObject.put("articleBody", "Article body " + i);
+			jsonObject.put("creator", "people/1");
+			jsonObject.put("headline", "Headline " + i);
+			jsonObject.put("review", new JSONArray().put(reviewJSONObject));
+
+			jsonArray.put(jsonObject);
+		}
+
+		String body = jsonArray.toString();
+
+		return body.getBytes(UTF_8);
+	}
+
+	private int _getInteger(String key, int defaultValue) {
+		String value = _getString(key, null);
+
+		if (value == null) {
+			return defaultValue;
+		}
+
+		return Integer.parseInt(value.trim());
+	}
+
+	private Map<LoadScenario, Integer> _getMix(String mix) {
+		Map<LoadScenario, Integer> map = new EnumMap<>(LoadScenario.class);
+
+		for (String entry : mix.split(",")) {
+			String[] parts = entry.split("=");
+
+			if (parts.length != 2) {
+				throw new IllegalArgumentException(
+					"Invalid scenario weight \"" + entry + "\"");
+			}
+
+			String key = parts[0].trim();
+
+			LoadScenario loadScenario = LoadScenario.fromKey(
+				key
+			).orElseThrow(
+				() -> new IllegalArgumentException(
+					"Unknown scenario \"" + key + "\"")
+			);
+
+			int weight = Integer.parseInt(parts[1].trim());
+
+			if (weight > 0) {
+				map.put(loadScenario, weight);
+			}
+		}
+
+		if (map.isEmpty()) {
+			throw new IllegalArgumentException(
+				"At least one scenario must have a positive weight");
+		}
+
+		return Collections.unmodifiableMap(map);
+	}
+
+	private String _getString(String key, String defaultValue) {
+		String value = _propertyFunction.apply(_PREFIX + key);
+
+		if ((value == null) || value.trim().isEmpty()) {
+			return defaultValue;
+		}
+
+		return value;
+	}
+
+	private static final String _PREFIX = "apio.architect.load.";
+
+	private final String _authorization;
+	private final byte[] _batchBody;
+	private final int _batchSize;
+	private final int _durationSeconds;
+	private final boolean _enabled;
+	private final Map<LoadScenario, Integer> _mix;
+	private final int _pageSize;
+	private final Function<String, String> _propertyFunction;
+	private final String _reportDir;
+	private final int _threads;
+	private final int _warmupSeconds;
+
+}
@@ -0,0 +1,275 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.test.load;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends a mix of requests to the sample application from a pool of client
+ * threads, and measures their latency.
+ *
+ * <p>
+ * Every client thread sends a request, reads its whole response and sends the
+ * next one (closed model). Requests sent during the warm-up period are not
+ * measured. Since a slow response delays the next request of its thread, the
+ * measured latencies don't include the time requests would have waited with
+ * a constant arrival rate.
+ * </p>
+ *
+ * @author agent
+ * @review
+ */
+public class LoadHarness {
+
+	public LoadHarness(String endpoint, LoadConfiguration loadConfiguration) {
+		_endpoint = endpoint.endsWith("/") ? endpoint : endpoint + "/";
+		_loadConfiguration = loadConfiguration;
+
+		Map<LoadScenario, Integer> mix = loadConfiguration.getMix();
+
+		Set<LoadScenario> set = mix.keySet();
+
+		_loadScenarios = set.toArray(new LoadScenario[0]);
+
+		_cumulativeWeights = new int[_loadScenarios.length];
+
+		int totalWeight = 0;
+
+		for (int i = 0; i < _loadScenarios.length; i++) {
+			totalWeight += mix.get(_loadScenarios[i]);
+
+			_cumulativeWeights[i] = totalWeight;
+		}
+
+		_totalWeight = totalWeight;
+	}
+
+	/**
+	 * Runs the load test and returns its report.
+	 *
+	 * @return the report
+	 * @review
+	 */
+	public LoadReport run() throws InterruptedException {
+		int threads = _loadConfiguration.getThreads();
+
+		long startNanos = System.nanoTime();
+
+		long measureStartNanos =
+			startNanos +
+				TimeUnit.SECONDS.toNanos(_loadConfiguration.getWarmupSeconds());
+
+		long endNanos =
+			measureStartNanos +
+				TimeUnit.SECONDS.toNanos(
+					_loadConfiguration.getDurationSeconds());
+
+		ExecutorService executorService = Executors.newFixedThreadPool(
+			threads);
+
+		List<Future<Map<LoadScenario, LoadStatistics>>> futures =
+			new ArrayList<>();
+
+		try {
+			for (int i = 0; i < threads; i++) {
+				futures.add(
+					executorService.submit(
+						() -> _runClient(measureStartNanos, endNanos)));
+			}
+
+			Map<LoadScenario, LoadStatistics> map = new EnumMap<>(
+				LoadScenario.class);
+
+			for (Future<Map<LoadScenario, LoadStatistics>> future : futures) {
+				Map<LoadScenario, LoadStatistics> clientMap = future.get();
+
+				clientMap.forEach(
+					(loadScenario, loadStatistics) -> map.computeIfAbsent(
+						loadScenario, __ -> new LoadStatistics()
+					).add(
+						loadStatistics
+					));
+			}
+
+			return new LoadReport(
+				_loadConfiguration, map, endNanos - measureStartNanos);
+		}
+		catch (ExecutionException ee) {
+			throw new IllegalStateException(ee.getCause());
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	private LoadScenario _nextLoadScenario(Random random) {
+		int value = random.nextInt(_totalWeight);
+
+		for (int i = 0; i < _cumulativeWeights.length; i++) {
+			if (value < _cumulativeWeights[i]) {
+				return _loadScenarios[i];
+			}
+		}
+
+		return _loadScenarios[_loadScenarios.length - 1];
+	}
+
+	private Map<LoadScenario, LoadStatistics> _runClient(
+		long measureStartNanos, long endNanos) {
+
+		Map<LoadScenario, LoadStatistics> map = new EnumMap<>(
+			LoadScenario.class);
+
+		for (LoadScenario loadScenario : _loadScenarios) {
+			map.put(loadScenario, new LoadStatistics());
+		}
+
+		Random random = ThreadLocalRandom.current();
+
+		byte[] buffer = new byte[8192];
+
+		while (true) {
+			long requestStartNanos = System.nanoTime();
+
+			if (requestStartNanos >= endNanos) {
+				return map;
+			}
+
+			LoadScenario loadScenario = _nextLoadScenario(random);
+
+			LoadRequest loadRequest = loadScenario.createLoadRequest(
+				_loadConfiguration, random);
+
+			boolean measured = requestStartNanos >= measureStartNanos;
+
+			LoadStatistics loadStatistics = map.get(loadScenario);
+
+			try {
+				HttpURLConnection httpURLConnection = _send(loadRequest);
+
+				int statusCode = httpURLConnection.getResponseCode();
+
+				long bytes = _readFully(httpURLConnection, buffer);
+
+				long latencyNanos = System.nanoTime() - requestStartNanos;
+
+				if (measured) {
+					loadStatistics.recordResponse(
+						latencyNanos, statusCode, bytes);
+				}
+			}
+			catch (IOException ioe) {
+				if (measured) {
+					loadStatistics.recordError();
+				}
+			}
+		}
+	}
+
+	private long _readFully(HttpURLConnection httpURLConnection, byte[] buffer)
+		throws IOException {
+
+		InputStream inputStream;
+
+		if (httpURLConnection.getResponseCode() >= 400) {
+			inputStream = httpURLConnection.getErrorStream();
+		}
+		else {
+			inputStream = httpURLConnection.getInputStream();
+		}
+
+		if (inputStream == null) {
+			return 0;
+		}
+
+		long bytes = 0;
+
+		try {
+			int read;
+
+			while ((read = inputStream.read(buffer)) != -1) {
+				bytes += read;
+			}
+		}
+		finally {
+			inputStream.close();
+		}
+
+		return bytes;
+	}
+
+	private HttpURLConnection _send(LoadRequest loadRequest)
+		throws IOException {
+
+		URL url = new URL(_endpoint + loadRequest.getPath());
+
+		HttpURLConnection httpURLConnection =
+			(HttpURLConnection)url.openConnection();
+
+		httpURLConnection.setConnectTimeout(_TIMEOUT_MILLIS);
+		httpURLConnection.setReadTimeout(_TIMEOUT_MILLIS);
+		httpURLConnection.setRequestMethod(loadRequest.getMethod());
+		httpURLConnection.setRequestProperty("Accept", "application/ld+json");
+		httpURLConnection.setRequestProperty(
+			"Authorization", _loadConfiguration.getAuthorization());
+
+		Optional<byte[]> optional = loadRequest.getBodyOptional();
+
+		if (optional.isPresent()) {
+			byte[] body = optional.get();
+
+			httpURLConnection.setDoOutput(true);
+			httpURLConnection.setFixedLengthStreamingMode(body.length);
+			httpURLConnection.setRequestProperty(
+				"Content-Type", "application/json");
+
+			try (OutputStream outputStream =
+					httpURLConnection.getOutputStream()) {
+
+				outputStream.write(body);
+			}
+		}
+
+		return httpURLConnection;
+	}
+
+	private static final int _TIMEOUT_MILLIS = 30000;
+
+	private final int[] _cumulativeWeights;
+	private final String _endpoint;
+	private final LoadConfiguration _loadConfiguration;
+	private final LoadScenario[] _loadScenarios;
+	private final int _totalWeight;
+
+}
@@ -0,0 +1,63 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.test.load;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.core.Is.is;
+
+import static org.junit.Assume.assumeTrue;
+
+import com.liferay.apio.architect.internal.test.base.BaseTest;
+
+import java.io.File;
+
+import org.junit.Test;
+
+/**
+ * Runs the {@link LoadHarness} against the sample application, if enabled
+ * with the {@code apio.architect.load.enabled} property (see {@link
+ * LoadConfiguration}).
+ *
+ * <p>
+ * This test is skipped by the {@code testOSGi} task. Use the {@code testLoad}
+ * task instead, which enables it.
+ * </p>
+ *
+ * @author agent
+ */
+public class LoadHarnessTest extends BaseTest {
+
+	@Test
+	public void testLoad() throws Exception {
+		LoadConfiguration loadConfiguration = LoadConfiguration.of(
+			System::getProperty);
+
+		assumeTrue(loadConfiguration.isEnabled());
+
+		LoadHarness loadHarness = new LoadHarness(
+			getJAXRSServiceEndpoint(), loadConfiguration);
+
+		LoadReport loadReport = loadHarness.run();
+
+		loadReport.write(new File(loadConfiguration.getReportDir()));
+
+		LoadStatistics loadStatistics = loadReport.getTotalLoadStatistics();
+
+		assertThat(loadStatistics.getCount(), is(greaterThan(0L)));
+		assertThat(loadStatistics.getErrors(), is(0L));
+	}
+
+}
@@ -0,0 +1,153 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.test.load;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+
+import java.nio.file.Files;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+
+import org.json.JSONObject;
+
+/**
+ * Contains the results of a {@link LoadHarness} run.
+ *
+ * <p>
+ * The report is written as a {@code load-report.json} file, with the same
+ * structure for every run so runs can be compared, and as one HdrHistogram
+ * percentile distribution file ({@code <scenario>.hgrm}) per scenario, with
+ * latencies in milliseconds.
+ * </p>
+ *
+ * @author agent
+ * @review
+ */
+public final class LoadReport {
+
+	public LoadReport(
+		LoadConfiguration loadConfiguration,
+		Map<LoadScenario, LoadStatistics> map, long elapsedNanos) {
+
+		_loadConfiguration = loadConfiguration;
+		_map = Collections.unmodifiableMap(map);
+		_elapsedNanos = elapsedNanos;
+
+		_totalLoadStatistics = new LoadStatistics();
+
+		map.values(
+		).forEach(
+			_totalLoadStatistics::add
+		);
+	}
+
+	/**
+	 * Returns the statistics of every executed scenario.
+	 *
+	 * @return the statistics of every scenario
+	 * @review
+	 */
+	public Map<LoadScenario, LoadStatistics> getLoadStatistics() {
+		return _map;
+	}
+
+	/**
+	 * Returns the statistics of all the scenarios together.
+	 *
+	 * @return the total statistics
+	 * @review
+	 */
+	public LoadStatistics getTotalLoadStatistics() {
+		return _totalLoadStatistics;
+	}
+
+	/**
+	 * Returns the report as a JSON object.
+	 *
+	 * @return the report as a JSON object
+	 * @review
+	 */
+	public JSONObject toJSONObject() {
+		JSONObject scenariosJSONObject = new JSONObject();
+
+		_map.forEach(
+			(loadScenario, loadStatistics) -> scenariosJSONObject.put(
+				loadScenario.getKey(),
+				loadStatistics.toJSONObject(_elapsedNanos)));
+
+		JSONObject jsonObject = new JSONObject();
+
+		jsonObject.put("configuration", _loadConfiguration.toJSONObject());
+		jsonObject.put("elapsedSeconds", _elapsedNanos / 1.0e9);
+		jsonObject.put("scenarios", scenariosJSONObject);
+		jsonObject.put(
+			"total", _totalLoadStatistics.toJSONObject(_elapsedNanos));
+
+		return jsonObject;
+	}
+
+	/**
+	 * Writes the report to a folder, creating it if needed.
+	 *
+	 * @param  dir the folder
+	 * @review
+	 */
+	public void write(File dir) throws IOException {
+		Files.createDirectories(dir.toPath());
+
+		JSONObject jsonObject = toJSONObject();
+
+		String json = jsonObject.toString(2);
+
+		Files.write(
+			new File(dir, "load-report.json").toPath(), json.getBytes(UTF_8));
+
+		for (Map.Entry<LoadScenario, LoadStatistics> entry : _map.entrySet()) {
+			LoadScenario loadScenario = entry.getKey();
+
+			_writeHistogram(
+				new File(dir, loadScenario.getKey() + ".hgrm"),
+				entry.getValue());
+		}
+
+		_writeHistogram(new File(dir, "total.hgrm"), _totalLoadStatistics);
+	}
+
+	private void _writeHistogram(File file, LoadStatistics loadStatistics)
+		throws IOException {
+
+		try (PrintStream printStream = new PrintStream(
+				new FileOutputStream(file), false, UTF_8.name())) {
+
+			Histogram histogram = loadStatistics.getHistogram();
+
+			histogram.outputPercentileDistribution(printStream, 1000.0);
+		}
+	}
+
+	private final long _elapsedNanos;
+	private final LoadConfiguration _loadConfiguration;
+	private final Map<LoadScenario, LoadStatistics> _map;
+	private final LoadStatistics _totalLoadStatistics;
+
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.test.load;
+
+import java.util.Optional;
+
+/**
+ * Represents an HTTP request sent by the {@link LoadHarness}.
+ *
+ * @author agent
+ * @review
+ */
+public final class LoadRequest {
+
+	public LoadRequest(String method, String path, Optional<byte[]> optional) {
+		_method = method;
+		_path = path;
+		_bodyOptional = optional;
+	}
+
+	/**
+	 * Returns the JSON body of the request, if present; returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @return the request's body, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public Optional<byte[]> getBodyOptional() {
+		return _bodyOptional;
+	}
+
+	/**
+	 * Returns the HTTP method of the request.
+	 *
+	 * @return the request's HTTP method
+	 * @review
+	 */
+	public String getMethod() {
+		return _method;
+	}
+
+	/**
+	 * Returns the path of the request, relative to the application's URL.
+	 *
+	 * @return the request's path
+	 * @review
+	 */
+	public String getPath() {
+		return _path;
+	}
+
+	private final Optional<byte[]> _bodyOptional;
+	private final String _method;
+	private final String _path;
+
+}
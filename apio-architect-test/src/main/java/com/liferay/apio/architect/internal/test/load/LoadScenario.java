@@ -0,0 +1,159 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.test.load;
+
+import java.util.Optional;
+import java.util.Random;
+
+/**
+ * Defines the kinds of requests sent by the {@link LoadHarness} to the sample
+ * application.
+ *
+ * @author agent
+ * @review
+ */
+public enum LoadScenario {
+
+	/**
+	 * Creates a batch of blog postings with {@code POST
+	 * /blog-postings/batch-create}.
+	 */
+	BATCH_POST("batch") {
+
+		@Override
+		public LoadRequest createLoadRequest(
+			LoadConfiguration loadConfiguration, Random random) {
+
+			return new LoadRequest(
+				"POST", "blog-postings/batch-create",
+				Optional.of(loadConfiguration.getBatchBody()));
+		}
+
+	},
+
+	/**
+	 * Downloads the content of a blog posting with {@code GET
+	 * /blog-postings/{id}/contentUrl}.
+	 */
+	BINARY_DOWNLOAD("binary") {
+
+		@Override
+		public LoadRequest createLoadRequest(
+			LoadConfiguration loadConfiguration, Random random) {
+
+			return new LoadRequest(
+				"GET", "blog-postings/" + _getId(random) + "/contentUrl",
+				Optional.empty());
+		}
+
+	},
+
+	/**
+	 * Retrieves a blog posting with {@code GET /blog-postings/{id}}.
+	 */
+	ITEM_GET("item") {
+
+		@Override
+		public LoadRequest createLoadRequest(
+			LoadConfiguration loadConfiguration, Random random) {
+
+			return new LoadRequest(
+				"GET", "blog-postings/" + _getId(random), Optional.empty());
+		}
+
+	},
+
+	/**
+	 * Retrieves a page of blog postings, embedding their creators, with {@code
+	 * GET /blog-postings?page={page}&per_page={size}&embedded=creator}.
+	 */
+	PAGE_GET_EMBEDDED("page") {
+
+		@Override
+		public LoadRequest createLoadRequest(
+			LoadConfiguration loadConfiguration, Random random) {
+
+			int pageSize = loadConfiguration.getPageSize();
+
+			int pageCount = Math.max(1, _BLOG_POSTING_COUNT / pageSize);
+
+			int page = random.nextInt(pageCount) + 1;
+
+			return new LoadRequest(
+				"GET",
+				"blog-postings?page=" + page + "&per_page=" + pageSize +
+					"&embedded=creator",
+				Optional.empty());
+		}
+
+	};
+
+	/**
+	 * Returns the scenario with the provided key, if present; returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @param  key the scenario's key
+	 * @return the scenario, if present; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public static Optional<LoadScenario> fromKey(String key) {
+		for (LoadScenario loadScenario : values()) {
+			if (loadScenario._key.equals(key)) {
+				return Optional.of(loadScenario);
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Returns the next request of this scenario.
+	 *
+	 * @param  loadConfiguration the load test configuration
+	 * @param  random the random number generator of the client thread
+	 * @return the request
+	 * @review
+	 */
+	public abstract LoadRequest createLoadRequest(
+		LoadConfiguration loadConfiguration, Random random);
+
+	/**
+	 * Returns the key used to reference this scenario in the configuration and
+	 * the report.
+	 *
+	 * @return the scenario's key
+	 * @review
+	 */
+	public String getKey() {
+		return _key;
+	}
+
+	private LoadScenario(String key) {
+		_key = key;
+	}
+
+	private static long _getId(Random random) {
+		return random.nextInt(_BLOG_POSTING_COUNT);
+	}
+
+	/**
+	 * The number of blog postings created by the sample application on
+	 * activation.
+	 */
+	private static final int _BLOG_POSTING_COUNT = 42;
+
+	private final String _key;
+
+}
@@ -0,0 +1,168 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.test.load;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+
+import org.json.JSONObject;
+
+/**
+ * Accumulates the latencies, status codes, errors and bytes read by the
+ * requests of a scenario.
+ *
+ * <p>
+ * Instances of this class are not thread-safe. Every client thread fills its
+ * own instance, which are merged when the run finishes.
+ * </p>
+ *
+ * @author agent
+ * @review
+ */
+public final class LoadStatistics {
+
+	/**
+	 * Adds the values of other statistics to these ones.
+	 *
+	 * @param  loadStatistics the other statistics
+	 * @review
+	 */
+	public void add(LoadStatistics loadStatistics) {
+		_bytes += loadStatistics._bytes;
+		_errors += loadStatistics._errors;
+
+		_histogram.add(loadStatistics._histogram);
+
+		loadStatistics._statusCodes.forEach(
+			(statusCode, count) -> _statusCodes.merge(
+				statusCode, count, Long::sum));
+	}
+
+	/**
+	 * Returns the number of requests that received a response.
+	 *
+	 * @return the number of requests with a response
+	 * @review
+	 */
+	public long getCount() {
+		return _histogram.getTotalCount();
+	}
+
+	/**
+	 * Returns the number of requests that failed without a response.
+	 *
+	 * @return the number of failed requests
+	 * @review
+	 */
+	public long getErrors() {
+		return _errors;
+	}
+
+	/**
+	 * Returns the latency histogram, in microseconds.
+	 *
+	 * @return the latency histogram
+	 * @review
+	 */
+	public Histogram getHistogram() {
+		return _histogram;
+	}
+
+	/**
+	 * Records a request that failed without a response.
+	 *
+	 * @review
+	 */
+	public void recordError() {
+		_errors++;
+	}
+
+	/**
+	 * Records a request that received a response.
+	 *
+	 * @param  latencyNanos the time between sending the request and reading
+	 *         the whole response, in nanoseconds
+	 * @param  statusCode the response's status code
+	 * @param  bytes the size of the response's body
+	 * @review
+	 */
+	public void recordResponse(long latencyNanos, int statusCode, long bytes) {
+		_histogram.recordValue(
+			Math.min(
+				TimeUnit.NANOSECONDS.toMicros(latencyNanos),
+				_histogram.getHighestTrackableValue()));
+
+		_bytes += bytes;
+
+		_statusCodes.merge(statusCode, 1L, Long::sum);
+	}
+
+	/**
+	 * Returns the statistics as a JSON object. Latencies are written in
+	 * milliseconds.
+	 *
+	 * @param  elapsedNanos the measured time, used to compute the throughput
+	 * @return the statistics as a JSON object
+	 * @review
+	 */
+	public JSONObject toJSONObject(long elapsedNanos) {
+		double seconds = elapsedNanos / 1.0e9;
+
+		JSONObject latencyJSONObject = new JSONObject();
+
+		latencyJSONObject.put("max", _toMillis(_histogram.getMaxValue()));
+		latencyJSONObject.put("mean", _histogram.getMean() / 1000.0);
+		latencyJSONObject.put("min", _toMillis(_histogram.getMinValue()));
+		latencyJSONObject.put("p50", _getPercentile(50.0));
+		latencyJSONObject.put("p90", _getPercentile(90.0));
+		latencyJSONObject.put("p99", _getPercentile(99.0));
+		latencyJSONObject.put("p999", _getPercentile(99.9));
+
+		JSONObject statusCodesJSONObject = new JSONObject();
+
+		_statusCodes.forEach(
+			(statusCode, count) -> statusCodesJSONObject.put(
+				String.valueOf(statusCode), count));
+
+		JSONObject jsonObject = new JSONObject();
+
+		jsonObject.put("bytes", _bytes);
+		jsonObject.put("count", getCount());
+		jsonObject.put("errors", _errors);
+		jsonObject.put("latencyMillis", latencyJSONObject);
+		jsonObject.put("statusCodes", statusCodesJSONObject);
+		jsonObject.put("throughput", (seconds > 0) ? getCount() / seconds : 0);
+
+		return jsonObject;
+	}
+
+	private double _getPercentile(double percentile) {
+		return _toMillis(_histogram.getValueAtPercentile(percentile));
+	}
+
+	private double _toMillis(long micros) {
+		return micros / 1000.0;
+	}
+
+	private long _bytes;
+	private long _errors;
+	private final Histogram _histogram = new Histogram(
+		TimeUnit.MINUTES.toMicros(1), 3);
+	private final Map<Integer, Long> _statusCodes = new TreeMap<>();
+
+}